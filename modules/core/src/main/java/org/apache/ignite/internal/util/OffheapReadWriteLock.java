@@ -30,6 +30,11 @@ import org.apache.ignite.lang.IgniteSystemProperties;
  *     |     2 bytes    |     2 bytes   | 2 bytes |  2 bytes |
  *     +----------------+---------------+---------+----------+
  * </pre>
+ *
+ * <p>The lock state is followed by an 8-byte write version, which is incremented on every write unlock. The version allows optimistic
+ * reads: a reader takes a stamp with {@link #tryOptimisticRead(long, int)}, reads the protected data without any lock, and then checks
+ * with {@link #validate(long, int, long)} that no writer could have modified the data meanwhile. Note that the data may be inconsistent
+ * until it is validated, so it must be read defensively.
  */
 public class OffheapReadWriteLock {
     /**
@@ -48,8 +53,11 @@ public class OffheapReadWriteLock {
     /** Always lock tag. */
     public static final int TAG_LOCK_ALWAYS = -1;
 
-    /** Lock size. */
-    public static final int LOCK_SIZE = 8;
+    /** Lock size: lock state and write version. */
+    public static final int LOCK_SIZE = 16;
+
+    /** Write version offset relative to the lock address. */
+    private static final int VERSION_OFFSET = 8;
 
     /** Maximum number of waiting threads, read or write. */
     public static final int MAX_WAITERS = 0xFFFF;
@@ -102,6 +110,47 @@ public class OffheapReadWriteLock {
         assert tag != 0;
 
         GridUnsafe.putLong(lock, (long) tag << 16);
+
+        // Keep the version growing, so that a stamp taken before the initialization can't be validated after it.
+        GridUnsafe.putLongVolatile(null, lock + VERSION_OFFSET, nextVersion(GridUnsafe.getLong(lock + VERSION_OFFSET)));
+    }
+
+    /**
+     * Returns a stamp for an optimistic read of the data protected by the lock. The stamp must be checked with
+     * {@link #validate(long, int, long)} after the data has been read.
+     *
+     * @param lock Lock address.
+     * @param tag Validation tag.
+     * @return Non-zero stamp or {@code 0} if the lock is write-locked or tag validation failed.
+     */
+    public long tryOptimisticRead(long lock, int tag) {
+        long state = GridUnsafe.getLongVolatile(null, lock);
+
+        if (lockCount(state) == -1 || !checkTag(state, tag)) {
+            return 0;
+        }
+
+        return GridUnsafe.getLongVolatile(null, lock + VERSION_OFFSET);
+    }
+
+    /**
+     * Checks that the lock was not write-locked since the given stamp was obtained, that is, that all the data read after obtaining the
+     * stamp is consistent.
+     *
+     * @param lock Lock address.
+     * @param tag Validation tag.
+     * @param stamp Stamp obtained with {@link #tryOptimisticRead(long, int)}.
+     * @return {@code True} if the optimistic read is valid.
+     */
+    public boolean validate(long lock, int tag, long stamp) {
+        assert stamp != 0;
+
+        // Prevent the data reads from being reordered with the state read below.
+        GridUnsafe.loadFence();
+
+        long state = GridUnsafe.getLongVolatile(null, lock);
+
+        return lockCount(state) != -1 && checkTag(state, tag) && GridUnsafe.getLongVolatile(null, lock + VERSION_OFFSET) == stamp;
     }
 
     /**
@@ -276,6 +325,9 @@ public class OffheapReadWriteLock {
 
         assert tag != 0;
 
+        // Invalidate optimistic reads before the lock is released, the version is only modified under the write lock.
+        GridUnsafe.putLongVolatile(null, lock + VERSION_OFFSET, nextVersion(GridUnsafe.getLong(lock + VERSION_OFFSET)));
+
         while (true) {
             long state = GridUnsafe.getLongVolatile(null, lock);
 
@@ -584,6 +636,18 @@ public class OffheapReadWriteLock {
         return (int) ((state >>> 32) & 0xFFFF);
     }
 
+    /**
+     * Returns the next write version, skipping {@code 0} that denotes a failed optimistic read.
+     *
+     * @param ver Current version.
+     * @return Next version.
+     */
+    private static long nextVersion(long ver) {
+        long next = ver + 1;
+
+        return next == 0 ? 1 : next;
+    }
+
     /**
      * Updates lock state with deltas.
      *
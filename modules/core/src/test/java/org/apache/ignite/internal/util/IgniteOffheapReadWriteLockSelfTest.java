@@ -19,6 +19,7 @@ package org.apache.ignite.internal.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.concurrent.BrokenBarrierException;
@@ -290,6 +291,133 @@ public class IgniteOffheapReadWriteLockSelfTest extends BaseIgniteAbstractTest {
         validate(data);
     }
 
+    @Test
+    public void testOptimisticRead() {
+        OffheapReadWriteLock lock = new OffheapReadWriteLock(16);
+
+        long ptr = GridUnsafe.allocateMemory(OffheapReadWriteLock.LOCK_SIZE);
+
+        try {
+            lock.init(ptr, TAG_0);
+
+            long stamp = lock.tryOptimisticRead(ptr, TAG_0);
+
+            assertNotEquals(0, stamp);
+            assertEquals(0, lock.tryOptimisticRead(ptr, TAG_0 + 1));
+
+            // Read locks don't invalidate optimistic reads.
+            assertTrue(lock.readLock(ptr, TAG_0));
+            assertTrue(lock.validate(ptr, TAG_0, stamp));
+            assertEquals(stamp, lock.tryOptimisticRead(ptr, TAG_0));
+
+            lock.readUnlock(ptr);
+
+            assertTrue(lock.writeLock(ptr, TAG_0));
+            assertEquals(0, lock.tryOptimisticRead(ptr, TAG_0));
+            assertFalse(lock.validate(ptr, TAG_0, stamp));
+
+            lock.writeUnlock(ptr, TAG_0);
+            assertFalse(lock.validate(ptr, TAG_0, stamp));
+
+            stamp = lock.tryOptimisticRead(ptr, TAG_0);
+
+            assertNotEquals(0, stamp);
+            assertTrue(lock.validate(ptr, TAG_0, stamp));
+
+            // Tag change.
+            assertTrue(lock.writeLock(ptr, TAG_0));
+
+            lock.writeUnlock(ptr, TAG_0 + 1);
+
+            assertFalse(lock.validate(ptr, TAG_0, stamp));
+            assertEquals(0, lock.tryOptimisticRead(ptr, TAG_0));
+            assertNotEquals(0, lock.tryOptimisticRead(ptr, TAG_0 + 1));
+        } finally {
+            GridUnsafe.freeMemory(ptr);
+        }
+    }
+
+    @Test
+    public void testConcurrentOptimisticReads() throws Exception {
+        final int numPairs = 100;
+        final Pair[] data = new Pair[numPairs];
+
+        for (int i = 0; i < numPairs; i++) {
+            data[i] = new Pair();
+        }
+
+        final OffheapReadWriteLock lock = new OffheapReadWriteLock(16);
+
+        final long ptr = GridUnsafe.allocateMemory(OffheapReadWriteLock.LOCK_SIZE);
+
+        lock.init(ptr, TAG_0);
+
+        final AtomicInteger validReads = new AtomicInteger();
+        final AtomicInteger failedReads = new AtomicInteger();
+        final AtomicInteger writes = new AtomicInteger();
+        final AtomicBoolean done = new AtomicBoolean(false);
+
+        CompletableFuture<Long> fut = IgniteTestUtils.runMultiThreadedAsync(() -> {
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+            while (!done.get()) {
+                if (rnd.nextInt(10) < 2) {
+                    lock.writeLock(ptr, TAG_0);
+
+                    try {
+                        int idx = rnd.nextInt(numPairs);
+                        int delta = rnd.nextInt(100_000);
+
+                        data[idx].left += delta;
+                        data[idx].right -= delta;
+                    } finally {
+                        lock.writeUnlock(ptr, TAG_0);
+                    }
+
+                    writes.incrementAndGet();
+                } else {
+                    long stamp = lock.tryOptimisticRead(ptr, TAG_0);
+
+                    if (stamp == 0) {
+                        failedReads.incrementAndGet();
+
+                        continue;
+                    }
+
+                    int idx = rnd.nextInt(numPairs);
+
+                    int left = data[idx].left;
+                    int right = data[idx].right;
+
+                    if (lock.validate(ptr, TAG_0, stamp)) {
+                        assertEquals(left, -right, "Failed check for index: " + idx);
+
+                        validReads.incrementAndGet();
+                    } else {
+                        failedReads.incrementAndGet();
+                    }
+                }
+            }
+
+            return null;
+        }, 32, "tester");
+
+        for (int i = 0; i < ROUNDS_PER_TEST; i++) {
+            Thread.sleep(SLEEP_TIME);
+
+            log.info("Valid reads=" + validReads.getAndSet(0) + ", failed reads=" + failedReads.getAndSet(0)
+                    + ", writes=" + writes.getAndSet(0));
+        }
+
+        done.set(true);
+
+        fut.get();
+
+        validate(data);
+
+        GridUnsafe.freeMemory(ptr);
+    }
+
     @Test
     public void testTagIdUpdateWait() throws Exception {
         checkTagIdUpdate(true);
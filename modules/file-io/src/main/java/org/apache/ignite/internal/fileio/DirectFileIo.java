@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.fileio;
+
+import static java.nio.file.StandardOpenOption.DSYNC;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.SYNC;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.stream.Collectors.toSet;
+
+import com.sun.nio.file.ExtendedOpenOption;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * {@link FileIo} implementation which reads and writes the file bypassing the OS page cache (using {@code O_DIRECT}), when possible.
+ *
+ * <p>Direct I/O requires the file position, the number of bytes and the buffer address to be aligned to the block size of the file
+ * system. Reads and writes with the aligned position and size are done directly, the buffers which are not aligned in memory are copied
+ * through a thread local aligned buffer. All other operations, e.g. reading a file header, go through the page cache via the decorated
+ * {@link FileIo}, the OS keeps both views of the file consistent.
+ */
+public class DirectFileIo extends FileIoDecorator {
+    /** Open modes that are applicable to the direct channel, the others are applied only by the decorated {@link FileIo}. */
+    private static final Set<OpenOption> DIRECT_CHANNEL_MODES = Set.of(READ, WRITE, SYNC, DSYNC);
+
+    /** Thread local aligned buffer to read and write data from the buffers, which are not aligned in memory. */
+    private static final ThreadLocal<ByteBuffer> ALIGNED_BUF = new ThreadLocal<>();
+
+    /** File channel opened for direct I/O. */
+    private final FileChannel directCh;
+
+    /** Block size of the file system, to which the direct I/O must be aligned. */
+    private final int blockSize;
+
+    /** Mutex for gathering writes, which move the direct channel position. */
+    private final Object gatheringWriteMux = new Object();
+
+    /**
+     * Constructor.
+     *
+     * @param delegate {@link FileIo} of the same file to use for the operations which can't be done directly.
+     * @param filePath File path.
+     * @param modes Open modes, the file must already be created by the {@code delegate}.
+     * @throws IOException If direct I/O is not supported for the file.
+     * @throws UnsupportedOperationException If direct I/O is not supported by the platform.
+     */
+    public DirectFileIo(FileIo delegate, Path filePath, OpenOption... modes) throws IOException {
+        super(delegate);
+
+        Set<OpenOption> directModes = Arrays.stream(modes).filter(DIRECT_CHANNEL_MODES::contains).collect(toSet());
+
+        directModes.add(ExtendedOpenOption.DIRECT);
+
+        FileChannel ch = FileChannel.open(filePath, directModes);
+
+        try {
+            blockSize = Math.toIntExact(Files.getFileStore(filePath).getBlockSize());
+        } catch (IOException | RuntimeException e) {
+            ch.close();
+
+            throw e;
+        }
+
+        directCh = ch;
+    }
+
+    /**
+     * Returns block size of the file system, to which the direct I/O must be aligned.
+     */
+    public int blockSize() {
+        return blockSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(ByteBuffer destBuf, long position) throws IOException {
+        if (!isAligned(position, destBuf.remaining())) {
+            return super.read(destBuf, position);
+        }
+
+        if (isAlignedInMemory(destBuf)) {
+            return directCh.read(destBuf, position);
+        }
+
+        ByteBuffer alignedBuf = alignedBuffer(destBuf.remaining());
+
+        int read = directCh.read(alignedBuf, position);
+
+        if (read > 0) {
+            destBuf.put(alignedBuf.flip());
+        }
+
+        return read;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(ByteBuffer srcBuf, long position) throws IOException {
+        if (!isAligned(position, srcBuf.remaining())) {
+            return super.write(srcBuf, position);
+        }
+
+        if (isAlignedInMemory(srcBuf)) {
+            return directCh.write(srcBuf, position);
+        }
+
+        ByteBuffer alignedBuf = alignedBuffer(srcBuf.remaining());
+
+        alignedBuf.put(srcBuf.duplicate()).flip();
+
+        int written = directCh.write(alignedBuf, position);
+
+        srcBuf.position(srcBuf.position() + written);
+
+        return written;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long writeFully(ByteBuffer[] srcBufs, int offset, int length, long position) throws IOException {
+        long written = 0;
+
+        if (isAligned(position, 0) && isAlignedInMemory(srcBufs, offset, length)) {
+            // FileChannel has no positional gathering write, so the position is moved for the time of the write and restored afterwards.
+            synchronized (gatheringWriteMux) {
+                long prevPosition = directCh.position();
+
+                try {
+                    directCh.position(position);
+
+                    for (int i = offset, end = offset + length; i < end; ) {
+                        if (srcBufs[i].hasRemaining()) {
+                            written += directCh.write(srcBufs, i, end - i);
+                        } else {
+                            i++;
+                        }
+                    }
+                } finally {
+                    directCh.position(prevPosition);
+                }
+            }
+        } else {
+            for (int i = offset; i < offset + length; i++) {
+                written += writeFully(srcBufs[i], position + written);
+            }
+        }
+
+        return written;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        try {
+            directCh.close();
+        } finally {
+            super.close();
+        }
+    }
+
+    /**
+     * Checks that the file position and the number of bytes are aligned to the block size.
+     *
+     * @param position File position.
+     * @param len Number of bytes.
+     */
+    private boolean isAligned(long position, int len) {
+        return position % blockSize == 0 && len % blockSize == 0;
+    }
+
+    /**
+     * Checks that the buffer can be used for direct I/O as is: it is a direct buffer, and both its address and its remaining bytes are
+     * aligned to the block size.
+     *
+     * @param buf Buffer.
+     */
+    private boolean isAlignedInMemory(ByteBuffer buf) {
+        return buf.isDirect() && buf.alignmentOffset(buf.position(), blockSize) == 0 && buf.remaining() % blockSize == 0;
+    }
+
+    /**
+     * Checks that all the buffers can be used for direct I/O as is.
+     *
+     * @param bufs Buffers.
+     * @param offset Index of the first buffer.
+     * @param length Number of buffers.
+     */
+    private boolean isAlignedInMemory(ByteBuffer[] bufs, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            if (!isAlignedInMemory(bufs[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the thread local buffer aligned to the block size, with the position {@code 0} and the limit {@code len}.
+     *
+     * @param len Required number of bytes.
+     */
+    private ByteBuffer alignedBuffer(int len) {
+        ByteBuffer buf = ALIGNED_BUF.get();
+
+        if (buf == null || buf.capacity() < len || buf.alignmentOffset(0, blockSize) != 0) {
+            buf = ByteBuffer.allocateDirect(len + blockSize).alignedSlice(blockSize);
+
+            ALIGNED_BUF.set(buf);
+        }
+
+        return buf.clear().limit(len);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.fileio;
+
+import java.io.IOException;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import org.apache.ignite.lang.IgniteLogger;
+
+/**
+ * {@link DirectFileIo} factory.
+ *
+ * <p>Falls back to the {@link FileIo} created by the delegate factory where direct I/O is not supported, either by the platform or by
+ * the file system of the file.
+ */
+public class DirectFileIoFactory implements FileIoFactory {
+    /** Logger. */
+    private static final IgniteLogger LOG = IgniteLogger.forClass(DirectFileIoFactory.class);
+
+    /** Factory of the {@link FileIo} for the operations which can't be done directly, and for the fallback. */
+    private final FileIoFactory delegate;
+
+    /** Direct I/O is not supported by the platform. */
+    private volatile boolean unsupported;
+
+    /**
+     * Constructor.
+     *
+     * @param delegate Factory of the {@link FileIo} for the operations which can't be done directly, and for the fallback.
+     */
+    public DirectFileIoFactory(FileIoFactory delegate) {
+        this.delegate = delegate;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FileIo create(Path filePath, OpenOption... modes) throws IOException {
+        FileIo fileIo = delegate.create(filePath, modes);
+
+        if (unsupported) {
+            return fileIo;
+        }
+
+        try {
+            return new DirectFileIo(fileIo, filePath, modes);
+        } catch (UnsupportedOperationException e) {
+            unsupported = true;
+
+            LOG.warn("Direct I/O is not supported by the platform, the page cache will be used: " + e.getMessage());
+
+            return fileIo;
+        } catch (IOException e) {
+            LOG.warn("Direct I/O is not supported for the file, the page cache will be used [file=" + filePath + "]: " + e.getMessage());
+
+            return fileIo;
+        }
+    }
+}
@@ -176,6 +176,29 @@ public interface FileIo extends AutoCloseable {
      */
     int writeFully(byte[] buf, int off, int len) throws IOException;
 
+    /**
+     * Writes a sequence of bytes to this file from the {@code srcBufs} starting from specified file {@code position}, the buffers are
+     * written one after another as a single contiguous range (a gathering write).
+     *
+     * <p>Tries to write the entire content of all the buffers. The current file position is not changed.
+     *
+     * @param srcBufs Source buffers.
+     * @param offset Index of the first buffer to write in the {@code srcBufs}.
+     * @param length Number of buffers to write.
+     * @param position Starting file position.
+     * @return Number of written bytes.
+     * @throws IOException If some I/O error occurs.
+     */
+    default long writeFully(ByteBuffer[] srcBufs, int offset, int length, long position) throws IOException {
+        long written = 0;
+
+        for (int i = offset; i < offset + length; i++) {
+            written += writeFully(srcBufs[i], position + written);
+        }
+
+        return written;
+    }
+
     /**
      * Allocates memory mapped buffer for this file with given size.
      *
@@ -87,6 +87,12 @@ public class FileIoDecorator extends AbstractFileIo {
         return delegate.write(buf, off, len);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public long writeFully(ByteBuffer[] srcBufs, int offset, int length, long position) throws IOException {
+        return delegate.writeFully(srcBufs, offset, length, position);
+    }
+
     /** {@inheritDoc} */
     @Override
     public MappedByteBuffer map(int sizeBytes) throws IOException {
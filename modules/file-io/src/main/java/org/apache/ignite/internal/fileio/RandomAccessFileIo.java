@@ -33,6 +33,9 @@ public class RandomAccessFileIo extends AbstractFileIo {
     /** File channel. */
     private final FileChannel ch;
 
+    /** Mutex for gathering writes, which move the channel position. */
+    private final Object gatheringWriteMux = new Object();
+
     /**
      * Creates I/O implementation for specified file.
      *
@@ -91,6 +94,33 @@ public class RandomAccessFileIo extends AbstractFileIo {
         return ch.write(ByteBuffer.wrap(buf, off, len));
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public long writeFully(ByteBuffer[] srcBufs, int offset, int length, long position) throws IOException {
+        // FileChannel has no positional gathering write, so the position is moved for the time of the write and restored afterwards.
+        synchronized (gatheringWriteMux) {
+            long prevPosition = ch.position();
+
+            try {
+                ch.position(position);
+
+                long written = 0;
+
+                for (int i = offset, end = offset + length; i < end; ) {
+                    if (srcBufs[i].hasRemaining()) {
+                        written += ch.write(srcBufs, i, end - i);
+                    } else {
+                        i++;
+                    }
+                }
+
+                return written;
+            } finally {
+                ch.position(prevPosition);
+            }
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public void force(boolean withMetadata) throws IOException {
@@ -134,6 +134,38 @@ public abstract class AbstractFileIoTest {
         checkWriteFromByteArrayOperation((fileIo, off, bytes) -> fileIo.writeFully(bytes, (int) off, Math.min(1024, bytes.length)));
     }
 
+    @Test
+    void testGatheringWriteByPositionFully() throws Exception {
+        byte[] randomBytes = randomByteArray(4 * 1024);
+
+        ByteBuffer randomByteBuffer = ByteBuffer.wrap(randomBytes);
+
+        Path testFilePath = workDir.resolve("test");
+
+        FileIo fileIo = fileIoFactory.create(testFilePath);
+
+        ByteBuffer[] buffers = {
+                ByteBuffer.allocate(0),
+                rangeBuffer(randomBytes, 1024, 2 * 1024),
+                sliceBuffer(randomByteBuffer, 2 * 1024, 3 * 1024),
+                rangeBuffer(randomBytes, 3 * 1024, 4 * 1024),
+                ByteBuffer.allocate(1024)
+        };
+
+        assertEquals(3 * 1024, fileIo.writeFully(buffers, 1, 3, 1024));
+        assertEquals(0, fileIo.position());
+
+        assertEquals(1024, fileIo.writeFully(new ByteBuffer[] {rangeBuffer(randomBytes, 0, 1024)}, 0, 1, 0));
+        assertEquals(0, fileIo.position());
+
+        assertEquals(0, fileIo.writeFully(buffers, 0, 1, 4 * 1024));
+        assertEquals(0, fileIo.position());
+
+        fileIo.force();
+
+        assertArrayEquals(randomBytes, toByteArray(testFilePath));
+    }
+
     @Test
     void testMap() throws Exception {
         Path testFilePath = workDir.resolve("test");
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.fileio;
+
+import static java.util.Arrays.copyOfRange;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link DirectFileIo} testing.
+ */
+public class DirectFileIoTest extends AbstractFileIoTest {
+    @BeforeEach
+    void setUp() {
+        fileIoFactory = new DirectFileIoFactory(new RandomAccessFileIoFactory());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Class<? extends FileIo> fileIoClass() {
+        return DirectFileIo.class;
+    }
+
+    @Test
+    void testAlignedReadAndWrite() throws Exception {
+        Path testFilePath = workDir.resolve("test");
+
+        DirectFileIo fileIo = (DirectFileIo) fileIoFactory.create(testFilePath);
+
+        int blockSize = fileIo.blockSize();
+
+        byte[] bytes = randomByteArray(4 * blockSize);
+
+        // Aligned in memory.
+        ByteBuffer alignedBuf = ByteBuffer.allocateDirect(3 * blockSize).alignedSlice(blockSize).limit(blockSize);
+
+        alignedBuf.put(bytes, 0, blockSize).flip();
+
+        assertEquals(blockSize, fileIo.writeFully(alignedBuf, 0));
+
+        // Not aligned in memory.
+        ByteBuffer heapBuf = ByteBuffer.wrap(bytes, blockSize, blockSize);
+
+        assertEquals(blockSize, fileIo.writeFully(heapBuf, blockSize));
+        assertEquals(0, heapBuf.remaining());
+
+        // Gathering write.
+        ByteBuffer[] bufs = {
+                ByteBuffer.allocateDirect(2 * blockSize).alignedSlice(blockSize).put(bytes, 2 * blockSize, blockSize).flip(),
+                ByteBuffer.wrap(bytes, 3 * blockSize, blockSize)
+        };
+
+        assertEquals(2 * blockSize, fileIo.writeFully(bufs, 0, 2, 2 * blockSize));
+
+        fileIo.force();
+
+        assertArrayEquals(bytes, Files.readAllBytes(testFilePath));
+
+        ByteBuffer readBuf = ByteBuffer.allocate(2 * blockSize);
+
+        assertEquals(2 * blockSize, fileIo.readFully(readBuf, blockSize));
+        assertArrayEquals(copyOfRange(bytes, blockSize, 3 * blockSize), readBuf.array());
+
+        alignedBuf.clear();
+
+        assertEquals(blockSize, fileIo.readFully(alignedBuf, 3 * blockSize));
+        assertEquals(ByteBuffer.wrap(bytes, 3 * blockSize, blockSize), alignedBuf.flip());
+
+        // Not aligned file position.
+        readBuf = ByteBuffer.allocate(blockSize);
+
+        assertEquals(blockSize, fileIo.readFully(readBuf, 1));
+        assertArrayEquals(copyOfRange(bytes, 1, blockSize + 1), readBuf.array());
+
+        assertEquals(0, fileIo.position());
+    }
+
+    @Test
+    void testFallback() throws Exception {
+        FileIoFactory fileIoFactory = new DirectFileIoFactory(new RandomAccessFileIoFactory() {
+            /** {@inheritDoc} */
+            @Override
+            public FileIo create(Path filePath, OpenOption... modes) throws IOException {
+                // The file is not created, so the direct channel can't be opened.
+                return new FileIoDecorator(super.create(workDir.resolve("other"), modes));
+            }
+        });
+
+        assertThat(fileIoFactory.create(workDir.resolve("test")), not(instanceOf(DirectFileIo.class)));
+    }
+
+    private static byte[] randomByteArray(int len) {
+        byte[] bytes = new byte[len];
+
+        ThreadLocalRandom.current().nextBytes(bytes);
+
+        return bytes;
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.pagememory.persistence;
 
+import static org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryCheckpointConfigurationSchema.DISABLED_THROTTLING_POLICY;
 import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTestUtils.mockCheckpointTimeoutLock;
 import static org.apache.ignite.internal.util.Constants.MiB;
 
@@ -51,6 +52,8 @@ public class ItBplusTreePageMemoryImplTest extends ItBplusTreeSelfTest {
                 (fullPageId, buf, tag) -> {
                 },
                 mockCheckpointTimeoutLock(log, true),
+                DISABLED_THROTTLING_POLICY,
+                () -> null,
                 PAGE_SIZE
         );
     }
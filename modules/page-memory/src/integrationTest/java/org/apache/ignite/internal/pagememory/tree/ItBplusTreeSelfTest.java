@@ -41,6 +41,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -293,6 +294,100 @@ public class ItBplusTreeSelfTest extends BaseIgniteAbstractTest {
         assertTrue(tree.isEmpty());
     }
 
+    @Test
+    public void testBulkLoad() throws Exception {
+        for (int maxPerPage : new int[] {1, 2, 3, 0}) {
+            MAX_PER_PAGE = maxPerPage;
+
+            // Subsequent puts quickly grow tiny pages into too many levels, so the large counts are only for the real pages.
+            int[] cnts = maxPerPage == 0 ? new int[] {1, 100, 3000} : new int[] {1, 2, 7, 20};
+
+            for (float fillFactor : new float[] {0.5f, 0.7f, 1.0f}) {
+                for (int cnt : cnts) {
+                    doTestBulkLoad(cnt, fillFactor);
+                }
+            }
+        }
+    }
+
+    private void doTestBulkLoad(int cnt, float fillFactor) throws Exception {
+        TestTree tree = createTestTree(true);
+
+        List<Long> keys = new ArrayList<>(cnt);
+
+        for (long x = 0; x < cnt; x++) {
+            keys.add(x * 2);
+        }
+
+        assertEquals(cnt, tree.bulkLoad(keys.iterator(), fillFactor));
+
+        assertNoLocks();
+
+        tree.validateTree();
+
+        assertEquals(cnt, tree.size());
+
+        checkCursor(tree.find(null, null), keys.iterator());
+
+        for (long key : keys) {
+            assertEquals(key, tree.findOne(key).longValue());
+            assertNull(tree.findOne(key + 1));
+        }
+
+        // The tree remains fully functional after the bulk load.
+        for (long key : keys) {
+            assertNull(tree.put(key + 1));
+        }
+
+        tree.validateTree();
+
+        assertEquals(2L * cnt, tree.size());
+
+        for (long key : keys) {
+            assertEquals(key, tree.remove(key).longValue());
+        }
+
+        tree.validateTree();
+
+        assertEquals(cnt, tree.size());
+
+        assertNoLocks();
+    }
+
+    @Test
+    public void testBulkLoadEmpty() throws Exception {
+        TestTree tree = createTestTree(true);
+
+        assertEquals(0, tree.bulkLoad(emptyIterator(), 1.0f));
+
+        assertNoLocks();
+
+        assertTrue(tree.isEmpty());
+        assertEquals(0, tree.rootLevel());
+
+        tree.put(1L);
+
+        assertEquals(1L, tree.findOne(1L).longValue());
+    }
+
+    @Test
+    public void testBulkLoadInvalidInput() throws Exception {
+        TestTree tree = createTestTree(true);
+
+        assertThrows(IllegalArgumentException.class, () -> tree.bulkLoad(emptyIterator(), 0.0f));
+        assertThrows(IllegalArgumentException.class, () -> tree.bulkLoad(emptyIterator(), 1.1f));
+
+        assertThrows(IllegalArgumentException.class, () -> tree.bulkLoad(List.of(1L, 3L, 2L).iterator(), 1.0f));
+
+        assertNoLocks();
+
+        TestTree nonEmptyTree = createTestTree(true);
+
+        nonEmptyTree.put(1L);
+
+        assertThrows(IllegalStateException.class, () -> nonEmptyTree.bulkLoad(List.of(2L).iterator(), 1.0f));
+    }
+
     @Test
     public void testFindWithClosure() throws Exception {
         TestTree tree = createTestTree(true);
@@ -2594,6 +2689,8 @@ public class ItBplusTreeSelfTest extends BaseIgniteAbstractTest {
             ((TestPageIoRegistry) pageMem.ioRegistry()).load(new IoVersions<>(new LongLeafIo()));
             ((TestPageIoRegistry) pageMem.ioRegistry()).load(new IoVersions<>(new LongMetaIo()));
 
+            enableOptimisticReads();
+
             initTree(true);
         }
 
@@ -86,6 +86,37 @@ public interface PageSupport {
      */
     void readUnlock(int groupId, long pageId, long page);
 
+    /**
+     * Starts an optimistic read of the page: the page can be read at {@link #optimisticReadAddress(long)} without taking any lock, but
+     * everything read is only reliable if {@link #validateOptimisticRead(int, long, long, long)} succeeds afterwards. Until then the
+     * content may be inconsistent, so it must be read defensively.
+     *
+     * @param groupId Group ID.
+     * @param pageId  Page ID.
+     * @param page    Page pointer.
+     * @return Stamp of the optimistic read or {@code 0} if the page is write-locked or has been reused.
+     */
+    long tryOptimisticRead(int groupId, long pageId, long page);
+
+    /**
+     * Returns the address of the page content for an optimistic read.
+     *
+     * @param page Page pointer.
+     * @see #tryOptimisticRead(int, long, long)
+     */
+    long optimisticReadAddress(long page);
+
+    /**
+     * Checks that the page has not been modified since the optimistic read was started.
+     *
+     * @param groupId Group ID.
+     * @param pageId  Page ID.
+     * @param page    Page pointer.
+     * @param stamp   Stamp returned by {@link #tryOptimisticRead(int, long, long)}.
+     * @return {@code True} if everything read from the page since the stamp was obtained is consistent.
+     */
+    boolean validateOptimisticRead(int groupId, long pageId, long page, long stamp);
+
     /**
      * Acquired a write lock on the page.
      *
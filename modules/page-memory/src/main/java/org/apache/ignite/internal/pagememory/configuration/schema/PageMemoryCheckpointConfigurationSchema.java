@@ -22,6 +22,7 @@ import org.apache.ignite.configuration.annotation.Value;
 import org.apache.ignite.configuration.validation.OneOf;
 import org.apache.ignite.configuration.validation.Range;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointWriteOrder;
+import org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteSpeedBasedThrottle;
 
 /**
  * Checkpoint configuration schema for persistent page memory.
@@ -34,6 +35,12 @@ public class PageMemoryCheckpointConfigurationSchema {
     /** See description of {@link CheckpointWriteOrder#SEQUENTIAL}. */
     public static final String SEQUENTIAL_WRITE_ORDER = "SEQUENTIAL";
 
+    /** Writes to page memory are never throttled. */
+    public static final String DISABLED_THROTTLING_POLICY = "DISABLED";
+
+    /** See description of {@link PagesWriteSpeedBasedThrottle}. */
+    public static final String SPEED_BASED_THROTTLING_POLICY = "SPEED_BASED";
+
     /** Checkpoint frequency in milliseconds. */
     @Range(min = 0)
     @Value(hasDefault = true)
@@ -70,6 +77,11 @@ public class PageMemoryCheckpointConfigurationSchema {
     @Value(hasDefault = true)
     public long logReadLockThresholdTimeout = 0;
 
+    /** Policy of throttling the threads, that make pages dirty faster than the checkpoint writes them. */
+    @OneOf({DISABLED_THROTTLING_POLICY, SPEED_BASED_THROTTLING_POLICY})
+    @Value(hasDefault = true)
+    public String throttlingPolicy = SPEED_BASED_THROTTLING_POLICY;
+
     /** Use an asynchronous file I/O operations provider. */
     @Value(hasDefault = true)
     public boolean useAsyncFileIoFactory = true;
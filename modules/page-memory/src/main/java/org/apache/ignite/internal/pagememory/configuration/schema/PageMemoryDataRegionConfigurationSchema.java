@@ -95,4 +95,12 @@ public class PageMemoryDataRegionConfigurationSchema {
      */
     @Value(hasDefault = true)
     public boolean delayedReplacedPageWrite = true;
+
+    /**
+     * Read and write the file page stores of the region bypassing the OS page cache (direct I/O), so that the pages are not cached twice.
+     *
+     * <p>Falls back to the page cache where direct I/O is not supported by the platform or by the file system.
+     */
+    @Value(hasDefault = true)
+    public boolean directIo = false;
 }
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.evict;
+
+import org.apache.ignite.internal.pagememory.io.AbstractDataPageIo;
+import org.apache.ignite.internal.pagememory.io.PageIo;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Removes the rows of a data page chosen by a {@link PageEvictionTracker} from the structures that reference them.
+ *
+ * <p>Eviction is performed in two steps: the rows are first read from the page under its read lock, then each row is removed by the
+ * owner of the data (index trees, free list) without holding any page lock, the same way as a regular removal.
+ *
+ * @param <R> Type of the row to evict.
+ */
+public interface DataRowEvictor<R> {
+    /**
+     * Returns {@code true} if the rows of the data pages with the given IO can be evicted.
+     *
+     * @param io Data page IO.
+     */
+    boolean evictable(PageIo io);
+
+    /**
+     * Reads a row to evict, invoked under the read lock of the data page.
+     *
+     * @param io Data page IO.
+     * @param pageAddr Page address.
+     * @param link Link to the row.
+     * @param pageSize Page size.
+     * @return Row to evict or {@code null} if the row should be skipped.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    @Nullable R rowToEvict(AbstractDataPageIo<?> io, long pageAddr, long link, int pageSize) throws IgniteInternalCheckedException;
+
+    /**
+     * Evicts the row.
+     *
+     * @param row Row returned by {@link #rowToEvict}.
+     * @return {@code True} if the row has been evicted, {@code false} if it had been removed or updated concurrently.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    boolean evictRow(R row) throws IgniteInternalCheckedException;
+}
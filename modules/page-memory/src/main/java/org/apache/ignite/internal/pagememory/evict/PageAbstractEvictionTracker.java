@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.evict;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionView;
+import org.apache.ignite.internal.pagememory.impl.PageMemoryNoStoreImpl;
+import org.apache.ignite.internal.pagememory.io.AbstractDataPageIo;
+import org.apache.ignite.internal.pagememory.io.PageIo;
+import org.apache.ignite.internal.pagememory.metric.HitRateMetric;
+import org.apache.ignite.internal.pagememory.util.PageIdUtils;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+
+/**
+ * Base class of the {@link PageEvictionTracker}s of the in-memory data regions, that keep the access timestamps of the data pages in an
+ * off-heap array indexed by the page sequence number.
+ */
+public abstract class PageAbstractEvictionTracker implements PageEvictionTracker {
+    /** Number of subsequent evictions that free nothing, after which {@link #ensureFreeSpace()} gives up. */
+    private static final int FRUITLESS_EVICTIONS_LIMIT = 10;
+
+    /** Timestamps are stored with this granularity, in milliseconds. */
+    private static final long COMPACT_TS_GRANULARITY = 100;
+
+    /** Time interval of the {@link #evictionRate()} metric, in milliseconds. */
+    private static final long EVICTION_RATE_INTERVAL = 60_000;
+
+    /** Page memory. */
+    protected final PageMemoryNoStoreImpl pageMem;
+
+    /** Number of the tracked pages, that is the maximum number of pages of the data region. */
+    protected final int trackingSize;
+
+    /** Share of the data region pages, after which the eviction starts. */
+    private final double evictionThreshold;
+
+    /** Number of empty data pages, that eviction tries to keep in the free list. */
+    private final int emptyPagesPoolSize;
+
+    /** Evictor of the rows. */
+    private final DataRowEvictor<?> rowEvictor;
+
+    /** Supplier of the number of empty data pages in the free list. */
+    private final IntSupplier emptyDataPages;
+
+    /** Base of the compact timestamps, {@code 0} means that the page has never been touched. */
+    private final long baseCompactTs;
+
+    private final LongAdder evictedPages = new LongAdder();
+
+    private final LongAdder evictedRows = new LongAdder();
+
+    private final HitRateMetric evictionRate = new HitRateMetric(EVICTION_RATE_INTERVAL, 5);
+
+    /**
+     * Constructor.
+     *
+     * @param pageMem Page memory.
+     * @param regionCfg Data region configuration.
+     * @param rowEvictor Evictor of the rows.
+     * @param emptyDataPages Supplier of the number of empty data pages in the free list.
+     */
+    protected PageAbstractEvictionTracker(
+            PageMemoryNoStoreImpl pageMem,
+            PageMemoryDataRegionView regionCfg,
+            DataRowEvictor<?> rowEvictor,
+            IntSupplier emptyDataPages
+    ) {
+        this.pageMem = pageMem;
+        this.rowEvictor = rowEvictor;
+        this.emptyDataPages = emptyDataPages;
+
+        trackingSize = pageMem.totalPages();
+        evictionThreshold = regionCfg.evictionThreshold();
+        emptyPagesPoolSize = regionCfg.emptyPagesPoolSize();
+
+        baseCompactTs = System.currentTimeMillis() - COMPACT_TS_GRANULARITY;
+    }
+
+    /**
+     * Allocates the tracking structures.
+     */
+    public abstract void start();
+
+    /**
+     * Releases the tracking structures.
+     */
+    public abstract void stop();
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean evictionRequired() {
+        return pageMem.loadedPages() > trackingSize * evictionThreshold && emptyDataPages.getAsInt() < emptyPagesPoolSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void ensureFreeSpace() throws IgniteInternalCheckedException {
+        int fruitlessEvictions = 0;
+
+        while (evictionRequired() && fruitlessEvictions < FRUITLESS_EVICTIONS_LIMIT) {
+            long evictedBefore = evictedRows.sum();
+
+            evictDataPage();
+
+            // Avoids spinning forever when there's nothing to evict, the allocation then fails with an out of memory error.
+            fruitlessEvictions = evictedRows.sum() == evictedBefore ? fruitlessEvictions + 1 : 0;
+        }
+    }
+
+    /**
+     * Returns the total number of the evicted data pages.
+     */
+    public long evictedPages() {
+        return evictedPages.sum();
+    }
+
+    /**
+     * Returns the total number of the evicted rows.
+     */
+    public long evictedRows() {
+        return evictedRows.sum();
+    }
+
+    /**
+     * Returns the number of the data pages evicted during the last minute.
+     */
+    public long evictionRate() {
+        return evictionRate.value();
+    }
+
+    /**
+     * Evicts the rows of the data page.
+     *
+     * @param pageIdx Page index.
+     * @return {@code True} if at least one row has been evicted.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    protected boolean evictDataPage(int pageIdx) throws IgniteInternalCheckedException {
+        int evicted = evictRows(rowEvictor, pageIdx);
+
+        if (evicted == 0) {
+            return false;
+        }
+
+        evictedPages.increment();
+        evictedRows.add(evicted);
+        evictionRate.increment();
+
+        return true;
+    }
+
+    private <R> int evictRows(DataRowEvictor<R> evictor, int pageIdx) throws IgniteInternalCheckedException {
+        long fakePageId = PageIdUtils.pageId(0, (byte) 0, pageIdx);
+
+        List<R> rowsToEvict;
+
+        long page = pageMem.acquirePage(0, fakePageId);
+
+        try {
+            long pageAddr = pageMem.readLockForce(0, fakePageId, page);
+
+            if (pageAddr == 0L) {
+                return 0;
+            }
+
+            try {
+                PageIo io = PageIo.getType(pageAddr) == 0 ? null : pageMem.ioRegistry().resolve(pageAddr);
+
+                if (!(io instanceof AbstractDataPageIo) || !evictor.evictable(io)) {
+                    // The page has been recycled into a page of another type.
+                    forgetPage(fakePageId);
+
+                    return 0;
+                }
+
+                if (!checkTouch(pageIdx)) {
+                    // Another thread has concurrently invoked forgetPage().
+                    return 0;
+                }
+
+                AbstractDataPageIo<?> dataIo = (AbstractDataPageIo<?>) io;
+
+                int pageSize = pageMem.pageSize();
+
+                rowsToEvict = dataIo.forAllUnfragmentedRows(pageAddr, link -> evictor.rowToEvict(dataIo, pageAddr, link, pageSize));
+            } finally {
+                pageMem.readUnlock(0, fakePageId, page);
+            }
+        } finally {
+            pageMem.releasePage(0, fakePageId, page);
+        }
+
+        int evicted = 0;
+
+        for (R row : rowsToEvict) {
+            if (row != null && evictor.evictRow(row)) {
+                evicted++;
+            }
+        }
+
+        return evicted;
+    }
+
+    /**
+     * Checks that the page has been touched and hasn't been forgotten since.
+     *
+     * @param pageIdx Page index.
+     */
+    protected abstract boolean checkTouch(int pageIdx);
+
+    /**
+     * Returns the compact timestamp of the current time, that is never {@code 0}.
+     */
+    protected int compactTimestamp() {
+        long ts = (System.currentTimeMillis() - baseCompactTs) / COMPACT_TS_GRANULARITY;
+
+        assert ts > 0 && ts < Integer.MAX_VALUE : ts;
+
+        return (int) ts;
+    }
+
+    /**
+     * Returns the position of the page in the tracking array.
+     *
+     * @param pageIdx Page index.
+     */
+    protected int trackingIdx(int pageIdx) {
+        int trackingIdx = pageMem.pageSequenceNumber(pageIdx);
+
+        assert trackingIdx >= 0 && trackingIdx < trackingSize : "pageIdx=" + pageIdx + ", trackingIdx=" + trackingIdx;
+
+        return trackingIdx;
+    }
+
+    /**
+     * Returns the page index of the position in the tracking array.
+     *
+     * @param trackingIdx Position in the tracking array.
+     */
+    protected int pageIdx(int trackingIdx) {
+        return pageMem.pageIndex(trackingIdx);
+    }
+}
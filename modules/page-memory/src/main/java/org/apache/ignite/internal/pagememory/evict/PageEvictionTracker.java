@@ -47,6 +47,17 @@ public interface PageEvictionTracker {
      */
     void evictDataPage() throws IgniteInternalCheckedException;
 
+    /**
+     * Evicts data pages until eviction is no longer required. Call this method before inserting new data.
+     *
+     * @throws IgniteInternalCheckedException In case of page memory error.
+     */
+    default void ensureFreeSpace() throws IgniteInternalCheckedException {
+        while (evictionRequired()) {
+            evictDataPage();
+        }
+    }
+
     /**
      * Call this method when last entry is removed from data page.
      *
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.evict;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntSupplier;
+import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionView;
+import org.apache.ignite.internal.pagememory.impl.PageMemoryNoStoreImpl;
+import org.apache.ignite.internal.pagememory.util.PageIdUtils;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.apache.ignite.lang.IgniteLogger;
+
+/**
+ * Random-2-LRU page eviction tracker: scan-resistant version of the Random-LRU.
+ *
+ * <p>The two latest access timestamps are kept for every data page, a touch overwrites the older one. The page to evict is the one with
+ * the oldest penultimate access among a few randomly sampled pages, so the pages touched only once, e.g. by a scan, are evicted first.
+ */
+public class Random2LruPageEvictionTracker extends PageAbstractEvictionTracker {
+    /** Logger. */
+    private static final IgniteLogger LOG = IgniteLogger.forClass(Random2LruPageEvictionTracker.class);
+
+    /** Number of the touched pages sampled to choose the one to evict. */
+    private static final int SAMPLE_SIZE = 5;
+
+    /** Maximum number of the sampled positions, touched or not, while choosing the page to evict. */
+    private static final int SAMPLE_SPIN_LIMIT = SAMPLE_SIZE * 1000;
+
+    /** Maximum number of the chosen pages, that turned out to be impossible to evict, during one eviction. */
+    private static final int EVICT_ATTEMPTS_LIMIT = 30;
+
+    /** Address of the tracking array of two int timestamps per page. */
+    private long trackingArrPtr;
+
+    /**
+     * Constructor.
+     *
+     * @param pageMem Page memory.
+     * @param regionCfg Data region configuration.
+     * @param rowEvictor Evictor of the rows.
+     * @param emptyDataPages Supplier of the number of empty data pages in the free list.
+     */
+    public Random2LruPageEvictionTracker(
+            PageMemoryNoStoreImpl pageMem,
+            PageMemoryDataRegionView regionCfg,
+            DataRowEvictor<?> rowEvictor,
+            IntSupplier emptyDataPages
+    ) {
+        super(pageMem, regionCfg, rowEvictor, emptyDataPages);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start() {
+        long size = trackingSize * 8L;
+
+        trackingArrPtr = GridUnsafe.allocateMemory(size);
+
+        GridUnsafe.zeroMemory(trackingArrPtr, size);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop() {
+        if (trackingArrPtr != 0L) {
+            GridUnsafe.freeMemory(trackingArrPtr);
+
+            trackingArrPtr = 0L;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void touchPage(long pageId) {
+        long ptr = trackingArrPtr + trackingIdx(PageIdUtils.pageIndex(pageId)) * 8L;
+
+        int latestTs = compactTimestamp();
+
+        while (true) {
+            int firstTs = GridUnsafe.getIntVolatile(null, ptr);
+            int secondTs = GridUnsafe.getIntVolatile(null, ptr + 4);
+
+            boolean success = firstTs <= secondTs
+                    ? GridUnsafe.compareAndSwapInt(null, ptr, firstTs, latestTs)
+                    : GridUnsafe.compareAndSwapInt(null, ptr + 4, secondTs, latestTs);
+
+            if (success) {
+                return;
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void evictDataPage() throws IgniteInternalCheckedException {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+        for (int attempt = 0; attempt < EVICT_ATTEMPTS_LIMIT; attempt++) {
+            int lruTrackingIdx = -1;
+            int lruCompactTs = Integer.MAX_VALUE;
+
+            int dataPagesCnt = 0;
+            int sampleSpinCnt = 0;
+
+            while (dataPagesCnt < SAMPLE_SIZE) {
+                int trackingIdx = rnd.nextInt(trackingSize);
+
+                long ptr = trackingArrPtr + trackingIdx * 8L;
+
+                int firstTs = GridUnsafe.getIntVolatile(null, ptr);
+                int secondTs = GridUnsafe.getIntVolatile(null, ptr + 4);
+
+                // Only the data pages, that have been touched at least once, are taken into account.
+                if (Math.max(firstTs, secondTs) != 0) {
+                    int minTs = Math.min(firstTs, secondTs);
+
+                    if (minTs < lruCompactTs) {
+                        lruTrackingIdx = trackingIdx;
+                        lruCompactTs = minTs;
+                    }
+
+                    dataPagesCnt++;
+                }
+
+                if (++sampleSpinCnt > SAMPLE_SPIN_LIMIT) {
+                    LOG.warn("Too many attempts to choose data page: " + SAMPLE_SPIN_LIMIT);
+
+                    return;
+                }
+            }
+
+            if (evictDataPage(pageIdx(lruTrackingIdx))) {
+                return;
+            }
+        }
+
+        LOG.warn("Too many failed attempts to evict page: " + EVICT_ATTEMPTS_LIMIT);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean checkTouch(int pageIdx) {
+        long ptr = trackingArrPtr + trackingIdx(pageIdx) * 8L;
+
+        return GridUnsafe.getIntVolatile(null, ptr) != 0 || GridUnsafe.getIntVolatile(null, ptr + 4) != 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void forgetPage(long pageId) {
+        long ptr = trackingArrPtr + trackingIdx(PageIdUtils.pageIndex(pageId)) * 8L;
+
+        GridUnsafe.putLongVolatile(null, ptr, 0L);
+    }
+}
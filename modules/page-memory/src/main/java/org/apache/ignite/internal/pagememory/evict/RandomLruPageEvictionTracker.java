@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.evict;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntSupplier;
+import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionView;
+import org.apache.ignite.internal.pagememory.impl.PageMemoryNoStoreImpl;
+import org.apache.ignite.internal.pagememory.util.PageIdUtils;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.apache.ignite.lang.IgniteLogger;
+
+/**
+ * Random-LRU page eviction tracker.
+ *
+ * <p>The latest access timestamp is kept for every data page. The page to evict is the least recently used one among a few randomly
+ * sampled pages.
+ */
+public class RandomLruPageEvictionTracker extends PageAbstractEvictionTracker {
+    /** Logger. */
+    private static final IgniteLogger LOG = IgniteLogger.forClass(RandomLruPageEvictionTracker.class);
+
+    /** Number of the touched pages sampled to choose the one to evict. */
+    private static final int SAMPLE_SIZE = 5;
+
+    /** Maximum number of the sampled positions, touched or not, while choosing the page to evict. */
+    private static final int SAMPLE_SPIN_LIMIT = SAMPLE_SIZE * 1000;
+
+    /** Maximum number of the chosen pages, that turned out to be impossible to evict, during one eviction. */
+    private static final int EVICT_ATTEMPTS_LIMIT = 30;
+
+    /** Address of the tracking array of one int timestamp per page. */
+    private long trackingArrPtr;
+
+    /**
+     * Constructor.
+     *
+     * @param pageMem Page memory.
+     * @param regionCfg Data region configuration.
+     * @param rowEvictor Evictor of the rows.
+     * @param emptyDataPages Supplier of the number of empty data pages in the free list.
+     */
+    public RandomLruPageEvictionTracker(
+            PageMemoryNoStoreImpl pageMem,
+            PageMemoryDataRegionView regionCfg,
+            DataRowEvictor<?> rowEvictor,
+            IntSupplier emptyDataPages
+    ) {
+        super(pageMem, regionCfg, rowEvictor, emptyDataPages);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start() {
+        long size = trackingSize * 4L;
+
+        trackingArrPtr = GridUnsafe.allocateMemory(size);
+
+        GridUnsafe.zeroMemory(trackingArrPtr, size);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop() {
+        if (trackingArrPtr != 0L) {
+            GridUnsafe.freeMemory(trackingArrPtr);
+
+            trackingArrPtr = 0L;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void touchPage(long pageId) {
+        GridUnsafe.putIntVolatile(null, trackingArrPtr + trackingIdx(PageIdUtils.pageIndex(pageId)) * 4L, compactTimestamp());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void evictDataPage() throws IgniteInternalCheckedException {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+        for (int attempt = 0; attempt < EVICT_ATTEMPTS_LIMIT; attempt++) {
+            int lruTrackingIdx = -1;
+            int lruCompactTs = Integer.MAX_VALUE;
+
+            int dataPagesCnt = 0;
+            int sampleSpinCnt = 0;
+
+            while (dataPagesCnt < SAMPLE_SIZE) {
+                int trackingIdx = rnd.nextInt(trackingSize);
+
+                int compactTs = GridUnsafe.getIntVolatile(null, trackingArrPtr + trackingIdx * 4L);
+
+                // Only the data pages, that have been touched at least once, are taken into account.
+                if (compactTs != 0) {
+                    if (compactTs < lruCompactTs) {
+                        lruTrackingIdx = trackingIdx;
+                        lruCompactTs = compactTs;
+                    }
+
+                    dataPagesCnt++;
+                }
+
+                if (++sampleSpinCnt > SAMPLE_SPIN_LIMIT) {
+                    LOG.warn("Too many attempts to choose data page: " + SAMPLE_SPIN_LIMIT);
+
+                    return;
+                }
+            }
+
+            if (evictDataPage(pageIdx(lruTrackingIdx))) {
+                return;
+            }
+        }
+
+        LOG.warn("Too many failed attempts to evict page: " + EVICT_ATTEMPTS_LIMIT);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean checkTouch(int pageIdx) {
+        return GridUnsafe.getIntVolatile(null, trackingArrPtr + trackingIdx(pageIdx) * 4L) != 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void forgetPage(long pageId) {
+        GridUnsafe.putIntVolatile(null, trackingArrPtr + trackingIdx(PageIdUtils.pageIndex(pageId)) * 4L, 0);
+    }
+}
@@ -572,9 +572,7 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
                 T row = cur.get();
 
                 // If eviction is required - free up memory before locking the next page.
-                while (evictionTracker.evictionRequired()) {
-                    evictionTracker.evictDataPage();
-                }
+                evictionTracker.ensureFreeSpace();
 
                 if (written == COMPLETE) {
                     written = writeWholePages(row, statHolder);
@@ -664,7 +662,9 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
         long pageId = 0;
 
         if (size < minSizeForDataPage) {
-            for (int b = bucket(size, false) + 1; b < REUSE_BUCKET; b++) {
+            // Only visit the buckets that are known to contain pages, empty buckets are skipped without touching their stripes.
+            for (int b = nonEmptyBuckets.nextSetBit(bucket(size, false) + 1, REUSE_BUCKET); b >= 0;
+                    b = nonEmptyBuckets.nextSetBit(b + 1, REUSE_BUCKET)) {
                 pageId = takeEmptyPage(b, row.ioVersions(), statHolder);
 
                 if (pageId != 0L) {
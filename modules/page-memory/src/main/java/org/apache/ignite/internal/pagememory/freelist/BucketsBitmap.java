@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.ignite.internal.pagememory.freelist;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free bitmap of buckets of a {@link PagesList}, a bit is set when the bucket is known to contain pages. Allows to find the first
+ * non-empty bucket starting from a given one without visiting the stripes of the empty buckets.
+ *
+ * <p>The bitmap is a hint: it may be briefly inconsistent with the bucket sizes while they are being changed concurrently, but it
+ * converges as soon as all the concurrent changes have been {@link #update reported}.
+ */
+class BucketsBitmap {
+    /** Number of bits in a word. */
+    private static final int WORD_BITS = Long.SIZE;
+
+    /** Words of the bitmap. */
+    private final AtomicLongArray words;
+
+    /** Number of buckets. */
+    private final int buckets;
+
+    /**
+     * Constructor.
+     *
+     * @param buckets Number of buckets.
+     */
+    BucketsBitmap(int buckets) {
+        assert buckets > 0 : buckets;
+
+        this.buckets = buckets;
+
+        words = new AtomicLongArray((buckets + WORD_BITS - 1) / WORD_BITS);
+    }
+
+    /**
+     * Updates the bit of the bucket after its size has been changed.
+     *
+     * @param bucket Bucket index.
+     * @param bucketsSize Bucket sizes.
+     */
+    void update(int bucket, AtomicLongArray bucketsSize) {
+        // Every size change is followed by a bit write and a re-read of the size, so the last written bit always matches the size.
+        for (long size = bucketsSize.get(bucket); ; ) {
+            boolean nonEmpty = size > 0;
+
+            if (nonEmpty) {
+                set(bucket);
+            } else {
+                clear(bucket);
+            }
+
+            size = bucketsSize.get(bucket);
+
+            if ((size > 0) == nonEmpty) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Marks the bucket as non-empty.
+     *
+     * @param bucket Bucket index.
+     */
+    void set(int bucket) {
+        int idx = wordIndex(bucket);
+        long mask = 1L << bucket;
+
+        for (long word = words.get(idx); (word & mask) == 0L; word = words.get(idx)) {
+            if (words.compareAndSet(idx, word, word | mask)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Marks the bucket as empty.
+     *
+     * @param bucket Bucket index.
+     */
+    void clear(int bucket) {
+        int idx = wordIndex(bucket);
+        long mask = 1L << bucket;
+
+        for (long word = words.get(idx); (word & mask) != 0L; word = words.get(idx)) {
+            if (words.compareAndSet(idx, word, word & ~mask)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if the bucket is marked as non-empty.
+     *
+     * @param bucket Bucket index.
+     */
+    boolean get(int bucket) {
+        return (words.get(wordIndex(bucket)) & (1L << bucket)) != 0L;
+    }
+
+    /**
+     * Returns the index of the first non-empty bucket in the range.
+     *
+     * @param fromBucket First bucket to check (inclusive).
+     * @param toBucket Last bucket to check (exclusive).
+     * @return Bucket index or {@code -1} if all the buckets in the range are empty.
+     */
+    int nextSetBit(int fromBucket, int toBucket) {
+        assert toBucket <= buckets : "toBucket=" + toBucket + ", buckets=" + buckets;
+
+        if (fromBucket >= toBucket) {
+            return -1;
+        }
+
+        int idx = wordIndex(fromBucket);
+
+        long word = words.get(idx) & (-1L << fromBucket);
+
+        while (true) {
+            if (word != 0L) {
+                int bucket = idx * WORD_BITS + Long.numberOfTrailingZeros(word);
+
+                return bucket < toBucket ? bucket : -1;
+            }
+
+            if (++idx * WORD_BITS >= toBucket) {
+                return -1;
+            }
+
+            word = words.get(idx);
+        }
+    }
+
+    private static int wordIndex(int bucket) {
+        return bucket / WORD_BITS;
+    }
+}
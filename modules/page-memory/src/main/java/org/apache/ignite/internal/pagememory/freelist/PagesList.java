@@ -38,6 +38,7 @@ import static org.apache.ignite.lang.IgniteSystemProperties.getBoolean;
 import static org.apache.ignite.lang.IgniteSystemProperties.getInteger;
 
 import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -96,6 +97,9 @@ public abstract class PagesList extends DataStructure {
     /** Basket sizes. */
     protected final AtomicLongArray bucketsSize;
 
+    /** Bitmap of non-empty buckets, kept in sync with {@link #bucketsSize}. */
+    protected final BucketsBitmap nonEmptyBuckets;
+
     /** Flag indicating that the {@link PagesList} has been changed. */
     protected volatile boolean changed;
 
@@ -210,6 +214,7 @@ public abstract class PagesList extends DataStructure {
         onheapListCachingEnabled = isCachingApplicable();
 
         bucketsSize = new AtomicLongArray(buckets);
+        nonEmptyBuckets = new BucketsBitmap(buckets);
     }
 
     /**
@@ -306,6 +311,8 @@ public abstract class PagesList extends DataStructure {
                     assert ok;
 
                     bucketsSize.set(bucket, bucketSize);
+
+                    nonEmptyBuckets.update(bucket, bucketsSize);
                 }
             }
         }
@@ -1728,21 +1735,25 @@ public abstract class PagesList extends DataStructure {
     }
 
     /**
-     * Increments bucket size and updates changed flag.
+     * Increments bucket size and updates the bitmap of non-empty buckets.
      *
      * @param bucket Bucket number.
      */
     private void incrementBucketSize(int bucket) {
         bucketsSize.incrementAndGet(bucket);
+
+        nonEmptyBuckets.update(bucket, bucketsSize);
     }
 
     /**
-     * Increments bucket size and updates changed flag.
+     * Decrements bucket size and updates the bitmap of non-empty buckets.
      *
      * @param bucket Bucket number.
      */
     private void decrementBucketSize(int bucket) {
         bucketsSize.decrementAndGet(bucket);
+
+        nonEmptyBuckets.update(bucket, bucketsSize);
     }
 
     /**
@@ -1887,7 +1898,7 @@ public abstract class PagesList extends DataStructure {
     }
 
     /**
-     * Class to store page-list cache onheap.
+     * Class to store page-list cache onheap. Stripes are hash-indexed, so a page is removed from the cache in constant time.
      */
     // TODO: https://issues.apache.org/jira/browse/IGNITE-16350
     public static class PagesCache {
@@ -1911,7 +1922,7 @@ public abstract class PagesList extends DataStructure {
         private final Object[] stripeLocks = new Object[STRIPES_COUNT];
 
         /** Page lists. */
-        private final LongArrayList[] stripes = new LongArrayList[STRIPES_COUNT];
+        private final LongLinkedOpenHashSet[] stripes = new LongLinkedOpenHashSet[STRIPES_COUNT];
 
         /** Atomic updater for {@link #nextStripeIdx} field. */
         private static final AtomicIntegerFieldUpdater<PagesCache> nextStripeUpdater = newUpdater(PagesCache.class, "nextStripeIdx");
@@ -1957,9 +1968,9 @@ public abstract class PagesList extends DataStructure {
             int stripeIdx = (int) pageId & (STRIPES_COUNT - 1);
 
             synchronized (stripeLocks[stripeIdx]) {
-                LongArrayList stripe = stripes[stripeIdx];
+                LongLinkedOpenHashSet stripe = stripes[stripeIdx];
 
-                boolean rmvd = stripe != null && stripe.rem(pageId);
+                boolean rmvd = stripe != null && stripe.remove(pageId);
 
                 if (rmvd) {
                     if (sizeUpdater.decrementAndGet(this) == 0 && pagesCacheLimit != null) {
@@ -1985,14 +1996,14 @@ public abstract class PagesList extends DataStructure {
                 int stripeIdx = nextStripeUpdater.getAndIncrement(this) & (STRIPES_COUNT - 1);
 
                 synchronized (stripeLocks[stripeIdx]) {
-                    LongArrayList stripe = stripes[stripeIdx];
+                    LongLinkedOpenHashSet stripe = stripes[stripeIdx];
 
                     if (stripe != null && !stripe.isEmpty()) {
                         if (sizeUpdater.decrementAndGet(this) == 0 && pagesCacheLimit != null) {
                             pagesCacheLimit.incrementAndGet();
                         }
 
-                        return stripe.removeLong(stripe.size() - 1);
+                        return stripe.removeLastLong();
                     }
                 }
             }
@@ -2012,7 +2023,7 @@ public abstract class PagesList extends DataStructure {
                 if (emptyFlushCnt >= 0 && ++emptyFlushCnt >= EMPTY_FLUSH_GC_THRESHOLD) {
                     for (int i = 0; i < STRIPES_COUNT; i++) {
                         synchronized (stripeLocks[i]) {
-                            LongArrayList stripe = stripes[i];
+                            LongLinkedOpenHashSet stripe = stripes[i];
 
                             if (stripe != null) {
                                 if (stripe.isEmpty()) {
@@ -2041,7 +2052,7 @@ public abstract class PagesList extends DataStructure {
 
             for (int i = 0; i < STRIPES_COUNT; i++) {
                 synchronized (stripeLocks[i]) {
-                    LongArrayList stripe = stripes[i];
+                    LongLinkedOpenHashSet stripe = stripes[i];
 
                     if (stripe != null && !stripe.isEmpty()) {
                         if (res == null) {
@@ -2084,16 +2095,18 @@ public abstract class PagesList extends DataStructure {
             int stripeIdx = (int) pageId & (STRIPES_COUNT - 1);
 
             synchronized (stripeLocks[stripeIdx]) {
-                LongArrayList stripe = stripes[stripeIdx];
+                LongLinkedOpenHashSet stripe = stripes[stripeIdx];
 
                 if (stripe == null) {
-                    stripes[stripeIdx] = stripe = new LongArrayList(MAX_SIZE / STRIPES_COUNT);
+                    stripes[stripeIdx] = stripe = new LongLinkedOpenHashSet(MAX_SIZE / STRIPES_COUNT);
                 }
 
                 if (stripe.size() >= MAX_SIZE / STRIPES_COUNT) {
                     return false;
                 } else {
-                    stripe.add(pageId);
+                    boolean added = stripe.add(pageId);
+
+                    assert added : "Page is already cached: " + hexLong(pageId);
 
                     if (sizeUpdater.getAndIncrement(this) == 0 && pagesCacheLimit != null) {
                         pagesCacheLimit.decrementAndGet();
@@ -61,7 +61,7 @@ import org.apache.ignite.lang.IgniteSystemProperties;
  * When page is allocated and is in use:
  * <pre>
  * +--------+--------+--------+--------+---------------------------+
- * |8 bytes |8 bytes |8 bytes |8 bytes |        PAGE_SIZE          |
+ * |8 bytes |8 bytes |8 bytes |16 bytes|        PAGE_SIZE          |
  * +--------+--------+--------+--------+---------------------------+
  * | Marker |Page ID |Pin CNT |  Lock  |        Page data          |
  * +--------+--------+--------+--------+---------------------------+
@@ -502,6 +502,23 @@ public class PageMemoryNoStoreImpl implements PageMemory {
         rwLock.readUnlock(page + LOCK_OFFSET);
     }
 
+    /** {@inheritDoc} */
+    @Override public long tryOptimisticRead(int cacheId, long pageId, long page) {
+        assert started;
+
+        return rwLock.tryOptimisticRead(page + LOCK_OFFSET, PageIdUtils.tag(pageId));
+    }
+
+    /** {@inheritDoc} */
+    @Override public long optimisticReadAddress(long page) {
+        return page + PAGE_OVERHEAD;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean validateOptimisticRead(int cacheId, long pageId, long page, long stamp) {
+        return rwLock.validate(page + LOCK_OFFSET, PageIdUtils.tag(pageId), stamp);
+    }
+
     /** {@inheritDoc} */
     @Override public long writeLock(int cacheId, long pageId, long page) {
         assert started;
@@ -430,6 +430,50 @@ public abstract class AbstractDataPageIo<T extends Storable> extends PageIo {
         return res;
     }
 
+    /**
+     * Applies closure to the links of the rows that are stored entirely in the page. Fragments of the rows that span several pages are
+     * skipped, because a page alone doesn't tell the first fragment of a row from the others.
+     *
+     * @param pageAddr Page address.
+     * @param c Closure.
+     * @param <U> Closure return type.
+     * @return Collection of closure results for the rows.
+     * @throws IgniteInternalCheckedException In case of error in closure body.
+     */
+    public <U> List<U> forAllUnfragmentedRows(long pageAddr, Closure<U> c) throws IgniteInternalCheckedException {
+        assertPageType(pageAddr);
+
+        long pageId = getPageId(pageAddr);
+
+        int directCnt = getDirectCount(pageAddr);
+        int indirectCnt = getIndirectCount(pageAddr);
+
+        int[] itemIds = new int[directCnt];
+
+        for (int i = 0; i < directCnt; i++) {
+            itemIds[i] = i;
+        }
+
+        // A row that has been moved to another direct item on removal is referenced by the ID of the indirect item pointing at it.
+        for (int i = directCnt; i < directCnt + indirectCnt; i++) {
+            short indirectItem = getItem(pageAddr, i);
+
+            itemIds[directItemIndex(indirectItem)] = itemId(indirectItem);
+        }
+
+        List<U> res = new ArrayList<>(directCnt);
+
+        for (int i = 0; i < directCnt; i++) {
+            int dataOff = directItemToOffset(getItem(pageAddr, i));
+
+            if (!isFragmented(pageAddr, dataOff)) {
+                res.add(c.apply(PageIdUtils.link(pageId, itemIds[i])));
+            }
+        }
+
+        return res;
+    }
+
     /**
      * Writes inderect count.
      *
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.metric;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.apache.ignite.internal.util.IgniteUtils;
+
+/**
+ * Accumulates the number of events (hits) that happened during the last {@code rateTimeInterval} milliseconds.
+ *
+ * <p>The interval is split into a number of buckets, each holding the number of hits of its time slot. Every bucket is a single long,
+ * that combines the number of the time slot (tag) in the high bits and the counter in the low bits, so it is updated with a single CAS
+ * and a stale bucket is reset by the first hit of a new time slot.
+ */
+public class HitRateMetric {
+    /** Number of bits of a bucket used by the counter, the remaining high bits are used by the tag. */
+    private static final int COUNTER_BITS = 44;
+
+    /** Mask of the counter bits. */
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+    /** Mask of the tag, after it has been shifted to the low bits. */
+    private static final long TAG_MASK = (1L << (Long.SIZE - COUNTER_BITS)) - 1;
+
+    private final long bucketInterval;
+
+    private final AtomicLongArray buckets;
+
+    /**
+     * Constructor.
+     *
+     * @param rateTimeInterval Length of the time interval in milliseconds.
+     * @param size Number of buckets the interval is split into.
+     */
+    public HitRateMetric(long rateTimeInterval, int size) {
+        assert rateTimeInterval > 0 : rateTimeInterval;
+        assert size > 1 : size;
+
+        this.bucketInterval = Math.max(1, rateTimeInterval / size);
+        this.buckets = new AtomicLongArray(size);
+    }
+
+    /**
+     * Adds a hit.
+     */
+    public void increment() {
+        add(1);
+    }
+
+    /**
+     * Adds the given number of hits.
+     *
+     * @param x Number of hits.
+     */
+    public void add(long x) {
+        long slot = IgniteUtils.monotonicMs() / bucketInterval;
+
+        int idx = (int) (slot % buckets.length());
+        long tag = slot & TAG_MASK;
+
+        while (true) {
+            long cur = buckets.get(idx);
+
+            long upd = (cur >>> COUNTER_BITS) == tag
+                    ? cur + x
+                    : (tag << COUNTER_BITS) | (x & COUNTER_MASK);
+
+            if (buckets.compareAndSet(idx, cur, upd)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of hits during the last interval.
+     */
+    public long value() {
+        long slot = IgniteUtils.monotonicMs() / bucketInterval;
+
+        long res = 0;
+
+        for (int i = 0; i < buckets.length(); i++) {
+            long cur = buckets.get(i);
+
+            // Only the buckets of the time slots within the interval are counted.
+            long age = (slot - (cur >>> COUNTER_BITS)) & TAG_MASK;
+
+            if (age < buckets.length()) {
+                res += cur & COUNTER_MASK;
+            }
+        }
+
+        return res;
+    }
+}
@@ -19,6 +19,8 @@ package org.apache.ignite.internal.pagememory.persistence;
 
 import static java.lang.System.lineSeparator;
 import static org.apache.ignite.internal.pagememory.FullPageId.NULL_PAGE;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryCheckpointConfigurationSchema.DISABLED_THROTTLING_POLICY;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryCheckpointConfigurationSchema.SPEED_BASED_THROTTLING_POLICY;
 import static org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionConfigurationSchema.CLOCK_REPLACEMENT_MODE;
 import static org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionConfigurationSchema.RANDOM_LRU_REPLACEMENT_MODE;
 import static org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionConfigurationSchema.SEGMENTED_LRU_REPLACEMENT_MODE;
@@ -74,8 +76,10 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 import org.apache.ignite.internal.pagememory.FullPageId;
 import org.apache.ignite.internal.pagememory.PageMemory;
+import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryCheckpointConfigurationSchema;
 import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionConfiguration;
 import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionView;
 import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorView;
@@ -88,6 +92,7 @@ import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolder;
 import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointMetricsTracker;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointPages;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointProgress;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTimeoutLock;
 import org.apache.ignite.internal.pagememory.persistence.replacement.ClockPageReplacementPolicyFactory;
 import org.apache.ignite.internal.pagememory.persistence.replacement.DelayedPageReplacementTracker;
@@ -95,6 +100,8 @@ import org.apache.ignite.internal.pagememory.persistence.replacement.PageReplace
 import org.apache.ignite.internal.pagememory.persistence.replacement.PageReplacementPolicyFactory;
 import org.apache.ignite.internal.pagememory.persistence.replacement.RandomLruPageReplacementPolicyFactory;
 import org.apache.ignite.internal.pagememory.persistence.replacement.SegmentedLruPageReplacementPolicyFactory;
+import org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteSpeedBasedThrottle;
+import org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteThrottlePolicy;
 import org.apache.ignite.internal.util.CollectionUtils;
 import org.apache.ignite.internal.util.OffheapReadWriteLock;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
@@ -120,7 +127,7 @@ import org.jetbrains.annotations.TestOnly;
  * <p>When page is allocated and is in use:
  * <pre>
  * +------------------+--------+--------+----+----+--------+--------+----------------------+
- * |     8 bytes      |8 bytes |8 bytes |4 b |4 b |8 bytes |8 bytes |       PAGE_SIZE      |
+ * |     8 bytes      |8 bytes |8 bytes |4 b |4 b |16 bytes|8 bytes |       PAGE_SIZE      |
  * +------------------+--------+--------+----+----+--------+--------+----------------------+
  * | Marker/Timestamp |Rel ptr |Page ID |C ID|PIN | LOCK   |TMP BUF |       Page data      |
  * +------------------+--------+--------+----+----+--------+--------+----------------------+
@@ -146,8 +153,8 @@ public class PageMemoryImpl implements PageMemory {
     /** Page lock offset. */
     public static final int PAGE_LOCK_OFFSET = 32;
 
-    /** 8b Marker/timestamp 8b Relative pointer 8b Page ID 4b Group ID 4b Pin count 8b Lock 8b Temporary buffer. */
-    public static final int PAGE_OVERHEAD = 48;
+    /** 8b Marker/timestamp 8b Relative pointer 8b Page ID 4b Group ID 4b Pin count 16b Lock 8b Temporary buffer. */
+    public static final int PAGE_OVERHEAD = 56;
 
     /** Try again tag. */
     public static final int TRY_AGAIN_TAG = -1;
@@ -218,6 +225,10 @@ public class PageMemoryImpl implements PageMemory {
     /** Checkpoint timeout lock. */
     private final CheckpointTimeoutLock checkpointTimeoutLock;
 
+    /** Write throttle, {@code null} if throttling is disabled. */
+    @Nullable
+    private final PagesWriteThrottlePolicy writeThrottle;
+
     /**
      * Constructor.
      *
@@ -229,6 +240,8 @@ public class PageMemoryImpl implements PageMemory {
      * @param changeTracker Callback invoked to track changes in pages.
      * @param flushDirtyPage Write callback invoked when a dirty page is removed for replacement.
      * @param checkpointTimeoutLock Checkpoint timeout lock.
+     * @param throttlingPolicy Write throttling policy, one of the {@link PageMemoryCheckpointConfigurationSchema} constants.
+     * @param cpProgressProvider Supplier of the current checkpoint progress, used by the write throttling.
      * @param pageSize Page size in bytes.
      */
     public PageMemoryImpl(
@@ -240,6 +253,8 @@ public class PageMemoryImpl implements PageMemory {
             @Nullable PageChangeTracker changeTracker,
             PageStoreWriter flushDirtyPage,
             CheckpointTimeoutLock checkpointTimeoutLock,
+            String throttlingPolicy,
+            Supplier<CheckpointProgress> cpProgressProvider,
             // TODO: IGNITE-17017 Move to common config
             int pageSize
     ) {
@@ -282,6 +297,19 @@ public class PageMemoryImpl implements PageMemory {
 
         delayedPageReplacementTracker = dataRegionConfigView.delayedReplacedPageWrite()
                 ? new DelayedPageReplacementTracker(pageSize, flushDirtyPage, LOG, sizes.length - 1) : null;
+
+        switch (throttlingPolicy) {
+            case SPEED_BASED_THROTTLING_POLICY:
+                writeThrottle = new PagesWriteSpeedBasedThrottle(this, cpProgressProvider);
+
+                break;
+            case DISABLED_THROTTLING_POLICY:
+                writeThrottle = null;
+
+                break;
+            default:
+                throw new IgniteInternalException("Unexpected throttling policy: " + throttlingPolicy);
+        }
     }
 
     /** {@inheritDoc} */
@@ -439,6 +467,26 @@ public class PageMemoryImpl implements PageMemory {
         readUnlockPage(page);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public long tryOptimisticRead(int grpId, long pageId, long page) {
+        assert started;
+
+        return rwLock.tryOptimisticRead(page + PAGE_LOCK_OFFSET, tag(pageId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long optimisticReadAddress(long page) {
+        return page + PAGE_OVERHEAD;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean validateOptimisticRead(int grpId, long pageId, long page, long stamp) {
+        return rwLock.validate(page + PAGE_LOCK_OFFSET, tag(pageId), stamp);
+    }
+
     /** {@inheritDoc} */
     @Override
     public long writeLock(int grpId, long pageId, long page) {
@@ -849,6 +897,33 @@ public class PageMemoryImpl implements PageMemory {
         return pageSize();
     }
 
+    /**
+     * Returns the highest ratio of the dirty pages to all pages among the segments. A new checkpoint is forced when it reaches
+     * {@code 0.75}, see {@link #safeToUpdate()}.
+     */
+    public double dirtyPagesRatio() {
+        Segment[] segments = this.segments;
+
+        if (segments == null) {
+            return 0;
+        }
+
+        double res = 0;
+
+        for (Segment segment : segments) {
+            res = Math.max(res, (double) segment.dirtyPagesCntr.get() / segment.pages());
+        }
+
+        return res;
+    }
+
+    /**
+     * Returns write throttle, {@code null} if throttling is disabled.
+     */
+    public @Nullable PagesWriteThrottlePolicy writeThrottle() {
+        return writeThrottle;
+    }
+
     /**
      * Returns total pages can be placed in all segments.
      */
@@ -1047,6 +1122,46 @@ public class PageMemoryImpl implements PageMemory {
         }
     }
 
+    /**
+     * Acquires the page only if it is loaded to the memory, never reads it from the page store. The acquired page must be released by
+     * calling {@link #releasePage(int, long, long)}.
+     *
+     * <p>Used by the checkpoint to keep the copied pages from being replaced until their copies are written to the page store.
+     *
+     * @param grpId Group ID.
+     * @param pageId Page ID.
+     * @return Page pointer or {@code 0} if the page is not loaded.
+     */
+    public long acquireLoadedPage(int grpId, long pageId) {
+        assert started;
+
+        Segment seg = segment(grpId, pageId);
+
+        seg.readLock().lock();
+
+        try {
+            long relPtr = seg.loadedPages.get(
+                    grpId,
+                    effectivePageId(pageId),
+                    seg.partGeneration(grpId, partitionId(pageId)),
+                    INVALID_REL_PTR,
+                    INVALID_REL_PTR
+            );
+
+            if (relPtr == INVALID_REL_PTR) {
+                return 0L;
+            }
+
+            long absPtr = seg.absolute(relPtr);
+
+            seg.acquirePage(absPtr);
+
+            return absPtr;
+        } finally {
+            seg.readLock().unlock();
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public long readLockForce(int grpId, long pageId, long page) {
@@ -1180,6 +1295,11 @@ public class PageMemoryImpl implements PageMemory {
 
                 throw ex;
             }
+
+            // Throttles only after the page lock is released, so the other threads can proceed with the page.
+            if (writeThrottle != null && !restore && markDirty && !wasDirty) {
+                writeThrottle.onMarkDirty(isInCheckpoint(fullId));
+            }
         }
     }
 
@@ -2108,6 +2228,10 @@ public class PageMemoryImpl implements PageMemory {
 
         safeToUpdate.set(true);
 
+        if (writeThrottle != null) {
+            writeThrottle.onBeginCheckpoint();
+        }
+
         return CollectionUtils.union(collections);
     }
 
@@ -2124,5 +2248,9 @@ public class PageMemoryImpl implements PageMemory {
                 seg.checkpointPages = null;
             }
         }
+
+        if (writeThrottle != null) {
+            writeThrottle.onFinishCheckpoint();
+        }
     }
 }
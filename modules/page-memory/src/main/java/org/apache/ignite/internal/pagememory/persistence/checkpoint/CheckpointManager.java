@@ -17,16 +17,19 @@
 
 package org.apache.ignite.internal.pagememory.persistence.checkpoint;
 
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.Collection;
 import org.apache.ignite.internal.components.LongJvmPauseDetector;
 import org.apache.ignite.internal.manager.IgniteComponent;
+import org.apache.ignite.internal.pagememory.FullPageId;
 import org.apache.ignite.internal.pagememory.PageMemory;
 import org.apache.ignite.internal.pagememory.PageMemoryDataRegion;
 import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryCheckpointConfiguration;
 import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryCheckpointView;
 import org.apache.ignite.internal.pagememory.persistence.PageMemoryImpl;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreManager;
+import org.apache.ignite.internal.pagememory.persistence.store.PageStore;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.internal.util.worker.IgniteWorkerListener;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
@@ -111,7 +114,25 @@ public class CheckpointManager implements IgniteComponent {
 
         checkpointPagesWriterFactory = new CheckpointPagesWriterFactory(
                 IgniteLogger.forClass(CheckpointPagesWriterFactory.class),
-                (fullPage, buf, tag) -> filePageStoreManager.write(fullPage.groupId(), fullPage.pageId(), buf, tag, true),
+                new CheckpointPageWriter() {
+                    /** {@inheritDoc} */
+                    @Override
+                    public PageStore write(FullPageId fullPageId, ByteBuffer buf, int tag) throws IgniteInternalCheckedException {
+                        return filePageStoreManager.write(fullPageId.groupId(), fullPageId.pageId(), buf, tag, true);
+                    }
+
+                    /** {@inheritDoc} */
+                    @Override
+                    public PageStore write(
+                            int groupId,
+                            long[] pageIds,
+                            ByteBuffer[] bufs,
+                            int cnt,
+                            int tag
+                    ) throws IgniteInternalCheckedException {
+                        return filePageStoreManager.write(groupId, pageIds, bufs, cnt, tag, true);
+                    }
+                },
                 pageSize
         );
 
@@ -190,6 +211,13 @@ public class CheckpointManager implements IgniteComponent {
         return checkpointer.scheduleCheckpoint(0, reason);
     }
 
+    /**
+     * Returns progress of current checkpoint, last finished one or {@code null}, if checkpoint has never started.
+     */
+    public @Nullable CheckpointProgress currentProgress() {
+        return checkpointer.currentProgress();
+    }
+
     /**
      * Returns {@link true} if it is safe for all {@link PageMemoryDataRegion data regions} to update their {@link PageMemory}.
      *
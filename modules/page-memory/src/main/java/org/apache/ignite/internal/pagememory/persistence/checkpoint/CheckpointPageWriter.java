@@ -23,7 +23,7 @@ import org.apache.ignite.internal.pagememory.persistence.store.PageStore;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
 
 /**
- * Interface which allows writing one page to page store.
+ * Interface which allows writing pages to page store.
  */
 public interface CheckpointPageWriter {
     /**
@@ -36,4 +36,27 @@ public interface CheckpointPageWriter {
      * @throws IgniteInternalCheckedException If failed.
      */
     PageStore write(FullPageId fullPageId, ByteBuffer buf, int tag) throws IgniteInternalCheckedException;
+
+    /**
+     * Writes the pages with contiguous indexes of the same partition to the page store. By default, writes them one by one.
+     *
+     * @param groupId Group ID.
+     * @param pageIds IDs of the pages in the order of their indexes.
+     * @param bufs Byte buffers to write from.
+     * @param cnt Number of pages to write.
+     * @param tag Page tag.
+     * @return {@link PageStore} which was used to write.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    default PageStore write(int groupId, long[] pageIds, ByteBuffer[] bufs, int cnt, int tag) throws IgniteInternalCheckedException {
+        assert cnt > 0 : cnt;
+
+        PageStore store = null;
+
+        for (int i = 0; i < cnt; i++) {
+            store = write(new FullPageId(pageIds[i], groupId), bufs[i], tag);
+        }
+
+        return store;
+    }
 }
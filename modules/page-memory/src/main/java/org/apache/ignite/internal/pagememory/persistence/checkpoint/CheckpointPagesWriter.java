@@ -23,6 +23,8 @@ import static org.apache.ignite.internal.pagememory.io.PageIo.getVersion;
 import static org.apache.ignite.internal.pagememory.persistence.PageMemoryImpl.TRY_AGAIN_TAG;
 import static org.apache.ignite.internal.pagememory.persistence.checkpoint.IgniteConcurrentMultiPairQueue.EMPTY;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.flag;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageIndex;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.partitionId;
 import static org.apache.ignite.internal.util.IgniteUtils.hexLong;
 
 import java.nio.ByteBuffer;
@@ -40,6 +42,7 @@ import org.apache.ignite.internal.pagememory.persistence.PageStoreWriter;
 import org.apache.ignite.internal.pagememory.persistence.store.PageStore;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
 import org.apache.ignite.lang.IgniteLogger;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Implementation of page writer which able to store pages to disk during checkpoint.
@@ -64,7 +67,7 @@ public class CheckpointPagesWriter implements Runnable {
     private final Runnable beforePageWrite;
 
     /** Thread local with buffers for the checkpoint threads. Each buffer represent one page for durable memory. */
-    private final ThreadLocal<ByteBuffer> threadBuf;
+    private final ThreadLocal<ByteBuffer[]> threadBuf;
 
     /** Current checkpoint. This field is updated only by checkpoint thread. */
     private final CheckpointProgressImpl checkpointProgress;
@@ -84,7 +87,7 @@ public class CheckpointPagesWriter implements Runnable {
      * @param doneFut Done future.
      * @param beforePageWrite Action to be performed before every page write.
      * @param log Logger.
-     * @param threadBuf Thread local byte buffer.
+     * @param threadBuf Thread local byte buffers, adjacent pages are collected in them to be written at once.
      * @param checkpointProgress Checkpoint progress.
      * @param pageWriter File page store manager.
      * @param shutdownNow Shutdown supplier.
@@ -96,7 +99,7 @@ public class CheckpointPagesWriter implements Runnable {
             ConcurrentMap<PageStore, LongAdder> updStores,
             CompletableFuture<?> doneFut,
             Runnable beforePageWrite,
-            ThreadLocal<ByteBuffer> threadBuf,
+            ThreadLocal<ByteBuffer[]> threadBuf,
             CheckpointProgressImpl checkpointProgress,
             CheckpointPageWriter pageWriter,
             BooleanSupplier shutdownNow
@@ -151,22 +154,34 @@ public class CheckpointPagesWriter implements Runnable {
 
         Map<PageMemoryImpl, PageStoreWriter> pageStoreWriters = new HashMap<>();
 
-        ByteBuffer tmpWriteBuf = threadBuf.get();
+        AdjacentPages adjacentPages = new AdjacentPages(threadBuf.get());
 
         IgniteConcurrentMultiPairQueue.Result<PageMemoryImpl, FullPageId> res = new IgniteConcurrentMultiPairQueue.Result<>();
 
-        while (!shutdownNow.getAsBoolean() && writePageIds.next(res)) {
-            beforePageWrite.run();
+        try {
+            // Pages are taken in batches, so that the sorted adjacent pages are not interleaved with other checkpoint threads.
+            while (!shutdownNow.getAsBoolean() && writePageIds.next(res, adjacentPages.capacity())) {
+                beforePageWrite.run();
+
+                FullPageId fullId = res.getValue();
 
-            FullPageId fullId = res.getValue();
+                PageMemoryImpl pageMemory = res.getKey();
 
-            PageMemoryImpl pageMemory = res.getKey();
+                if (!adjacentPages.isNext(pageMemory, fullId)) {
+                    adjacentPages.flush();
+                }
 
-            tmpWriteBuf.rewind();
+                PageStoreWriter pageStoreWriter = pageStoreWriters.computeIfAbsent(
+                        pageMemory,
+                        pm -> createPageStoreWriter(pm, adjacentPages, pagesToRetry)
+                );
 
-            PageStoreWriter pageStoreWriter = pageStoreWriters.computeIfAbsent(pageMemory, pm -> createPageStoreWriter(pm, pagesToRetry));
+                pageMemory.checkpointWritePage(fullId, adjacentPages.nextBuffer(), pageStoreWriter, tracker);
+            }
 
-            pageMemory.checkpointWritePage(fullId, tmpWriteBuf, pageStoreWriter, tracker);
+            adjacentPages.flush();
+        } finally {
+            adjacentPages.release();
         }
 
         return pagesToRetry.isEmpty() ? EMPTY : new IgniteConcurrentMultiPairQueue<>(pagesToRetry);
@@ -176,10 +191,12 @@ public class CheckpointPagesWriter implements Runnable {
      * Returns a new instance of {@link PageStoreWriter}.
      *
      * @param pageMemory Page memory.
+     * @param adjacentPages Adjacent pages collected to be written at once.
      * @param pagesToRetry Pages that need to be rewritten.
      */
     private PageStoreWriter createPageStoreWriter(
             PageMemoryImpl pageMemory,
+            AdjacentPages adjacentPages,
             Map<PageMemoryImpl, List<FullPageId>> pagesToRetry
     ) {
         return new PageStoreWriter() {
@@ -203,10 +220,164 @@ public class CheckpointPagesWriter implements Runnable {
 
                 checkpointProgress.writtenPagesCounter().incrementAndGet();
 
+                if (adjacentPages.add(pageMemory, fullPageId, buf, tag)) {
+                    return;
+                }
+
+                // The page can't be written later with the adjacent ones, so flush them and write the page right away.
+                adjacentPages.flush();
+
                 PageStore store = pageWriter.write(fullPageId, buf, tag);
 
                 updStores.computeIfAbsent(store, k -> new LongAdder()).increment();
             }
         };
     }
+
+    /**
+     * Pages with contiguous indexes of the same partition, copied for the checkpoint and written to the page store by a single gathering
+     * write. Each page stays acquired until it is written, so that it can not be replaced and read from the page store before its copy is
+     * written there.
+     */
+    private class AdjacentPages {
+        /** Page buffers, the page copies occupy the first {@link #cnt} of them. */
+        private final ByteBuffer[] bufs;
+
+        /** Page IDs. */
+        private final long[] pageIds;
+
+        /** Page pointers of the acquired pages. */
+        private final long[] absPtrs;
+
+        /** Page memory of the pages. */
+        private @Nullable PageMemoryImpl pageMemory;
+
+        /** Group ID of the pages. */
+        private int grpId;
+
+        /** Partition page store version of the pages. */
+        private int tag;
+
+        /** Number of the collected pages. */
+        private int cnt;
+
+        /**
+         * Constructor.
+         *
+         * @param bufs Page buffers.
+         */
+        private AdjacentPages(ByteBuffer[] bufs) {
+            this.bufs = bufs;
+
+            pageIds = new long[bufs.length];
+            absPtrs = new long[bufs.length];
+        }
+
+        /**
+         * Returns the max number of the collected pages.
+         */
+        private int capacity() {
+            return bufs.length;
+        }
+
+        /**
+         * Returns {@code true} if the page can be collected after the previous ones, either because it is adjacent to them or there are
+         * none. If {@code false} is returned, the collected pages must be flushed before the copy of the page is made.
+         *
+         * @param pageMemory Page memory.
+         * @param fullId Full page ID.
+         */
+        private boolean isNext(PageMemoryImpl pageMemory, FullPageId fullId) {
+            if (cnt == 0) {
+                return true;
+            }
+
+            long lastPageId = pageIds[cnt - 1];
+
+            return cnt < bufs.length
+                    && this.pageMemory == pageMemory
+                    && grpId == fullId.groupId()
+                    && partitionId(lastPageId) == partitionId(fullId.pageId())
+                    && pageIndex(lastPageId) + 1 == pageIndex(fullId.pageId());
+        }
+
+        /**
+         * Returns the buffer for the copy of the next page.
+         */
+        private ByteBuffer nextBuffer() {
+            assert cnt < bufs.length : cnt;
+
+            return bufs[cnt].clear();
+        }
+
+        /**
+         * Adds the page copied to the {@link #nextBuffer()} to the collected ones.
+         *
+         * @param pageMemory Page memory.
+         * @param fullId Full page ID.
+         * @param buf Buffer with the copy of the page.
+         * @param tag Partition page store version.
+         * @return {@code False} if the page can't be collected and should be written right away.
+         */
+        private boolean add(PageMemoryImpl pageMemory, FullPageId fullId, ByteBuffer buf, int tag) {
+            assert buf == bufs[cnt] : "Page is not copied to the next buffer: " + fullId;
+
+            if (cnt > 0 && this.tag != tag) {
+                return false;
+            }
+
+            long absPtr = pageMemory.acquireLoadedPage(fullId.groupId(), fullId.pageId());
+
+            // Page has been invalidated since the copy was made.
+            if (absPtr == 0L) {
+                return false;
+            }
+
+            if (cnt == 0) {
+                this.pageMemory = pageMemory;
+                this.grpId = fullId.groupId();
+                this.tag = tag;
+            }
+
+            pageIds[cnt] = fullId.pageId();
+            absPtrs[cnt] = absPtr;
+
+            cnt++;
+
+            return true;
+        }
+
+        /**
+         * Writes the collected pages to the page store and releases them.
+         *
+         * @throws IgniteInternalCheckedException If failed.
+         */
+        private void flush() throws IgniteInternalCheckedException {
+            if (cnt == 0) {
+                return;
+            }
+
+            try {
+                PageStore store = cnt == 1
+                        ? pageWriter.write(new FullPageId(pageIds[0], grpId), bufs[0], tag)
+                        : pageWriter.write(grpId, pageIds, bufs, cnt, tag);
+
+                updStores.computeIfAbsent(store, k -> new LongAdder()).add(cnt);
+            } finally {
+                release();
+            }
+        }
+
+        /**
+         * Releases the collected pages without writing them.
+         */
+        private void release() {
+            for (int i = 0; i < cnt; i++) {
+                pageMemory.releasePage(grpId, pageIds[i], absPtrs[i]);
+            }
+
+            cnt = 0;
+            pageMemory = null;
+        }
+    }
 }
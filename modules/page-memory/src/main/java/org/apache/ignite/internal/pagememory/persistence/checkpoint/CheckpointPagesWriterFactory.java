@@ -37,8 +37,11 @@ public class CheckpointPagesWriterFactory {
     /** Logger. */
     private final IgniteLogger log;
 
+    /** Max number of adjacent pages written to the page store by a single gathering write. */
+    static final int MAX_PAGES_PER_WRITE = 64;
+
     /** Thread local with buffers for the checkpoint threads. Each buffer represent one page for durable memory. */
-    private final ThreadLocal<ByteBuffer> threadBuf;
+    private final ThreadLocal<ByteBuffer[]> threadBuf;
 
     /** Writer which writes pages to page store during the checkpoint. */
     private final CheckpointPageWriter checkpointPageWriter;
@@ -60,11 +63,18 @@ public class CheckpointPagesWriterFactory {
         this.checkpointPageWriter = checkpointPageWriter;
 
         threadBuf = ThreadLocal.withInitial(() -> {
-            ByteBuffer tmpWriteBuf = ByteBuffer.allocateDirect(pageSize);
+            // Buffers are aligned to the page size, so that the pages can be written without copying in case of direct I/O.
+            ByteBuffer tmpWriteBuf = ByteBuffer.allocateDirect(pageSize * (MAX_PAGES_PER_WRITE + 1)).alignedSlice(pageSize);
+
+            ByteBuffer[] pageBufs = new ByteBuffer[MAX_PAGES_PER_WRITE];
+
+            for (int i = 0; i < MAX_PAGES_PER_WRITE; i++) {
+                pageBufs[i] = tmpWriteBuf.position(i * pageSize).limit((i + 1) * pageSize).slice().order(ByteOrder.nativeOrder());
 
-            tmpWriteBuf.order(ByteOrder.nativeOrder());
+                tmpWriteBuf.clear();
+            }
 
-            return tmpWriteBuf;
+            return pageBufs;
         });
     }
 
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.pagememory.persistence.checkpoint;
 
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -49,4 +50,14 @@ public interface CheckpointProgress {
      * Returns number of dirty pages in current checkpoint. If checkpoint is not running, returns {@code 0}.
      */
     int currentCheckpointPagesCount();
+
+    /**
+     * Returns counter for written checkpoint pages.
+     */
+    AtomicInteger writtenPagesCounter();
+
+    /**
+     * Returns counter for checkpoint pages, that have been written by the page replacement before the checkpoint reached them.
+     */
+    AtomicInteger evictedPagesCounter();
 }
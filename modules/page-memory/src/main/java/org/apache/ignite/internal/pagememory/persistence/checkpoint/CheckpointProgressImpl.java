@@ -128,9 +128,8 @@ class CheckpointProgressImpl implements CheckpointProgress {
         currCheckpointPagesCnt = num;
     }
 
-    /**
-     * Returns counter for written checkpoint pages.
-     */
+    /** {@inheritDoc} */
+    @Override
     public AtomicInteger writtenPagesCounter() {
         return writtenPagesCntr;
     }
@@ -142,9 +141,8 @@ class CheckpointProgressImpl implements CheckpointProgress {
         return syncedPagesCntr;
     }
 
-    /**
-     * Returns Counter for evicted pages during current checkpoint.
-     */
+    /** {@inheritDoc} */
+    @Override
     public AtomicInteger evictedPagesCounter() {
         return evictedPagesCntr;
     }
@@ -132,12 +132,36 @@ public class IgniteConcurrentMultiPairQueue<K, V> {
      * @return {@code true} if not empty result, or {@code false} if this queue is empty.
      */
     public boolean next(Result<K, V> res) {
-        int absPos = pos.getAndIncrement();
+        return next(res, 1);
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, or returns {@code false} if this queue is empty. Unlike {@link #next(Result)}, removes
+     * up to {@code batch} elements from the queue at once and keeps them in the {@code res}, so the consecutive calls with the same
+     * {@code res} return adjacent elements even if the queue is polled concurrently.
+     *
+     * @param res State holder.
+     * @param batch Max number of elements to remove from the queue at once.
+     * @return {@code true} if not empty result, or {@code false} if this queue is empty.
+     */
+    public boolean next(Result<K, V> res, int batch) {
+        assert batch > 0 : batch;
 
-        if (absPos >= maxPos) {
-            res.set(null, null, 0);
+        int absPos;
 
-            return false;
+        if (res.reservedPos < res.reservedEnd) {
+            absPos = res.reservedPos++;
+        } else {
+            absPos = batch == 1 ? pos.getAndIncrement() : pos.getAndAdd(batch);
+
+            if (absPos >= maxPos) {
+                res.set(null, null, 0);
+
+                return false;
+            }
+
+            res.reservedPos = absPos + 1;
+            res.reservedEnd = Math.min(absPos + batch, maxPos);
         }
 
         int segment = res.getSegment();
@@ -193,6 +217,12 @@ public class IgniteConcurrentMultiPairQueue<K, V> {
         /** Value holder. */
         private V val;
 
+        /** Next reserved absolute position. */
+        private int reservedPos;
+
+        /** End (exclusive) of the reserved absolute positions. */
+        private int reservedEnd;
+
         /**
          * Current state setter.
          *
@@ -50,7 +50,8 @@ public class DelayedPageReplacementTracker {
         /** {@inheritDoc} */
         @Override
         protected ByteBuffer initialValue() {
-            ByteBuffer buf = ByteBuffer.allocateDirect(pageSize);
+            // Aligned to the page size, so that the page can be written without copying in case of direct I/O.
+            ByteBuffer buf = ByteBuffer.allocateDirect(2 * pageSize).alignedSlice(pageSize).limit(pageSize).slice();
 
             buf.order(ByteOrder.nativeOrder());
 
@@ -239,6 +239,14 @@ public class FilePageStore implements PageStore {
     /** {@inheritDoc} */
     @Override
     public void write(long pageId, ByteBuffer pageBuf, int tag, boolean calculateCrc) throws IgniteInternalCheckedException {
+        write(new long[] {pageId}, new ByteBuffer[] {pageBuf}, 1, tag, calculateCrc);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void write(long[] pageIds, ByteBuffer[] pageBufs, int cnt, int tag, boolean calculateCrc) throws IgniteInternalCheckedException {
+        assert cnt > 0 && cnt <= pageIds.length && cnt <= pageBufs.length : cnt;
+
         init();
 
         boolean interrupted = false;
@@ -250,38 +258,25 @@ public class FilePageStore implements PageStore {
                 readWriteLock.readLock().lock();
 
                 try {
-                    long off = pageOffset(pageId);
-
-                    assert (off >= 0 && off <= allocatedBytes.get()) : "off=" + hexLong(off) + ", allocated="
-                            + hexLong(allocatedBytes.get()) + ", pageId=" + hexLong(pageId) + ", filePath=" + filePath;
-
-                    assert pageBuf.position() == 0;
-                    assert pageBuf.order() == nativeOrder() : "Page buffer order " + pageBuf.order()
-                            + " should be same with " + nativeOrder();
-                    assert PageIo.getType(pageBuf) != 0 : "Invalid state. Type is 0! pageId = " + hexLong(pageId);
-                    assert PageIo.getVersion(pageBuf) != 0 : "Invalid state. Version is 0! pageId = " + hexLong(pageId);
+                    long off = pageOffset(pageIds[0]);
 
-                    if (calculateCrc && !skipCrc) {
-                        assert PageIo.getCrc(pageBuf) == 0 : hexLong(pageId);
+                    for (int i = 0; i < cnt; i++) {
+                        assert pageOffset(pageIds[i]) == off + (long) i * pageSize : "Pages are not contiguous [first="
+                                + hexLong(pageIds[0]) + ", pageId=" + hexLong(pageIds[i]) + ", filePath=" + filePath + ']';
 
-                        PageIo.setCrc(pageBuf, calcCrc32(pageBuf, pageSize));
+                        beforeWrite(pageIds[i], pageBufs[i], off + (long) i * pageSize, calculateCrc);
                     }
 
-                    // Check whether crc was calculated somewhere above the stack if it is forcibly skipped.
-                    assert skipCrc || PageIo.getCrc(pageBuf) != 0
-                            || calcCrc32(pageBuf, pageSize) == 0 : "CRC hasn't been calculated, crc=0";
-
-                    assert pageBuf.position() == 0 : pageBuf.position();
-
-                    for (PageWriteListener listener : listeners) {
-                        listener.accept(pageId, pageBuf);
-
-                        pageBuf.rewind();
+                    // A single page is written positionally, without the position juggling of a gathering write.
+                    if (cnt == 1) {
+                        fileIo.writeFully(pageBufs[0], off);
+                    } else {
+                        fileIo.writeFully(pageBufs, 0, cnt, off);
                     }
 
-                    fileIo.writeFully(pageBuf, off);
-
-                    PageIo.setCrc(pageBuf, 0);
+                    for (int i = 0; i < cnt; i++) {
+                        PageIo.setCrc(pageBufs[i], 0);
+                    }
 
                     if (interrupted) {
                         Thread.currentThread().interrupt();
@@ -302,9 +297,11 @@ public class FilePageStore implements PageStore {
 
                         reinit(fileIo);
 
-                        pageBuf.position(0);
+                        for (int i = 0; i < cnt; i++) {
+                            pageBufs[i].position(0);
 
-                        PageIo.setCrc(pageBuf, 0);
+                            PageIo.setCrc(pageBufs[i], 0);
+                        }
 
                         continue;
                     } catch (IOException e0) {
@@ -315,13 +312,51 @@ public class FilePageStore implements PageStore {
                 }
 
                 throw new IgniteInternalCheckedException(
-                        "Failed to write page [filePath=" + filePath + ", pageId=" + pageId + ", tag=" + tag + "]",
+                        "Failed to write pages [filePath=" + filePath + ", firstPageId=" + hexLong(pageIds[0]) + ", cnt=" + cnt
+                                + ", tag=" + tag + "]",
                         e
                 );
             }
         }
     }
 
+    /**
+     * Prepares the page for writing: checks the buffer, calculates the CRC and notifies the write listeners.
+     *
+     * @param pageId Page ID.
+     * @param pageBuf Page buffer to write from.
+     * @param off Offset of the page in the file.
+     * @param calculateCrc If {@code false} crc calculation will be forcibly skipped.
+     */
+    private void beforeWrite(long pageId, ByteBuffer pageBuf, long off, boolean calculateCrc) {
+        assert (off >= 0 && off <= allocatedBytes.get()) : "off=" + hexLong(off) + ", allocated="
+                + hexLong(allocatedBytes.get()) + ", pageId=" + hexLong(pageId) + ", filePath=" + filePath;
+
+        assert pageBuf.position() == 0;
+        assert pageBuf.order() == nativeOrder() : "Page buffer order " + pageBuf.order()
+                + " should be same with " + nativeOrder();
+        assert PageIo.getType(pageBuf) != 0 : "Invalid state. Type is 0! pageId = " + hexLong(pageId);
+        assert PageIo.getVersion(pageBuf) != 0 : "Invalid state. Version is 0! pageId = " + hexLong(pageId);
+
+        if (calculateCrc && !skipCrc) {
+            assert PageIo.getCrc(pageBuf) == 0 : hexLong(pageId);
+
+            PageIo.setCrc(pageBuf, calcCrc32(pageBuf, pageSize));
+        }
+
+        // Check whether crc was calculated somewhere above the stack if it is forcibly skipped.
+        assert skipCrc || PageIo.getCrc(pageBuf) != 0
+                || calcCrc32(pageBuf, pageSize) == 0 : "CRC hasn't been calculated, crc=0";
+
+        assert pageBuf.position() == 0 : pageBuf.position();
+
+        for (PageWriteListener listener : listeners) {
+            listener.accept(pageId, pageBuf);
+
+            pageBuf.rewind();
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public void sync() throws IgniteInternalCheckedException {
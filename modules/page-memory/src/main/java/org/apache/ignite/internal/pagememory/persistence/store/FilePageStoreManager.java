@@ -23,6 +23,7 @@ import static org.apache.ignite.internal.pagememory.PageIdAllocator.INDEX_PARTIT
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.MAX_PARTITION_ID;
 import static org.apache.ignite.internal.pagememory.persistence.store.PageStore.TYPE_DATA;
 import static org.apache.ignite.internal.pagememory.persistence.store.PageStore.TYPE_IDX;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.partitionId;
 import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
 
 import java.io.IOException;
@@ -165,6 +166,40 @@ public class FilePageStoreManager implements IgniteComponent, PageReadWriteManag
         return pageReadWriteManager.write(grpId, pageId, pageBuf, tag, calculateCrc);
     }
 
+    /**
+     * Writes pages with contiguous indexes of the same partition by a single gathering write.
+     *
+     * @param grpId Group ID.
+     * @param pageIds IDs of the pages in the order of their indexes.
+     * @param pageBufs Page buffers to write from.
+     * @param cnt Number of pages to write.
+     * @param tag Partition page store version.
+     * @param calculateCrc If {@code false} crc calculation will be forcibly skipped.
+     * @return Page store to which the pages were written.
+     * @throws IgniteInternalCheckedException If failed.
+     * @see PageStore#write(long[], ByteBuffer[], int, int, boolean)
+     */
+    public PageStore write(
+            int grpId,
+            long[] pageIds,
+            ByteBuffer[] pageBufs,
+            int cnt,
+            int tag,
+            boolean calculateCrc
+    ) throws IgniteInternalCheckedException {
+        FilePageStore pageStore = getStore(grpId, partitionId(pageIds[0]));
+
+        try {
+            pageStore.write(pageIds, pageBufs, cnt, tag, calculateCrc);
+        } catch (IgniteInternalCheckedException e) {
+            // TODO: IGNITE-16899 By analogy with 2.0, fail a node
+
+            throw e;
+        }
+
+        return pageStore;
+    }
+
     /** {@inheritDoc} */
     @Override
     public long allocatePage(int grpId, int partId, byte flags) throws IgniteInternalCheckedException {
@@ -180,13 +215,31 @@ public class FilePageStoreManager implements IgniteComponent, PageReadWriteManag
      * @throws IgniteInternalCheckedException If failed.
      */
     public void initialize(String grpName, int grpId, int partitions) throws IgniteInternalCheckedException {
+        initialize(grpName, grpId, partitions, filePageStoreFileIoFactory);
+    }
+
+    /**
+     * Initializing the file page stores for a group, with the given {@link FileIo} factory instead of the default one.
+     *
+     * @param grpName Group name.
+     * @param grpId Group ID.
+     * @param partitions Partition number, must be greater than {@code 0} and less {@link PageIdAllocator#MAX_PARTITION_ID} + 1.
+     * @param fileIoFactory {@link FileIo} factory for the file page stores of the group.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    public void initialize(
+            String grpName,
+            int grpId,
+            int partitions,
+            FileIoFactory fileIoFactory
+    ) throws IgniteInternalCheckedException {
         assert partitions > 0 && partitions < MAX_PARTITION_ID + 1 : partitions;
 
         initGroupDirLock.lock(grpId);
 
         try {
             if (!groupPageStoreHolders.containsKey(grpId)) {
-                GroupPageStoreHolder<FilePageStore> holder = createGroupFilePageStoreHolder(grpName, partitions);
+                GroupPageStoreHolder<FilePageStore> holder = createGroupFilePageStoreHolder(grpName, partitions, fileIoFactory);
 
                 GroupPageStoreHolder<FilePageStore> old = groupPageStoreHolders.put(grpId, holder);
 
@@ -201,6 +254,13 @@ public class FilePageStoreManager implements IgniteComponent, PageReadWriteManag
         }
     }
 
+    /**
+     * Returns default {@link FileIo} factory for file page stores.
+     */
+    public FileIoFactory filePageStoreFileIoFactory() {
+        return filePageStoreFileIoFactory;
+    }
+
     /**
      * Returns collection of related file page stores for group.
      *
@@ -313,11 +373,12 @@ public class FilePageStoreManager implements IgniteComponent, PageReadWriteManag
 
     private GroupPageStoreHolder<FilePageStore> createGroupFilePageStoreHolder(
             String grpName,
-            int partitions
+            int partitions,
+            FileIoFactory fileIoFactory
     ) throws IgniteInternalCheckedException {
         Path groupWorkDir = ensureGroupWorkDir(grpName);
 
-        FilePageStoreFactory filePageStoreFactory = new FilePageStoreFactory(filePageStoreFileIoFactory, pageSize);
+        FilePageStoreFactory filePageStoreFactory = new FilePageStoreFactory(fileIoFactory, pageSize);
 
         FilePageStore idxFilePageStore = filePageStoreFactory.createPageStore(TYPE_IDX, groupWorkDir.resolve(INDEX_FILE_NAME));
 
@@ -90,6 +90,19 @@ public interface PageStore extends Closeable {
      */
     void write(long pageId, ByteBuffer pageBuf, int tag, boolean calculateCrc) throws IgniteInternalCheckedException;
 
+    /**
+     * Writes pages with contiguous indexes with a single gathering write.
+     *
+     * @param pageIds Page IDs, the index of every page must be greater by one than the index of the previous page.
+     * @param pageBufs Page buffers to write from.
+     * @param cnt Number of pages to write, starting from the first ones of the arrays.
+     * @param tag Partition page store version, 1-based incrementing counter. For outdated pages {@code tag} has lower value, and write does
+     *      nothing.
+     * @param calculateCrc If {@code false} crc calculation will be forcibly skipped.
+     * @throws IgniteInternalCheckedException If page writing failed (IO error occurred).
+     */
+    void write(long[] pageIds, ByteBuffer[] pageBufs, int cnt, int tag, boolean calculateCrc) throws IgniteInternalCheckedException;
+
     /**
      * Sync method used to ensure that the given pages are guaranteed to be written to the page store.
      *
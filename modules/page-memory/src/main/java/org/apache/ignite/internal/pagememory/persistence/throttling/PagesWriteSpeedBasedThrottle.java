@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.throttling;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import org.apache.ignite.internal.pagememory.metric.HitRateMetric;
+import org.apache.ignite.internal.pagememory.persistence.PageMemoryImpl;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointProgress;
+
+/**
+ * Speed-based throttling policy.
+ *
+ * <p>While a checkpoint is in progress, the share of the memory that may be dirty grows linearly with the checkpoint progress, up to
+ * {@link #MAX_DIRTY_PAGES} when all its pages are written. Once the dirty pages ratio is above that target and the pages are made dirty
+ * faster than it's needed to fill the clean memory exactly by the end of the checkpoint, the writers are parked for the time that brings
+ * them down to that speed. So the writes slow down smoothly in proportion to the checkpoint write speed, instead of stalling on the
+ * checkpoint read lock when the dirty pages limit is reached.
+ *
+ * <p>Independently, when more than {@link #CP_BUF_FILL_THRESHOLD} of the checkpoint buffer is used, the writers of the pages that belong
+ * to the checkpoint are parked with an exponential backoff, until the buffer is released by the checkpoint.
+ */
+public class PagesWriteSpeedBasedThrottle implements PagesWriteThrottlePolicy {
+    /** Maximum dirty pages ratio of a segment, after which a new checkpoint is forced, see {@link PageMemoryImpl#safeToUpdate()}. */
+    static final double MAX_DIRTY_PAGES = 0.75;
+
+    /** Share of the used checkpoint buffer pages, after which the exponential backoff starts. */
+    static final double CP_BUF_FILL_THRESHOLD = 2.0 / 3;
+
+    /** Park time of the first step of the exponential backoff, in nanoseconds. */
+    private static final long STARTING_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+
+    /** Ratio of the subsequent steps of the exponential backoff. */
+    private static final double BACKOFF_RATIO = 1.05;
+
+    /** Upper bound of a single park, so the writers can't hold the checkpoint read lock for too long. */
+    static final long MAX_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final PageMemoryImpl pageMemory;
+
+    private final Supplier<CheckpointProgress> cpProgress;
+
+    /** Speed of making the pages dirty, in pages per second. */
+    private final HitRateMetric markDirtyRate = new HitRateMetric(1000, 10);
+
+    /** Step of the exponential backoff. */
+    private final AtomicInteger backoffStep = new AtomicInteger();
+
+    /** Threads, that have made pages dirty during the current checkpoint. */
+    private final Set<Long> writerThreads = ConcurrentHashMap.newKeySet();
+
+    /** Threads, that are parked at the moment. */
+    private final ConcurrentMap<Long, Thread> parkedThreads = new ConcurrentHashMap<>();
+
+    /** Start time of the current checkpoint. */
+    private volatile long cpStartNanos = System.nanoTime();
+
+    private final LongAdder throttlingTimeNanos = new LongAdder();
+
+    private final LongAdder throttledWrites = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param pageMemory Page memory.
+     * @param cpProgress Supplier of the current checkpoint progress.
+     */
+    public PagesWriteSpeedBasedThrottle(PageMemoryImpl pageMemory, Supplier<CheckpointProgress> cpProgress) {
+        this.pageMemory = pageMemory;
+        this.cpProgress = cpProgress;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onMarkDirty(boolean isPageInCheckpoint) {
+        markDirtyRate.increment();
+
+        long parkNanos;
+
+        if (isPageInCheckpoint && cpBufferFillRatio() > CP_BUF_FILL_THRESHOLD) {
+            parkNanos = (long) (STARTING_BACKOFF_NANOS * Math.pow(BACKOFF_RATIO, backoffStep.getAndIncrement()));
+        } else {
+            if (isPageInCheckpoint && backoffStep.get() != 0) {
+                backoffStep.set(0);
+            }
+
+            parkNanos = speedBasedParkNanos();
+        }
+
+        if (parkNanos > 0) {
+            park(Math.min(parkNanos, MAX_PARK_NANOS));
+        }
+    }
+
+    /**
+     * Calculates the park time of the current thread from the checkpoint progress and the dirty pages ratio.
+     */
+    private long speedBasedParkNanos() {
+        CheckpointProgress progress = cpProgress.get();
+
+        if (progress == null || !progress.inProgress()) {
+            return 0;
+        }
+
+        int cpTotalPages = progress.currentCheckpointPagesCount();
+
+        if (cpTotalPages == 0) {
+            return 0;
+        }
+
+        writerThreads.add(Thread.currentThread().getId());
+
+        int cpDonePages = Math.min(cpTotalPages, progress.writtenPagesCounter().get() + progress.evictedPagesCounter().get());
+
+        double dirtyPagesRatio = pageMemory.dirtyPagesRatio();
+
+        if (dirtyPagesRatio <= targetDirtyRatio(cpDonePages, cpTotalPages)) {
+            return 0;
+        }
+
+        long speedForMarkAll = speedForMarkAll(dirtyPagesRatio, cpDonePages, cpTotalPages, System.nanoTime() - cpStartNanos);
+
+        if (speedForMarkAll <= 0) {
+            // Either the checkpoint hasn't written anything yet, so the speed is unknown, or there is no clean memory left at all.
+            return dirtyPagesRatio >= MAX_DIRTY_PAGES ? MAX_PARK_NANOS : 0;
+        }
+
+        if (markDirtyRate.value() <= speedForMarkAll) {
+            return 0;
+        }
+
+        // Every writer thread may make a page dirty once per this interval.
+        return writerThreads.size() * TimeUnit.SECONDS.toNanos(1) / speedForMarkAll;
+    }
+
+    /**
+     * Returns the dirty pages ratio, that is allowed at the given checkpoint progress.
+     *
+     * @param cpDonePages Number of the written checkpoint pages.
+     * @param cpTotalPages Total number of the checkpoint pages.
+     */
+    static double targetDirtyRatio(int cpDonePages, int cpTotalPages) {
+        return MAX_DIRTY_PAGES * cpDonePages / cpTotalPages;
+    }
+
+    /**
+     * Returns the speed of making pages dirty, in pages per second, that fills the clean memory exactly by the end of the checkpoint, or
+     * {@code 0} if the checkpoint write speed is unknown or there is no clean memory left.
+     *
+     * @param dirtyPagesRatio Current dirty pages ratio.
+     * @param cpDonePages Number of the written checkpoint pages.
+     * @param cpTotalPages Total number of the checkpoint pages.
+     * @param cpElapsedNanos Time elapsed since the checkpoint start.
+     */
+    long speedForMarkAll(double dirtyPagesRatio, int cpDonePages, int cpTotalPages, long cpElapsedNanos) {
+        if (cpDonePages == 0 || cpElapsedNanos <= 0 || dirtyPagesRatio >= MAX_DIRTY_PAGES) {
+            return 0;
+        }
+
+        double cpWriteSpeed = cpDonePages * 1e9 / cpElapsedNanos;
+
+        double remainedCpSeconds = (cpTotalPages - cpDonePages) / cpWriteSpeed;
+
+        double remainedCleanPages = (MAX_DIRTY_PAGES - dirtyPagesRatio) * pageMemory.totalPages();
+
+        if (remainedCpSeconds <= 0) {
+            return Long.MAX_VALUE;
+        }
+
+        return (long) (remainedCleanPages / remainedCpSeconds);
+    }
+
+    private double cpBufferFillRatio() {
+        int maxPages = pageMemory.maxCheckpointBufferPages();
+
+        return maxPages == 0 ? 0 : (double) pageMemory.usedCheckpointBufferPages() / maxPages;
+    }
+
+    private void park(long parkNanos) {
+        Thread thread = Thread.currentThread();
+
+        parkedThreads.put(thread.getId(), thread);
+
+        long start = System.nanoTime();
+
+        try {
+            LockSupport.parkNanos(parkNanos);
+        } finally {
+            parkedThreads.remove(thread.getId());
+
+            throttlingTimeNanos.add(System.nanoTime() - start);
+            throttledWrites.increment();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onBeginCheckpoint() {
+        cpStartNanos = System.nanoTime();
+
+        writerThreads.clear();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onFinishCheckpoint() {
+        backoffStep.set(0);
+
+        parkedThreads.values().forEach(LockSupport::unpark);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long throttlingTimeNanos() {
+        return throttlingTimeNanos.sum();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long throttledWrites() {
+        return throttledWrites.sum();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int throttledThreads() {
+        return parkedThreads.size();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.throttling;
+
+import org.apache.ignite.internal.pagememory.persistence.PageMemoryImpl;
+
+/**
+ * Throttling policy of the threads, that make the pages of a {@link PageMemoryImpl} dirty.
+ *
+ * <p>When pages are made dirty faster than the checkpoint writes them, the number of dirty pages reaches the limit before the checkpoint
+ * finishes and the checkpoint buffer overflows, so the writers suddenly stall on the checkpoint read lock. A policy slows the writers
+ * down in advance, by parking them right after they have made a page dirty.
+ */
+public interface PagesWriteThrottlePolicy {
+    /**
+     * Callback to apply throttling, invoked after a page has been made dirty and unlocked.
+     *
+     * @param isPageInCheckpoint {@code True} if the page belongs to the current checkpoint, so its copy occupies the checkpoint buffer.
+     */
+    void onMarkDirty(boolean isPageInCheckpoint);
+
+    /**
+     * Callback invoked when a checkpoint begins, under the checkpoint write lock.
+     */
+    void onBeginCheckpoint();
+
+    /**
+     * Callback invoked when a checkpoint finishes, wakes up the throttled threads.
+     */
+    void onFinishCheckpoint();
+
+    /**
+     * Returns the total time the threads have been parked by the policy, in nanoseconds.
+     */
+    long throttlingTimeNanos();
+
+    /**
+     * Returns the total number of times the threads have been parked by the policy.
+     */
+    long throttledWrites();
+
+    /**
+     * Returns the number of threads, that are parked by the policy at the moment.
+     */
+    int throttledThreads();
+}
@@ -40,6 +40,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -151,6 +152,9 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
     /** Number of retries. */
     private static final int LOCK_RETRIES = getInteger(IGNITE_BPLUS_TREE_LOCK_RETRIES, 1000);
 
+    /** Number of attempts to read an inner page optimistically before falling back to the read lock. */
+    private static final int OPTIMISTIC_READ_ATTEMPTS = 4;
+
     /** Flag that the tree is destroyed. */
     private final AtomicBoolean destroyed = new AtomicBoolean(false);
 
@@ -180,6 +184,9 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
     /** Flag for enabling single-threaded append-only tree creation. */
     private boolean sequentialWriteOptsEnabled;
 
+    /** Flag for enabling optimistic reads of inner pages by lookups. */
+    private boolean optimisticReadsEnabled;
+
     /**
      * B+tree structure printer.
      */
@@ -870,6 +877,45 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    private final PageHandler<long[], Bool> initLevels = new InitLevels();
+
+    /**
+     * Page handler to initialize all the levels of a tree built by {@link #bulkLoad}.
+     */
+    private class InitLevels implements PageHandler<long[], Bool> {
+        /** {@inheritDoc} */
+        @Override
+        public Bool run(
+                int groupId,
+                long metaId,
+                long metaPage,
+                long pageAddr,
+                PageIo iox,
+                long[] firstPageIds,
+                int intArg,
+                IoStatisticsHolder statHolder
+        ) {
+            assert firstPageIds != null && firstPageIds.length > 0;
+
+            // Safe cast because we should never recycle meta page until the tree is destroyed.
+            BplusMetaIo io = (BplusMetaIo) iox;
+
+            io.initRoot(pageAddr, firstPageIds[0], pageSize());
+
+            for (int lvl = 1; lvl < firstPageIds.length; lvl++) {
+                io.addRoot(pageAddr, firstPageIds[lvl], pageSize());
+            }
+
+            int rootLvl = firstPageIds.length - 1;
+
+            assert io.getRootLevel(pageAddr) == rootLvl;
+
+            treeMeta = new TreeMetaData(rootLvl, firstPageIds[rootLvl]);
+
+            return TRUE;
+        }
+    }
+
     /**
      * Constructor.
      *
@@ -980,6 +1026,17 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         sequentialWriteOptsEnabled = true;
     }
 
+    /**
+     * Enables optimistic reads for lookups: inner pages are read without the read lock and the read is validated afterwards, which
+     * removes the contention on the lock words of the root and other hot inner pages.
+     *
+     * <p>Must be enabled only if {@link #compare(BplusIo, long, int, Object)} reads nothing but the tree page itself, because it may be
+     * invoked on an inconsistent page content, which is discarded later.
+     */
+    public void enableOptimisticReads() {
+        optimisticReadsEnabled = true;
+    }
+
     /**
      * Initialize new tree.
      *
@@ -1566,11 +1623,19 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
             for (; ; ) {
                 g.checkLockRetry();
 
-                // Init args.
-                g.pageId = pageId;
-                g.fwdId = fwdId;
+                Result res = null;
 
-                Result res = read(pageId, page, search, g, lvl, RETRY);
+                if (optimisticReadsEnabled && lvl > 0 && g.canReadOptimistically()) {
+                    res = findDownOptimistic(g, pageId, page, fwdId, lvl);
+                }
+
+                if (res == null) {
+                    // Init args.
+                    g.pageId = pageId;
+                    g.fwdId = fwdId;
+
+                    res = read(pageId, page, search, g, lvl, RETRY);
+                }
 
                 switch (res) {
                     case GO_DOWN:
@@ -1607,6 +1672,136 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * Chooses the child of the inner page to go down to without taking the page read lock. The page is read optimistically, and the result
+     * is used only if the page has not been modified meanwhile.
+     *
+     * @param g Get.
+     * @param pageId Inner page ID.
+     * @param page Inner page pointer.
+     * @param fwdId Expected forward page ID.
+     * @param lvl Level.
+     * @return Result code or {@code null} if the page has to be read under the read lock.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    private @Nullable Result findDownOptimistic(
+            Get g,
+            long pageId,
+            long page,
+            long fwdId,
+            int lvl
+    ) throws IgniteInternalCheckedException {
+        long backId = g.backId;
+
+        for (int i = 0; i < OPTIMISTIC_READ_ATTEMPTS; i++) {
+            long stamp = pageMem.tryOptimisticRead(grpId, pageId, page);
+
+            if (stamp == 0L) {
+                // The page is being modified or has been reused, the read lock will sort it out.
+                return null;
+            }
+
+            // Init args.
+            g.pageId = pageId;
+            g.fwdId = fwdId;
+            g.backId = backId;
+
+            Result res;
+
+            try {
+                res = searchInner(pageId, pageMem.optimisticReadAddress(page), g, lvl);
+            } catch (IgniteInternalCheckedException | RuntimeException | AssertionError e) {
+                if (pageMem.validateOptimisticRead(grpId, pageId, page, stamp)) {
+                    throw e;
+                }
+
+                // The failure was caused by a concurrent modification of the page.
+                continue;
+            }
+
+            if (pageMem.validateOptimisticRead(grpId, pageId, page, stamp)) {
+                if (res == null) {
+                    // Restore args for the locked read.
+                    g.backId = backId;
+                }
+
+                return res;
+            }
+        }
+
+        g.backId = backId;
+
+        return null;
+    }
+
+    /**
+     * Chooses the child of the inner page to go down to, like {@link Search} does. The page content may be inconsistent, so nothing is
+     * done here but reading the page: every case that needs more than that is left to {@link Search} under the read lock.
+     *
+     * @param pageId Inner page ID.
+     * @param pageAddr Page address.
+     * @param g Get.
+     * @param lvl Level.
+     * @return Result code or {@code null} if the page has to be read under the read lock.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    private @Nullable Result searchInner(long pageId, long pageAddr, Get g, int lvl) throws IgniteInternalCheckedException {
+        PageIo iox = pageMem.ioRegistry().resolve(pageAddr);
+
+        if (!(iox instanceof BplusInnerIo) || PageIo.getPageId(pageAddr) != pageId) {
+            return null;
+        }
+
+        BplusIo<L> io = (BplusIo<L>) iox;
+
+        // Check the triangle invariant.
+        if (io.getForward(pageAddr) != g.fwdId) {
+            return RETRY;
+        }
+
+        int cnt = io.getCount(pageAddr);
+
+        // Don't let a torn count make us read outside of the page.
+        if (cnt < 0 || cnt > io.getMaxCount(pageAddr, pageSize())) {
+            return null;
+        }
+
+        boolean needBackIfRouting = g.backId != 0;
+
+        g.backId(0L);
+
+        int idx = g.findLast ? -cnt - 1 : findInsertionPoint(lvl, io, pageAddr, 0, cnt, g.row, g.shift);
+
+        if (idx >= 0) {
+            // Exact match, the operation may want to handle it.
+            return null;
+        }
+
+        idx = fix(idx);
+
+        g.pageId(inner(io).getLeft(pageAddr, idx));
+
+        if (idx < cnt) {
+            // Go left down here.
+            g.fwdId(inner(io).getRight(pageAddr, idx));
+        } else {
+            if (io.getForward(pageAddr) != 0L) {
+                // Child's forward is unknown, asking our forward page about it requires holding our page lock.
+                return null;
+            }
+
+            g.fwdId(0L);
+
+            if (cnt != 0) {
+                g.backId(inner(io).getLeft(pageAddr, cnt - 1));
+            } else if (needBackIfRouting) {
+                return GO_DOWN_X;
+            }
+        }
+
+        return GO_DOWN;
+    }
+
     /**
      * Returns tree name.
      *
@@ -2367,6 +2562,49 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * Populates an empty tree from the rows sorted in ascending order, building it bottom-up: leaf pages are filled left to right up to
+     * the given fill factor and every inner level is built from the last rows of the pages of the level below. Unlike repeated
+     * {@link #put} calls, no page is ever split or written twice and only the pages being filled, one per level, are locked.
+     *
+     * <p>The tree must not be accessed concurrently until this method returns. If it fails, the content of the tree is undefined and the
+     * tree must be destroyed.
+     *
+     * @param rows Rows sorted in ascending order, without duplicates.
+     * @param fillFactor Fraction of every page to fill, in range {@code (0, 1]}. Lower values leave room for subsequent inserts.
+     * @return Number of loaded rows.
+     * @throws IgniteInternalCheckedException If failed.
+     * @throws IllegalArgumentException If the fill factor is out of range or the rows are not sorted.
+     * @throws IllegalStateException If the tree is not empty.
+     */
+    public final long bulkLoad(Iterator<? extends T> rows, float fillFactor) throws IgniteInternalCheckedException {
+        if (!(fillFactor > 0 && fillFactor <= 1)) {
+            throw new IllegalArgumentException("Fill factor must be in range (0, 1]: " + fillFactor);
+        }
+
+        checkDestroyed();
+
+        TreeMetaData meta = treeMeta();
+
+        if (meta.rootLvl != 0 || !isEmpty()) {
+            throw new IllegalStateException("Bulk load is only possible into an empty tree: " + name());
+        }
+
+        BulkLoad load = new BulkLoad(meta.rootId, fillFactor);
+
+        try {
+            while (rows.hasNext()) {
+                load.add(rows.next());
+            }
+
+            load.finish();
+        } finally {
+            load.close();
+        }
+
+        return load.rowsCnt;
+    }
+
     /**
      * Returns number of elements in the tree by scanning pages of the bottom (leaf) level. Since a concurrent access is permitted, there is
      * no guarantee about momentary consistency: the method may miss updates made in already scanned pages.
@@ -3189,6 +3427,15 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
             throw new IllegalStateException();
         }
 
+        /**
+         * Returns {@code true} if the operation only chooses the way down on inner pages, so they can be read optimistically.
+         *
+         * @see #enableOptimisticReads()
+         */
+        boolean canReadOptimistically() {
+            return false;
+        }
+
         /**
          * Checks that there has not been an excess of attempts to get the lock.
          *
@@ -3247,6 +3494,12 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
 
             return true;
         }
+
+        /** {@inheritDoc} */
+        @Override
+        boolean canReadOptimistically() {
+            return true;
+        }
     }
 
     /**
@@ -3289,6 +3542,12 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
 
             return true;
         }
+
+        /** {@inheritDoc} */
+        @Override
+        boolean canReadOptimistically() {
+            return true;
+        }
     }
 
     /**
@@ -6209,6 +6468,281 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * Bottom-up builder of the tree, see {@link #bulkLoad}. Keeps the page being filled at every level write-locked until it is full.
+     */
+    private class BulkLoad {
+        /** Fill factor. */
+        private final float fillFactor;
+
+        /** Levels being built, from the bottom up. */
+        private final List<BulkLoadLevel> levels = new ArrayList<>();
+
+        /** Number of loaded rows. */
+        long rowsCnt;
+
+        /**
+         * Constructor.
+         *
+         * @param rootId ID of the empty root leaf, it becomes the first leaf of the tree.
+         * @param fillFactor Fill factor.
+         * @throws IgniteInternalCheckedException If failed.
+         */
+        BulkLoad(long rootId, float fillFactor) throws IgniteInternalCheckedException {
+            this.fillFactor = fillFactor;
+
+            BulkLoadLevel leafLvl = new BulkLoadLevel();
+
+            levels.add(leafLvl);
+
+            leafLvl.open(rootId, null);
+        }
+
+        /**
+         * Appends a row to the leaf level.
+         *
+         * @param row Row.
+         * @throws IgniteInternalCheckedException If failed.
+         */
+        void add(T row) throws IgniteInternalCheckedException {
+            BulkLoadLevel lvl = levels.get(0);
+
+            if (lvl.cnt > 0 && compare(lvl.io, lvl.pageAddr, lvl.cnt - 1, row) >= 0) {
+                throw new IllegalArgumentException("Rows must be sorted in ascending order without duplicates [tree=" + name()
+                        + ", row=" + row + ']');
+            }
+
+            if (lvl.cnt == lvl.limit) {
+                L moveUpRow = lvl.io.getLookupRow(BplusTree.this, lvl.pageAddr, lvl.cnt - 1);
+
+                long pageId = lvl.pageId;
+
+                lvl.moveForward(latestLeafIo());
+
+                addChild(1, moveUpRow, pageId);
+            }
+
+            lvl.io.store(lvl.pageAddr, lvl.cnt++, row, null, false);
+
+            rowsCnt++;
+        }
+
+        /**
+         * Appends a child page to an inner level. The child is not stored right away, because the last child of every inner page has no
+         * separator in it, its last row goes one level up instead.
+         *
+         * @param lvlIdx Inner level.
+         * @param lastRow Last row of the child page subtree, {@code null} for the last child of the level.
+         * @param childId Child page ID.
+         * @throws IgniteInternalCheckedException If failed.
+         */
+        private void addChild(int lvlIdx, @Nullable L lastRow, long childId) throws IgniteInternalCheckedException {
+            if (lvlIdx == levels.size()) {
+                BulkLoadLevel lvl = new BulkLoadLevel();
+
+                levels.add(lvl);
+
+                lvl.open(allocatePage(null), latestInnerIo());
+            }
+
+            BulkLoadLevel lvl = levels.get(lvlIdx);
+
+            if (lvl.pendingChildId != 0) {
+                BplusInnerIo<L> io = (BplusInnerIo<L>) lvl.io;
+
+                if (lvl.cnt == lvl.limit) {
+                    io.setLeft(lvl.pageAddr, lvl.cnt, lvl.pendingChildId);
+
+                    L moveUpRow = lvl.pendingRow;
+
+                    long pageId = lvl.pageId;
+
+                    lvl.moveForward(latestInnerIo());
+
+                    addChild(lvlIdx + 1, moveUpRow, pageId);
+                } else {
+                    lvl.storePending();
+                }
+            }
+
+            lvl.pendingRow = lastRow;
+            lvl.pendingChildId = childId;
+        }
+
+        /**
+         * Completes the levels from the bottom up and writes them to the meta page.
+         *
+         * @throws IgniteInternalCheckedException If failed.
+         */
+        void finish() throws IgniteInternalCheckedException {
+            if (rowsCnt == 0) {
+                return;
+            }
+
+            long childId = 0;
+
+            for (int lvlIdx = 0; lvlIdx < levels.size(); lvlIdx++) {
+                BulkLoadLevel lvl = levels.get(lvlIdx);
+
+                if (lvlIdx > 0) {
+                    if (lvl.cnt < lvl.maxCnt) {
+                        lvl.storePending();
+                    } else {
+                        // Possible only if a page fits a single item, the last child goes to a routing page of its own then.
+                        addChild(lvlIdx, null, childId);
+                    }
+
+                    ((BplusInnerIo<L>) lvl.io).setLeft(lvl.pageAddr, lvl.cnt, childId);
+                }
+
+                childId = lvl.pageId;
+
+                lvl.close();
+            }
+
+            long[] firstPageIds = levels.stream().mapToLong(lvl -> lvl.firstPageId).toArray();
+
+            assert childId == firstPageIds[firstPageIds.length - 1];
+
+            Bool res = write(metaPageId, initLevels, firstPageIds, 0, FALSE, statisticsHolder());
+
+            assert res == TRUE : res;
+        }
+
+        /**
+         * Releases the pages that are still locked.
+         */
+        void close() {
+            for (BulkLoadLevel lvl : levels) {
+                if (lvl.pageAddr != 0L) {
+                    lvl.close();
+                }
+            }
+        }
+
+        /**
+         * Page being filled at one level of the tree.
+         */
+        private class BulkLoadLevel {
+            /** ID of the first page of the level. */
+            long firstPageId;
+
+            /** Page ID. */
+            long pageId;
+
+            /** Page pointer. */
+            long page;
+
+            /** Page address, {@code 0} if the page is not locked. */
+            long pageAddr;
+
+            /** Page IO. */
+            BplusIo<L> io;
+
+            /** Number of items stored in the page. */
+            int cnt;
+
+            /** Max number of items the page can fit. */
+            int maxCnt;
+
+            /** Max number of items to store in the page according to the fill factor. */
+            int limit;
+
+            /** Last row of the last child page, for inner levels only. */
+            @Nullable L pendingRow;
+
+            /** Last child page ID, for inner levels only. */
+            long pendingChildId;
+
+            /**
+             * Locks the page and starts filling it.
+             *
+             * @param pageId Page ID.
+             * @param init IO to initialize a new page with or {@code null} if the page is an already initialized empty page.
+             * @throws IgniteInternalCheckedException If failed.
+             */
+            void open(long pageId, @Nullable BplusIo<L> init) throws IgniteInternalCheckedException {
+                long page = acquirePage(pageId);
+
+                long pageAddr = writeLock(pageId, page);
+
+                // The pages are not reachable by anyone else, so they can't be recycled concurrently.
+                assert pageAddr != 0L : "Failed to write lock a page of the tree being built [pageId=" + hexLong(pageId) + ']';
+
+                if (init != null) {
+                    init.initNewPage(pageAddr, pageId, pageSize());
+
+                    io = init;
+                } else {
+                    io = io(pageAddr);
+
+                    assert io.isLeaf() && io.getCount(pageAddr) == 0;
+                }
+
+                if (firstPageId == 0L) {
+                    firstPageId = pageId;
+                }
+
+                this.pageId = pageId;
+                this.page = page;
+                this.pageAddr = pageAddr;
+
+                cnt = 0;
+
+                maxCnt = io.getMaxCount(pageAddr, pageSize());
+
+                // An inner page keeps room for one more item, because the pending child is stored in it when the load is finished.
+                limit = io.isLeaf() ? maxCnt : maxCnt - 1;
+                limit = Math.max(1, Math.min(limit, (int) (maxCnt * fillFactor)));
+            }
+
+            /**
+             * Links the page to a newly allocated forward page, releases it and starts filling the forward one.
+             *
+             * @param init IO to initialize the forward page with.
+             * @throws IgniteInternalCheckedException If failed.
+             */
+            void moveForward(BplusIo<L> init) throws IgniteInternalCheckedException {
+                long fwdId = allocatePage(null);
+
+                io.setForward(pageAddr, fwdId);
+
+                close();
+
+                open(fwdId, init);
+            }
+
+            /**
+             * Stores the pending child along with its last row as the separator.
+             *
+             * @throws IgniteInternalCheckedException If failed.
+             */
+            void storePending() throws IgniteInternalCheckedException {
+                assert pendingChildId != 0L;
+
+                ((BplusInnerIo<L>) io).setLeft(pageAddr, cnt, pendingChildId);
+
+                io.store(pageAddr, cnt++, pendingRow, null, false);
+
+                pendingRow = null;
+                pendingChildId = 0L;
+            }
+
+            /**
+             * Writes the items count and unlocks the page.
+             */
+            void close() {
+                io.setCount(pageAddr, cnt);
+
+                writeUnlock(pageId, page, pageAddr, true);
+
+                releasePage(pageId, page);
+
+                pageAddr = 0L;
+            }
+        }
+    }
+
     /**
      * Tree meta data.
      */
@@ -83,19 +83,21 @@ public class AbstractFreeListTest extends BaseIgniteAbstractTest {
     @ParameterizedTest
     @MethodSource("provideTestArguments")
     void testSingleTread(int pageSize, boolean batched) throws Exception {
-        FreeList<TestDataRow> freeList = createFreeList(pageSize);
+        AbstractFreeList<TestDataRow> freeList = createFreeList(pageSize);
 
         Map<Long, TestDataRow> stored = new HashMap<>();
 
         prepare(freeList, stored);
 
         insertDeleteRows(freeList, stored, new AtomicBoolean(true), batched);
+
+        assertNonEmptyBuckets(freeList);
     }
 
     @ParameterizedTest
     @MethodSource("provideTestArguments")
     void testMultiThread(int pageSize, boolean batched) throws Exception {
-        FreeList<TestDataRow> freeList = createFreeList(pageSize);
+        AbstractFreeList<TestDataRow> freeList = createFreeList(pageSize);
 
         Map<Long, TestDataRow> stored = new ConcurrentHashMap<>();
 
@@ -112,6 +114,8 @@ public class AbstractFreeListTest extends BaseIgniteAbstractTest {
                 4,
                 "runner"
         ).get(1, MINUTES);
+
+        assertNonEmptyBuckets(freeList);
     }
 
     private static Stream<Arguments> provideTestArguments() {
@@ -133,7 +137,7 @@ public class AbstractFreeListTest extends BaseIgniteAbstractTest {
         );
     }
 
-    private FreeList<TestDataRow> createFreeList(int pageSize) throws Exception {
+    private AbstractFreeList<TestDataRow> createFreeList(int pageSize) throws Exception {
         pageMemory = createPageMemory(pageSize);
 
         pageMemory.start();
@@ -169,6 +173,12 @@ public class AbstractFreeListTest extends BaseIgniteAbstractTest {
         };
     }
 
+    private static void assertNonEmptyBuckets(AbstractFreeList<TestDataRow> freeList) {
+        for (int b = 0; b < freeList.bucketsCount(); b++) {
+            assertEquals(freeList.bucketSize(b) > 0, freeList.nonEmptyBuckets.get(b), "bucket=" + b);
+        }
+    }
+
     private PageMemory createPageMemory(int pageSize) throws Exception {
         dataRegionCfg.change(c -> c.changeInitSize(MAX_SIZE).changeMaxSize(MAX_SIZE)).get(1, TimeUnit.SECONDS);
 
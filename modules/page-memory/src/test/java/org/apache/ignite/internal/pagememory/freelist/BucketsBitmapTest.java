@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.ignite.internal.pagememory.freelist;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.runMultiThreadedAsync;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link BucketsBitmap} testing.
+ */
+public class BucketsBitmapTest {
+    private static final int BUCKETS = 256;
+
+    @Test
+    void testSetAndClear() {
+        BucketsBitmap bitmap = new BucketsBitmap(BUCKETS);
+
+        for (int b = 0; b < BUCKETS; b++) {
+            assertFalse(bitmap.get(b));
+        }
+
+        bitmap.set(0);
+        bitmap.set(63);
+        bitmap.set(64);
+        bitmap.set(255);
+
+        assertTrue(bitmap.get(0));
+        assertTrue(bitmap.get(63));
+        assertTrue(bitmap.get(64));
+        assertTrue(bitmap.get(255));
+        assertFalse(bitmap.get(1));
+        assertFalse(bitmap.get(128));
+
+        bitmap.clear(63);
+        bitmap.clear(63);
+
+        assertFalse(bitmap.get(63));
+        assertTrue(bitmap.get(0));
+        assertTrue(bitmap.get(64));
+    }
+
+    @Test
+    void testNextSetBit() {
+        BucketsBitmap bitmap = new BucketsBitmap(BUCKETS);
+
+        assertEquals(-1, bitmap.nextSetBit(0, BUCKETS));
+
+        bitmap.set(5);
+        bitmap.set(70);
+        bitmap.set(200);
+        bitmap.set(255);
+
+        assertEquals(5, bitmap.nextSetBit(0, BUCKETS));
+        assertEquals(5, bitmap.nextSetBit(5, BUCKETS));
+        assertEquals(70, bitmap.nextSetBit(6, BUCKETS));
+        assertEquals(200, bitmap.nextSetBit(71, BUCKETS));
+        assertEquals(255, bitmap.nextSetBit(201, BUCKETS));
+
+        // Upper bound is exclusive.
+        assertEquals(-1, bitmap.nextSetBit(201, 255));
+        assertEquals(-1, bitmap.nextSetBit(6, 70));
+        assertEquals(-1, bitmap.nextSetBit(10, 10));
+    }
+
+    @Test
+    void testUpdate() {
+        BucketsBitmap bitmap = new BucketsBitmap(BUCKETS);
+
+        AtomicLongArray sizes = new AtomicLongArray(BUCKETS);
+
+        sizes.set(10, 3);
+        bitmap.update(10, sizes);
+
+        assertTrue(bitmap.get(10));
+
+        sizes.set(10, 0);
+        bitmap.update(10, sizes);
+
+        assertFalse(bitmap.get(10));
+    }
+
+    @Test
+    void testConcurrentUpdate() throws Exception {
+        BucketsBitmap bitmap = new BucketsBitmap(BUCKETS);
+
+        AtomicLongArray sizes = new AtomicLongArray(BUCKETS);
+
+        runMultiThreadedAsync(
+                () -> {
+                    ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+                    for (int i = 0; i < 100_000; i++) {
+                        int bucket = rnd.nextInt(8);
+
+                        // Every thread leaves the sizes as it found them, some updates are reported while the size is non-zero.
+                        sizes.incrementAndGet(bucket);
+                        bitmap.update(bucket, sizes);
+
+                        sizes.decrementAndGet(bucket);
+                        bitmap.update(bucket, sizes);
+                    }
+
+                    return null;
+                },
+                8,
+                "updater"
+        ).get(1, MINUTES);
+
+        for (int b = 0; b < BUCKETS; b++) {
+            assertEquals(0, sizes.get(b));
+            assertFalse(bitmap.get(b), "bucket=" + b);
+        }
+    }
+}
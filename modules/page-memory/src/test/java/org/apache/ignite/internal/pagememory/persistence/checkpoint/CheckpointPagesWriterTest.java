@@ -21,6 +21,7 @@ import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
 import static org.apache.ignite.internal.pagememory.persistence.PageMemoryImpl.TRY_AGAIN_TAG;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
@@ -29,6 +30,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -37,6 +39,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -79,7 +83,7 @@ public class CheckpointPagesWriterTest {
 
         Runnable beforePageWrite = mock(Runnable.class);
 
-        ThreadLocal<ByteBuffer> threadBuf = createThreadLocalBuffer();
+        ThreadLocal<ByteBuffer[]> threadBuf = createThreadLocalBuffer();
 
         PageStore pageStore = mock(PageStore.class);
 
@@ -133,6 +137,83 @@ public class CheckpointPagesWriterTest {
         verify(threadBuf, times(2)).get();
     }
 
+    @Test
+    void testWriteAdjacentPages() throws Exception {
+        PageMemoryImpl pageMemory = createPageMemoryImpl(0);
+
+        when(pageMemory.acquireLoadedPage(anyInt(), anyLong())).thenAnswer(answer -> answer.getArgument(1, Long.class) + 1);
+
+        FullPageId fullPageId0 = new FullPageId(pageId(0, FLAG_DATA, 0), 0);
+        FullPageId fullPageId1 = new FullPageId(pageId(0, FLAG_DATA, 1), 0);
+        FullPageId fullPageId2 = new FullPageId(pageId(0, FLAG_DATA, 2), 0);
+        FullPageId fullPageId3 = new FullPageId(pageId(0, FLAG_DATA, 4), 0);
+        FullPageId fullPageId4 = new FullPageId(pageId(1, FLAG_DATA, 5), 0);
+        FullPageId fullPageId5 = new FullPageId(pageId(1, FLAG_DATA, 6), 0);
+        FullPageId fullPageId6 = new FullPageId(pageId(1, FLAG_DATA, 7), 0);
+
+        IgniteConcurrentMultiPairQueue<PageMemoryImpl, FullPageId> writePageIds = new IgniteConcurrentMultiPairQueue<>(
+                Map.of(pageMemory, List.of(fullPageId0, fullPageId1, fullPageId2, fullPageId3, fullPageId4, fullPageId5, fullPageId6))
+        );
+
+        PageStore pageStore = mock(PageStore.class);
+
+        ArgumentCaptor<FullPageId> writtenFullPageIds = ArgumentCaptor.forClass(FullPageId.class);
+
+        CheckpointPageWriter pageWriter = createCheckpointPageWriter(pageStore, writtenFullPageIds);
+
+        List<List<Long>> writtenAdjacentPageIds = new ArrayList<>();
+
+        when(pageWriter.write(anyInt(), any(long[].class), any(ByteBuffer[].class), anyInt(), anyInt())).thenAnswer(answer -> {
+            long[] pageIds = answer.getArgument(1);
+
+            writtenAdjacentPageIds.add(Arrays.stream(pageIds, 0, answer.getArgument(3)).boxed().collect(toList()));
+
+            return pageStore;
+        });
+
+        ConcurrentMap<PageStore, LongAdder> updStores = new ConcurrentHashMap<>();
+
+        CompletableFuture<?> doneFuture = new CompletableFuture<>();
+
+        CheckpointProgressImpl progressImpl = new CheckpointProgressImpl(0);
+
+        CheckpointPagesWriter pagesWriter = new CheckpointPagesWriter(
+                log,
+                new CheckpointMetricsTracker(),
+                writePageIds,
+                updStores,
+                doneFuture,
+                () -> {
+                },
+                createThreadLocalBuffer(2),
+                progressImpl,
+                pageWriter,
+                () -> false
+        );
+
+        pagesWriter.run();
+
+        assertDoesNotThrow(() -> doneFuture.get(1, TimeUnit.SECONDS));
+
+        assertThat(updStores.get(pageStore).sum(), equalTo(7L));
+        assertThat(progressImpl.writtenPagesCounter().get(), equalTo(7));
+
+        // Not more than 2 adjacent pages are written at once because of the number of buffers.
+        assertThat(
+                writtenAdjacentPageIds,
+                equalTo(List.of(
+                        List.of(fullPageId0.pageId(), fullPageId1.pageId()),
+                        List.of(fullPageId4.pageId(), fullPageId5.pageId())
+                ))
+        );
+
+        assertThat(writtenFullPageIds.getAllValues(), equalTo(List.of(fullPageId2, fullPageId3, fullPageId6)));
+
+        for (FullPageId fullPageId : List.of(fullPageId0, fullPageId1, fullPageId2, fullPageId3, fullPageId4, fullPageId5, fullPageId6)) {
+            verify(pageMemory).releasePage(0, fullPageId.pageId(), fullPageId.pageId() + 1);
+        }
+    }
+
     @Test
     void testFailWritePages() throws Exception {
         CompletableFuture<?> doneFuture = new CompletableFuture<>();
@@ -246,14 +327,24 @@ public class CheckpointPagesWriterTest {
         return pageMemory;
     }
 
-    private static ThreadLocal<ByteBuffer> createThreadLocalBuffer() {
-        ThreadLocal<ByteBuffer> threadBuf = mock(ThreadLocal.class);
+    private static ThreadLocal<ByteBuffer[]> createThreadLocalBuffer() {
+        return createThreadLocalBuffer(1);
+    }
+
+    private static ThreadLocal<ByteBuffer[]> createThreadLocalBuffer(int pages) {
+        ThreadLocal<ByteBuffer[]> threadBuf = mock(ThreadLocal.class);
+
+        ByteBuffer[] buffers = new ByteBuffer[pages];
+
+        for (int i = 0; i < pages; i++) {
+            buffers[i] = ByteBuffer.allocate(4);
 
-        ByteBuffer buffer = ByteBuffer.allocate(4);
+            buffers[i].putInt(-1);
 
-        buffer.putInt(-1);
+            buffers[i].rewind();
+        }
 
-        when(threadBuf.get()).thenReturn(buffer.rewind());
+        when(threadBuf.get()).thenReturn(buffers);
 
         return threadBuf;
     }
@@ -150,6 +150,51 @@ public class IgniteConcurrentMultiPairQueueTest {
         assertEquals(queue2.initialSize(), arr1.length + arr2.length + arr3.length + arr4.length);
     }
 
+    @Test
+    void testNextBatch() throws Exception {
+        Map<Integer, Collection<Integer>> polled = new ConcurrentHashMap<>();
+
+        runMultiThreaded(() -> {
+            Result<Integer, Integer> res = new Result<>();
+
+            while (queue.next(res, 3)) {
+                polled.computeIfAbsent(res.getKey(), k -> synchronizedCollection(new ArrayList<>())).add(res.getValue());
+            }
+
+            return null;
+        }, current().nextInt(1, 20), "GridConcurrentMultiPairQueue batch test");
+
+        assertTrue(queue.isEmpty());
+
+        assertEquals(mapForCheck.keySet(), polled.keySet());
+
+        mapForCheck.forEach((key, vals) -> assertEquals(new ArrayList<>(vals), sorted(polled.get(key))));
+
+        // Consecutive calls with the same result return adjacent elements, even if the queue is polled concurrently.
+        IgniteConcurrentMultiPairQueue<Integer, Integer> queue3 = new IgniteConcurrentMultiPairQueue<>(
+                List.of(new IgniteBiTuple<>(10, arr2), new IgniteBiTuple<>(20, arr1))
+        );
+
+        Result<Integer, Integer> res0 = new Result<>();
+        Result<Integer, Integer> res1 = new Result<>();
+
+        List<Integer> vals0 = new ArrayList<>();
+        List<Integer> vals1 = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(queue3.next(res0, 3));
+
+            vals0.add(res0.getValue());
+
+            assertTrue(queue3.next(res1, 3));
+
+            vals1.add(res1.getValue());
+        }
+
+        assertEquals(List.of(arr2[0], arr2[1], arr1[0]), vals0);
+        assertEquals(List.of(arr1[1], arr1[2], arr1[3]), vals1);
+    }
+
     @Test
     void testSize() {
         assertEquals(0, EMPTY.size());
@@ -175,4 +220,12 @@ public class IgniteConcurrentMultiPairQueueTest {
         assertFalse(pairQueue.next(new Result()));
         assertEquals(0, pairQueue.size());
     }
+
+    private static List<Integer> sorted(Collection<Integer> vals) {
+        List<Integer> res = new ArrayList<>(vals);
+
+        res.sort(null);
+
+        return res;
+    }
 }
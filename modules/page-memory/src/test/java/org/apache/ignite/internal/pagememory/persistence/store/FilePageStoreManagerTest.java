@@ -38,11 +38,16 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.ignite.internal.fileio.FileIo;
+import org.apache.ignite.internal.fileio.FileIoFactory;
 import org.apache.ignite.internal.fileio.RandomAccessFileIoFactory;
 import org.apache.ignite.internal.testframework.WorkDirectory;
 import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
@@ -131,6 +136,35 @@ public class FilePageStoreManagerTest {
         }
     }
 
+    @Test
+    void testInitializeWithFileIoFactory() throws Exception {
+        FilePageStoreManager manager = createManager();
+
+        try {
+            Set<Path> createdFiles = ConcurrentHashMap.newKeySet();
+
+            FileIoFactory fileIoFactory = new RandomAccessFileIoFactory() {
+                /** {@inheritDoc} */
+                @Override
+                public FileIo create(Path filePath, OpenOption... modes) throws IOException {
+                    createdFiles.add(filePath.getFileName());
+
+                    return super.create(filePath, modes);
+                }
+            };
+
+            manager.initialize("test", 0, 1, fileIoFactory);
+
+            for (FilePageStore filePageStore : manager.getStores(0)) {
+                filePageStore.ensure();
+            }
+
+            assertThat(createdFiles, equalTo(Set.of(Path.of("index.bin"), Path.of("part-0.bin"))));
+        } finally {
+            manager.stop();
+        }
+    }
+
     @Test
     void testGetStores() throws Exception {
         FilePageStoreManager manager = createManager();
@@ -407,6 +407,53 @@ public class FilePageStoreTest {
         assertEquals(0, PageIo.getCrc(pageByteBuffer));
     }
 
+    @Test
+    void testWriteAdjacentPages() throws Exception {
+        Path testFilePath = workDir.resolve("test");
+
+        FilePageStore filePageStore = createFilePageStore(testFilePath);
+
+        filePageStore.ensure();
+
+        long[] pageIds = new long[3];
+
+        ByteBuffer[] pageByteBuffers = new ByteBuffer[pageIds.length];
+
+        for (int i = 0; i < pageIds.length; i++) {
+            pageIds[i] = createPageId(filePageStore);
+
+            pageByteBuffers[i] = createPageByteBuffer();
+
+            pageByteBuffers[i].position(8).put(randomBytes(128)).rewind();
+        }
+
+        PageWriteListener pageWriteListener = spy(new PageWriteListener() {
+            /** {@inheritDoc} */
+            @Override
+            public void accept(long pageId, ByteBuffer buf) {
+                assertNotEquals(0, PageIo.getCrc(buf));
+            }
+        });
+
+        filePageStore.addWriteListener(pageWriteListener);
+
+        // Writes only the first two pages.
+        filePageStore.write(pageIds, pageByteBuffers, 2, 0, true);
+
+        verify(pageWriteListener, times(2)).accept(anyLong(), any(ByteBuffer.class));
+
+        assertEquals(3 * PAGE_SIZE, testFilePath.toFile().length());
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(0, PageIo.getCrc(pageByteBuffers[i]));
+
+            ByteBuffer readBuffer = ByteBuffer.allocate(PAGE_SIZE).order(pageByteBuffers[i].order());
+
+            assertTrue(filePageStore.read(pageIds[i], readBuffer, false));
+            assertEquals(pageByteBuffers[i].rewind(), readBuffer.rewind());
+        }
+    }
+
     @Test
     void testRead() throws Exception {
         Path testFilePath = workDir.resolve("test");
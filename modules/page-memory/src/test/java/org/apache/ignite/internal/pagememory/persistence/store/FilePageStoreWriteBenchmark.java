@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.store;
+
+import static java.nio.ByteOrder.nativeOrder;
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
+import static org.apache.ignite.internal.pagememory.persistence.store.PageStore.TYPE_DATA;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.fileio.RandomAccessFileIoFactory;
+import org.apache.ignite.internal.pagememory.TestPageIoModule.TestPageIo;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the time of writing all pages of a {@link FilePageStore} in the index order, as the checkpoint does for the sorted pages,
+ * depending on the number of adjacent pages written at once (see {@link FilePageStore#write(long[], ByteBuffer[], int, int, boolean)}).
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(jvmArgs = {"--add-opens", "java.base/java.nio=ALL-UNNAMED"}, value = 1)
+public class FilePageStoreWriteBenchmark {
+    private static final int PAGE_SIZE = 4096;
+
+    /** Number of adjacent pages written at once, {@code 1} means the pages are written one by one. */
+    @Param({"1", "16", "64"})
+    public int pagesPerWrite;
+
+    /** Number of pages in the page store, 1 GiB by default. */
+    @Param({"262144"})
+    public int pagesCount;
+
+    /** Directory with the page store file. */
+    private Path workDir;
+
+    /** Page store. */
+    private FilePageStore filePageStore;
+
+    /** Page IDs. */
+    private long[] pageIds;
+
+    /** Page buffers. */
+    private ByteBuffer[] pageBufs;
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        workDir = Files.createTempDirectory(FilePageStoreWriteBenchmark.class.getSimpleName());
+
+        filePageStore = new FilePageStore(TYPE_DATA, workDir.resolve("part-0.bin"), new RandomAccessFileIoFactory(), PAGE_SIZE);
+
+        filePageStore.ensure();
+
+        for (int i = 0; i < pagesCount; i++) {
+            filePageStore.allocatePage();
+        }
+
+        pageIds = new long[pagesPerWrite];
+
+        pageBufs = new ByteBuffer[pagesPerWrite];
+
+        for (int i = 0; i < pagesPerWrite; i++) {
+            pageBufs[i] = ByteBuffer.allocateDirect(PAGE_SIZE).order(nativeOrder());
+
+            new TestPageIo().initNewPage(GridUnsafe.bufferAddress(pageBufs[i]), 0, PAGE_SIZE);
+        }
+    }
+
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        filePageStore.stop(true);
+
+        IgniteUtils.deleteIfExists(workDir);
+    }
+
+    /**
+     * Writes all pages of the page store and syncs it.
+     */
+    @Benchmark
+    public void writeAllPages() throws Exception {
+        for (int idx = 0; idx < pagesCount; idx += pagesPerWrite) {
+            int cnt = Math.min(pagesPerWrite, pagesCount - idx);
+
+            for (int i = 0; i < cnt; i++) {
+                pageIds[i] = pageId(0, FLAG_DATA, idx + i);
+            }
+
+            if (cnt == 1) {
+                filePageStore.write(pageIds[0], pageBufs[0], 0, true);
+            } else {
+                filePageStore.write(pageIds, pageBufs, cnt, 0, true);
+            }
+        }
+
+        filePageStore.sync();
+    }
+
+    /**
+     * Runner.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(FilePageStoreWriteBenchmark.class.getSimpleName())
+                        .build()
+        ).run();
+    }
+}
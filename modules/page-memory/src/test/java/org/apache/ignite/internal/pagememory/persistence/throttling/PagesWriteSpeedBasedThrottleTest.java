@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.throttling;
+
+import static org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteSpeedBasedThrottle.MAX_DIRTY_PAGES;
+import static org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteSpeedBasedThrottle.targetDirtyRatio;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.internal.pagememory.persistence.PageMemoryImpl;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointProgress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link PagesWriteSpeedBasedThrottle} testing.
+ */
+public class PagesWriteSpeedBasedThrottleTest {
+    private final AtomicInteger writtenPages = new AtomicInteger();
+
+    private PageMemoryImpl pageMemory;
+
+    private CheckpointProgress progress;
+
+    private PagesWriteSpeedBasedThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        pageMemory = mock(PageMemoryImpl.class);
+
+        when(pageMemory.totalPages()).thenReturn(1000L);
+        when(pageMemory.maxCheckpointBufferPages()).thenReturn(100);
+
+        progress = mock(CheckpointProgress.class);
+
+        when(progress.inProgress()).thenReturn(true);
+        when(progress.currentCheckpointPagesCount()).thenReturn(1000);
+        when(progress.writtenPagesCounter()).thenReturn(writtenPages);
+        when(progress.evictedPagesCounter()).thenReturn(new AtomicInteger());
+
+        throttle = new PagesWriteSpeedBasedThrottle(pageMemory, () -> progress);
+    }
+
+    @Test
+    void testTargetDirtyRatio() {
+        assertEquals(0, targetDirtyRatio(0, 1000));
+        assertEquals(MAX_DIRTY_PAGES / 2, targetDirtyRatio(500, 1000));
+        assertEquals(MAX_DIRTY_PAGES, targetDirtyRatio(1000, 1000));
+    }
+
+    @Test
+    void testSpeedForMarkAll() {
+        // The checkpoint writes 100 pages per second, so the remaining 900 pages take 9 seconds, while 250 pages are still clean.
+        assertEquals(27, throttle.speedForMarkAll(0.5, 100, 1000, TimeUnit.SECONDS.toNanos(1)));
+
+        // Unknown checkpoint write speed.
+        assertEquals(0, throttle.speedForMarkAll(0.5, 0, 1000, TimeUnit.SECONDS.toNanos(1)));
+
+        // No clean memory left.
+        assertEquals(0, throttle.speedForMarkAll(MAX_DIRTY_PAGES, 100, 1000, TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    @Test
+    void testNoThrottlingWithoutCheckpoint() {
+        when(progress.inProgress()).thenReturn(false);
+        when(pageMemory.dirtyPagesRatio()).thenReturn(0.7);
+
+        for (int i = 0; i < 1000; i++) {
+            throttle.onMarkDirty(false);
+        }
+
+        assertEquals(0, throttle.throttledWrites());
+        assertEquals(0, throttle.throttlingTimeNanos());
+    }
+
+    @Test
+    void testNoThrottlingBelowTargetDirtyRatio() {
+        writtenPages.set(500);
+
+        when(pageMemory.dirtyPagesRatio()).thenReturn(MAX_DIRTY_PAGES / 4);
+
+        throttle.onBeginCheckpoint();
+
+        for (int i = 0; i < 1000; i++) {
+            throttle.onMarkDirty(false);
+        }
+
+        assertEquals(0, throttle.throttledWrites());
+    }
+
+    @Test
+    void testThrottlingWhenWritesOutpaceCheckpoint() throws Exception {
+        when(pageMemory.dirtyPagesRatio()).thenReturn(0.5);
+
+        throttle.onBeginCheckpoint();
+
+        Thread.sleep(100);
+
+        // At most 10 pages per second are written by the checkpoint, so at most 2.5 pages per second may be made dirty.
+        writtenPages.set(1);
+
+        for (int i = 0; i < 4; i++) {
+            throttle.onMarkDirty(false);
+        }
+
+        assertThat(throttle.throttledWrites(), greaterThan(0L));
+        assertThat(throttle.throttlingTimeNanos(), greaterThan(0L));
+    }
+
+    @Test
+    void testCheckpointBufferBackoff() {
+        when(pageMemory.usedCheckpointBufferPages()).thenReturn(90);
+
+        throttle.onMarkDirty(false);
+
+        assertEquals(0, throttle.throttledWrites());
+
+        throttle.onMarkDirty(true);
+        throttle.onMarkDirty(true);
+
+        assertEquals(2, throttle.throttledWrites());
+    }
+
+    @Test
+    void testFinishCheckpointWakesUpThrottledThreads() throws Exception {
+        // No clean memory left, so the writers are parked for the longest time.
+        when(pageMemory.dirtyPagesRatio()).thenReturn(MAX_DIRTY_PAGES);
+
+        throttle.onBeginCheckpoint();
+
+        Thread writer = new Thread(() -> throttle.onMarkDirty(false));
+
+        writer.start();
+
+        assertTrue(waitForCondition(() -> throttle.throttledThreads() == 1, 1_000));
+
+        throttle.onFinishCheckpoint();
+
+        writer.join(TimeUnit.NANOSECONDS.toMillis(PagesWriteSpeedBasedThrottle.MAX_PARK_NANOS) / 2);
+
+        assertFalse(writer.isAlive());
+        assertEquals(0, throttle.throttledThreads());
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.tree;
+
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.INDEX_PARTITION;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.getLong;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.putLong;
+import static org.apache.ignite.internal.util.Constants.MiB;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.pagememory.PageMemory;
+import org.apache.ignite.internal.pagememory.TestPageIoRegistry;
+import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionView;
+import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorView;
+import org.apache.ignite.internal.pagememory.impl.PageMemoryNoStoreImpl;
+import org.apache.ignite.internal.pagememory.io.IoVersions;
+import org.apache.ignite.internal.pagememory.tree.io.BplusInnerIo;
+import org.apache.ignite.internal.pagememory.tree.io.BplusIo;
+import org.apache.ignite.internal.pagememory.tree.io.BplusLeafIo;
+import org.apache.ignite.internal.pagememory.tree.io.BplusMetaIo;
+import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the throughput of {@link BplusTree#findOne} lookups depending on the number of threads, with and without optimistic reads
+ * of inner pages (see {@link BplusTree#enableOptimisticReads()}).
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(jvmArgs = {"--add-opens", "java.base/java.nio=ALL-UNNAMED"}, value = 1)
+public class BplusTreeLookupBenchmark {
+    private static final short LONG_INNER_IO = 30000;
+
+    private static final short LONG_LEAF_IO = 30001;
+
+    private static final short LONG_META_IO = 30002;
+
+    private static final int GROUP_ID = 1;
+
+    private static final int PAGE_SIZE = 4096;
+
+    /** Number of threads to run the benchmark with. */
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+    /** Whether inner pages are read optimistically. */
+    @Param({"false", "true"})
+    public boolean optimistic;
+
+    /** Number of keys in the tree. */
+    @Param({"1000000"})
+    public int keysCount;
+
+    /** Page memory. */
+    private PageMemory pageMem;
+
+    /** Tree. */
+    private LongTree tree;
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        UnsafeMemoryAllocatorView allocatorView = mock(UnsafeMemoryAllocatorView.class);
+
+        PageMemoryDataRegionView dataRegionView = mock(PageMemoryDataRegionView.class);
+
+        when(dataRegionView.name()).thenReturn("benchmark");
+        when(dataRegionView.initSize()).thenReturn(256L * MiB);
+        when(dataRegionView.maxSize()).thenReturn(256L * MiB);
+        when(dataRegionView.memoryAllocator()).thenReturn(allocatorView);
+
+        PageMemoryDataRegionConfiguration dataRegionCfg = mock(PageMemoryDataRegionConfiguration.class);
+
+        when(dataRegionCfg.value()).thenReturn(dataRegionView);
+
+        TestPageIoRegistry ioRegistry = new TestPageIoRegistry();
+
+        ioRegistry.loadFromServiceLoader();
+
+        ioRegistry.load(LongInnerIo.VERSIONS, LongLeafIo.VERSIONS, LongMetaIo.VERSIONS);
+
+        pageMem = new PageMemoryNoStoreImpl(dataRegionCfg, ioRegistry, PAGE_SIZE);
+
+        pageMem.start();
+
+        tree = new LongTree(pageMem, pageMem.allocatePage(GROUP_ID, INDEX_PARTITION, FLAG_AUX), optimistic);
+
+        for (long i = 0; i < keysCount; i++) {
+            tree.putx(i);
+        }
+    }
+
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        tree.close();
+
+        pageMem.stop(true);
+    }
+
+    /**
+     * Looks up a random key.
+     *
+     * @return Found key.
+     */
+    @Benchmark
+    public Long findOne() throws IgniteInternalCheckedException {
+        return tree.findOne(ThreadLocalRandom.current().nextLong(keysCount));
+    }
+
+    /**
+     * Runner.
+     */
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREADS) {
+            new Runner(
+                    new OptionsBuilder()
+                            .include(BplusTreeLookupBenchmark.class.getSimpleName())
+                            .threads(threads)
+                            .build()
+            ).run();
+        }
+    }
+
+    /**
+     * Tree of longs.
+     */
+    private static class LongTree extends BplusTree<Long, Long> {
+        /**
+         * Constructor.
+         *
+         * @param pageMem Page memory.
+         * @param metaPageId Meta page ID.
+         * @param optimistic Whether inner pages are read optimistically.
+         * @throws IgniteInternalCheckedException If failed.
+         */
+        LongTree(PageMemory pageMem, long metaPageId, boolean optimistic) throws IgniteInternalCheckedException {
+            super(
+                    "benchmark",
+                    GROUP_ID,
+                    null,
+                    pageMem,
+                    PageLockListenerNoOp.INSTANCE,
+                    FLAG_AUX,
+                    new AtomicLong(),
+                    metaPageId,
+                    null,
+                    LongInnerIo.VERSIONS,
+                    LongLeafIo.VERSIONS,
+                    LongMetaIo.VERSIONS
+            );
+
+            if (optimistic) {
+                enableOptimisticReads();
+            }
+
+            initTree(true);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected int compare(BplusIo<Long> io, long pageAddr, int idx, Long row) throws IgniteInternalCheckedException {
+            return Long.compare(io.getLookupRow(this, pageAddr, idx), row);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Long getRow(BplusIo<Long> io, long pageAddr, int idx, Object x) throws IgniteInternalCheckedException {
+            return io.getLookupRow(this, pageAddr, idx);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected long allocatePageNoReuse() throws IgniteInternalCheckedException {
+            return pageMem.allocatePage(grpId, INDEX_PARTITION, defaultPageFlag);
+        }
+    }
+
+    /**
+     * Inner IO for longs.
+     */
+    private static class LongInnerIo extends BplusInnerIo<Long> {
+        /** IO versions. */
+        static final IoVersions<LongInnerIo> VERSIONS = new IoVersions<>(new LongInnerIo());
+
+        private LongInnerIo() {
+            super(LONG_INNER_IO, 1, true, Long.BYTES);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void storeByOffset(long pageAddr, int off, Long row) {
+            putLong(pageAddr, off, row);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void store(
+                long dstPageAddr,
+                int dstIdx,
+                BplusIo<Long> srcIo,
+                long srcPageAddr,
+                int srcIdx
+        ) throws IgniteInternalCheckedException {
+            storeByOffset(dstPageAddr, offset(dstIdx), srcIo.getLookupRow(null, srcPageAddr, srcIdx));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Long getLookupRow(BplusTree<Long, ?> tree, long pageAddr, int idx) {
+            return getLong(pageAddr, offset(idx));
+        }
+    }
+
+    /**
+     * Leaf IO for longs.
+     */
+    private static class LongLeafIo extends BplusLeafIo<Long> {
+        /** IO versions. */
+        static final IoVersions<LongLeafIo> VERSIONS = new IoVersions<>(new LongLeafIo());
+
+        private LongLeafIo() {
+            super(LONG_LEAF_IO, 1, Long.BYTES);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void storeByOffset(long pageAddr, int off, Long row) {
+            putLong(pageAddr, off, row);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void store(
+                long dstPageAddr,
+                int dstIdx,
+                BplusIo<Long> srcIo,
+                long srcPageAddr,
+                int srcIdx
+        ) throws IgniteInternalCheckedException {
+            storeByOffset(dstPageAddr, offset(dstIdx), srcIo.getLookupRow(null, srcPageAddr, srcIdx));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Long getLookupRow(BplusTree<Long, ?> tree, long pageAddr, int idx) {
+            return getLong(pageAddr, offset(idx));
+        }
+    }
+
+    /**
+     * Meta IO.
+     */
+    private static class LongMetaIo extends BplusMetaIo {
+        /** IO versions. */
+        static final IoVersions<LongMetaIo> VERSIONS = new IoVersions<>(new LongMetaIo());
+
+        private LongMetaIo() {
+            super(LONG_META_IO, 1);
+        }
+    }
+}
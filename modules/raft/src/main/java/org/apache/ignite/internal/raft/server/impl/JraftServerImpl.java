@@ -34,6 +34,7 @@ import java.util.stream.Collectors;
 import org.apache.ignite.internal.raft.server.RaftServer;
 import org.apache.ignite.internal.thread.NamedThreadFactory;
 import org.apache.ignite.lang.IgniteInternalException;
+import org.apache.ignite.lang.IgniteLogger;
 import org.apache.ignite.lang.IgniteStringFormatter;
 import org.apache.ignite.network.ClusterNode;
 import org.apache.ignite.network.ClusterService;
@@ -404,6 +405,9 @@ public class JraftServerImpl implements RaftServer {
      * Wrapper of {@link StateMachineAdapter}.
      */
     public static class DelegatingStateMachine extends StateMachineAdapter {
+        /** The logger. */
+        private static final IgniteLogger LOG = IgniteLogger.forClass(DelegatingStateMachine.class);
+
         private final RaftGroupListener listener;
 
         /**
@@ -422,36 +426,46 @@ public class JraftServerImpl implements RaftServer {
         /** {@inheritDoc} */
         @Override
         public void onApply(Iterator iter) {
-            try {
-                listener.onWrite(new java.util.Iterator<>() {
-                    @Override
-                    public boolean hasNext() {
-                        return iter.hasNext();
-                    }
+            var commands = new java.util.Iterator<CommandClosure<WriteCommand>>() {
+                /** Number of taken commands without a result. */
+                int unresolved;
 
-                    @Override
-                    public CommandClosure<WriteCommand> next() {
-                        @Nullable CommandClosure<WriteCommand> done = (CommandClosure<WriteCommand>) iter.done();
-                        ByteBuffer data = iter.getData();
-                        WriteCommand command = JDKMarshaller.DEFAULT.unmarshall(data.array());
+                @Override
+                public boolean hasNext() {
+                    return iter.hasNext();
+                }
 
-                        return new CommandClosure<>() {
-                            @Override
-                            public WriteCommand command() {
-                                return command;
-                            }
+                @Override
+                public CommandClosure<WriteCommand> next() {
+                    @Nullable CommandClosure<WriteCommand> done = (CommandClosure<WriteCommand>) iter.done();
+                    ByteBuffer data = iter.getData();
+                    WriteCommand command = JDKMarshaller.DEFAULT.unmarshall(data.array());
+
+                    // Advance right away, so the listener is free to take several commands before providing their results.
+                    iter.next();
+
+                    unresolved++;
+
+                    return new CommandClosure<>() {
+                        @Override
+                        public WriteCommand command() {
+                            return command;
+                        }
 
-                            @Override
-                            public void result(Serializable res) {
-                                if (done != null) {
-                                    done.result(res);
-                                }
+                        @Override
+                        public void result(Serializable res) {
+                            unresolved--;
 
-                                iter.next();
+                            if (done != null) {
+                                done.result(res);
                             }
-                        };
-                    }
-                });
+                        }
+                    };
+                }
+            };
+
+            try {
+                listener.onWrite(commands);
             } catch (Exception err) {
                 Status st;
 
@@ -461,11 +475,16 @@ public class JraftServerImpl implements RaftServer {
                     st = new Status(RaftError.ESTATEMACHINE, "Unknown state machine error.");
                 }
 
-                if (iter.done() != null) {
-                    iter.done().run(st);
-                }
+                // Roll back all the taken commands without a result, which are the last taken ones. The iterator counts the current
+                // command itself, if there is one. Jraft then completes the closures of the rolled back commands with the error.
+                int ntail = commands.unresolved + (iter.hasNext() ? 1 : 0);
 
-                iter.setErrorAndRollback(1, st);
+                if (ntail > 0) {
+                    iter.setErrorAndRollback(ntail, st);
+                } else {
+                    // Every command is applied and answered, nothing to roll back.
+                    LOG.error("State machine failed after applying all the commands", err);
+                }
             }
         }
 
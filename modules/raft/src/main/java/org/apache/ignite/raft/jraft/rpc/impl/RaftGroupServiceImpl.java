@@ -472,7 +472,17 @@ public class RaftGroupServiceImpl implements RaftGroupService {
         ActionRequest req = factory.actionRequest().command(cmd).groupId(groupId).readOnlySafe(false).build();
 
         return cluster.messagingService().invoke(peer.address(), req, rpcTimeout)
-                .thenApply(resp -> (R) ((ActionResponse) resp).result());
+                .thenCompose(resp -> {
+                    if (resp instanceof RpcRequests.ErrorResponse) {
+                        RpcRequests.ErrorResponse resp0 = (RpcRequests.ErrorResponse) resp;
+
+                        return CompletableFuture.failedFuture(new RaftException(RaftError.forNumber(resp0.errorCode()), resp0.errorMsg()));
+                    }
+                    else if (resp instanceof RpcRequests.SMErrorResponse)
+                        return CompletableFuture.failedFuture(restoreThrowable(((RpcRequests.SMErrorResponse) resp).error()));
+
+                    return CompletableFuture.completedFuture((R) ((ActionResponse) resp).result());
+                });
     }
 
     /** {@inheritDoc} */
@@ -578,27 +588,7 @@ public class RaftGroupServiceImpl implements RaftGroupService {
                     }
                 }
                 else if (resp instanceof RpcRequests.SMErrorResponse) {
-                    SMThrowable th = ((RpcRequests.SMErrorResponse)resp).error();
-                    if (th instanceof SMCompactedThrowable) {
-                        SMCompactedThrowable compactedThrowable = (SMCompactedThrowable)th;
-
-                        try {
-                            Throwable restoredTh = (Throwable)Class.forName(compactedThrowable.throwableClassName())
-                                .getConstructor(String.class)
-                                .newInstance(compactedThrowable.throwableMessage());
-
-                            fut.completeExceptionally(restoredTh);
-                        }
-                        catch (Exception e) {
-                            LOG.warn("Cannot restore throwable from user's state machine. " +
-                                "Check if throwable " + compactedThrowable.throwableClassName() +
-                                " is presented in the classpath.");
-
-                            fut.completeExceptionally(new IgniteException(compactedThrowable.throwableMessage()));
-                        }
-                    }
-                    else if (th instanceof SMFullThrowable)
-                        fut.completeExceptionally(((SMFullThrowable)th).throwable());
+                    fut.completeExceptionally(restoreThrowable(((RpcRequests.SMErrorResponse)resp).error()));
                 }
                 else {
                     leader = peer; // The OK response was received from a leader.
@@ -609,6 +599,33 @@ public class RaftGroupServiceImpl implements RaftGroupService {
         });
     }
 
+    /**
+     * Restores a throwable thrown by the user's state machine.
+     *
+     * @param th The throwable received from a remote node.
+     * @return Restored throwable.
+     */
+    private static Throwable restoreThrowable(SMThrowable th) {
+        if (th instanceof SMCompactedThrowable) {
+            SMCompactedThrowable compactedThrowable = (SMCompactedThrowable)th;
+
+            try {
+                return (Throwable)Class.forName(compactedThrowable.throwableClassName())
+                    .getConstructor(String.class)
+                    .newInstance(compactedThrowable.throwableMessage());
+            }
+            catch (Exception e) {
+                LOG.warn("Cannot restore throwable from user's state machine. " +
+                    "Check if throwable " + compactedThrowable.throwableClassName() +
+                    " is presented in the classpath.");
+
+                return new IgniteException(compactedThrowable.throwableMessage());
+            }
+        }
+        else
+            return ((SMFullThrowable)th).throwable();
+    }
+
     /**
      * Checks if an error is recoverable, for example, {@link java.net.ConnectException}.
      * @param t The throwable.
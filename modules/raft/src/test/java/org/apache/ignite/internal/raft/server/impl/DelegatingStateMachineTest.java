@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.raft.server.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.apache.ignite.internal.raft.server.impl.JraftServerImpl.DelegatingStateMachine;
+import org.apache.ignite.raft.client.WriteCommand;
+import org.apache.ignite.raft.client.service.CommandClosure;
+import org.apache.ignite.raft.client.service.RaftGroupListener;
+import org.apache.ignite.raft.jraft.Closure;
+import org.apache.ignite.raft.jraft.Iterator;
+import org.apache.ignite.raft.jraft.Status;
+import org.apache.ignite.raft.jraft.util.JDKMarshaller;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the error handling of {@link DelegatingStateMachine#onApply}.
+ */
+public class DelegatingStateMachineTest {
+    /** Checks that only the taken commands without a result are rolled back. */
+    @Test
+    public void testRollbackUnresolved() {
+        TestIterator iter = new TestIterator(3);
+
+        apply(iter, it -> {
+            it.next().result(null);
+            it.next();
+            it.next();
+
+            throw new IllegalStateException();
+        });
+
+        assertEquals(2, iter.ntail);
+
+        assertResults(iter, 1, 0, 0);
+    }
+
+    /** Checks that the current command, which is not taken yet, is counted by the rollback. */
+    @Test
+    public void testRollbackWithRemainingCommands() {
+        TestIterator iter = new TestIterator(3);
+
+        apply(iter, it -> {
+            it.next().result(null);
+            it.next();
+
+            throw new IllegalStateException();
+        });
+
+        // The unresolved command and the current one.
+        assertEquals(2, iter.ntail);
+
+        assertResults(iter, 1, 0, 0);
+    }
+
+    /** Checks that nothing is rolled back if all the commands have results. */
+    @Test
+    public void testNoRollbackAfterAllResults() {
+        TestIterator iter = new TestIterator(2);
+
+        apply(iter, it -> {
+            it.next().result(null);
+            it.next().result(null);
+
+            throw new IllegalStateException();
+        });
+
+        assertEquals(0, iter.ntail);
+
+        assertResults(iter, 1, 1);
+    }
+
+    /**
+     * Applies the commands of an iterator with a listener.
+     *
+     * @param iter The iterator.
+     * @param onWrite Write handler of the listener.
+     */
+    private static void apply(TestIterator iter, Consumer<java.util.Iterator<CommandClosure<WriteCommand>>> onWrite) {
+        RaftGroupListener listener = mock(RaftGroupListener.class);
+
+        doAnswer(invocation -> {
+            onWrite.accept(invocation.getArgument(0));
+
+            return null;
+        }).when(listener).onWrite(any());
+
+        new DelegatingStateMachine(listener).onApply(iter);
+    }
+
+    /**
+     * Checks the number of results of each command, the closures must never be run by the state machine itself.
+     *
+     * @param iter The iterator.
+     * @param results Expected numbers of results.
+     */
+    private static void assertResults(TestIterator iter, int... results) {
+        for (int i = 0; i < results.length; i++) {
+            assertEquals(results[i], iter.closures.get(i).results, "Results of command " + i);
+            assertEquals(0, iter.closures.get(i).runs, "Runs of command " + i);
+        }
+    }
+
+    /**
+     * Iterator over the data entries of a batch, advanced the same way as the jraft one.
+     */
+    private static class TestIterator implements Iterator {
+        /** Closures of the entries. */
+        private final List<TestClosure> closures = new ArrayList<>();
+
+        /** Current entry. */
+        private int idx;
+
+        /** Number of rolled back entries, {@code 0} if not rolled back. */
+        private long ntail;
+
+        /**
+         * The constructor.
+         *
+         * @param size Number of entries.
+         */
+        TestIterator(int size) {
+            for (int i = 0; i < size; i++) {
+                closures.add(new TestClosure());
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ByteBuffer getData() {
+            return ByteBuffer.wrap(JDKMarshaller.DEFAULT.marshall(new TestCommand()));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public long getIndex() {
+            return idx + 1;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public long getTerm() {
+            return 1;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Closure done() {
+            return closures.get(idx);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void setErrorAndRollback(long ntail, Status st) {
+            assert ntail > 0;
+
+            this.ntail = ntail;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean hasNext() {
+            return idx < closures.size();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ByteBuffer next() {
+            ByteBuffer data = getData();
+
+            idx++;
+
+            return data;
+        }
+    }
+
+    /**
+     * Closure counting its completions.
+     */
+    private static class TestClosure implements Closure, CommandClosure<WriteCommand> {
+        /** Number of results. */
+        private int results;
+
+        /** Number of runs. */
+        private int runs;
+
+        /** {@inheritDoc} */
+        @Override
+        public void run(Status status) {
+            runs++;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public WriteCommand command() {
+            return new TestCommand();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void result(Serializable res) {
+            results++;
+        }
+    }
+
+    /**
+     * Test command.
+     */
+    private static class TestCommand implements WriteCommand {
+    }
+}
@@ -17,17 +17,26 @@
 
 package org.apache.ignite.internal.rocksdb.snapshot;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongUnaryOperator;
 import org.apache.ignite.internal.rocksdb.RocksUtils;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.lang.IgniteInternalException;
+import org.jetbrains.annotations.Nullable;
 import org.rocksdb.EnvOptions;
 import org.rocksdb.IngestExternalFileOptions;
 import org.rocksdb.Options;
@@ -46,6 +55,18 @@ public class RocksSnapshotManager {
     /** Suffix for the temporary snapshot folder. */
     private static final String TMP_SUFFIX = ".tmp";
 
+    /** Name of the file of a snapshot created by {@link #createStreamedSnapshot}. */
+    private static final String STREAMED_SNAPSHOT_FILE_NAME = "snapshot.chunks";
+
+    /** Name of the directory for the intermediate SST files, while restoring a snapshot created by {@link #createStreamedSnapshot}. */
+    private static final String INGEST_DIR_NAME = "ingest.tmp";
+
+    /** Delay before asking a throttle for throughput again, if it has given none. */
+    private static final long THROTTLE_RETRY_DELAY_MS = 10;
+
+    /** Maximum initial size of a chunk buffer, chunks that are larger are grown on demand. */
+    private static final int INITIAL_CHUNK_CAPACITY = 64 * 1024;
+
     private final RocksDB db;
 
     private final Collection<ColumnFamilyRange> ranges;
@@ -99,19 +120,59 @@ public class RocksSnapshotManager {
                     // database does. Calling close to maintain the AutoCloseable semantics
                     snapshot.close();
 
-                    // Delete snapshot directory if it already exists
-                    IgniteUtils.deleteIfExists(snapshotDir);
-
-                    try {
-                        // Rename the temporary directory
-                        IgniteUtils.atomicMoveFile(tmpPath, snapshotDir, null);
-                    } catch (IOException ex) {
-                        throw new IgniteInternalException("Failed to rename: " + tmpPath + " to " + snapshotDir, ex);
-                    }
+                    moveTmpSnapshotDir(tmpPath, snapshotDir);
                 }, executor)
                 .thenApply(v -> null);
     }
 
+    /**
+     * Creates a snapshot of the enclosed RocksDB instance and saves it into a provided folder as a single file of
+     * {@link SnapshotChunk}s, produced by {@link #streamSnapshot}. Unlike {@link #createSnapshot}, the file can be restored chunk by
+     * chunk by {@link #restoreStreamedSnapshot}, without ingesting the whole snapshot at once.
+     *
+     * @param snapshotDir Folder to save the snapshot into.
+     * @param maxChunkSize Approximate maximum size of a chunk in bytes.
+     * @return Future that either completes successfully upon snapshot creation or signals a failure.
+     */
+    public CompletableFuture<Void> createStreamedSnapshot(Path snapshotDir, int maxChunkSize) {
+        Path tmpPath = Paths.get(snapshotDir.toString() + TMP_SUFFIX);
+
+        return CompletableFuture.supplyAsync(() -> {
+                    createTmpSnapshotDir(tmpPath);
+
+                    return new SnapshotFileSink(tmpPath.resolve(STREAMED_SNAPSHOT_FILE_NAME));
+                }, executor)
+                .thenCompose(sink -> streamSnapshot(sink, maxChunkSize, LongUnaryOperator.identity())
+                        .whenComplete((v, e) -> sink.close(e == null)))
+                .whenCompleteAsync((v, e) -> {
+                    if (e != null) {
+                        IgniteUtils.deleteIfExists(tmpPath);
+
+                        return;
+                    }
+
+                    moveTmpSnapshotDir(tmpPath, snapshotDir);
+                }, executor);
+    }
+
+    /**
+     * Replaces the snapshot directory with the temporary one.
+     *
+     * @param tmpPath Path to the temporary directory.
+     * @param snapshotDir Snapshot directory.
+     */
+    private static void moveTmpSnapshotDir(Path tmpPath, Path snapshotDir) {
+        // Delete snapshot directory if it already exists
+        IgniteUtils.deleteIfExists(snapshotDir);
+
+        try {
+            // Rename the temporary directory
+            IgniteUtils.atomicMoveFile(tmpPath, snapshotDir, null);
+        } catch (IOException ex) {
+            throw new IgniteInternalException("Failed to rename: " + tmpPath + " to " + snapshotDir, ex);
+        }
+    }
+
     /**
      * Creates a temporary directory for storing intermediate results while creating a snapshot.
      *
@@ -168,7 +229,8 @@ public class RocksSnapshotManager {
      * Creates an iterator over the provided key range.
      */
     private static RocksIterator snapshotIterator(ColumnFamilyRange range, Snapshot snapshot) {
-        var options = new ReadOptions().setSnapshot(snapshot);
+        // Total order seek makes the iterator ignore the prefix extractor of the Column Family, if there's one.
+        var options = new ReadOptions().setSnapshot(snapshot).setTotalOrderSeek(true);
 
         if (range.isFullRange()) {
             RocksIterator it = range.columnFamily().newIterator(options);
@@ -187,6 +249,38 @@ public class RocksSnapshotManager {
         }
     }
 
+    /**
+     * Streams a snapshot of the enclosed RocksDB instance to the given sink, without writing it to disk. The data of the Column Family
+     * ranges is read from a RocksDB snapshot and passed to the sink in chunks, sorted by the keys, one range after another. The next chunk
+     * is only read after the sink has accepted the previous one, so the memory needed is bounded by the chunk size.
+     *
+     * @param sink Destination of the chunks.
+     * @param maxChunkSize Approximate maximum size of a chunk in bytes, a chunk always contains at least one key-value pair.
+     * @param throttle Throughput throttle, that is given the desired number of bytes and returns the number of bytes that may be sent
+     *      right now, same as {@code SnapshotThrottle#throttledByThroughput} of the RAFT module, so {@code throttle::throttledByThroughput}
+     *      can be passed here. Use {@link LongUnaryOperator#identity()} to disable throttling.
+     * @return Future that completes when the last chunk has been accepted by the sink or signals a failure.
+     * @see StreamingSnapshotReceiver
+     */
+    public CompletableFuture<Void> streamSnapshot(SnapshotChunkSink sink, int maxChunkSize, LongUnaryOperator throttle) {
+        assert maxChunkSize > 0 : maxChunkSize;
+
+        return CompletableFuture.supplyAsync(() -> new SnapshotStreamer(sink, maxChunkSize, throttle), executor)
+                .thenCompose(SnapshotStreamer::start);
+    }
+
+    /**
+     * Creates a receiver of a snapshot streamed by {@link #streamSnapshot}.
+     *
+     * @param workDir Directory for the intermediate SST files.
+     * @param targetFileSize Size of an intermediate SST file in bytes, after which it is ingested and the next one is started.
+     * @param onFinish Action to run after all the data has been ingested, e.g. to rebuild the state derived from the data.
+     * @return New receiver, that must be closed after use.
+     */
+    public StreamingSnapshotReceiver snapshotReceiver(Path workDir, long targetFileSize, Runnable onFinish) {
+        return new StreamingSnapshotReceiver(ranges, workDir, targetFileSize, onFinish);
+    }
+
     /**
      * Restores the snapshot that was created by {@link #createSnapshot}.
      *
@@ -210,4 +304,218 @@ public class RocksSnapshotManager {
             throw new IgniteInternalException("Fail to ingest sst file at path: " + snapshotDir, e);
         }
     }
+
+    /**
+     * Restores the snapshot that was created by {@link #createStreamedSnapshot}. The chunks are read one by one and ingested through a
+     * {@link StreamingSnapshotReceiver}, so the disk space needed on top of the snapshot itself is bounded by the target file size.
+     *
+     * <p>Like {@link #restoreSnapshot}, this method loads the snapshot as-is. If it fails, a part of the snapshot may have been ingested
+     * already, so the caller is responsible for removing it.
+     *
+     * @param snapshotDir Path to the directory where a snapshot was created.
+     * @param targetFileSize Size of an intermediate SST file in bytes, after which it is ingested and the next one is started.
+     */
+    public void restoreStreamedSnapshot(Path snapshotDir, long targetFileSize) {
+        Path snapshotFile = snapshotDir.resolve(STREAMED_SNAPSHOT_FILE_NAME);
+
+        if (!Files.exists(snapshotFile)) {
+            throw new IgniteInternalException("Snapshot not found: " + snapshotFile);
+        }
+
+        try (
+                var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotFile)));
+                StreamingSnapshotReceiver receiver = snapshotReceiver(snapshotDir.resolve(INGEST_DIR_NAME), targetFileSize, () -> {})
+        ) {
+            SnapshotChunk chunk;
+
+            while ((chunk = SnapshotChunk.readFrom(in)) != null) {
+                receiver.accept(chunk);
+            }
+
+            receiver.finish();
+        } catch (IOException e) {
+            throw new IgniteInternalException("Failed to read snapshot: " + snapshotFile, e);
+        }
+    }
+
+    /**
+     * Sink that writes the chunks of a snapshot into a file.
+     */
+    private static class SnapshotFileSink implements SnapshotChunkSink {
+        private final Path path;
+
+        private final FileOutputStream fileOut;
+
+        private final DataOutputStream out;
+
+        SnapshotFileSink(Path path) {
+            this.path = path;
+
+            try {
+                fileOut = new FileOutputStream(path.toFile());
+            } catch (IOException e) {
+                throw new IgniteInternalException("Failed to create snapshot file: " + path, e);
+            }
+
+            out = new DataOutputStream(new BufferedOutputStream(fileOut));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public CompletableFuture<Void> accept(SnapshotChunk chunk) {
+            try {
+                chunk.writeTo(out);
+
+                return CompletableFuture.completedFuture(null);
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(new IgniteInternalException("Failed to write snapshot file: " + path, e));
+            }
+        }
+
+        /**
+         * Closes the file, syncing it to disk if all the chunks have been written.
+         *
+         * @param complete Whether all the chunks have been written.
+         */
+        void close(boolean complete) {
+            try (out) {
+                if (complete) {
+                    SnapshotChunk.writeEnd(out);
+
+                    out.flush();
+
+                    fileOut.getFD().sync();
+                }
+            } catch (IOException e) {
+                throw new IgniteInternalException("Failed to write snapshot file: " + path, e);
+            }
+        }
+    }
+
+    /**
+     * Reads the Column Family ranges from a RocksDB snapshot and passes them to a sink chunk by chunk.
+     */
+    private class SnapshotStreamer {
+        private final SnapshotChunkSink sink;
+
+        private final int maxChunkSize;
+
+        private final LongUnaryOperator throttle;
+
+        private final Snapshot snapshot = db.getSnapshot();
+
+        private final Iterator<ColumnFamilyRange> rangeIterator = ranges.iterator();
+
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        /** Range that is being read. */
+        @Nullable
+        private ColumnFamilyRange range;
+
+        /** Iterator over the range that is being read or {@code null} if the next range must be started. */
+        @Nullable
+        private RocksIterator it;
+
+        SnapshotStreamer(SnapshotChunkSink sink, int maxChunkSize, LongUnaryOperator throttle) {
+            this.sink = sink;
+            this.maxChunkSize = maxChunkSize;
+            this.throttle = throttle;
+        }
+
+        CompletableFuture<Void> start() {
+            sendNextChunk();
+
+            return result;
+        }
+
+        private void sendNextChunk() {
+            try {
+                long allowedSize = throttle.applyAsLong(maxChunkSize);
+
+                if (allowedSize <= 0) {
+                    CompletableFuture.delayedExecutor(THROTTLE_RETRY_DELAY_MS, TimeUnit.MILLISECONDS, executor)
+                            .execute(this::sendNextChunk);
+
+                    return;
+                }
+
+                SnapshotChunk chunk = nextChunk(allowedSize);
+
+                if (chunk == null) {
+                    release();
+
+                    result.complete(null);
+
+                    return;
+                }
+
+                sink.accept(chunk).whenCompleteAsync((v, e) -> {
+                    if (e == null) {
+                        sendNextChunk();
+                    } else {
+                        fail(e);
+                    }
+                }, executor);
+            } catch (Throwable e) {
+                fail(e);
+            }
+        }
+
+        /**
+         * Reads the next chunk of at least one key-value pair and of approximately the given size, or returns {@code null} if all ranges
+         * have been read.
+         */
+        private @Nullable SnapshotChunk nextChunk(long sizeLimit) {
+            while (true) {
+                if (it == null) {
+                    if (!rangeIterator.hasNext()) {
+                        return null;
+                    }
+
+                    range = rangeIterator.next();
+
+                    it = snapshotIterator(range, snapshot);
+                }
+
+                if (!it.isValid()) {
+                    RocksUtils.checkIterator(it);
+
+                    it.close();
+
+                    it = null;
+
+                    continue;
+                }
+
+                var builder = new SnapshotChunk.Builder(range.columnFamily().name(), (int) Math.min(sizeLimit, INITIAL_CHUNK_CAPACITY));
+
+                do {
+                    builder.add(it.key(), it.value());
+
+                    it.next();
+                } while (it.isValid() && builder.size() < sizeLimit);
+
+                return builder.build();
+            }
+        }
+
+        private void fail(Throwable e) {
+            release();
+
+            result.completeExceptionally(e);
+        }
+
+        private void release() {
+            if (it != null) {
+                it.close();
+
+                it = null;
+            }
+
+            db.releaseSnapshot(snapshot);
+
+            // Snapshot doesn't own a pointer, see createSnapshot.
+            snapshot.close();
+        }
+    }
 }
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.rocksdb.snapshot;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.apache.ignite.internal.rocksdb.RocksBiConsumer;
+import org.jetbrains.annotations.Nullable;
+import org.rocksdb.RocksDBException;
+
+/**
+ * Part of a streamed snapshot: a batch of key-value pairs of a single Column Family, sorted by their keys. Chunks of a Column Family are
+ * sent in the order of their keys, so the receiving side is able to write them into SST files as they arrive.
+ *
+ * <p>Key-value pairs are stored as a sequence of {@code [key length, key, value length, value]} entries, where the lengths are 4 byte
+ * integers, so a chunk can be transferred as a byte array as it is.
+ *
+ * <p>A sequence of chunks is written to a stream by {@link #writeTo} and terminated by {@link #writeEnd}, so that a truncated stream is
+ * detected by {@link #readFrom}.
+ *
+ * @see RocksSnapshotManager#streamSnapshot
+ * @see StreamingSnapshotReceiver
+ */
+public class SnapshotChunk {
+    /** Length of the Column Family name that marks the end of a chunk stream. */
+    private static final int END_MARKER = -1;
+
+    private final String columnFamilyName;
+
+    private final byte[] data;
+
+    /**
+     * Constructor.
+     *
+     * @param columnFamilyName Name of the Column Family the data belongs to.
+     * @param data Serialized key-value pairs.
+     */
+    public SnapshotChunk(String columnFamilyName, byte[] data) {
+        this.columnFamilyName = columnFamilyName;
+        this.data = data;
+    }
+
+    /**
+     * Returns the name of the Column Family the data belongs to.
+     */
+    public String columnFamilyName() {
+        return columnFamilyName;
+    }
+
+    /**
+     * Returns the serialized key-value pairs.
+     */
+    public byte[] data() {
+        return data;
+    }
+
+    /**
+     * Passes the key-value pairs of the chunk to the given consumer in the order of their keys.
+     *
+     * @param consumer Consumer of key-value pairs.
+     * @throws RocksDBException If the consumer has failed.
+     */
+    public void forEach(RocksBiConsumer consumer) throws RocksDBException {
+        ByteBuffer buf = ByteBuffer.wrap(data);
+
+        while (buf.hasRemaining()) {
+            byte[] key = new byte[buf.getInt()];
+
+            buf.get(key);
+
+            byte[] value = new byte[buf.getInt()];
+
+            buf.get(value);
+
+            consumer.accept(key, value);
+        }
+    }
+
+    /**
+     * Writes the chunk to a stream.
+     *
+     * @param out Output stream.
+     * @throws IOException If failed to write.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeUTF(columnFamilyName);
+        out.writeInt(data.length);
+        out.write(data);
+    }
+
+    /**
+     * Marks the end of a chunk stream, after the last chunk has been written by {@link #writeTo}.
+     *
+     * @param out Output stream.
+     * @throws IOException If failed to write.
+     */
+    public static void writeEnd(DataOutput out) throws IOException {
+        out.writeUTF("");
+        out.writeInt(END_MARKER);
+    }
+
+    /**
+     * Reads the next chunk written by {@link #writeTo}.
+     *
+     * @param in Input stream.
+     * @return The chunk or {@code null} if the end of the chunk stream has been reached.
+     * @throws java.io.EOFException If the stream ends before the end of the chunk stream.
+     * @throws IOException If failed to read.
+     */
+    public static @Nullable SnapshotChunk readFrom(DataInput in) throws IOException {
+        String columnFamilyName = in.readUTF();
+
+        int length = in.readInt();
+
+        if (length == END_MARKER) {
+            return null;
+        }
+
+        if (length < 0) {
+            throw new IOException("Invalid snapshot chunk length: " + length);
+        }
+
+        byte[] data = new byte[length];
+
+        in.readFully(data);
+
+        return new SnapshotChunk(columnFamilyName, data);
+    }
+
+    /**
+     * Builder that accumulates key-value pairs in a growing buffer.
+     */
+    static class Builder {
+        private final String columnFamilyName;
+
+        private byte[] buf;
+
+        private int size;
+
+        /**
+         * Constructor.
+         *
+         * @param columnFamilyName Name of the Column Family the data belongs to.
+         * @param initialCapacity Initial size of the buffer.
+         */
+        Builder(String columnFamilyName, int initialCapacity) {
+            this.columnFamilyName = columnFamilyName;
+            this.buf = new byte[initialCapacity];
+        }
+
+        /**
+         * Appends a key-value pair.
+         */
+        void add(byte[] key, byte[] value) {
+            int entrySize = 2 * Integer.BYTES + key.length + value.length;
+
+            if (size + entrySize > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, size + entrySize));
+            }
+
+            ByteBuffer.wrap(buf, size, entrySize)
+                    .putInt(key.length)
+                    .put(key)
+                    .putInt(value.length)
+                    .put(value);
+
+            size += entrySize;
+        }
+
+        /**
+         * Returns the size of the accumulated data in bytes.
+         */
+        int size() {
+            return size;
+        }
+
+        /**
+         * Creates the chunk.
+         */
+        SnapshotChunk build() {
+            return new SnapshotChunk(columnFamilyName, Arrays.copyOf(buf, size));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.rocksdb.snapshot;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Destination of a streamed snapshot, usually a transport that delivers chunks to a {@link StreamingSnapshotReceiver} of another node.
+ */
+@FunctionalInterface
+public interface SnapshotChunkSink {
+    /**
+     * Accepts the next chunk of a snapshot. The next chunk is not produced until the returned future is completed, so the sink controls
+     * the number of chunks in flight.
+     *
+     * @param chunk Snapshot chunk.
+     * @return Future that completes when the sink is ready to accept the next chunk.
+     */
+    CompletableFuture<Void> accept(SnapshotChunk chunk);
+}
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.rocksdb.snapshot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.ignite.internal.rocksdb.ColumnFamily;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.lang.IgniteInternalException;
+import org.jetbrains.annotations.Nullable;
+import org.rocksdb.EnvOptions;
+import org.rocksdb.IngestExternalFileOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.SstFileWriter;
+
+/**
+ * Receiving side of a streamed snapshot. Writes the incoming {@link SnapshotChunk}s into an SST file and ingests the file as soon as it
+ * reaches the target size, so that at most one SST file per receiver exists on disk at any time, instead of the SST files of the whole
+ * snapshot.
+ *
+ * <p>Like {@link RocksSnapshotManager#restoreSnapshot}, the data is loaded as-is, overwriting the existing keys if necessary.
+ *
+ * <p>This class is not thread-safe, chunks must be passed to it one by one in the order they were produced.
+ *
+ * @see RocksSnapshotManager#streamSnapshot
+ */
+public class StreamingSnapshotReceiver implements AutoCloseable {
+    private final Map<String, ColumnFamily> columnFamilies;
+
+    private final Path workDir;
+
+    private final long targetFileSize;
+
+    private final Runnable onFinish;
+
+    private final EnvOptions envOptions = new EnvOptions();
+
+    private final Options options = new Options();
+
+    private final IngestExternalFileOptions ingestOptions = new IngestExternalFileOptions().setMoveFiles(true);
+
+    /** Writer of the current SST file or {@code null} if there's none. */
+    @Nullable
+    private SstFileWriter writer;
+
+    /** Column Family of the current SST file. */
+    @Nullable
+    private ColumnFamily writerColumnFamily;
+
+    /** Path to the current SST file. */
+    @Nullable
+    private Path writerPath;
+
+    /** Whether anything has been written to the current SST file. */
+    private boolean writerHasData;
+
+    /** Counter used to generate the names of the SST files. */
+    private int fileCounter;
+
+    /**
+     * Constructor.
+     *
+     * @param ranges Key ranges of the Column Families, that the snapshot consists of.
+     * @param workDir Directory for the SST files that are being written, will be created if it doesn't exist.
+     * @param targetFileSize Size of an SST file in bytes, after which it is ingested and the next one is started.
+     * @param onFinish Action to run after all the data has been ingested.
+     */
+    StreamingSnapshotReceiver(Collection<ColumnFamilyRange> ranges, Path workDir, long targetFileSize, Runnable onFinish) {
+        this.columnFamilies = ranges.stream()
+                .map(ColumnFamilyRange::columnFamily)
+                .distinct()
+                .collect(Collectors.toMap(ColumnFamily::name, Function.identity()));
+        this.workDir = workDir;
+        this.targetFileSize = targetFileSize;
+        this.onFinish = onFinish;
+
+        IgniteUtils.deleteIfExists(workDir);
+
+        try {
+            Files.createDirectories(workDir);
+        } catch (IOException e) {
+            throw new IgniteInternalException("Failed to create directory: " + workDir, e);
+        }
+    }
+
+    /**
+     * Writes the key-value pairs of the chunk into the current SST file, ingesting the file if it has reached the target size.
+     *
+     * @param chunk Snapshot chunk.
+     */
+    public void accept(SnapshotChunk chunk) {
+        ColumnFamily columnFamily = columnFamilies.get(chunk.columnFamilyName());
+
+        if (columnFamily == null) {
+            throw new IgniteInternalException("Unknown Column Family in snapshot chunk: " + chunk.columnFamilyName());
+        }
+
+        try {
+            if (writer != null && writerColumnFamily != columnFamily) {
+                ingestCurrentFile();
+            }
+
+            if (writer == null) {
+                startFile(columnFamily);
+            }
+
+            chunk.forEach(writer::put);
+
+            writerHasData |= chunk.data().length > 0;
+
+            if (writer.fileSize() >= targetFileSize) {
+                ingestCurrentFile();
+            }
+        } catch (RocksDBException e) {
+            throw new IgniteInternalException("Failed to write snapshot chunk", e);
+        }
+    }
+
+    /**
+     * Ingests the remaining data. Must be called after the last chunk of the snapshot has been accepted.
+     */
+    public void finish() {
+        try {
+            if (writer != null) {
+                ingestCurrentFile();
+            }
+        } catch (RocksDBException e) {
+            throw new IgniteInternalException("Failed to ingest snapshot data", e);
+        }
+
+        onFinish.run();
+    }
+
+    /**
+     * Releases the resources and removes the SST file that has not been ingested, if any.
+     */
+    @Override
+    public void close() {
+        if (writer != null) {
+            writer.close();
+
+            writer = null;
+        }
+
+        ingestOptions.close();
+        options.close();
+        envOptions.close();
+
+        IgniteUtils.deleteIfExists(workDir);
+    }
+
+    private void startFile(ColumnFamily columnFamily) throws RocksDBException {
+        writerPath = workDir.resolve(columnFamily.name() + "-" + fileCounter++ + ".sst");
+        writerColumnFamily = columnFamily;
+        writer = new SstFileWriter(envOptions, options);
+
+        writer.open(writerPath.toString());
+    }
+
+    private void ingestCurrentFile() throws RocksDBException {
+        assert writer != null && writerColumnFamily != null && writerPath != null;
+
+        try {
+            // A file without entries can't be finished, there's simply nothing to ingest then.
+            if (writerHasData) {
+                writer.finish();
+
+                writerColumnFamily.ingestExternalFile(List.of(writerPath.toString()), ingestOptions);
+            }
+        } finally {
+            writer.close();
+
+            IgniteUtils.deleteIfExists(writerPath);
+
+            writer = null;
+            writerColumnFamily = null;
+            writerPath = null;
+            writerHasData = false;
+        }
+    }
+}
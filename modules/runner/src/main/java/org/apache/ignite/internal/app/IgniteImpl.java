@@ -74,9 +74,9 @@ import org.apache.ignite.internal.storage.DataStorageModules;
 import org.apache.ignite.internal.table.distributed.TableManager;
 import org.apache.ignite.internal.table.distributed.TableTxManagerImpl;
 import org.apache.ignite.internal.tx.TxManager;
-import org.apache.ignite.internal.tx.impl.HeapLockManager;
 import org.apache.ignite.internal.tx.impl.IgniteTransactionsImpl;
 import org.apache.ignite.internal.tx.message.TxMessagesSerializationRegistryInitializer;
+import org.apache.ignite.internal.tx.storage.state.RocksDbTxStateStorage;
 import org.apache.ignite.internal.vault.VaultManager;
 import org.apache.ignite.internal.vault.VaultService;
 import org.apache.ignite.internal.vault.persistence.PersistentVaultService;
@@ -127,6 +127,11 @@ public class IgniteImpl implements Ignite {
      */
     private static final Path PARTITIONS_STORE_PATH = Paths.get("db");
 
+    /**
+     * Path to the persistent storage used by the {@link TxManager} component.
+     */
+    private static final Path TX_STATE_DB_PATH = Paths.get("tx-state");
+
     /** Ignite node name. */
     private final String name;
 
@@ -249,7 +254,7 @@ public class IgniteImpl implements Ignite {
 
         raftMgr = new Loza(clusterSvc, workDir);
 
-        txManager = new TableTxManagerImpl(clusterSvc, new HeapLockManager());
+        txManager = new TableTxManagerImpl(clusterSvc, new RocksDbTxStateStorage(workDir.resolve(TX_STATE_DB_PATH)));
 
         cmgMgr = new ClusterManagementGroupManager(
                 vaultMgr,
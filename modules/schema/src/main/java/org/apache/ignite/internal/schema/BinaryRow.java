@@ -90,6 +90,18 @@ public interface BinaryRow {
      */
     void writeTo(OutputStream stream) throws IOException;
 
+    /**
+     * Writes binary row to given buffer starting at its current position. The position is advanced by {@link #length()}.
+     *
+     * @param dst Buffer to write to.
+     */
+    void writeTo(ByteBuffer dst);
+
+    /**
+     * Get length of the row in bytes.
+     */
+    int length();
+
     /**
      * Get byte array of the row.
      */
@@ -84,6 +84,22 @@ public class ByteBufferRow implements BinaryRow {
         buf.rewind();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void writeTo(ByteBuffer dst) {
+        if (buf.hasArray()) {
+            dst.put(buf.array(), buf.arrayOffset(), buf.limit());
+        } else {
+            dst.put(buf.duplicate().rewind());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int length() {
+        return buf.limit();
+    }
+
     /** {@inheritDoc} */
     @Override
     public ByteBuffer keySlice() {
@@ -746,6 +746,12 @@ public class Row implements BinaryRowEx, SchemaAware, InternalTuple {
         return (int) (offLen >>> 32);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public int length() {
+        return row.length();
+    }
+
     /** {@inheritDoc} */
     @Override
     public int schemaVersion() {
@@ -781,6 +787,12 @@ public class Row implements BinaryRowEx, SchemaAware, InternalTuple {
         row.writeTo(stream);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void writeTo(ByteBuffer dst) {
+        row.writeTo(dst);
+    }
+
     /**
      * Read bytes by offset.
      *
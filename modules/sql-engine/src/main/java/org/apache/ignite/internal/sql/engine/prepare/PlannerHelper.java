@@ -237,7 +237,7 @@ public class PlannerHelper {
             }
 
             IntSet indexedCols = CollectionUtils.setOf(
-                    tbl.getIndex(((AbstractIndexScan) scan).indexName()).collation().getKeys());
+                    tbl.getIndex(((AbstractIndexScan) scan).indexName()).columns());
 
             spoolNeeded = modifyNode.getUpdateColumnList().stream()
                     .map(tbl.descriptor()::columnDescriptor)
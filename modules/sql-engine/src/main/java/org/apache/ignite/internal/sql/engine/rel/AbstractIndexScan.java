@@ -32,6 +32,8 @@ import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.rex.RexUtil;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.ignite.internal.sql.engine.metadata.cost.IgniteCost;
+import org.apache.ignite.internal.sql.engine.schema.IgniteIndex;
+import org.apache.ignite.internal.sql.engine.schema.InternalIgniteTable;
 import org.apache.ignite.internal.sql.engine.util.IndexConditions;
 import org.jetbrains.annotations.Nullable;
 
@@ -125,6 +127,12 @@ public abstract class AbstractIndexScan extends ProjectableFilterableTableScan {
     /** {@inheritDoc} */
     @Override
     public RelOptCost computeSelfCost(RelOptPlanner planner, RelMetadataQuery mq) {
+        InternalIgniteTable tbl = table.unwrap(InternalIgniteTable.class);
+
+        if (tbl != null && tbl.getIndex(idxName).type() == IgniteIndex.Type.HASH) {
+            return computeHashIndexCost(planner, mq);
+        }
+
         double rows = table.getRowCount();
 
         double cost = rows * IgniteCost.ROW_PASS_THROUGH_COST;
@@ -163,6 +171,30 @@ public abstract class AbstractIndexScan extends ProjectableFilterableTableScan {
         return planner.getCostFactory().makeCost(rows, cost, 0).plus(planner.getCostFactory().makeTinyCost());
     }
 
+    /**
+     * Computes the cost of a hash index lookup. The matching rows are found by the hash of the searched values, so unlike a sorted index
+     * there is neither a tree descent proportional to the logarithm of the table size nor a comparison per returned row. A hash index can't
+     * be scanned without the equality conditions for all of its columns, so such a scan gets an infinite cost.
+     */
+    private RelOptCost computeHashIndexCost(RelOptPlanner planner, RelMetadataQuery mq) {
+        if (lowerCondition() == null) {
+            return planner.getCostFactory().makeInfiniteCost();
+        }
+
+        RexBuilder builder = getCluster().getRexBuilder();
+
+        double rows = table.getRowCount() * mq.getSelectivity(this, RexUtil.composeConjunction(builder, lowerCondition()));
+
+        if (rows <= 0) {
+            rows = 1;
+        }
+
+        double cost = rows * IgniteCost.ROW_PASS_THROUGH_COST;
+
+        // additional tiny cost for preventing equality with table scan.
+        return planner.getCostFactory().makeCost(rows, cost, 0).plus(planner.getCostFactory().makeTinyCost());
+    }
+
     /**
      * Get index conditions.
      * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
@@ -26,6 +26,7 @@ import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.calcite.util.mapping.Mappings;
 import org.apache.ignite.internal.sql.engine.rel.AbstractIndexScan;
+import org.apache.ignite.internal.sql.engine.schema.IgniteIndex;
 import org.apache.ignite.internal.sql.engine.schema.InternalIgniteTable;
 import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
 import org.apache.ignite.internal.sql.engine.util.Commons;
@@ -50,17 +51,27 @@ public class IgniteLogicalIndexScan extends AbstractIndexScan {
     ) {
         InternalIgniteTable tbl = table.unwrap(InternalIgniteTable.class);
         IgniteTypeFactory typeFactory = Commons.typeFactory(cluster);
-        RelCollation collation = tbl.getIndex(idxName).collation();
+        IgniteIndex index = tbl.getIndex(idxName);
+        RelCollation collation = index.collation();
+        List<Integer> columns = index.columns();
 
         if (requiredColumns != null) {
             Mappings.TargetMapping targetMapping = Commons.mapping(requiredColumns,
                     tbl.getRowType(typeFactory).getFieldCount());
             collation = collation.apply(targetMapping);
+            columns = Commons.transform(columns, targetMapping::getTargetOpt);
         }
 
         IndexConditions idxCond = new IndexConditions();
 
-        if (collation != null && !collation.getFieldCollations().isEmpty()) {
+        if (index.type() == IgniteIndex.Type.HASH) {
+            idxCond = RexUtils.buildHashIndexConditions(
+                    cluster,
+                    columns,
+                    cond,
+                    tbl.getRowType(typeFactory),
+                    requiredColumns);
+        } else if (collation != null && !collation.getFieldCollations().isEmpty()) {
             idxCond = RexUtils.buildSortedIndexConditions(
                     cluster,
                     collation,
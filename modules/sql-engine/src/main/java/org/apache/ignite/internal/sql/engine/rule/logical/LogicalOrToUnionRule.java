@@ -26,7 +26,6 @@ import org.apache.calcite.plan.RelOptRuleCall;
 import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.plan.RelRule;
 import org.apache.calcite.plan.RelTraitSet;
-import org.apache.calcite.rel.RelFieldCollation;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rex.RexBuilder;
 import org.apache.calcite.rex.RexLocalRef;
@@ -137,10 +136,10 @@ public class LogicalOrToUnionRule extends RelRule<LogicalOrToUnionRule.Config> {
         BitSet idxsFirstFields = new BitSet(fieldCnt);
 
         for (IgniteIndex idx : tbl.indexes().values()) {
-            List<RelFieldCollation> fieldCollations = idx.collation().getFieldCollations();
+            List<Integer> idxColumns = idx.columns();
 
-            if (!CollectionUtils.nullOrEmpty(fieldCollations)) {
-                idxsFirstFields.set(fieldCollations.get(0).getFieldIndex());
+            if (!CollectionUtils.nullOrEmpty(idxColumns)) {
+                idxsFirstFields.set(idxColumns.get(0));
             }
         }
 
@@ -17,14 +17,32 @@
 
 package org.apache.ignite.internal.sql.engine.schema;
 
+import java.util.List;
 import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.util.ImmutableIntList;
 
 /**
  * Ignite scannable index.
  */
 public class IgniteIndex {
+    /**
+     * Type of the index.
+     */
+    public enum Type {
+        /** Index that keeps the rows ordered by the indexed columns and supports both range and equality lookups. */
+        SORTED,
+
+        /** Index that only supports equality lookups on all the indexed columns, but does not need comparisons to find the rows. */
+        HASH
+    }
+
+    private final Type type;
+
     private final RelCollation collation;
 
+    private final ImmutableIntList columns;
+
     private final String idxName;
 
     //    private final GridIndex<H2Row> idx;
@@ -35,15 +53,46 @@ public class IgniteIndex {
      * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
      */
     public IgniteIndex(RelCollation collation, String name, InternalIgniteTable tbl) {
+        this(Type.SORTED, collation, collation == null ? null : ImmutableIntList.copyOf(collation.getKeys()), name, tbl);
+    }
+
+    private IgniteIndex(Type type, RelCollation collation, ImmutableIntList columns, String name, InternalIgniteTable tbl) {
+        this.type = type;
         this.collation = collation;
+        this.columns = columns;
         idxName = name;
         this.tbl = tbl;
     }
 
+    /**
+     * Creates a hash index.
+     *
+     * @param columns Indexes of the indexed columns in the table row type.
+     * @param name Index name.
+     * @param tbl Indexed table.
+     */
+    public static IgniteIndex hash(List<Integer> columns, String name, InternalIgniteTable tbl) {
+        return new IgniteIndex(Type.HASH, RelCollations.EMPTY, ImmutableIntList.copyOf(columns), name, tbl);
+    }
+
+    public Type type() {
+        return type;
+    }
+
+    /**
+     * Returns the collation of the rows returned by the index scan, which is empty for a hash index.
+     */
     public RelCollation collation() {
         return collation;
     }
 
+    /**
+     * Returns indexes of the indexed columns in the table row type.
+     */
+    public ImmutableIntList columns() {
+        return columns;
+    }
+
     public String name() {
         return idxName;
     }
@@ -328,6 +328,68 @@ public class RexUtils {
         return new IndexConditions(lower, upper, lowerBound, upperBound);
     }
 
+    /**
+     * Builds hash index conditions. A hash index can only be used when there is an equality predicate for every indexed column, so the
+     * result has the same lower and upper conditions or no conditions at all.
+     *
+     * @param cluster Cluster.
+     * @param columns Indexes of the indexed columns in the scan row type.
+     * @param condition Scan condition.
+     * @param rowType Table row type.
+     * @param requiredColumns Required columns of the scan.
+     */
+    public static IndexConditions buildHashIndexConditions(
+            RelOptCluster cluster,
+            List<Integer> columns,
+            RexNode condition,
+            RelDataType rowType,
+            ImmutableBitSet requiredColumns
+    ) {
+        if (condition == null || columns.isEmpty()) {
+            return new IndexConditions();
+        }
+
+        condition = RexUtil.toCnf(builder(cluster), condition);
+
+        Int2ObjectOpenHashMap<List<RexCall>> fieldsToPredicates = mapPredicatesToFields(condition, cluster);
+
+        List<RexNode> searchPreds = new ArrayList<>(columns.size());
+
+        for (int column : columns) {
+            RexCall eqPred = column < 0 ? null : findEquality(fieldsToPredicates.get(column));
+
+            if (eqPred == null) {
+                return new IndexConditions();
+            }
+
+            searchPreds.add(eqPred);
+        }
+
+        Mappings.TargetMapping mapping = null;
+
+        if (requiredColumns != null) {
+            mapping = Commons.inverseMapping(requiredColumns, rowType.getFieldCount());
+        }
+
+        List<RexNode> searchRow = asBound(cluster, searchPreds, rowType, mapping);
+
+        return new IndexConditions(searchPreds, searchPreds, searchRow, searchRow);
+    }
+
+    private static @Nullable RexCall findEquality(@Nullable List<RexCall> preds) {
+        if (nullOrEmpty(preds)) {
+            return null;
+        }
+
+        for (RexCall pred : preds) {
+            if (pred.getOperator().getKind() == EQUALS) {
+                return pred;
+            }
+        }
+
+        return null;
+    }
+
     /**
      * Builds index conditions.
      */
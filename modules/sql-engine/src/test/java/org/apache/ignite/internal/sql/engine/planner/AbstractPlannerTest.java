@@ -886,6 +886,15 @@ public abstract class AbstractPlannerTest extends IgniteAbstractTest {
             return this;
         }
 
+        /**
+         * Adds a hash index over the given columns.
+         */
+        public TestTable addHashIndex(String name, int... keys) {
+            indexes.put(name, IgniteIndex.hash(Arrays.stream(keys).boxed().collect(Collectors.toList()), name, this));
+
+            return this;
+        }
+
         /** {@inheritDoc} */
         @Override
         public IgniteIndex getIndex(String idxName) {
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.planner;
+
+import static org.apache.ignite.internal.sql.engine.trait.IgniteDistributions.single;
+
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.internal.sql.engine.rel.IgniteIndexScan;
+import org.apache.ignite.internal.sql.engine.schema.IgniteSchema;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the choice between hash indexes, sorted indexes and table scans.
+ */
+public class HashIndexPlannerTest extends AbstractPlannerTest {
+    @Test
+    public void testHashIndexIsPreferredForEquality() throws Exception {
+        IgniteSchema publicSchema = createSchema(
+                createTable("TBL", single(), "A", Integer.class, "B", Integer.class, "C", Integer.class)
+                        .addIndex("IDX_C", 2)
+                        .addHashIndex("HASH_IDX_C", 2)
+        );
+
+        assertPlan("SELECT * FROM tbl WHERE c = 0", publicSchema, isIndexScan("TBL", "HASH_IDX_C")
+                .and(scan -> "[=(CAST($t2):INTEGER, 0)]".equals(scan.lowerCondition().toString()))
+                .and(scan -> "[=(CAST($t2):INTEGER, 0)]".equals(scan.upperCondition().toString())));
+
+        // Index condition shifted according to requiredColumns.
+        assertPlan("SELECT b FROM tbl WHERE c = ?", publicSchema, isIndexScan("TBL", "HASH_IDX_C")
+                .and(scan -> ImmutableBitSet.of(1, 2).equals(scan.requiredColumns()))
+                .and(scan -> "[=($t1, ?0)]".equals(scan.lowerCondition().toString())));
+    }
+
+    @Test
+    public void testHashIndexIsNotUsedForRanges() throws Exception {
+        IgniteSchema publicSchema = createSchema(
+                createTable("TBL", single(), "A", Integer.class, "B", Integer.class, "C", Integer.class)
+                        .addIndex("IDX_C", 2)
+                        .addHashIndex("HASH_IDX_C", 2)
+        );
+
+        assertPlan("SELECT * FROM tbl WHERE c > 0", publicSchema, isIndexScan("TBL", "IDX_C"));
+
+        assertPlan("SELECT * FROM tbl ORDER BY c", publicSchema, nodeOrAnyChild(isIndexScan("TBL", "HASH_IDX_C")).negate());
+    }
+
+    @Test
+    public void testHashIndexRequiresEqualityOnAllColumns() throws Exception {
+        IgniteSchema publicSchema = createSchema(
+                createTable("TBL", single(), "A", Integer.class, "B", Integer.class, "C", Integer.class)
+                        .addHashIndex("HASH_IDX_BC", 1, 2)
+        );
+
+        assertPlan("SELECT * FROM tbl WHERE b = 1 AND c = 2", publicSchema, isIndexScan("TBL", "HASH_IDX_BC")
+                .and(scan -> "[=(CAST($t1):INTEGER, 1), =(CAST($t2):INTEGER, 2)]".equals(scan.lowerCondition().toString())));
+
+        assertPlan("SELECT * FROM tbl WHERE c = 2", publicSchema, isTableScan("TBL"));
+
+        assertPlan("SELECT * FROM tbl WHERE b = 1 AND c > 2", publicSchema, isTableScan("TBL"));
+    }
+
+    @Test
+    public void testHashIndexIsPreferredOverTableScan() throws Exception {
+        IgniteSchema publicSchema = createSchema(
+                createTable("TBL", single(), "A", Integer.class, "B", Integer.class)
+                        .addHashIndex("HASH_IDX_B", 1)
+        );
+
+        assertPlan("SELECT a FROM tbl WHERE b = 10", publicSchema, nodeOrAnyChild(isInstanceOf(IgniteIndexScan.class)));
+    }
+}
@@ -17,9 +17,14 @@
 
 package org.apache.ignite.internal.storage;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.storage.gc.PruneResult;
 import org.apache.ignite.internal.tx.Timestamp;
 import org.apache.ignite.internal.util.Cursor;
 import org.jetbrains.annotations.Nullable;
@@ -97,6 +102,57 @@ public interface MvPartitionStorage extends AutoCloseable {
      */
     void commitWrite(RowId rowId, Timestamp timestamp) throws StorageException;
 
+    /**
+     * Aborts pending updates of several rows as a single consistent storage write, see {@link #runConsistently(Supplier)}.
+     *
+     * @param rowIds Row ids.
+     * @return Previous uncommitted row versions, in the iteration order of the row ids, {@code null} for tombstones.
+     * @throws StorageException If failed to write data to the storage.
+     */
+    default List<BinaryRow> abortWrites(Collection<RowId> rowIds) throws StorageException {
+        return runConsistently(() -> {
+            List<BinaryRow> res = new ArrayList<>(rowIds.size());
+
+            for (RowId rowId : rowIds) {
+                res.add(abortWrite(rowId));
+            }
+
+            return res;
+        });
+    }
+
+    /**
+     * Commits pending updates of several rows as a single consistent storage write, see {@link #runConsistently(Supplier)}.
+     * All committed values will be versioned by the given timestamp.
+     *
+     * @param rowIds Row ids.
+     * @param timestamp Timestamp to associate with committed values.
+     * @throws StorageException If failed to write data to the storage.
+     */
+    default void commitWrites(Collection<RowId> rowIds, Timestamp timestamp) throws StorageException {
+        runConsistently(() -> {
+            for (RowId rowId : rowIds) {
+                commitWrite(rowId, timestamp);
+            }
+
+            return null;
+        });
+    }
+
+    /**
+     * Executes a closure so that all the writes it makes are applied to the storage as a single storage-level write, e.g. a single
+     * RocksDB write batch or a single checkpoint read lock section. Point reads made by the closure observe its writes, other threads
+     * may not observe them until the closure completes. Nested calls join the outer one.
+     *
+     * @param closure Closure.
+     * @param <T> Closure result type.
+     * @return Result of the closure.
+     * @throws StorageException If failed to write the data.
+     */
+    default <T> T runConsistently(Supplier<T> closure) throws StorageException {
+        return closure.get();
+    }
+
     /**
      * Scans the partition and returns a cursor of values. All filtered values must either be uncommitted in current transaction
      * or already committed in different transaction.
@@ -118,4 +174,40 @@ public interface MvPartitionStorage extends AutoCloseable {
      * @throws StorageException If failed to read data from the storage.
      */
     Cursor<BinaryRow> scan(Predicate<BinaryRow> keyFilter, Timestamp timestamp) throws StorageException;
+
+    /**
+     * Removes the committed row versions that are invisible to any reader with a timestamp greater than or equal to the low watermark.
+     * For every row, these are all the versions older than the newest committed version with a timestamp less than or equal to the low
+     * watermark. That version itself is removed as well if it's a tombstone, unless the implementation states otherwise. Uncommitted
+     * versions are never touched.
+     *
+     * <p>The partition is processed incrementally: every call inspects at most {@code rowsLimit} rows, starting from the row where the
+     * previous call stopped, and wraps around once the end of the partition is reached. The caller must guarantee that no reads happen
+     * at timestamps below the low watermark.
+     *
+     * @param lowWatermark Low watermark, the oldest timestamp that may still be read.
+     * @param rowsLimit Maximum number of rows to inspect, must be positive.
+     * @return Outcome of the call.
+     * @throws StorageException If failed to write data to the storage.
+     */
+    PruneResult pruneVersions(Timestamp lowWatermark, int rowsLimit) throws StorageException;
+
+    /**
+     * Returns the number of rows, i.e. row ids that have at least one version, committed or not.
+     *
+     * @return Rows count.
+     * @throws StorageException If failed to obtain the statistics.
+     */
+    default long rowsCount() throws StorageException {
+        return statistics().rowsCount();
+    }
+
+    /**
+     * Returns the statistics of the storage. Statistics are maintained incrementally, so that this method doesn't scan the data.
+     * The total size accounts for all the stored versions of the rows, a tombstone has zero size.
+     *
+     * @return Statistics.
+     * @throws StorageException If failed to obtain the statistics.
+     */
+    PartitionStatistics statistics() throws StorageException;
 }
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage;
+
+import org.apache.ignite.internal.tostring.S;
+
+/**
+ * Statistics of a partition storage, maintained incrementally by the storage on every modification.
+ */
+public class PartitionStatistics {
+    /** Statistics of an empty partition. */
+    public static final PartitionStatistics EMPTY = new PartitionStatistics(0, 0);
+
+    /** Number of rows. */
+    private final long rowsCount;
+
+    /** Total size of the rows in bytes. */
+    private final long totalBytes;
+
+    /**
+     * Constructor.
+     *
+     * @param rowsCount Number of rows.
+     * @param totalBytes Total size of the rows in bytes.
+     */
+    public PartitionStatistics(long rowsCount, long totalBytes) {
+        this.rowsCount = rowsCount;
+        this.totalBytes = totalBytes;
+    }
+
+    /**
+     * Returns the number of rows.
+     */
+    public long rowsCount() {
+        return rowsCount;
+    }
+
+    /**
+     * Returns the total size of the rows in bytes, as passed to the storage, i.e. without the storage-specific overhead.
+     */
+    public long totalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Returns the average size of a row in bytes, {@code 0} if there are no rows.
+     */
+    public double averageRowSize() {
+        return rowsCount == 0 ? 0 : (double) totalBytes / rowsCount;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        PartitionStatistics that = (PartitionStatistics) o;
+
+        return rowsCount == that.rowsCount && totalBytes == that.totalBytes;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(rowsCount) + Long.hashCode(totalBytes);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(PartitionStatistics.class, this);
+    }
+}
@@ -22,6 +22,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import org.apache.ignite.internal.util.Cursor;
 import org.jetbrains.annotations.Nullable;
 
@@ -48,10 +49,11 @@ public interface PartitionStorage extends AutoCloseable {
     DataRow read(SearchRow key) throws StorageException;
 
     /**
-     * Reads {@link DataRow}s for a given collection of keys.
+     * Reads {@link DataRow}s for a given collection of keys. Implementations are expected to read the keys as a batch rather than one by
+     * one.
      *
      * @param keys Search rows.
-     * @return Data rows.
+     * @return Data rows of the existing keys, in the order of the given keys. Missing keys are skipped.
      * @throws StorageException If failed to read the data or the storage is already stopped.
      */
     Collection<DataRow> readAll(List<? extends SearchRow> keys) throws StorageException;
@@ -118,6 +120,20 @@ public interface PartitionStorage extends AutoCloseable {
      */
     @Nullable <T> T invoke(SearchRow key, InvokeClosure<T> clo) throws StorageException;
 
+    /**
+     * Executes a closure so that all the writes it makes are applied to the storage as a single storage-level write, e.g. a single
+     * RocksDB write batch or a single checkpoint read lock section. Reads made by the closure observe its writes, other threads may
+     * not observe them until the closure completes. Nested calls join the outer one.
+     *
+     * @param closure Closure.
+     * @param <T> Closure result type.
+     * @return Result of the closure.
+     * @throws StorageException If failed to write the data or the storage is already stopped.
+     */
+    default <T> T runConsistently(Supplier<T> closure) throws StorageException {
+        return closure.get();
+    }
+
     /**
      * Creates cursor over the storage data.
      *
@@ -155,5 +171,16 @@ public interface PartitionStorage extends AutoCloseable {
      * @return Rows count.
      * @throws StorageException If failed to obtain size.
      */
-    long rowsCount();
+    default long rowsCount() throws StorageException {
+        return statistics().rowsCount();
+    }
+
+    /**
+     * Returns the statistics of the storage. Statistics are maintained incrementally, so that this method doesn't scan the data.
+     * A row counts with the sizes of both its key and value.
+     *
+     * @return Statistics.
+     * @throws StorageException If failed to obtain the statistics.
+     */
+    PartitionStatistics statistics() throws StorageException;
 }
@@ -21,6 +21,7 @@ import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.configuration.schemas.table.TableConfiguration;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.index.HashIndexStorage;
 
 /**
  * Table storage that contains meta, partitions and SQL indexes.
@@ -55,6 +56,30 @@ public interface MvTableStorage {
      */
     CompletableFuture<?> destroyPartition(int partitionId) throws StorageException;
 
+    /**
+     * Creates or returns an already created Hash Index storage for the given partition.
+     *
+     * <p>A prerequisite for calling this method is to have the index already configured under the same name in the Table Configuration
+     * (see {@link #configuration()}).
+     *
+     * @param partitionId Partition id.
+     * @param indexName Index name.
+     * @return Hash Index storage.
+     * @throws IllegalArgumentException If partition id is out of bounds.
+     * @throws StorageException If no index has been configured under the given name or it has been configured incorrectly (e.g. it was
+     *                          configured as a Sorted Index).
+     */
+    HashIndexStorage getOrCreateHashIndex(int partitionId, String indexName) throws StorageException;
+
+    /**
+     * Destroys the index under the given name and all data in it, in all partitions.
+     *
+     * <p>This method is a no-op if the index under the given name does not exist.
+     *
+     * @param indexName Index name.
+     */
+    void dropIndex(String indexName);
+
     /**
      * Returns the table configuration.
      */
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.gc;
+
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.tostring.S;
+import org.apache.ignite.internal.tx.Timestamp;
+
+/**
+ * Outcome of a single {@link MvPartitionStorage#pruneVersions(Timestamp, int)} call.
+ */
+public class PruneResult {
+    /** Result of a call that hasn't inspected anything. */
+    public static final PruneResult EMPTY = new PruneResult(0, 0, 0, true);
+
+    /** Number of inspected rows. */
+    private final int rows;
+
+    /** Number of removed row versions. */
+    private final long versions;
+
+    /** Approximate number of freed bytes. */
+    private final long bytes;
+
+    /** Whether the end of the partition was reached. */
+    private final boolean completed;
+
+    /**
+     * Constructor.
+     *
+     * @param rows Number of inspected rows.
+     * @param versions Number of removed row versions.
+     * @param bytes Approximate number of freed bytes.
+     * @param completed Whether the end of the partition was reached, so that the next call starts from its beginning.
+     */
+    public PruneResult(int rows, long versions, long bytes, boolean completed) {
+        this.rows = rows;
+        this.versions = versions;
+        this.bytes = bytes;
+        this.completed = completed;
+    }
+
+    /**
+     * Returns the number of inspected rows.
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of removed row versions.
+     */
+    public long versions() {
+        return versions;
+    }
+
+    /**
+     * Returns the approximate number of freed bytes, including both keys and values.
+     */
+    public long bytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns {@code true} if the end of the partition was reached, so that the next call starts from its beginning.
+     */
+    public boolean completed() {
+        return completed;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(PruneResult.class, this);
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.gc;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.thread.NamedThreadFactory;
+import org.apache.ignite.internal.tx.Timestamp;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.lang.IgniteLogger;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Background vacuum of obsolete row versions. Every round prunes each registered partition below the current low watermark, inspecting
+ * a limited number of rows per partition, so that a round never blocks a partition for long. The rounds are separated by a fixed delay,
+ * which throttles the load put by the vacuum on the storage.
+ *
+ * @see MvPartitionStorage#pruneVersions(Timestamp, int)
+ */
+public class VersionVacuum {
+    /** Logger. */
+    private static final IgniteLogger LOG = IgniteLogger.forClass(VersionVacuum.class);
+
+    /** Name of the vacuum thread. */
+    private final String name;
+
+    /** Supplier of the low watermark, {@code null} while it's unknown. */
+    private final Supplier<@Nullable Timestamp> lowWatermark;
+
+    /** Maximum number of rows inspected in a partition per round. */
+    private final int rowsPerRound;
+
+    /** Delay between rounds, in milliseconds. */
+    private final long roundDelay;
+
+    /** Registered partitions. */
+    private final Set<MvPartitionStorage> partitions = ConcurrentHashMap.newKeySet();
+
+    /** Number of inspected rows. */
+    private final LongAdder rowsInspected = new LongAdder();
+
+    /** Number of removed row versions. */
+    private final LongAdder versionsReclaimed = new LongAdder();
+
+    /** Approximate number of freed bytes. */
+    private final LongAdder bytesFreed = new LongAdder();
+
+    /** Executor, {@code null} if not started. */
+    private volatile @Nullable ScheduledExecutorService executor;
+
+    /**
+     * Constructor.
+     *
+     * @param name Name of the vacuum thread.
+     * @param lowWatermark Supplier of the low watermark, may return {@code null} while it's unknown.
+     * @param rowsPerRound Maximum number of rows inspected in a partition per round.
+     * @param roundDelay Delay between rounds, in milliseconds.
+     */
+    public VersionVacuum(String name, Supplier<@Nullable Timestamp> lowWatermark, int rowsPerRound, long roundDelay) {
+        assert rowsPerRound > 0 : rowsPerRound;
+        assert roundDelay > 0 : roundDelay;
+
+        this.name = name;
+        this.lowWatermark = lowWatermark;
+        this.rowsPerRound = rowsPerRound;
+        this.roundDelay = roundDelay;
+    }
+
+    /**
+     * Starts the background rounds.
+     */
+    public synchronized void start() {
+        assert executor == null;
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory(name, true));
+
+        executor.scheduleWithFixedDelay(this::vacuum, roundDelay, roundDelay, TimeUnit.MILLISECONDS);
+
+        this.executor = executor;
+    }
+
+    /**
+     * Stops the background rounds, waiting for the current one to finish.
+     */
+    public synchronized void stop() {
+        ScheduledExecutorService executor = this.executor;
+
+        if (executor != null) {
+            IgniteUtils.shutdownAndAwaitTermination(executor, 10, TimeUnit.SECONDS);
+
+            this.executor = null;
+        }
+    }
+
+    /**
+     * Registers a partition for vacuuming.
+     *
+     * @param partition Partition storage.
+     */
+    public void register(MvPartitionStorage partition) {
+        partitions.add(partition);
+    }
+
+    /**
+     * Unregisters a partition. Once the method returns, the partition is not accessed by the vacuum anymore, so it can be closed.
+     *
+     * @param partition Partition storage.
+     */
+    public void unregister(MvPartitionStorage partition) {
+        synchronized (partitions) {
+            partitions.remove(partition);
+        }
+    }
+
+    /**
+     * Runs a single round synchronously.
+     */
+    public void vacuum() {
+        Timestamp lowWatermark = this.lowWatermark.get();
+
+        if (lowWatermark == null) {
+            return;
+        }
+
+        for (MvPartitionStorage partition : partitions) {
+            PruneResult res;
+
+            synchronized (partitions) {
+                if (!partitions.contains(partition)) {
+                    continue;
+                }
+
+                try {
+                    res = partition.pruneVersions(lowWatermark, rowsPerRound);
+                } catch (Exception e) {
+                    LOG.error("Failed to prune row versions [vacuum={}, lowWatermark={}]", e, name, lowWatermark);
+
+                    continue;
+                }
+            }
+
+            rowsInspected.add(res.rows());
+            versionsReclaimed.add(res.versions());
+            bytesFreed.add(res.bytes());
+        }
+    }
+
+    /**
+     * Returns the number of rows inspected by the vacuum.
+     */
+    public long rowsInspected() {
+        return rowsInspected.sum();
+    }
+
+    /**
+     * Returns the number of row versions removed by the vacuum.
+     */
+    public long versionsReclaimed() {
+        return versionsReclaimed.sum();
+    }
+
+    /**
+     * Returns the approximate number of bytes freed by the vacuum.
+     */
+    public long bytesFreed() {
+        return bytesFreed.sum();
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.index;
+
+import static java.util.stream.Collectors.toUnmodifiableList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import org.apache.ignite.configuration.schemas.table.ColumnView;
+import org.apache.ignite.configuration.schemas.table.HashIndexView;
+import org.apache.ignite.configuration.schemas.table.TableIndexView;
+import org.apache.ignite.configuration.schemas.table.TableView;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.configuration.SchemaConfigurationConverter;
+import org.apache.ignite.internal.schema.configuration.SchemaDescriptorConverter;
+import org.apache.ignite.internal.schema.row.RowAssembler;
+import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Descriptor for creating a Hash Index Storage.
+ *
+ * @see HashIndexStorage
+ */
+public class HashIndexDescriptor {
+    private final String name;
+
+    private final List<Column> columns;
+
+    private final SchemaDescriptor schemaDescriptor;
+
+    /**
+     * Creates an Index Descriptor from a given Table Configuration.
+     *
+     * @param name        index name.
+     * @param tableConfig table configuration.
+     */
+    public HashIndexDescriptor(String name, TableView tableConfig) {
+        this.name = name;
+
+        TableIndexView indexConfig = tableConfig.indices().get(name);
+
+        if (indexConfig == null) {
+            throw new StorageException(String.format("Index configuration for \"%s\" could not be found", name));
+        }
+
+        if (!(indexConfig instanceof HashIndexView)) {
+            throw new StorageException(String.format(
+                    "Index \"%s\" is not configured as a Hash Index. Actual type: %s",
+                    name, indexConfig.type()
+            ));
+        }
+
+        String[] columnNames = ((HashIndexView) indexConfig).colNames();
+
+        Column[] keyColumns = new Column[columnNames.length];
+
+        for (int i = 0; i < columnNames.length; ++i) {
+            ColumnView columnView = tableConfig.columns().get(columnNames[i]);
+
+            assert columnView != null : "Incorrect index column configuration. " + columnNames[i] + " column does not exist";
+
+            Column column = SchemaDescriptorConverter.convert(i, SchemaConfigurationConverter.convert(columnView));
+
+            // Keys with nulls are never stored, see toBinaryKey.
+            keyColumns[i] = new Column(i, column.name(), column.type(), false);
+        }
+
+        schemaDescriptor = new SchemaDescriptor(0, keyColumns, new Column[0]);
+
+        columns = Arrays.stream(schemaDescriptor.keyColumns().columns())
+                .sorted(Comparator.comparingInt(Column::columnOrder))
+                .collect(toUnmodifiableList());
+    }
+
+    /**
+     * Returns this index' name.
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the indexed columns in the order of the index definition.
+     */
+    public List<Column> columns() {
+        return columns;
+    }
+
+    /**
+     * Converts this Descriptor into an equivalent {@link SchemaDescriptor}.
+     *
+     * <p>The resulting {@code SchemaDescriptor} will have empty {@link SchemaDescriptor#valueColumns()} and its
+     * {@link SchemaDescriptor#keyColumns()} will be consistent with the columns returned by {@link #columns()}.
+     */
+    public SchemaDescriptor asSchemaDescriptor() {
+        return schemaDescriptor;
+    }
+
+    /**
+     * Serializes the values of the indexed columns into a key-only {@link BinaryRow}. Equal values always produce equal
+     * {@link BinaryRow#keySlice() key bytes} and {@link BinaryRow#hash() hashes}, so index storages may use them for lookups.
+     *
+     * @param columnValues Values of the indexed columns, in the order of {@link #columns()}.
+     * @return Binary row with the indexed columns as its key or {@code null} if any of the values is {@code null}, because such keys
+     *      never match an equality predicate and are not stored in hash indexes.
+     * @throws IllegalArgumentException If the number of values does not match the number of the indexed columns.
+     */
+    public @Nullable BinaryRow toBinaryKey(Object[] columnValues) {
+        if (columnValues.length != columns.size()) {
+            throw new IllegalArgumentException(String.format(
+                    "Incorrect number of column values passed. Expected %d, got %d",
+                    columns.size(),
+                    columnValues.length
+            ));
+        }
+
+        int nonNullVarlenKeyCols = 0;
+
+        for (Column column : columns) {
+            Object columnValue = columnValues[column.columnOrder()];
+
+            if (columnValue == null) {
+                return null;
+            }
+
+            if (!column.type().spec().fixedLength()) {
+                nonNullVarlenKeyCols += 1;
+            }
+        }
+
+        var rowAssembler = new RowAssembler(schemaDescriptor, nonNullVarlenKeyCols, 0);
+
+        for (Column column : schemaDescriptor.keyColumns().columns()) {
+            RowAssembler.writeValue(rowAssembler, column, columnValues[column.columnOrder()]);
+        }
+
+        return rowAssembler.build();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(HashIndexDescriptor.class, this);
+    }
+}
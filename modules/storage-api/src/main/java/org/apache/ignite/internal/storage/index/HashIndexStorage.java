@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.index;
+
+import java.util.Collection;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.StorageException;
+
+/**
+ * Storage for a hash index of a single partition.
+ *
+ * <p>Unlike {@link SortedIndexStorage}, a hash index only supports equality lookups on the full set of the indexed columns, which makes
+ * it cheaper to maintain and to query: the entries are located by the hash of the indexed values instead of by a range search with
+ * column-by-column comparisons.
+ *
+ * <p>The same key may be associated with several row ids, because the indexed columns are not required to be unique.
+ *
+ * <p>Keys with a {@code null} value in any of the indexed columns are not stored, because an equality predicate is never true for a
+ * {@code null}: {@link #put} and {@link #remove} are no-ops for such keys and {@link #get} returns nothing.
+ */
+public interface HashIndexStorage extends AutoCloseable {
+    /**
+     * Returns the Index Descriptor of this storage.
+     */
+    HashIndexDescriptor indexDescriptor();
+
+    /**
+     * Returns ids of the rows that have the given values of the indexed columns.
+     *
+     * <p>Implementations are allowed to compare only the hashes of the keys, in which case the result may also contain ids of the rows
+     * with a colliding hash. Callers must re-check the rows they read by the returned ids.
+     *
+     * @param columnValues Values of the indexed columns, in the order of {@link HashIndexDescriptor#columns()}.
+     * @return Ids of the matching rows, empty if there are none.
+     * @throws StorageException If failed to read the index.
+     */
+    Collection<RowId> get(Object[] columnValues) throws StorageException;
+
+    /**
+     * Associates the given values of the indexed columns with the row id.
+     *
+     * <p>Putting an already existing pair is a no-op.
+     *
+     * @param columnValues Values of the indexed columns, in the order of {@link HashIndexDescriptor#columns()}.
+     * @param rowId Row id.
+     * @throws StorageException If failed to write to the index.
+     */
+    void put(Object[] columnValues, RowId rowId) throws StorageException;
+
+    /**
+     * Removes the association between the given values of the indexed columns and the row id.
+     *
+     * <p>Removing a non-existent pair is a no-op.
+     *
+     * @param columnValues Values of the indexed columns, in the order of {@link HashIndexDescriptor#columns()}.
+     * @param rowId Row id.
+     * @throws StorageException If failed to write to the index.
+     */
+    void remove(Object[] columnValues, RowId rowId) throws StorageException;
+
+    /**
+     * Removes all data in this index and frees the associated resources.
+     *
+     * @throws StorageException If failed to destroy the index.
+     */
+    void destroy() throws StorageException;
+}
@@ -28,4 +28,15 @@ public interface IndexRowDeserializer {
      * @return Values of the indexed columns.
      */
     Object[] indexedColumnValues(IndexRow indexRow);
+
+    /**
+     * De-serializes values of the given index row columns, which include both the indexed and the primary key columns. Only the requested
+     * columns are read, so covered queries can be answered by the index alone.
+     *
+     * @param indexRow Index row.
+     * @param columns Positions of the requested columns in {@link SortedIndexDescriptor#indexRowColumns()}.
+     * @return Values of the requested columns, in the order of {@code columns}.
+     * @see SortedIndexDescriptor#indexRowProjection
+     */
+    Object[] columnValues(IndexRow indexRow, int[] columns);
 }
@@ -21,6 +21,7 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toUnmodifiableList;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Stream;
@@ -37,6 +38,7 @@ import org.apache.ignite.internal.schema.configuration.SchemaDescriptorConverter
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.tostring.S;
 import org.apache.ignite.schema.definition.ColumnDefinition;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Descriptor for creating a Sorted Index Storage.
@@ -194,6 +196,39 @@ public class SortedIndexDescriptor {
         return columns;
     }
 
+    /**
+     * Maps the given table columns to their positions in {@link #indexRowColumns()}.
+     *
+     * @param columnNames Names of the table columns.
+     * @return Positions of the columns in the index row, in the order of {@code columnNames}, or {@code null} if some of the columns
+     *      are not stored in the index, that is the index does not cover them.
+     */
+    public int @Nullable [] indexRowProjection(Collection<String> columnNames) {
+        int[] projection = new int[columnNames.size()];
+
+        int i = 0;
+
+        for (String columnName : columnNames) {
+            int position = -1;
+
+            for (int j = 0; j < columns.size(); j++) {
+                if (columns.get(j).column().name().equals(columnName)) {
+                    position = j;
+
+                    break;
+                }
+            }
+
+            if (position == -1) {
+                return null;
+            }
+
+            projection[i++] = position;
+        }
+
+        return projection;
+    }
+
     /**
      * Converts this Descriptor into an equivalent {@link SchemaDescriptor}.
      *
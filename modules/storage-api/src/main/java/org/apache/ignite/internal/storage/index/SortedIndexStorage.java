@@ -19,6 +19,8 @@ package org.apache.ignite.internal.storage.index;
 
 import org.apache.ignite.internal.storage.SearchRow;
 import org.apache.ignite.internal.util.Cursor;
+import org.intellij.lang.annotations.MagicConstant;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Storage for a Sorted Index.
@@ -29,6 +31,24 @@ import org.apache.ignite.internal.util.Cursor;
  * @see org.apache.ignite.schema.definition.index.SortedIndexDefinition
  */
 public interface SortedIndexStorage extends AutoCloseable {
+    /** Exclude lower bound. */
+    int GREATER = 0;
+
+    /** Include lower bound. */
+    int GREATER_OR_EQUAL = 1;
+
+    /** Exclude upper bound. */
+    int LESS = 0;
+
+    /** Include upper bound. */
+    int LESS_OR_EQUAL = 1 << 1;
+
+    /** Forward scan. */
+    int FORWARD = 0;
+
+    /** Backwards scan. */
+    int BACKWARDS = 1 << 2;
+
     /**
      * Returns the Index Descriptor of this storage.
      */
@@ -58,11 +78,42 @@ public interface SortedIndexStorage extends AutoCloseable {
      */
     void remove(IndexRow row);
 
+    /**
+     * Returns {@code true} if {@link #range(IndexRowPrefix, IndexRowPrefix, int)} supports the {@link #BACKWARDS} flag.
+     */
+    boolean supportsBackwardsScan();
+
+    /**
+     * Returns {@code true} if the index rows returned by this storage contain the values of all the
+     * {@link SortedIndexDescriptor#indexRowColumns() index row columns}, so that they can be extracted with
+     * {@link IndexRowDeserializer#columnValues} without reading the partition data.
+     */
+    boolean supportsIndexOnlyScan();
+
     /**
      * Returns a range of index values between the lower bound (inclusive) and the upper bound (inclusive).
      */
-    // TODO: add options https://issues.apache.org/jira/browse/IGNITE-16059
-    Cursor<IndexRow> range(IndexRowPrefix lowerBound, IndexRowPrefix upperBound);
+    default Cursor<IndexRow> range(IndexRowPrefix lowerBound, IndexRowPrefix upperBound) {
+        return range(lowerBound, upperBound, GREATER_OR_EQUAL | LESS_OR_EQUAL);
+    }
+
+    /**
+     * Returns a range of index values between the lower bound and the upper bound.
+     *
+     * @param lowerBound Lower bound. Exclusivity is controlled by a {@link #GREATER_OR_EQUAL} or {@link #GREATER} flag.
+     *      {@code null} means unbounded.
+     * @param upperBound Upper bound. Exclusivity is controlled by a {@link #LESS} or {@link #LESS_OR_EQUAL} flag.
+     *      {@code null} means unbounded.
+     * @param flags Control flags. {@link #GREATER} | {@link #LESS} | {@link #FORWARD} by default. Other available values
+     *      are {@link #GREATER_OR_EQUAL}, {@link #LESS_OR_EQUAL} and {@link #BACKWARDS}.
+     * @return Cursor with fetched index rows, in the index order or in the reverse order if the {@link #BACKWARDS} flag is passed.
+     * @throws IllegalArgumentException If backwards flag is passed and backwards iteration is not supported by the storage.
+     */
+    Cursor<IndexRow> range(
+            @Nullable IndexRowPrefix lowerBound,
+            @Nullable IndexRowPrefix upperBound,
+            @MagicConstant(flagsFromClass = SortedIndexStorage.class) int flags
+    );
 
     /**
      * Removes all data in this index and frees the associated resources.
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.apache.ignite.configuration.schemas.table.ColumnChange;
+import org.apache.ignite.configuration.schemas.table.HashIndexChange;
+import org.apache.ignite.configuration.schemas.table.TableConfiguration;
+import org.apache.ignite.internal.storage.index.HashIndexStorage;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Base test for hash index storages.
+ */
+public abstract class AbstractHashIndexStorageTest extends BaseMvStoragesTest {
+    /** Name of the hash index over the {@code strVal} and {@code intVal} columns. */
+    protected static final String INDEX_NAME = "hash_idx";
+
+    /** Partition storage that provides the row ids. */
+    protected MvPartitionStorage partitionStorage;
+
+    /** Index storage instance. */
+    protected HashIndexStorage indexStorage;
+
+    private final UUID txId = UUID.randomUUID();
+
+    /**
+     * Adds the test columns and the {@link #INDEX_NAME} hash index to the table configuration.
+     */
+    protected static void createTestTable(TableConfiguration tableCfg) {
+        tableCfg.change(tableChange -> tableChange
+                .changePartitions(2)
+                .changePrimaryKey(pk -> pk.changeColumns("intKey", "strKey"))
+                .changeColumns(columns -> columns
+                        .create("intKey", column("INT32", false))
+                        .create("strKey", column("STRING", false))
+                        .create("intVal", column("INT32", true))
+                        .create("strVal", column("STRING", true))
+                )
+                .changeIndices(indexes -> indexes
+                        .create(INDEX_NAME, idx -> idx.convert(HashIndexChange.class).changeColNames("strVal", "intVal"))
+                )
+        ).join();
+    }
+
+    private static Consumer<ColumnChange> column(String typeName, boolean nullable) {
+        return c -> c.changeNullable(nullable).changeType(type -> type.changeType(typeName));
+    }
+
+    @Test
+    void getFromEmptyIndexReturnsNothing() {
+        assertThat(indexStorage.get(new Object[]{"foo", 1}), is(empty()));
+    }
+
+    @Test
+    void getReturnsAllRowIdsWithEqualKey() {
+        RowId rowId1 = newRowId();
+        RowId rowId2 = newRowId();
+        RowId rowId3 = newRowId();
+
+        indexStorage.put(new Object[]{"foo", 1}, rowId1);
+        indexStorage.put(new Object[]{"foo", 1}, rowId2);
+        indexStorage.put(new Object[]{"foo", 2}, rowId3);
+
+        assertThat(indexStorage.get(new Object[]{"foo", 1}), containsInAnyOrder(rowId1, rowId2));
+        assertThat(indexStorage.get(new Object[]{"foo", 2}), containsInAnyOrder(rowId3));
+        assertThat(indexStorage.get(new Object[]{"bar", 1}), is(empty()));
+    }
+
+    @Test
+    void keysThatArePrefixesOfEachOtherAreDistinguished() {
+        RowId rowId1 = newRowId();
+        RowId rowId2 = newRowId();
+
+        indexStorage.put(new Object[]{"foo", 1}, rowId1);
+        indexStorage.put(new Object[]{"foobar", 1}, rowId2);
+
+        assertThat(indexStorage.get(new Object[]{"foo", 1}), containsInAnyOrder(rowId1));
+        assertThat(indexStorage.get(new Object[]{"foobar", 1}), containsInAnyOrder(rowId2));
+    }
+
+    @Test
+    void keysWithNullsAreNotIndexed() {
+        RowId rowId = newRowId();
+
+        indexStorage.put(new Object[]{null, 1}, rowId);
+        indexStorage.put(new Object[]{"foo", null}, rowId);
+
+        assertThat(indexStorage.get(new Object[]{null, 1}), is(empty()));
+        assertThat(indexStorage.get(new Object[]{"foo", null}), is(empty()));
+
+        indexStorage.remove(new Object[]{null, 1}, rowId);
+    }
+
+    @Test
+    void putIsIdempotent() {
+        RowId rowId = newRowId();
+
+        indexStorage.put(new Object[]{"foo", 1}, rowId);
+        indexStorage.put(new Object[]{"foo", 1}, rowId);
+
+        assertThat(indexStorage.get(new Object[]{"foo", 1}), hasSize(1));
+    }
+
+    @Test
+    void removeRemovesOnlyGivenRowId() {
+        RowId rowId1 = newRowId();
+        RowId rowId2 = newRowId();
+
+        indexStorage.put(new Object[]{"foo", 1}, rowId1);
+        indexStorage.put(new Object[]{"foo", 1}, rowId2);
+
+        indexStorage.remove(new Object[]{"foo", 1}, rowId1);
+
+        assertThat(indexStorage.get(new Object[]{"foo", 1}), containsInAnyOrder(rowId2));
+
+        // Removing a non-existent pair is a no-op.
+        indexStorage.remove(new Object[]{"foo", 1}, rowId1);
+        indexStorage.remove(new Object[]{"bar", 1}, rowId2);
+
+        assertThat(indexStorage.get(new Object[]{"foo", 1}), containsInAnyOrder(rowId2));
+    }
+
+    @Test
+    void wrongNumberOfColumnValuesThrows() {
+        assertThrows(IllegalArgumentException.class, () -> indexStorage.get(new Object[]{"foo"}));
+    }
+
+    /**
+     * Inserts a row into the partition storage and returns its id.
+     */
+    private RowId newRowId() {
+        return partitionStorage.insert(binaryRow(new TestKey(1, "1"), new TestValue(1, "1")), txId);
+    }
+}
@@ -38,6 +38,7 @@ import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.stream.StreamSupport;
 import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.storage.gc.PruneResult;
 import org.apache.ignite.internal.tx.Timestamp;
 import org.apache.ignite.internal.util.Cursor;
 import org.jetbrains.annotations.Nullable;
@@ -612,4 +613,199 @@ public abstract class AbstractMvPartitionStorageTest<S extends MvPartitionStorag
 
         assertThrows(TxIdMismatchException.class, cursor::next);
     }
+
+    @Test
+    void pruneVersionsRemovesVersionsInvisibleAtLowWatermark() {
+        RowId rowId = storage.insert(binaryRow, newTransactionId());
+        Timestamp firstTimestamp = Timestamp.nextVersion();
+        storage.commitWrite(rowId, firstTimestamp);
+
+        storage.addWrite(rowId, binaryRow2, newTransactionId());
+        storage.commitWrite(rowId, Timestamp.nextVersion());
+
+        Timestamp lowWatermark = Timestamp.nextVersion();
+
+        storage.addWrite(rowId, binaryRow, newTransactionId());
+        storage.commitWrite(rowId, Timestamp.nextVersion());
+
+        PruneResult res = storage.pruneVersions(lowWatermark, 10);
+
+        assertEquals(1, res.rows());
+        assertEquals(1, res.versions());
+        assertTrue(res.bytes() > 0);
+        assertTrue(res.completed());
+
+        assertNull(storage.read(rowId, firstTimestamp));
+        assertRowMatches(storage.read(rowId, lowWatermark), binaryRow2);
+        assertRowMatches(storage.read(rowId, Timestamp.nextVersion()), binaryRow);
+
+        assertEquals(0, storage.pruneVersions(lowWatermark, 10).versions());
+    }
+
+    @Test
+    void pruneVersionsKeepsUncommittedVersion() {
+        RowId rowId = storage.insert(binaryRow, newTransactionId());
+        storage.commitWrite(rowId, Timestamp.nextVersion());
+
+        storage.addWrite(rowId, binaryRow2, newTransactionId());
+        storage.commitWrite(rowId, Timestamp.nextVersion());
+
+        storage.addWrite(rowId, binaryRow, txId);
+
+        assertEquals(1, storage.pruneVersions(Timestamp.nextVersion(), 10).versions());
+
+        assertRowMatches(storage.read(rowId, txId), binaryRow);
+        assertRowMatches(storage.read(rowId, Timestamp.nextVersion()), binaryRow2);
+    }
+
+    @Test
+    void pruneVersionsRemovesVersionsBehindTombstone() throws Exception {
+        RowId rowId = storage.insert(binaryRow, newTransactionId());
+        storage.commitWrite(rowId, Timestamp.nextVersion());
+
+        storage.addWrite(rowId, null, newTransactionId());
+        storage.commitWrite(rowId, Timestamp.nextVersion());
+
+        assertTrue(storage.pruneVersions(Timestamp.nextVersion(), 10).versions() >= 1);
+
+        assertNull(storage.read(rowId, Timestamp.nextVersion()));
+        assertEquals(List.of(), convert(storage.scan(row -> true, Timestamp.nextVersion())));
+    }
+
+    @Test
+    void pruneVersionsIsIncremental() {
+        for (int i = 0; i < 3; i++) {
+            RowId rowId = storage.insert(binaryRow, newTransactionId());
+            storage.commitWrite(rowId, Timestamp.nextVersion());
+
+            storage.addWrite(rowId, binaryRow2, newTransactionId());
+            storage.commitWrite(rowId, Timestamp.nextVersion());
+        }
+
+        Timestamp lowWatermark = Timestamp.nextVersion();
+
+        long versions = 0;
+
+        for (int i = 0; i < 3; i++) {
+            PruneResult res = storage.pruneVersions(lowWatermark, 1);
+
+            assertEquals(1, res.rows());
+            assertEquals(i == 2, res.completed());
+
+            versions += res.versions();
+        }
+
+        assertEquals(3, versions);
+
+        PruneResult res = storage.pruneVersions(lowWatermark, 10);
+
+        assertEquals(3, res.rows());
+        assertEquals(0, res.versions());
+        assertTrue(res.completed());
+    }
+
+    @Test
+    void commitWritesCommitsAllRows() {
+        List<RowId> rowIds = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            rowIds.add(storage.insert(binaryRow, txId));
+        }
+
+        Timestamp commitTs = Timestamp.nextVersion();
+
+        storage.commitWrites(rowIds, commitTs);
+
+        for (RowId rowId : rowIds) {
+            assertRowMatches(storage.read(rowId, commitTs), binaryRow);
+            assertRowMatches(storage.read(rowId, newTransactionId()), binaryRow);
+        }
+    }
+
+    @Test
+    void abortWritesAbortsAllRows() {
+        RowId committedRowId = storage.insert(binaryRow, newTransactionId());
+        storage.commitWrite(committedRowId, Timestamp.nextVersion());
+
+        storage.addWrite(committedRowId, binaryRow2, txId);
+
+        RowId insertedRowId = storage.insert(binaryRow2, txId);
+
+        List<BinaryRow> abortedRows = storage.abortWrites(List.of(committedRowId, insertedRowId));
+
+        assertEquals(2, abortedRows.size());
+        assertRowMatches(abortedRows.get(0), binaryRow2);
+        assertRowMatches(abortedRows.get(1), binaryRow2);
+
+        assertRowMatches(storage.read(committedRowId, txId), binaryRow);
+        assertNull(storage.read(insertedRowId, txId));
+    }
+
+    /**
+     * Tests that point reads made within {@link MvPartitionStorage#runConsistently} observe the writes made within it, including
+     * nested calls.
+     */
+    @Test
+    void runConsistentlyReadsOwnWrites() {
+        Timestamp commitTs = Timestamp.nextVersion();
+
+        RowId rowId = storage.runConsistently(() -> {
+            RowId id = storage.insert(binaryRow, txId);
+
+            assertRowMatches(storage.read(id, txId), binaryRow);
+
+            assertRowMatches(storage.addWrite(id, binaryRow2, txId), binaryRow);
+
+            storage.runConsistently(() -> {
+                storage.commitWrite(id, commitTs);
+
+                return null;
+            });
+
+            assertRowMatches(storage.read(id, commitTs), binaryRow2);
+
+            return id;
+        });
+
+        assertRowMatches(storage.read(rowId, commitTs), binaryRow2);
+        assertRowMatches(storage.read(rowId, newTransactionId()), binaryRow2);
+    }
+
+    @Test
+    void statisticsFollowVersionChains() {
+        long size = binaryRow.bytes().length;
+        long size2 = binaryRow2.bytes().length;
+
+        assertEquals(PartitionStatistics.EMPTY, storage.statistics());
+
+        RowId rowId = storage.insert(binaryRow, txId);
+
+        assertEquals(new PartitionStatistics(1, size), storage.statistics());
+
+        storage.addWrite(rowId, binaryRow2, txId);
+
+        assertEquals(new PartitionStatistics(1, size2), storage.statistics());
+
+        storage.commitWrite(rowId, Timestamp.nextVersion());
+
+        assertEquals(new PartitionStatistics(1, size2), storage.statistics());
+
+        storage.addWrite(rowId, binaryRow, txId);
+
+        assertEquals(new PartitionStatistics(1, size2 + size), storage.statistics());
+
+        storage.commitWrite(rowId, Timestamp.nextVersion());
+
+        RowId abortedRowId = storage.insert(binaryRow2, txId);
+
+        assertEquals(new PartitionStatistics(2, 2 * size2 + size), storage.statistics());
+
+        storage.abortWrite(abortedRowId);
+
+        assertEquals(new PartitionStatistics(1, size2 + size), storage.statistics());
+
+        storage.pruneVersions(Timestamp.nextVersion(), 10);
+
+        assertEquals(new PartitionStatistics(1, size), storage.statistics());
+    }
 }
@@ -32,6 +32,7 @@ import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -477,6 +478,75 @@ public abstract class AbstractPartitionStorageTest {
         );
     }
 
+    /**
+     * Tests that the {@link PartitionStorage#readAll(List)} operation returns rows in the order of the keys and skips the missing keys.
+     */
+    @Test
+    public void testReadAllOrder() {
+        List<DataRow> rows = insertBulk(100);
+
+        Collections.reverse(rows);
+
+        List<SearchRow> keys = new ArrayList<>();
+
+        for (int i = 0; i < rows.size(); i++) {
+            keys.add(rows.get(i));
+
+            if (i % 10 == 0) {
+                keys.add(searchRow("missing" + i));
+            }
+        }
+
+        List<DataRow> readRows = new ArrayList<>(storage.readAll(keys));
+
+        assertEquals(rows.size(), readRows.size());
+
+        for (int i = 0; i < rows.size(); i++) {
+            checkRowsEqual(rows.get(i), readRows.get(i));
+        }
+    }
+
+    /**
+     * Tests that the writes made within {@link PartitionStorage#runConsistently} are visible to the reads made within it and are
+     * applied once it completes.
+     */
+    @Test
+    public void testRunConsistently() {
+        DataRow row = dataRow(KEY, VALUE);
+
+        storage.write(row);
+
+        int res = storage.runConsistently(() -> {
+            storage.remove(row);
+
+            assertNull(storage.read(row));
+
+            storage.write(dataRow(KEY + 1, VALUE + 1));
+
+            assertEquals(1, storage.insertAll(List.of(dataRow(KEY + 1, VALUE), dataRow(KEY + 2, VALUE + 2))).size());
+
+            // Nested call joins the outer one.
+            storage.runConsistently(() -> {
+                storage.write(dataRow(KEY + 3, VALUE + 3));
+
+                return null;
+            });
+
+            assertEquals(1, storage.removeAllExact(List.of(dataRow(KEY + 3, VALUE + 3), dataRow(KEY + 2, VALUE))).size());
+
+            return 42;
+        });
+
+        assertEquals(42, res);
+
+        assertNull(storage.read(row));
+
+        checkHasSameEntry(dataRow(KEY + 1, VALUE + 1));
+        checkHasSameEntry(dataRow(KEY + 2, VALUE + 2));
+
+        assertNull(storage.read(searchRow(KEY + 3)));
+    }
+
     /**
      * Tests that {@link PartitionStorage#writeAll(List)} operation successfully writes a collection of data rows into the storage.
      */
@@ -599,6 +669,44 @@ public abstract class AbstractPartitionStorageTest {
         storage.restoreSnapshot(snapshotDir);
 
         rows.forEach(this::checkHasSameEntry);
+
+        assertEquals(10, storage.statistics().rowsCount());
+    }
+
+    /**
+     * Tests that {@link PartitionStorage#statistics()} follows the modifications of the storage.
+     */
+    @Test
+    public void testStatistics() {
+        assertEquals(PartitionStatistics.EMPTY, storage.statistics());
+
+        storage.write(dataRow(KEY, VALUE));
+
+        assertEquals(new PartitionStatistics(1, 8), storage.statistics());
+
+        storage.write(dataRow(KEY, VALUE + VALUE));
+
+        assertEquals(new PartitionStatistics(1, 13), storage.statistics());
+
+        storage.invoke(searchRow("key2"), new SimpleWriteInvokeClosure(dataRow("key2", VALUE)));
+
+        assertEquals(new PartitionStatistics(2, 22), storage.statistics());
+
+        storage.invoke(searchRow(KEY), new SimpleRemoveInvokeClosure());
+
+        assertEquals(new PartitionStatistics(1, 9), storage.statistics());
+
+        storage.insertAll(List.of(dataRow("key2", "v"), dataRow("key3", "v")));
+
+        assertEquals(new PartitionStatistics(2, 14), storage.statistics());
+
+        storage.removeAllExact(List.of(dataRow("key2", VALUE), dataRow("key3", "x")));
+
+        assertEquals(new PartitionStatistics(1, 5), storage.statistics());
+
+        storage.removeAll(List.of(searchRow("key3")));
+
+        assertEquals(PartitionStatistics.EMPTY, storage.statistics());
     }
 
     /**
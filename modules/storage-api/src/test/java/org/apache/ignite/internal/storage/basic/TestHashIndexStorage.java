@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.basic;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.index.HashIndexDescriptor;
+import org.apache.ignite.internal.storage.index.HashIndexStorage;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Test implementation of {@link HashIndexStorage} based on a concurrent map.
+ */
+public class TestHashIndexStorage implements HashIndexStorage {
+    private final ConcurrentMap<ByteBuffer, Set<RowId>> index = new ConcurrentHashMap<>();
+
+    private final HashIndexDescriptor descriptor;
+
+    /**
+     * Constructor.
+     */
+    public TestHashIndexStorage(HashIndexDescriptor descriptor) {
+        this.descriptor = descriptor;
+    }
+
+    @Override
+    public HashIndexDescriptor indexDescriptor() {
+        return descriptor;
+    }
+
+    @Override
+    public Collection<RowId> get(Object[] columnValues) {
+        ByteBuffer key = key(columnValues);
+
+        if (key == null) {
+            return List.of();
+        }
+
+        Set<RowId> rowIds = index.get(key);
+
+        return rowIds == null ? List.of() : List.copyOf(rowIds);
+    }
+
+    @Override
+    public void put(Object[] columnValues, RowId rowId) {
+        ByteBuffer key = key(columnValues);
+
+        if (key != null) {
+            index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(rowId);
+        }
+    }
+
+    @Override
+    public void remove(Object[] columnValues, RowId rowId) {
+        ByteBuffer key = key(columnValues);
+
+        if (key == null) {
+            return;
+        }
+
+        index.computeIfPresent(key, (k, rowIds) -> {
+            rowIds.remove(rowId);
+
+            return rowIds.isEmpty() ? null : rowIds;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        index.clear();
+    }
+
+    @Override
+    public void close() {
+        // No-op.
+    }
+
+    private @Nullable ByteBuffer key(Object[] columnValues) {
+        BinaryRow key = descriptor.toBinaryKey(columnValues);
+
+        return key == null ? null : key.keySlice();
+    }
+}
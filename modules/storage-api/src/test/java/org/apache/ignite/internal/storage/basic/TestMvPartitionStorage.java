@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.storage.basic;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
@@ -27,9 +28,11 @@ import java.util.function.Predicate;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.NoUncommittedVersionException;
+import org.apache.ignite.internal.storage.PartitionStatistics;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.TxIdMismatchException;
+import org.apache.ignite.internal.storage.gc.PruneResult;
 import org.apache.ignite.internal.tx.Timestamp;
 import org.apache.ignite.internal.util.Cursor;
 import org.jetbrains.annotations.Nullable;
@@ -44,6 +47,9 @@ public class TestMvPartitionStorage implements MvPartitionStorage {
 
     private final int partitionId;
 
+    /** Position of the version garbage collection, {@code null} if it's at the beginning of the partition. */
+    private @Nullable Iterator<RowId> gcIterator;
+
     public TestMvPartitionStorage(List<TestSortedIndexMvStorage> indexes, int partitionId) {
         this.indexes = indexes;
         this.partitionId = partitionId;
@@ -245,6 +251,101 @@ public class TestMvPartitionStorage implements MvPartitionStorage {
         return Cursor.fromIterator(iterator);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public synchronized PruneResult pruneVersions(Timestamp lowWatermark, int rowsLimit) {
+        if (gcIterator == null) {
+            gcIterator = map.keySet().iterator();
+        }
+
+        int rows = 0;
+
+        List<BinaryRow> removed = new ArrayList<>();
+
+        while (rows < rowsLimit && gcIterator.hasNext()) {
+            RowId rowId = gcIterator.next();
+
+            rows++;
+
+            map.computeIfPresent(rowId, (ignored, versionChain) -> {
+                int from = removed.size();
+
+                VersionChain head = prune(versionChain, lowWatermark, removed);
+
+                for (BinaryRow row : removed.subList(from, removed.size())) {
+                    if (row != null) {
+                        for (TestSortedIndexMvStorage index : indexes) {
+                            abortWrite(rowId, head, row, index);
+                        }
+                    }
+                }
+
+                return head;
+            });
+        }
+
+        boolean completed = !gcIterator.hasNext();
+
+        if (completed) {
+            gcIterator = null;
+        }
+
+        long bytes = removed.stream().filter(Objects::nonNull).mapToLong(BinaryRow::length).sum();
+
+        return new PruneResult(rows, removed.size(), bytes, completed);
+    }
+
+    /**
+     * Cuts the versions, which are invisible at or after the low watermark, off a version chain.
+     *
+     * @param cur Version chain.
+     * @param lowWatermark Low watermark.
+     * @param removed Rows of the removed versions, {@code null} for tombstones.
+     * @return New version chain.
+     */
+    private static @Nullable VersionChain prune(@Nullable VersionChain cur, Timestamp lowWatermark, List<BinaryRow> removed) {
+        if (cur == null) {
+            return null;
+        }
+
+        if (cur.begin != null && cur.begin.beforeOrEquals(lowWatermark)) {
+            for (VersionChain obsolete = cur.next; obsolete != null; obsolete = obsolete.next) {
+                removed.add(obsolete.row);
+            }
+
+            if (cur.row == null) {
+                removed.add(null);
+
+                return null;
+            }
+
+            return cur.next == null ? cur : new VersionChain(cur.row, cur.begin, cur.txId, null);
+        }
+
+        VersionChain next = prune(cur.next, lowWatermark, removed);
+
+        return next == cur.next ? cur : new VersionChain(cur.row, cur.begin, cur.txId, next);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public PartitionStatistics statistics() {
+        long rowsCount = 0;
+        long totalBytes = 0;
+
+        for (VersionChain versionChain : map.values()) {
+            rowsCount++;
+
+            for (VersionChain cur = versionChain; cur != null; cur = cur.next) {
+                if (cur.row != null) {
+                    totalBytes += cur.row.bytes().length;
+                }
+            }
+        }
+
+        return new PartitionStatistics(rowsCount, totalBytes);
+    }
+
     /** {@inheritDoc} */
     @Override
     public void close() throws Exception {
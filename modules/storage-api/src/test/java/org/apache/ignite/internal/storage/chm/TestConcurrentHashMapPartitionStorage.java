@@ -39,6 +39,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.ignite.internal.storage.DataRow;
 import org.apache.ignite.internal.storage.InvokeClosure;
+import org.apache.ignite.internal.storage.PartitionStatistics;
 import org.apache.ignite.internal.storage.PartitionStorage;
 import org.apache.ignite.internal.storage.SearchRow;
 import org.apache.ignite.internal.storage.StorageException;
@@ -257,9 +258,18 @@ public class TestConcurrentHashMapPartitionStorage implements PartitionStorage {
         map.clear();
     }
 
+    /** {@inheritDoc} */
     @Override
-    public long rowsCount() {
-        return map.size();
+    public PartitionStatistics statistics() {
+        long rowsCount = 0;
+        long totalBytes = 0;
+
+        for (Map.Entry<ByteArray, byte[]> e : map.entrySet()) {
+            rowsCount++;
+            totalBytes += e.getKey().bytes().length + e.getValue().length;
+        }
+
+        return new PartitionStatistics(rowsCount, totalBytes);
     }
 
     /** {@inheritDoc} */
@@ -25,8 +25,11 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.apache.ignite.configuration.schemas.table.TableConfiguration;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.basic.TestHashIndexStorage;
 import org.apache.ignite.internal.storage.basic.TestMvPartitionStorage;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
+import org.apache.ignite.internal.storage.index.HashIndexDescriptor;
+import org.apache.ignite.internal.storage.index.HashIndexStorage;
 
 /**
  * Test table storage implementation.
@@ -36,6 +39,8 @@ public class TestMvTableStorage implements MvTableStorage {
 
     private final Map<Integer, TestMvPartitionStorage> partitions = new ConcurrentHashMap<>();
 
+    private final Map<String, Map<Integer, TestHashIndexStorage>> hashIndices = new ConcurrentHashMap<>();
+
     public TestMvTableStorage(TableConfiguration tableCfg) {
         this.tableConfig = tableCfg;
     }
@@ -56,9 +61,22 @@ public class TestMvTableStorage implements MvTableStorage {
     public CompletableFuture<?> destroyPartition(int partitionId) throws StorageException {
         partitions.remove(partitionId);
 
+        hashIndices.values().forEach(indexPartitions -> indexPartitions.remove(partitionId));
+
         return CompletableFuture.completedFuture(null);
     }
 
+    @Override
+    public HashIndexStorage getOrCreateHashIndex(int partitionId, String indexName) {
+        return hashIndices.computeIfAbsent(indexName, name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(partitionId, id -> new TestHashIndexStorage(new HashIndexDescriptor(indexName, tableConfig.value())));
+    }
+
+    @Override
+    public void dropIndex(String indexName) {
+        hashIndices.remove(indexName);
+    }
+
     @Override
     public TableConfiguration configuration() {
         return tableConfig;
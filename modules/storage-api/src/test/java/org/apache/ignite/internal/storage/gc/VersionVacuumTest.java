@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.gc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.ignite.internal.storage.BaseMvStoragesTest;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.basic.TestMvPartitionStorage;
+import org.apache.ignite.internal.testframework.IgniteTestUtils;
+import org.apache.ignite.internal.tx.Timestamp;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link VersionVacuum}.
+ */
+public class VersionVacuumTest extends BaseMvStoragesTest {
+    @Test
+    public void testVacuum() throws Exception {
+        TestMvPartitionStorage storage = new TestMvPartitionStorage(List.of(), 0);
+
+        Timestamp firstTimestamp = Timestamp.nextVersion();
+
+        for (int i = 0; i < 10; i++) {
+            RowId rowId = storage.insert(binaryRow(new TestKey(i, "foo"), new TestValue(i, "bar")), UUID.randomUUID());
+            storage.commitWrite(rowId, firstTimestamp);
+
+            storage.addWrite(rowId, binaryRow(new TestKey(i, "foo"), new TestValue(i + 1, "bar")), UUID.randomUUID());
+            storage.commitWrite(rowId, Timestamp.nextVersion());
+        }
+
+        AtomicReference<Timestamp> lowWatermark = new AtomicReference<>();
+
+        VersionVacuum vacuum = new VersionVacuum("test-vacuum", lowWatermark::get, 3, 10);
+
+        vacuum.register(storage);
+
+        // Nothing is pruned until the low watermark is known.
+        vacuum.vacuum();
+
+        assertEquals(0, vacuum.rowsInspected());
+
+        lowWatermark.set(Timestamp.nextVersion());
+
+        vacuum.start();
+
+        try {
+            assertTrue(IgniteTestUtils.waitForCondition(() -> vacuum.versionsReclaimed() == 10, 10_000));
+        } finally {
+            vacuum.stop();
+        }
+
+        assertTrue(vacuum.rowsInspected() >= 10);
+        assertTrue(vacuum.bytesFreed() > 0);
+
+        vacuum.unregister(storage);
+
+        assertFalse(storage.scan(row -> true, firstTimestamp).hasNext());
+        assertEquals(0, storage.pruneVersions(lowWatermark.get(), 10).versions());
+    }
+}
@@ -17,6 +17,9 @@
 
 package org.apache.ignite.internal.storage.pagememory;
 
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
+import static org.apache.ignite.internal.storage.StorageUtils.groupId;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -28,10 +31,13 @@ import org.apache.ignite.internal.pagememory.PageMemory;
 import org.apache.ignite.internal.storage.PartitionStorage;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.engine.TableStorage;
+import org.apache.ignite.internal.storage.index.HashIndexDescriptor;
 import org.apache.ignite.internal.storage.index.SortedIndexStorage;
+import org.apache.ignite.internal.storage.pagememory.index.PageMemoryHashIndexStorage;
 import org.apache.ignite.internal.storage.pagememory.mv.PageMemoryMvPartitionStorage;
 import org.apache.ignite.internal.tostring.S;
 import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
@@ -192,4 +198,30 @@ public abstract class AbstractPageMemoryTableStorage implements TableStorage {
                 ((VolatilePageMemoryDataRegion) dataRegion).rowVersionFreeList()
         );
     }
+
+    /**
+     * This API is not yet ready. But we need to test hash index storages anyways.
+     */
+    @TestOnly
+    public PageMemoryHashIndexStorage createHashIndexStorage(int partitionId, String indexName) {
+        TableView tableView = tableCfg.value();
+
+        long metaPageId;
+
+        try {
+            metaPageId = dataRegion.pageMemory().allocatePage(groupId(tableView), partitionId, FLAG_AUX);
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Error occurred while creating the hash index storage", e);
+        }
+
+        return new PageMemoryHashIndexStorage(
+                partitionId,
+                tableView,
+                new HashIndexDescriptor(indexName, tableView),
+                dataRegion,
+                ((VolatilePageMemoryDataRegion) dataRegion).versionChainFreeList(),
+                metaPageId,
+                true
+        );
+    }
 }
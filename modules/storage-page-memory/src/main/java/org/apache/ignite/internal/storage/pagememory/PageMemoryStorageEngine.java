@@ -208,6 +208,7 @@ public class PageMemoryStorageEngine implements StorageEngine {
         if (dataRegionConfig.persistent().value()) {
             dataRegion = new PersistentPageMemoryDataRegion(
                     dataRegionConfig,
+                    engineConfig.checkpoint(),
                     ioRegistry,
                     filePageStoreManager,
                     checkpointManager,
@@ -18,6 +18,8 @@
 package org.apache.ignite.internal.storage.pagememory;
 
 import org.apache.ignite.internal.pagememory.FullPageId;
+import org.apache.ignite.internal.storage.PartitionStatistics;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Class for storing {@link TableTree} partition metadata.
@@ -32,20 +34,26 @@ class PartitionMeta {
     /** Have been allocated (created) or read. */
     final boolean allocated;
 
+    /** Partition statistics as of the last checkpoint, {@code null} if they are not stored and must be counted. */
+    final @Nullable PartitionStatistics statistics;
+
     /**
      * Constructor.
      *
      * @param reuseListRoot {@link TableFreeList} root.
      * @param treeRoot {@link TableTree} root.
      * @param allocated Have been allocated (created) or read.
+     * @param statistics Partition statistics as of the last checkpoint, {@code null} if they are not stored and must be counted.
      */
     public PartitionMeta(
             FullPageId treeRoot,
             FullPageId reuseListRoot,
-            boolean allocated
+            boolean allocated,
+            @Nullable PartitionStatistics statistics
     ) {
         this.treeRoot = treeRoot;
         this.reuseListRoot = reuseListRoot;
         this.allocated = allocated;
+        this.statistics = statistics;
     }
 }
@@ -21,6 +21,10 @@ import static org.apache.ignite.internal.util.Constants.GiB;
 import static org.apache.ignite.internal.util.Constants.MiB;
 
 import java.util.Arrays;
+import org.apache.ignite.internal.fileio.DirectFileIoFactory;
+import org.apache.ignite.internal.fileio.FileIo;
+import org.apache.ignite.internal.fileio.FileIoFactory;
+import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryCheckpointConfiguration;
 import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionConfiguration;
 import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionView;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
@@ -32,14 +36,19 @@ import org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreMana
  * Implementation of {@link AbstractPageMemoryDataRegion} for persistent case.
  */
 class PersistentPageMemoryDataRegion extends AbstractPageMemoryDataRegion {
+    private final PageMemoryCheckpointConfiguration checkpointConfig;
+
     private final FilePageStoreManager filePageStoreManager;
 
     private final CheckpointManager checkpointManager;
 
+    private final FileIoFactory filePageStoreFileIoFactory;
+
     /**
      * Constructor.
      *
      * @param cfg Data region configuration.
+     * @param checkpointConfig Checkpoint configuration.
      * @param ioRegistry IO registry.
      * @param filePageStoreManager File page store manager.
      * @param checkpointManager Checkpoint manager.
@@ -47,6 +56,7 @@ class PersistentPageMemoryDataRegion extends AbstractPageMemoryDataRegion {
      */
     public PersistentPageMemoryDataRegion(
             PageMemoryDataRegionConfiguration cfg,
+            PageMemoryCheckpointConfiguration checkpointConfig,
             PageIoRegistry ioRegistry,
             FilePageStoreManager filePageStoreManager,
             CheckpointManager checkpointManager,
@@ -54,8 +64,13 @@ class PersistentPageMemoryDataRegion extends AbstractPageMemoryDataRegion {
     ) {
         super(cfg, ioRegistry, pageSize);
 
+        this.checkpointConfig = checkpointConfig;
         this.filePageStoreManager = filePageStoreManager;
         this.checkpointManager = checkpointManager;
+
+        filePageStoreFileIoFactory = cfg.value().directIo()
+                ? new DirectFileIoFactory(filePageStoreManager.filePageStoreFileIoFactory())
+                : filePageStoreManager.filePageStoreFileIoFactory();
     }
 
     /** {@inheritDoc} */
@@ -77,6 +92,8 @@ class PersistentPageMemoryDataRegion extends AbstractPageMemoryDataRegion {
                     filePageStoreManager.write(fullPageId.groupId(), fullPageId.pageId(), buf, tag, true);
                 },
                 checkpointManager.checkpointTimeoutLock(),
+                checkpointConfig.throttlingPolicy().value(),
+                checkpointManager::currentProgress,
                 pageSize
         );
 
@@ -92,6 +109,13 @@ class PersistentPageMemoryDataRegion extends AbstractPageMemoryDataRegion {
         return filePageStoreManager;
     }
 
+    /**
+     * Returns {@link FileIo} factory for the file page stores of the region.
+     */
+    public FileIoFactory filePageStoreFileIoFactory() {
+        return filePageStoreFileIoFactory;
+    }
+
     /**
      * Returns checkpoint manager.
      */
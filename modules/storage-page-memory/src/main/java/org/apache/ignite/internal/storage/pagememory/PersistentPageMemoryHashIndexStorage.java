@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory;
+
+import org.apache.ignite.configuration.schemas.table.TableView;
+import org.apache.ignite.internal.pagememory.PageMemoryDataRegion;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTimeoutLock;
+import org.apache.ignite.internal.pagememory.reuse.ReuseList;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.index.HashIndexDescriptor;
+import org.apache.ignite.internal.storage.pagememory.index.PageMemoryHashIndexStorage;
+
+/**
+ * Implementation of {@link PageMemoryHashIndexStorage} for persistent case.
+ */
+class PersistentPageMemoryHashIndexStorage extends PageMemoryHashIndexStorage {
+    private final CheckpointTimeoutLock checkpointTimeoutLock;
+
+    private final Runnable removeIndexMeta;
+
+    /**
+     * Constructor.
+     *
+     * @param partitionId Partition id.
+     * @param tableConfig Table configuration.
+     * @param descriptor Index descriptor.
+     * @param dataRegion Data region.
+     * @param reuseList Reuse list for the tree pages.
+     * @param indexMeta Index meta, that holds the tree root.
+     * @param checkpointTimeoutLock Checkpoint timeout lock.
+     * @param removeIndexMeta Removes the index meta from the partition, called after the tree has been destroyed.
+     */
+    PersistentPageMemoryHashIndexStorage(
+            int partitionId,
+            TableView tableConfig,
+            HashIndexDescriptor descriptor,
+            PageMemoryDataRegion dataRegion,
+            ReuseList reuseList,
+            IndexMeta indexMeta,
+            CheckpointTimeoutLock checkpointTimeoutLock,
+            Runnable removeIndexMeta
+    ) {
+        super(partitionId, tableConfig, descriptor, dataRegion, reuseList, indexMeta.treeRoot.pageId(), indexMeta.allocated);
+
+        this.checkpointTimeoutLock = checkpointTimeoutLock;
+        this.removeIndexMeta = removeIndexMeta;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void put(Object[] columnValues, RowId rowId) {
+        checkpointTimeoutLock.checkpointReadLock();
+
+        try {
+            super.put(columnValues, rowId);
+        } finally {
+            checkpointTimeoutLock.checkpointReadUnlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void remove(Object[] columnValues, RowId rowId) {
+        checkpointTimeoutLock.checkpointReadLock();
+
+        try {
+            super.remove(columnValues, rowId);
+        } finally {
+            checkpointTimeoutLock.checkpointReadUnlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void destroy() {
+        checkpointTimeoutLock.checkpointReadLock();
+
+        try {
+            super.destroy();
+
+            removeIndexMeta.run();
+        } finally {
+            checkpointTimeoutLock.checkpointReadUnlock();
+        }
+    }
+}
@@ -19,10 +19,13 @@ package org.apache.ignite.internal.storage.pagememory;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
+import org.apache.ignite.internal.pagememory.evict.PageEvictionTrackerNoOp;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTimeoutLock;
 import org.apache.ignite.internal.pagememory.tree.BplusTree;
 import org.apache.ignite.internal.storage.DataRow;
 import org.apache.ignite.internal.storage.InvokeClosure;
+import org.apache.ignite.internal.storage.PartitionStatistics;
 import org.apache.ignite.internal.storage.PartitionStorage;
 import org.apache.ignite.internal.storage.SearchRow;
 import org.apache.ignite.internal.storage.StorageException;
@@ -41,15 +44,17 @@ public class PersistentPageMemoryPartitionStorage extends VolatilePageMemoryPart
      * @param freeList Table free list.
      * @param tree Table tree.
      * @param checkpointTimeoutLock Checkpoint timeout lock.
+     * @param statistics Statistics of the data that the tree already contains, {@code null} if they are unknown and must be counted.
      * @throws StorageException If there is an error while creating the partition storage.
      */
     public PersistentPageMemoryPartitionStorage(
             int partId,
             TableFreeList freeList,
             TableTree tree,
-            CheckpointTimeoutLock checkpointTimeoutLock
+            CheckpointTimeoutLock checkpointTimeoutLock,
+            @Nullable PartitionStatistics statistics
     ) throws StorageException {
-        super(partId, freeList, tree);
+        super(partId, freeList, tree, statistics, PageEvictionTrackerNoOp.INSTANCE);
 
         this.checkpointTimeoutLock = checkpointTimeoutLock;
     }
@@ -138,6 +143,18 @@ public class PersistentPageMemoryPartitionStorage extends VolatilePageMemoryPart
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public <T> T runConsistently(Supplier<T> closure) throws StorageException {
+        checkpointTimeoutLock.checkpointReadLock();
+
+        try {
+            return closure.get();
+        } finally {
+            checkpointTimeoutLock.checkpointReadUnlock();
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public void destroy() throws StorageException {
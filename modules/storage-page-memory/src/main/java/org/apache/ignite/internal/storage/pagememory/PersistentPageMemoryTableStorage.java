@@ -27,12 +27,19 @@ import org.apache.ignite.internal.pagememory.FullPageId;
 import org.apache.ignite.internal.pagememory.evict.PageEvictionTrackerNoOp;
 import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
 import org.apache.ignite.internal.pagememory.persistence.PageMemoryImpl;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointListener;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointManager;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointProgress;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTimeoutLock;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStore;
 import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
+import org.apache.ignite.internal.storage.PartitionStatistics;
 import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.index.HashIndexDescriptor;
+import org.apache.ignite.internal.storage.pagememory.index.PageMemoryHashIndexStorage;
 import org.apache.ignite.internal.storage.pagememory.io.PartitionMetaIo;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.jetbrains.annotations.TestOnly;
 
 /**
  * Implementation of {@link AbstractPageMemoryTableStorage} for persistent case.
@@ -60,9 +67,14 @@ class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableStorage {
 
         try {
             // TODO: IGNITE-16665 Directory name needs to be corrected to support table renaming
-            ((PersistentPageMemoryDataRegion) dataRegion)
-                    .filePageStoreManager()
-                    .initialize(tableView.name(), groupId(tableView), tableView.partitions());
+            PersistentPageMemoryDataRegion persistentDataRegion = (PersistentPageMemoryDataRegion) dataRegion;
+
+            persistentDataRegion.filePageStoreManager().initialize(
+                    tableView.name(),
+                    groupId(tableView),
+                    tableView.partitions(),
+                    persistentDataRegion.filePageStoreFileIoFactory()
+            );
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Error initializing file page stores for table: " + tableView.name(), e);
         }
@@ -75,9 +87,11 @@ class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableStorage {
 
         FilePageStore partitionFilePageStore = ensurePartitionFilePageStore(tableView, partId);
 
-        CheckpointTimeoutLock checkpointTimeoutLock = ((PersistentPageMemoryDataRegion) dataRegion)
-                .checkpointManager()
-                .checkpointTimeoutLock();
+        CheckpointManager checkpointManager = ((PersistentPageMemoryDataRegion) dataRegion).checkpointManager();
+
+        CheckpointTimeoutLock checkpointTimeoutLock = checkpointManager.checkpointTimeoutLock();
+
+        PersistentPageMemoryPartitionStorage partitionStorage;
 
         checkpointTimeoutLock.checkpointReadLock();
 
@@ -90,10 +104,72 @@ class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableStorage {
 
             TableTree tableTree = createTableTree(tableView, partId, tableFreeList, partitionMeta);
 
-            return new PersistentPageMemoryPartitionStorage(partId, tableFreeList, tableTree, checkpointTimeoutLock);
+            partitionStorage = new PersistentPageMemoryPartitionStorage(
+                    partId,
+                    tableFreeList,
+                    tableTree,
+                    checkpointTimeoutLock,
+                    partitionMeta.statistics
+            );
         } finally {
             checkpointTimeoutLock.checkpointReadUnlock();
         }
+
+        int grpId = groupId(tableView);
+
+        // Statistics are written to the partition meta page when a checkpoint starts, under the checkpoint write lock, so that they
+        // match the checkpointed data.
+        CheckpointListener statisticsSaver = new CheckpointListener() {
+            /** {@inheritDoc} */
+            @Override
+            public void onMarkCheckpointBegin(CheckpointProgress progress) throws IgniteInternalCheckedException {
+                savePartitionStatistics(grpId, partId, partitionStorage.statistics());
+            }
+        };
+
+        checkpointManager.addCheckpointListener(statisticsSaver, dataRegion);
+
+        autoCloseables.add(() -> checkpointManager.removeCheckpointListener(statisticsSaver));
+
+        return partitionStorage;
+    }
+
+    /**
+     * Writes partition statistics to the partition meta page, if they have changed.
+     *
+     * @param grpId Group ID.
+     * @param partId Partition ID.
+     * @param statistics Partition statistics.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    void savePartitionStatistics(int grpId, int partId, PartitionStatistics statistics) throws IgniteInternalCheckedException {
+        PageMemoryImpl pageMemoryImpl = (PageMemoryImpl) dataRegion.pageMemory();
+
+        long partMetaPageId = pageMemoryImpl.partitionMetaPageId(grpId, partId);
+
+        long partMetaPage = pageMemoryImpl.acquirePage(grpId, partMetaPageId);
+
+        try {
+            long partMetaPageAddr = pageMemoryImpl.writeLock(grpId, partMetaPageId, partMetaPage);
+
+            boolean changed = false;
+
+            try {
+                PartitionMetaIo partMetaIo = pageMemoryImpl.ioRegistry().resolve(partMetaPageAddr);
+
+                changed = partMetaIo.getRowsCount(partMetaPageAddr) != statistics.rowsCount()
+                        || partMetaIo.getTotalBytes(partMetaPageAddr) != statistics.totalBytes();
+
+                if (changed) {
+                    partMetaIo.setRowsCount(partMetaPageAddr, statistics.rowsCount());
+                    partMetaIo.setTotalBytes(partMetaPageAddr, statistics.totalBytes());
+                }
+            } finally {
+                pageMemoryImpl.writeUnlock(grpId, partMetaPageId, partMetaPage, changed);
+            }
+        } finally {
+            pageMemoryImpl.releasePage(grpId, partMetaPageId, partMetaPage);
+        }
     }
 
     /**
@@ -154,6 +230,8 @@ class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableStorage {
                 try {
                     long treeRootPageId;
                     long reuseListRootPageId;
+                    PartitionStatistics statistics;
+                    boolean dirty = allocatePartMetaPage;
 
                     if (allocatePartMetaPage) {
                         PartitionMetaIo partMetaIo = PartitionMetaIo.VERSIONS.latest();
@@ -165,20 +243,38 @@ class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableStorage {
 
                         partMetaIo.setTreeRootPageId(partMetaPageAddr, treeRootPageId);
                         partMetaIo.setReuseListRootPageId(partMetaPageAddr, reuseListRootPageId);
+
+                        statistics = PartitionStatistics.EMPTY;
                     } else {
                         PartitionMetaIo partMetaIo = pageMemoryImpl.ioRegistry().resolve(partMetaPageAddr);
 
                         treeRootPageId = partMetaIo.getTreeRootPageId(partMetaPageAddr);
                         reuseListRootPageId = partMetaIo.getReuseListRootPageId(partMetaPageAddr);
+
+                        // If the partition was written before the statistics were stored, they are counted once by the partition
+                        // storage and saved to the upgraded page by the next checkpoint.
+                        statistics = partMetaIo.hasStatistics()
+                                ? new PartitionStatistics(
+                                        partMetaIo.getRowsCount(partMetaPageAddr),
+                                        partMetaIo.getTotalBytes(partMetaPageAddr)
+                                )
+                                : null;
+
+                        if (partMetaIo.getVersion() < PartitionMetaIo.VERSIONS.latest().getVersion()) {
+                            partMetaIo.upgradePage(partMetaPageAddr);
+
+                            dirty = true;
+                        }
                     }
 
                     return new PartitionMeta(
                             new FullPageId(treeRootPageId, grpId),
                             new FullPageId(reuseListRootPageId, grpId),
-                            allocatePartMetaPage
+                            allocatePartMetaPage,
+                            statistics
                     );
                 } finally {
-                    pageMemoryImpl.writeUnlock(grpId, partMetaPageId, partMetaPage, allocatePartMetaPage);
+                    pageMemoryImpl.writeUnlock(grpId, partMetaPageId, partMetaPage, dirty);
                 }
             } finally {
                 pageMemoryImpl.releasePage(grpId, partMetaPageId, partMetaPage);
@@ -191,6 +287,149 @@ class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableStorage {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The root of the index tree is stored in the partition meta page, so that the index is found again after a restart.
+     */
+    @Override
+    @TestOnly
+    public PageMemoryHashIndexStorage createHashIndexStorage(int partitionId, String indexName) {
+        TableView tableView = tableCfg.value();
+
+        var partitionStorage = (PersistentPageMemoryPartitionStorage) getOrCreatePartition(partitionId);
+
+        CheckpointTimeoutLock checkpointTimeoutLock = ((PersistentPageMemoryDataRegion) dataRegion)
+                .checkpointManager()
+                .checkpointTimeoutLock();
+
+        checkpointTimeoutLock.checkpointReadLock();
+
+        try {
+            IndexMeta indexMeta = getOrCreateIndexMeta(tableView, partitionId, indexName);
+
+            return new PersistentPageMemoryHashIndexStorage(
+                    partitionId,
+                    tableView,
+                    new HashIndexDescriptor(indexName, tableView),
+                    dataRegion,
+                    partitionStorage.freeList(),
+                    indexMeta,
+                    checkpointTimeoutLock,
+                    () -> removeIndexMeta(tableView, partitionId, indexName)
+            );
+        } finally {
+            checkpointTimeoutLock.checkpointReadUnlock();
+        }
+    }
+
+    /**
+     * Creates new or reads existing index meta. Must be called under the checkpoint read lock.
+     *
+     * @param tableView Table configuration.
+     * @param partId Partition ID.
+     * @param indexName Index name.
+     * @return Index meta.
+     * @throws StorageException If failed.
+     */
+    IndexMeta getOrCreateIndexMeta(TableView tableView, int partId, String indexName) throws StorageException {
+        PageMemoryImpl pageMemoryImpl = (PageMemoryImpl) dataRegion.pageMemory();
+
+        int grpId = groupId(tableView);
+
+        try {
+            long partMetaPageId = pageMemoryImpl.partitionMetaPageId(grpId, partId);
+
+            long partMetaPage = pageMemoryImpl.acquirePage(grpId, partMetaPageId);
+
+            try {
+                long partMetaPageAddr = pageMemoryImpl.writeLock(grpId, partMetaPageId, partMetaPage);
+
+                boolean allocate = false;
+
+                try {
+                    PartitionMetaIo partMetaIo = pageMemoryImpl.ioRegistry().resolve(partMetaPageAddr);
+
+                    long treeRootPageId = partMetaIo.getIndexRootPageId(partMetaPageAddr, indexName);
+
+                    if (treeRootPageId == 0) {
+                        if (!partMetaIo.canAddIndexRootPageId(partMetaPageAddr, pageMemoryImpl.realPageSize(grpId), indexName)) {
+                            throw new StorageException(String.format(
+                                    "No space left for the index root in the partition meta page "
+                                            + "[tableName=%s, partitionId=%s, indexName=%s]",
+                                    tableView.name(), partId, indexName
+                            ));
+                        }
+
+                        allocate = true;
+
+                        treeRootPageId = pageMemoryImpl.allocatePage(grpId, partId, FLAG_AUX);
+
+                        partMetaIo.addIndexRootPageId(partMetaPageAddr, indexName, treeRootPageId);
+                    }
+
+                    return new IndexMeta(new FullPageId(treeRootPageId, grpId), allocate);
+                } finally {
+                    pageMemoryImpl.writeUnlock(grpId, partMetaPageId, partMetaPage, allocate);
+                }
+            } finally {
+                pageMemoryImpl.releasePage(grpId, partMetaPageId, partMetaPage);
+            }
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException(
+                    String.format(
+                            "Error getting or creating index metadata [tableName=%s, partitionId=%s, indexName=%s]",
+                            tableView.name(), partId, indexName
+                    ),
+                    e
+            );
+        }
+    }
+
+    /**
+     * Removes index meta after the index tree has been destroyed. Must be called under the checkpoint read lock.
+     *
+     * @param tableView Table configuration.
+     * @param partId Partition ID.
+     * @param indexName Index name.
+     * @throws StorageException If failed.
+     */
+    void removeIndexMeta(TableView tableView, int partId, String indexName) throws StorageException {
+        PageMemoryImpl pageMemoryImpl = (PageMemoryImpl) dataRegion.pageMemory();
+
+        int grpId = groupId(tableView);
+
+        try {
+            long partMetaPageId = pageMemoryImpl.partitionMetaPageId(grpId, partId);
+
+            long partMetaPage = pageMemoryImpl.acquirePage(grpId, partMetaPageId);
+
+            try {
+                long partMetaPageAddr = pageMemoryImpl.writeLock(grpId, partMetaPageId, partMetaPage);
+
+                boolean removed = false;
+
+                try {
+                    PartitionMetaIo partMetaIo = pageMemoryImpl.ioRegistry().resolve(partMetaPageAddr);
+
+                    removed = partMetaIo.removeIndexRootPageId(partMetaPageAddr, indexName);
+                } finally {
+                    pageMemoryImpl.writeUnlock(grpId, partMetaPageId, partMetaPage, removed);
+                }
+            } finally {
+                pageMemoryImpl.releasePage(grpId, partMetaPageId, partMetaPage);
+            }
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException(
+                    String.format(
+                            "Error removing index metadata [tableName=%s, partitionId=%s, indexName=%s]",
+                            tableView.name(), partId, indexName
+                    ),
+                    e
+            );
+        }
+    }
+
     /**
      * Returns new {@link TableFreeList} instance for partition.
      *
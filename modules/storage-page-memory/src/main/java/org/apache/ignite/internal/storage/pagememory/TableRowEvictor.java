@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory;
+
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.itemId;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.partitionId;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.getBytes;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.getInt;
+
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.ignite.internal.pagememory.evict.DataRowEvictor;
+import org.apache.ignite.internal.pagememory.io.AbstractDataPageIo;
+import org.apache.ignite.internal.pagememory.io.DataPagePayload;
+import org.apache.ignite.internal.pagememory.io.PageIo;
+import org.apache.ignite.internal.storage.StorageUtils;
+import org.apache.ignite.internal.storage.pagememory.io.TableDataIo;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link DataRowEvictor} of the rows of the {@link VolatilePageMemoryPartitionStorage}s, that share the {@link TableFreeList} of an
+ * in-memory data region.
+ *
+ * <p>Data pages only tell the partition of a row, so the row is looked up by its key in all registered storages of the partition and
+ * is removed from the one, that references the row by the same link.
+ */
+class TableRowEvictor implements DataRowEvictor<TableDataRow> {
+    private static final ByteBuffer EMPTY_VALUE = ByteBuffer.allocate(0);
+
+    private final ConcurrentMap<Integer, Set<VolatilePageMemoryPartitionStorage>> storages = new ConcurrentHashMap<>();
+
+    /**
+     * Registers the partition storage, which rows can be evicted.
+     *
+     * @param storage Partition storage.
+     */
+    void register(VolatilePageMemoryPartitionStorage storage) {
+        storages.computeIfAbsent(storage.partitionId(), partId -> ConcurrentHashMap.newKeySet()).add(storage);
+    }
+
+    /**
+     * Unregisters the partition storage, e.g. before it's destroyed.
+     *
+     * @param storage Partition storage.
+     */
+    void unregister(VolatilePageMemoryPartitionStorage storage) {
+        storages.computeIfPresent(storage.partitionId(), (partId, set) -> {
+            set.remove(storage);
+
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean evictable(PageIo io) {
+        return io instanceof TableDataIo;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable TableDataRow rowToEvict(AbstractDataPageIo<?> io, long pageAddr, long link, int pageSize) {
+        DataPagePayload data = io.readPayload(pageAddr, itemId(link), pageSize);
+
+        long addr = pageAddr + data.offset();
+
+        ByteBuffer key = ByteBuffer.wrap(getBytes(addr, 4, getInt(addr, 0)));
+
+        return new TableDataRow(link, StorageUtils.hashCode(key), key, EMPTY_VALUE);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean evictRow(TableDataRow row) throws IgniteInternalCheckedException {
+        Set<VolatilePageMemoryPartitionStorage> partStorages = storages.get(partitionId(pageId(row.link())));
+
+        if (partStorages == null) {
+            return false;
+        }
+
+        for (VolatilePageMemoryPartitionStorage storage : partStorages) {
+            if (storage.evict(row)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
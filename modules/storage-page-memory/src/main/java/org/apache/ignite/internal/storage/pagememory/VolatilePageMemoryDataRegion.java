@@ -19,10 +19,17 @@ package org.apache.ignite.internal.storage.pagememory;
 
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.INDEX_PARTITION;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionConfigurationSchema.RANDOM_2_LRU_EVICTION_MODE;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionConfigurationSchema.RANDOM_LRU_EVICTION_MODE;
 
 import org.apache.ignite.internal.pagememory.PageMemory;
 import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionView;
+import org.apache.ignite.internal.pagememory.evict.PageAbstractEvictionTracker;
+import org.apache.ignite.internal.pagememory.evict.PageEvictionTracker;
 import org.apache.ignite.internal.pagememory.evict.PageEvictionTrackerNoOp;
+import org.apache.ignite.internal.pagememory.evict.Random2LruPageEvictionTracker;
+import org.apache.ignite.internal.pagememory.evict.RandomLruPageEvictionTracker;
 import org.apache.ignite.internal.pagememory.impl.PageMemoryNoStoreImpl;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
@@ -32,6 +39,7 @@ import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.pagememory.mv.RowVersionFreeList;
 import org.apache.ignite.internal.storage.pagememory.mv.VersionChainFreeList;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Implementation of {@link AbstractPageMemoryDataRegion} for in-memory case.
@@ -44,6 +52,11 @@ class VolatilePageMemoryDataRegion extends AbstractPageMemoryDataRegion {
     private VersionChainFreeList versionChainFreeList;
     private RowVersionFreeList rowVersionFreeList;
 
+    private final TableRowEvictor rowEvictor = new TableRowEvictor();
+
+    /** Eviction tracker of the table data pages, {@code null} if eviction is disabled. */
+    private @Nullable PageAbstractEvictionTracker evictionTracker;
+
     /**
      * Constructor.
      *
@@ -65,7 +78,7 @@ class VolatilePageMemoryDataRegion extends AbstractPageMemoryDataRegion {
     public void start() {
         assert !persistent() : cfg.value().name();
 
-        PageMemory pageMemory = new PageMemoryNoStoreImpl(
+        PageMemoryNoStoreImpl pageMemory = new PageMemoryNoStoreImpl(
                 cfg,
                 ioRegistry,
                 pageSize
@@ -75,8 +88,17 @@ class VolatilePageMemoryDataRegion extends AbstractPageMemoryDataRegion {
 
         this.pageMemory = pageMemory;
 
+        evictionTracker = createEvictionTracker(pageMemory, cfg.value());
+
+        if (evictionTracker != null) {
+            evictionTracker.start();
+        }
+
         try {
-            this.tableFreeList = createTableFreeList(pageMemory);
+            this.tableFreeList = createTableFreeList(
+                    pageMemory,
+                    evictionTracker == null ? PageEvictionTrackerNoOp.INSTANCE : evictionTracker
+            );
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Error creating a TableFreeList", e);
         }
@@ -94,7 +116,26 @@ class VolatilePageMemoryDataRegion extends AbstractPageMemoryDataRegion {
         }
     }
 
-    private TableFreeList createTableFreeList(PageMemory pageMemory) throws IgniteInternalCheckedException {
+    private @Nullable PageAbstractEvictionTracker createEvictionTracker(
+            PageMemoryNoStoreImpl pageMemory,
+            PageMemoryDataRegionView cfgView
+    ) {
+        switch (cfgView.evictionMode()) {
+            case RANDOM_LRU_EVICTION_MODE:
+                return new RandomLruPageEvictionTracker(pageMemory, cfgView, rowEvictor, () -> tableFreeList.emptyDataPages());
+
+            case RANDOM_2_LRU_EVICTION_MODE:
+                return new Random2LruPageEvictionTracker(pageMemory, cfgView, rowEvictor, () -> tableFreeList.emptyDataPages());
+
+            default:
+                return null;
+        }
+    }
+
+    private static TableFreeList createTableFreeList(
+            PageMemory pageMemory,
+            PageEvictionTracker evictionTracker
+    ) throws IgniteInternalCheckedException {
         long metaPageId = pageMemory.allocatePage(VolatilePageMemoryDataRegion.FREE_LIST_GROUP_ID, INDEX_PARTITION, FLAG_AUX);
 
         return new TableFreeList(
@@ -104,7 +145,7 @@ class VolatilePageMemoryDataRegion extends AbstractPageMemoryDataRegion {
                 metaPageId,
                 true,
                 null,
-                PageEvictionTrackerNoOp.INSTANCE,
+                evictionTracker,
                 IoStatisticsHolderNoOp.INSTANCE
         );
     }
@@ -157,6 +198,9 @@ class VolatilePageMemoryDataRegion extends AbstractPageMemoryDataRegion {
         if (rowVersionFreeList != null) {
             rowVersionFreeList.close();
         }
+        if (evictionTracker != null) {
+            evictionTracker.stop();
+        }
     }
 
     /**
@@ -181,4 +225,18 @@ class VolatilePageMemoryDataRegion extends AbstractPageMemoryDataRegion {
     public RowVersionFreeList rowVersionFreeList() {
         return rowVersionFreeList;
     }
+
+    /**
+     * Returns the eviction tracker of the table data pages, {@code null} if eviction is disabled.
+     */
+    public @Nullable PageAbstractEvictionTracker evictionTracker() {
+        return evictionTracker;
+    }
+
+    /**
+     * Returns the evictor of the table rows, with which the partition storages of the region should be registered.
+     */
+    TableRowEvictor rowEvictor() {
+        return rowEvictor;
+    }
 }
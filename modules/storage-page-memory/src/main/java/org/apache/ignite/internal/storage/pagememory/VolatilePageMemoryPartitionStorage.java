@@ -18,21 +18,27 @@
 package org.apache.ignite.internal.storage.pagememory;
 
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.MAX_PARTITION_ID;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
 
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
+import org.apache.ignite.internal.pagememory.evict.PageEvictionTracker;
+import org.apache.ignite.internal.pagememory.evict.PageEvictionTrackerNoOp;
 import org.apache.ignite.internal.pagememory.tree.BplusTree;
 import org.apache.ignite.internal.pagememory.tree.IgniteTree;
 import org.apache.ignite.internal.storage.DataRow;
 import org.apache.ignite.internal.storage.InvokeClosure;
 import org.apache.ignite.internal.storage.OperationType;
+import org.apache.ignite.internal.storage.PartitionStatistics;
 import org.apache.ignite.internal.storage.PartitionStorage;
 import org.apache.ignite.internal.storage.SearchRow;
 import org.apache.ignite.internal.storage.StorageException;
@@ -54,6 +60,14 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
 
     private final TableFreeList freeList;
 
+    private final PageEvictionTracker evictionTracker;
+
+    /** Number of rows. */
+    private final LongAdder rowsCount = new LongAdder();
+
+    /** Total size of the rows. */
+    private final LongAdder totalBytes = new LongAdder();
+
     /**
      * Constructor.
      *
@@ -66,12 +80,60 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
             int partId,
             TableFreeList freeList,
             TableTree tree
+    ) throws StorageException {
+        this(partId, freeList, tree, PartitionStatistics.EMPTY, PageEvictionTrackerNoOp.INSTANCE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param partId Partition id.
+     * @param freeList Table free list.
+     * @param tree Table tree.
+     * @param statistics Statistics of the data that the tree already contains, {@code null} if they are unknown and must be counted.
+     * @param evictionTracker Eviction tracker of the data region, that is touched on reads and frees up memory before inserts.
+     * @throws StorageException If there is an error while creating the partition storage.
+     */
+    VolatilePageMemoryPartitionStorage(
+            int partId,
+            TableFreeList freeList,
+            TableTree tree,
+            @Nullable PartitionStatistics statistics,
+            PageEvictionTracker evictionTracker
     ) throws StorageException {
         assert partId >= 0 && partId < MAX_PARTITION_ID : partId;
 
         this.partId = partId;
         this.freeList = freeList;
         this.tree = tree;
+        this.evictionTracker = evictionTracker;
+
+        if (statistics == null) {
+            countStatistics();
+        } else {
+            rowsCount.add(statistics.rowsCount());
+            totalBytes.add(statistics.totalBytes());
+        }
+    }
+
+    /**
+     * Counts the statistics by a full scan of the tree.
+     *
+     * @throws StorageException If failed.
+     */
+    private void countStatistics() throws StorageException {
+        try {
+            IgniteCursor<TableDataRow> cursor = tree.find(null, null);
+
+            while (cursor.next()) {
+                TableDataRow row = cursor.get();
+
+                rowsCount.increment();
+                totalBytes.add(rowSize(row));
+            }
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Error counting statistics of partition " + partId, e);
+        }
     }
 
     /** {@inheritDoc} */
@@ -84,7 +146,7 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
     @Override
     public @Nullable DataRow read(SearchRow key) throws StorageException {
         try {
-            return wrap(tree.findOne(wrap(key)));
+            return wrap(touch(tree.findOne(wrap(key))));
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Error reading row", e);
         }
@@ -93,28 +155,73 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
     /** {@inheritDoc} */
     @Override
     public Collection<DataRow> readAll(List<? extends SearchRow> keys) throws StorageException {
-        Collection<DataRow> res = new ArrayList<>(keys.size());
+        int size = keys.size();
+
+        TableSearchRow[] searchRows = new TableSearchRow[size];
+        Integer[] order = new Integer[size];
+
+        for (int i = 0; i < size; i++) {
+            searchRows[i] = wrap(keys.get(i));
+            order[i] = i;
+        }
+
+        // Looking the keys up in the tree order makes consecutive descents go through the same (already cached) inner pages.
+        Arrays.sort(order, (i1, i2) -> compareInTreeOrder(searchRows[i1], searchRows[i2]));
+
+        DataRow[] found = new DataRow[size];
 
         try {
-            for (SearchRow key : keys) {
-                res.add(wrap(tree.findOne(wrap(key))));
+            for (int i : order) {
+                found[i] = wrap(touch(tree.findOne(searchRows[i])));
             }
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Error reading rows", e);
         }
 
+        Collection<DataRow> res = new ArrayList<>(size);
+
+        for (DataRow row : found) {
+            if (row != null) {
+                res.add(row);
+            }
+        }
+
         return res;
     }
 
+    /**
+     * Compares search rows the same way as {@link TableTree} does: by hash, then by key length, then by key bytes.
+     *
+     * @param row1 First row.
+     * @param row2 Second row.
+     * @return Comparison result.
+     */
+    private static int compareInTreeOrder(TableSearchRow row1, TableSearchRow row2) {
+        int cmp = Integer.compare(row1.hash(), row2.hash());
+
+        if (cmp != 0) {
+            return cmp;
+        }
+
+        ByteBuffer key1 = row1.key();
+        ByteBuffer key2 = row2.key();
+
+        cmp = Integer.compare(key1.limit(), key2.limit());
+
+        return cmp != 0 ? cmp : key1.compareTo(key2);
+    }
+
     /** {@inheritDoc} */
     @Override
     public void write(DataRow row) throws StorageException {
         try {
             TableDataRow dataRow = wrap(row);
 
+            evictionTracker.ensureFreeSpace();
+
             freeList.insertDataRow(dataRow);
 
-            tree.put(dataRow);
+            onReplace(tree.put(dataRow), dataRow);
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Error writing row", e);
         }
@@ -127,9 +234,11 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
             for (DataRow row : rows) {
                 TableDataRow dataRow = wrap(row);
 
+                evictionTracker.ensureFreeSpace();
+
                 freeList.insertDataRow(dataRow);
 
-                tree.put(dataRow);
+                onReplace(tree.put(dataRow), dataRow);
             }
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Error writing rows", e);
@@ -151,10 +260,14 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
 
                 insertClosure.newRow = dataRow;
 
+                evictionTracker.ensureFreeSpace();
+
                 tree.invoke(dataRow, null, insertClosure);
 
                 if (insertClosure.oldRow != null) {
                     cantInsert.add(row);
+                } else {
+                    onReplace(null, dataRow);
                 }
             }
         } catch (IgniteInternalCheckedException e) {
@@ -174,6 +287,8 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
 
             if (removed != null) {
                 freeList.removeDataRowByLink(removed.link());
+
+                onReplace(removed, null);
             }
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Error removing row", e);
@@ -191,6 +306,8 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
 
                 if (removed != null) {
                     freeList.removeDataRowByLink(removed.link());
+
+                    onReplace(removed, null);
                 } else {
                     skippedRows.add(key);
                 }
@@ -223,6 +340,8 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
                     skipped.add(keyValue);
                 } else {
                     freeList.removeDataRowByLink(removeExactClosure.foundRow.link());
+
+                    onReplace(removeExactClosure.foundRow, null);
                 }
             }
         } catch (IgniteInternalCheckedException e) {
@@ -235,10 +354,16 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
     /** {@inheritDoc} */
     @Override
     public <T> @Nullable T invoke(SearchRow key, InvokeClosure<T> clo) throws StorageException {
-        IgniteTree.InvokeClosure<TableDataRow> treeClosure = new IgniteTree.InvokeClosure<>() {
+        var treeClosure = new IgniteTree.InvokeClosure<TableDataRow>() {
+            @Nullable TableDataRow oldRow;
+
+            @Nullable TableDataRow newRow;
+
             /** {@inheritDoc} */
             @Override
             public void call(@Nullable TableDataRow oldRow) {
+                this.oldRow = oldRow;
+
                 clo.call(wrap(oldRow));
             }
 
@@ -259,6 +384,8 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
                     throw new IgniteInternalException(e);
                 }
 
+                this.newRow = dataRow;
+
                 return dataRow;
             }
 
@@ -284,11 +411,28 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
         };
 
         try {
+            evictionTracker.ensureFreeSpace();
+
             tree.invoke(wrap(key), null, treeClosure);
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Error invoking a closure for a row", e);
         }
 
+        switch (clo.operationType()) {
+            case WRITE:
+                onReplace(treeClosure.oldRow, treeClosure.newRow);
+
+                break;
+
+            case REMOVE:
+                onReplace(treeClosure.oldRow, null);
+
+                break;
+
+            default:
+                break;
+        }
+
         return clo.result();
     }
 
@@ -373,18 +517,81 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Error while destroying data", e);
         }
+
+        rowsCount.reset();
+        totalBytes.reset();
+    }
+
+    /**
+     * Returns the free list of the partition, which is also the reuse list for the other trees of the partition.
+     */
+    TableFreeList freeList() {
+        return freeList;
     }
 
     /** {@inheritDoc} */
     @Override
-    public long rowsCount() {
-        try {
-            return tree.size();
-        } catch (IgniteInternalCheckedException e) {
-            throw new StorageException("Error occurred while fetching the size.", e);
+    public PartitionStatistics statistics() {
+        return new PartitionStatistics(rowsCount.sum(), totalBytes.sum());
+    }
+
+    /**
+     * Removes the row from the partition, if the partition still references it by the same link. Unlike the other removals, it's
+     * invoked by the eviction, which only knows the key and the link of the row.
+     *
+     * @param keyRow Row with the key and the link, the value is ignored.
+     * @return {@code True} if the row has been evicted.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    boolean evict(TableDataRow keyRow) throws IgniteInternalCheckedException {
+        EvictClosure evictClosure = new EvictClosure(keyRow.link());
+
+        tree.invoke(keyRow, null, evictClosure);
+
+        if (evictClosure.foundRow == null) {
+            return false;
+        }
+
+        freeList.removeDataRowByLink(evictClosure.foundRow.link());
+
+        onReplace(evictClosure.foundRow, null);
+
+        return true;
+    }
+
+    /**
+     * Marks the data page of the found row as recently used.
+     */
+    private @Nullable TableDataRow touch(@Nullable TableDataRow row) throws IgniteInternalCheckedException {
+        if (row != null) {
+            evictionTracker.touchPage(pageId(row.link()));
+        }
+
+        return row;
+    }
+
+    /**
+     * Accounts the replacement of a row in the statistics.
+     *
+     * @param oldRow Replaced row, {@code null} if it's an insertion.
+     * @param newRow New row, {@code null} if it's a removal.
+     */
+    private void onReplace(@Nullable TableDataRow oldRow, @Nullable TableDataRow newRow) {
+        if (oldRow != null) {
+            rowsCount.decrement();
+            totalBytes.add(-rowSize(oldRow));
+        }
+
+        if (newRow != null) {
+            rowsCount.increment();
+            totalBytes.add(rowSize(newRow));
         }
     }
 
+    private static int rowSize(TableDataRow row) {
+        return row.key().limit() + row.value().limit();
+    }
+
     /** {@inheritDoc} */
     @Override
     public void close() {
@@ -485,4 +692,35 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
             foundRow = null;
         }
     }
+
+    private static class EvictClosure implements IgniteTree.InvokeClosure<TableDataRow> {
+        final long link;
+
+        @Nullable TableDataRow foundRow;
+
+        EvictClosure(long link) {
+            this.link = link;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void call(@Nullable TableDataRow oldRow) {
+            // The key may have been removed and inserted again since the row has been chosen for eviction.
+            if (oldRow != null && oldRow.link() == link) {
+                foundRow = oldRow;
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public @Nullable TableDataRow newRow() {
+            return null;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public IgniteTree.OperationType operationType() {
+            return foundRow == null ? IgniteTree.OperationType.NOOP : IgniteTree.OperationType.REMOVE;
+        }
+    }
 }
@@ -23,9 +23,14 @@ import static org.apache.ignite.internal.storage.StorageUtils.groupId;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.ignite.configuration.schemas.table.TableConfiguration;
 import org.apache.ignite.configuration.schemas.table.TableView;
+import org.apache.ignite.internal.pagememory.evict.PageEvictionTracker;
+import org.apache.ignite.internal.pagememory.evict.PageEvictionTrackerNoOp;
 import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
+import org.apache.ignite.internal.storage.PartitionStatistics;
+import org.apache.ignite.internal.storage.PartitionStorage;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Implementation of {@link AbstractPageMemoryTableStorage} for in-memory case.
@@ -44,15 +49,50 @@ class VolatilePageMemoryTableStorage extends AbstractPageMemoryTableStorage {
     /** {@inheritDoc} */
     @Override
     protected VolatilePageMemoryPartitionStorage createPartitionStorage(int partId) throws StorageException {
-        TableFreeList tableFreeList = ((VolatilePageMemoryDataRegion) dataRegion).tableFreeList();
+        VolatilePageMemoryDataRegion volatileDataRegion = (VolatilePageMemoryDataRegion) dataRegion;
+
+        TableFreeList tableFreeList = volatileDataRegion.tableFreeList();
 
         TableTree tableTree = createTableTree(tableCfg.value(), partId, tableFreeList);
 
-        return new VolatilePageMemoryPartitionStorage(
+        PageEvictionTracker evictionTracker = volatileDataRegion.evictionTracker();
+
+        VolatilePageMemoryPartitionStorage partitionStorage = new VolatilePageMemoryPartitionStorage(
                 partId,
                 tableFreeList,
-                tableTree
+                tableTree,
+                PartitionStatistics.EMPTY,
+                evictionTracker == null ? PageEvictionTrackerNoOp.INSTANCE : evictionTracker
         );
+
+        volatileDataRegion.rowEvictor().register(partitionStorage);
+
+        return partitionStorage;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop() throws StorageException {
+        for (int i = 0; i < partitions.length(); i++) {
+            unregisterFromEviction(partitions.get(i));
+        }
+
+        super.stop();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void dropPartition(int partId) throws StorageException {
+        // The rows of a destroyed partition must not be looked up by the eviction.
+        unregisterFromEviction(getPartition(partId));
+
+        super.dropPartition(partId);
+    }
+
+    private void unregisterFromEviction(@Nullable PartitionStorage partitionStorage) {
+        if (partitionStorage != null) {
+            ((VolatilePageMemoryDataRegion) dataRegion).rowEvictor().unregister((VolatilePageMemoryPartitionStorage) partitionStorage);
+        }
     }
 
     /**
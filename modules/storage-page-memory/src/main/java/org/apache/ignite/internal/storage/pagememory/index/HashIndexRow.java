@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.index;
+
+import org.apache.ignite.internal.tostring.S;
+
+/**
+ * Entry of a {@link HashIndexTree}: hash of the indexed values and a link to the version chain of the row.
+ */
+public class HashIndexRow {
+    /** Size of the entry in a tree page. */
+    public static final int SIZE_IN_BYTES = Integer.BYTES + Long.BYTES;
+
+    private final int hash;
+
+    private final long link;
+
+    /**
+     * Constructor.
+     *
+     * @param hash Hash of the indexed values.
+     * @param link Link to the version chain of the row.
+     */
+    public HashIndexRow(int hash, long link) {
+        this.hash = hash;
+        this.link = link;
+    }
+
+    /**
+     * Returns the hash of the indexed values.
+     */
+    public int hash() {
+        return hash;
+    }
+
+    /**
+     * Returns the link to the version chain of the row.
+     */
+    public long link() {
+        return link;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(HashIndexRow.class, this);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.index;
+
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.pagememory.PageMemory;
+import org.apache.ignite.internal.pagememory.reuse.ReuseList;
+import org.apache.ignite.internal.pagememory.tree.BplusTree;
+import org.apache.ignite.internal.pagememory.tree.io.BplusIo;
+import org.apache.ignite.internal.pagememory.util.PageLockListener;
+import org.apache.ignite.internal.storage.pagememory.index.io.HashIndexInnerIo;
+import org.apache.ignite.internal.storage.pagememory.index.io.HashIndexIo;
+import org.apache.ignite.internal.storage.pagememory.index.io.HashIndexLeafIo;
+import org.apache.ignite.internal.storage.pagememory.index.io.HashIndexMetaIo;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link BplusTree} implementation for storing hash index entries.
+ *
+ * <p>Entries are ordered by the hash of the indexed values and then by the row link, so all the rows with the same hash form a contiguous
+ * range of a fixed size entries and can be found with a single descent, without comparing the indexed values themselves.
+ */
+public class HashIndexTree extends BplusTree<HashIndexRow, HashIndexRow> {
+    private final int partitionId;
+
+    /**
+     * Constructor.
+     *
+     * @param grpId Group ID.
+     * @param grpName Group name.
+     * @param pageMem Page memory.
+     * @param lockLsnr Page lock listener.
+     * @param globalRmvId Global remove ID.
+     * @param metaPageId Meta page ID.
+     * @param reuseList Reuse list.
+     * @param partitionId Partition id.
+     * @param initNew {@code True} if new tree should be created.
+     */
+    public HashIndexTree(
+            int grpId,
+            String grpName,
+            PageMemory pageMem,
+            PageLockListener lockLsnr,
+            AtomicLong globalRmvId,
+            long metaPageId,
+            @Nullable ReuseList reuseList,
+            int partitionId,
+            boolean initNew
+    ) throws IgniteInternalCheckedException {
+        super(
+                "HashIndexTree_" + grpId,
+                grpId,
+                grpName,
+                pageMem,
+                lockLsnr,
+                FLAG_AUX,
+                globalRmvId,
+                metaPageId,
+                reuseList
+        );
+
+        this.partitionId = partitionId;
+
+        setIos(HashIndexInnerIo.VERSIONS, HashIndexLeafIo.VERSIONS, HashIndexMetaIo.VERSIONS);
+
+        // Rows are compared by the hashes and links stored in the tree pages only.
+        enableOptimisticReads();
+
+        initTree(initNew);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected long allocatePageNoReuse() throws IgniteInternalCheckedException {
+        return pageMem.allocatePage(grpId, partitionId, defaultPageFlag);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected int compare(BplusIo<HashIndexRow> io, long pageAddr, int idx, HashIndexRow row) {
+        HashIndexIo hashIndexIo = (HashIndexIo) io;
+
+        int cmp = Integer.compare(hashIndexIo.hash(pageAddr, idx), row.hash());
+
+        return cmp != 0 ? cmp : Long.compare(hashIndexIo.link(pageAddr, idx), row.link());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public HashIndexRow getRow(BplusIo<HashIndexRow> io, long pageAddr, int idx, Object x) {
+        HashIndexIo hashIndexIo = (HashIndexIo) io;
+
+        return new HashIndexRow(hashIndexIo.hash(pageAddr, idx), hashIndexIo.link(pageAddr, idx));
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.configuration.schemas.table.TableView;
+import org.apache.ignite.internal.pagememory.PageMemoryDataRegion;
+import org.apache.ignite.internal.pagememory.reuse.ReuseList;
+import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.StorageUtils;
+import org.apache.ignite.internal.storage.index.HashIndexDescriptor;
+import org.apache.ignite.internal.storage.index.HashIndexStorage;
+import org.apache.ignite.internal.storage.pagememory.mv.LinkRowId;
+import org.apache.ignite.internal.util.IgniteCursor;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+
+/**
+ * Implementation of {@link HashIndexStorage} based on a {@link HashIndexTree}.
+ *
+ * <p>Only the hashes of the indexed values are stored, which keeps the tree entries small and of a fixed size, but makes the index lossy:
+ * {@link #get} also returns the rows which indexed values have the same hash as the searched ones, so they must be re-checked by the
+ * caller, as allowed by the {@link HashIndexStorage} contract.
+ */
+public class PageMemoryHashIndexStorage implements HashIndexStorage {
+    private final HashIndexDescriptor descriptor;
+
+    private final HashIndexTree tree;
+
+    /**
+     * Constructor.
+     *
+     * @param partitionId Partition id.
+     * @param tableConfig Table configuration.
+     * @param descriptor Index descriptor.
+     * @param dataRegion Data region.
+     * @param reuseList Reuse list for the tree pages.
+     * @param metaPageId Meta page id of the tree.
+     * @param initNew {@code True} if a new tree should be created, {@code false} to open the tree that the meta page holds.
+     */
+    public PageMemoryHashIndexStorage(
+            int partitionId,
+            TableView tableConfig,
+            HashIndexDescriptor descriptor,
+            PageMemoryDataRegion dataRegion,
+            ReuseList reuseList,
+            long metaPageId,
+            boolean initNew
+    ) {
+        this.descriptor = descriptor;
+
+        try {
+            tree = new HashIndexTree(
+                    StorageUtils.groupId(tableConfig),
+                    tableConfig.name(),
+                    dataRegion.pageMemory(),
+                    PageLockListenerNoOp.INSTANCE,
+                    new AtomicLong(),
+                    metaPageId,
+                    reuseList,
+                    partitionId,
+                    initNew
+            );
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Error occurred while creating the hash index storage", e);
+        }
+    }
+
+    @Override
+    public HashIndexDescriptor indexDescriptor() {
+        return descriptor;
+    }
+
+    @Override
+    public Collection<RowId> get(Object[] columnValues) {
+        BinaryRow binaryKey = descriptor.toBinaryKey(columnValues);
+
+        if (binaryKey == null) {
+            return List.of();
+        }
+
+        int hash = binaryKey.hash();
+
+        List<RowId> result = new ArrayList<>();
+
+        try {
+            IgniteCursor<HashIndexRow> cursor = tree.find(new HashIndexRow(hash, Long.MIN_VALUE), new HashIndexRow(hash, Long.MAX_VALUE));
+
+            while (cursor.next()) {
+                result.add(new LinkRowId(cursor.get().link()));
+            }
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Error while reading the hash index", e);
+        }
+
+        return result;
+    }
+
+    @Override
+    public void put(Object[] columnValues, RowId rowId) {
+        BinaryRow binaryKey = descriptor.toBinaryKey(columnValues);
+
+        if (binaryKey == null) {
+            return;
+        }
+
+        try {
+            tree.putx(new HashIndexRow(binaryKey.hash(), linkOf(rowId)));
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Error while adding data to the hash index", e);
+        }
+    }
+
+    @Override
+    public void remove(Object[] columnValues, RowId rowId) {
+        BinaryRow binaryKey = descriptor.toBinaryKey(columnValues);
+
+        if (binaryKey == null) {
+            return;
+        }
+
+        try {
+            tree.removex(new HashIndexRow(binaryKey.hash(), linkOf(rowId)));
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Error while removing data from the hash index", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        try {
+            tree.destroy();
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Error while destroying the hash index", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        tree.close();
+    }
+
+    private static long linkOf(RowId rowId) {
+        assert rowId instanceof LinkRowId : rowId;
+
+        return ((LinkRowId) rowId).versionChainLink();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.index.io;
+
+import static org.apache.ignite.internal.pagememory.util.PageUtils.getInt;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.getLong;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.putInt;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.putLong;
+
+import org.apache.ignite.internal.pagememory.io.IoVersions;
+import org.apache.ignite.internal.pagememory.tree.BplusTree;
+import org.apache.ignite.internal.pagememory.tree.io.BplusInnerIo;
+import org.apache.ignite.internal.pagememory.tree.io.BplusIo;
+import org.apache.ignite.internal.storage.pagememory.index.HashIndexRow;
+import org.apache.ignite.internal.storage.pagememory.index.HashIndexTree;
+
+/**
+ * IO routines for {@link HashIndexTree} inner pages.
+ *
+ * <p>Structure: hash(int), link(long).
+ */
+public class HashIndexInnerIo extends BplusInnerIo<HashIndexRow> implements HashIndexIo {
+    /** Page IO type. */
+    public static final short T_HASH_INDEX_INNER_IO = 14;
+
+    /** I/O versions. */
+    public static final IoVersions<HashIndexInnerIo> VERSIONS = new IoVersions<>(new HashIndexInnerIo(1));
+
+    /**
+     * Constructor.
+     *
+     * @param ver Page format version.
+     */
+    protected HashIndexInnerIo(int ver) {
+        super(T_HASH_INDEX_INNER_IO, ver, true, HashIndexRow.SIZE_IN_BYTES);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void store(long dstPageAddr, int dstIdx, BplusIo<HashIndexRow> srcIo, long srcPageAddr, int srcIdx) {
+        assertPageType(dstPageAddr);
+
+        HashIndexIo srcHashIndexIo = (HashIndexIo) srcIo;
+
+        int dstOff = offset(dstIdx);
+
+        putInt(dstPageAddr, dstOff, srcHashIndexIo.hash(srcPageAddr, srcIdx));
+        putLong(dstPageAddr, dstOff + Integer.BYTES, srcHashIndexIo.link(srcPageAddr, srcIdx));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void storeByOffset(long pageAddr, int off, HashIndexRow row) {
+        assertPageType(pageAddr);
+
+        putInt(pageAddr, off, row.hash());
+        putLong(pageAddr, off + Integer.BYTES, row.link());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public HashIndexRow getLookupRow(BplusTree<HashIndexRow, ?> tree, long pageAddr, int idx) {
+        return new HashIndexRow(hash(pageAddr, idx), link(pageAddr, idx));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hash(long pageAddr, int idx) {
+        assert idx < getCount(pageAddr) : idx;
+
+        return getInt(pageAddr, offset(idx));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long link(long pageAddr, int idx) {
+        assert idx < getCount(pageAddr) : idx;
+
+        return getLong(pageAddr, offset(idx) + Integer.BYTES);
+    }
+}
@@ -17,27 +17,60 @@
 
 package org.apache.ignite.internal.storage.pagememory.io;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.getBytes;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.getInt;
 import static org.apache.ignite.internal.pagememory.util.PageUtils.getLong;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.getShort;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.putBytes;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.putInt;
 import static org.apache.ignite.internal.pagememory.util.PageUtils.putLong;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.putShort;
 
+import java.util.Arrays;
 import org.apache.ignite.internal.pagememory.io.IoVersions;
 import org.apache.ignite.internal.pagememory.io.PageIo;
 import org.apache.ignite.lang.IgniteStringBuilder;
 
 /**
  * Io for partition metadata pages.
+ *
+ * <p>Version 1 pages only store the roots of the partition, the statistics of the partition were added in version 2 and the roots of
+ * the index trees of the partition in version 3. The areas added by a newer version are not initialized in the pages of older versions,
+ * so they must not be read before the page is {@link #upgradePage upgraded}.
+ *
+ * <p>Index roots are stored as a sequence of {@code [name length, name, root page ID]} entries, where the length is a 2 byte integer and
+ * the name is encoded in UTF-8.
  */
 public class PartitionMetaIo extends PageIo {
     private static final int TREE_ROOT_PAGE_ID_OFF = COMMON_HEADER_END;
 
     private static final int REUSE_LIST_ROOT_PAGE_ID_OFF = TREE_ROOT_PAGE_ID_OFF + Long.BYTES;
 
+    private static final int ROWS_COUNT_OFF = REUSE_LIST_ROOT_PAGE_ID_OFF + Long.BYTES;
+
+    private static final int TOTAL_BYTES_OFF = ROWS_COUNT_OFF + Long.BYTES;
+
+    private static final int INDEX_ROOTS_COUNT_OFF = TOTAL_BYTES_OFF + Long.BYTES;
+
+    private static final int INDEX_ROOTS_OFF = INDEX_ROOTS_COUNT_OFF + Integer.BYTES;
+
     /** Page IO type. */
     public static final short T_TABLE_PARTITION_META_IO = 7;
 
     /** I/O versions. */
-    public static final IoVersions<PartitionMetaIo> VERSIONS = new IoVersions<>(new PartitionMetaIo(1));
+    public static final IoVersions<PartitionMetaIo> VERSIONS = new IoVersions<>(
+            new PartitionMetaIo(1),
+            new PartitionMetaIo(2),
+            new PartitionMetaIo(3)
+    );
+
+    /** First version that stores the partition statistics. */
+    private static final int STATISTICS_VERSION = 2;
+
+    /** First version that stores the roots of the index trees. */
+    private static final int INDEX_ROOTS_VERSION = 3;
 
     /**
      * Constructor.
@@ -55,6 +88,38 @@ public class PartitionMetaIo extends PageIo {
 
         setTreeRootPageId(pageAddr, 0);
         setReuseListRootPageId(pageAddr, 0);
+        setRowsCount(pageAddr, 0);
+        setTotalBytes(pageAddr, 0);
+        putInt(pageAddr, INDEX_ROOTS_COUNT_OFF, 0);
+    }
+
+    /**
+     * Returns {@code true} if the page stores the partition statistics, {@code false} if it was written by an older version, so the
+     * statistics have to be counted.
+     */
+    public boolean hasStatistics() {
+        return getVersion() >= STATISTICS_VERSION;
+    }
+
+    /**
+     * Upgrades a page of an older version to the latest one, keeping the data of the older version. The areas added by the newer versions
+     * are initialized: the statistics are reset to zero and the list of index roots is empty.
+     *
+     * @param pageAddr Page address.
+     */
+    public void upgradePage(long pageAddr) {
+        assertPageType(pageAddr);
+
+        if (getVersion() < STATISTICS_VERSION) {
+            putLong(pageAddr, ROWS_COUNT_OFF, 0);
+            putLong(pageAddr, TOTAL_BYTES_OFF, 0);
+        }
+
+        if (getVersion() < INDEX_ROOTS_VERSION) {
+            putInt(pageAddr, INDEX_ROOTS_COUNT_OFF, 0);
+        }
+
+        setVersion(pageAddr, VERSIONS.latest().getVersion());
     }
 
     /**
@@ -99,12 +164,203 @@ public class PartitionMetaIo extends PageIo {
         return getLong(pageAddr, REUSE_LIST_ROOT_PAGE_ID_OFF);
     }
 
+    /**
+     * Sets the number of rows in the partition.
+     *
+     * @param pageAddr Page address.
+     * @param rowsCount Number of rows.
+     */
+    public void setRowsCount(long pageAddr, long rowsCount) {
+        assertPageType(pageAddr);
+        assert hasStatistics() : getVersion();
+
+        putLong(pageAddr, ROWS_COUNT_OFF, rowsCount);
+    }
+
+    /**
+     * Returns the number of rows in the partition.
+     *
+     * @param pageAddr Page address.
+     */
+    public long getRowsCount(long pageAddr) {
+        assert hasStatistics() : getVersion();
+
+        return getLong(pageAddr, ROWS_COUNT_OFF);
+    }
+
+    /**
+     * Sets the total size of the rows in the partition.
+     *
+     * @param pageAddr Page address.
+     * @param totalBytes Total size of the rows in bytes.
+     */
+    public void setTotalBytes(long pageAddr, long totalBytes) {
+        assertPageType(pageAddr);
+        assert hasStatistics() : getVersion();
+
+        putLong(pageAddr, TOTAL_BYTES_OFF, totalBytes);
+    }
+
+    /**
+     * Returns the total size of the rows in the partition.
+     *
+     * @param pageAddr Page address.
+     */
+    public long getTotalBytes(long pageAddr) {
+        assert hasStatistics() : getVersion();
+
+        return getLong(pageAddr, TOTAL_BYTES_OFF);
+    }
+
+    /**
+     * Returns the root page ID of an index tree of the partition.
+     *
+     * @param pageAddr Page address.
+     * @param indexName Index name.
+     * @return Root page ID or {@code 0} if there's no root for the index.
+     */
+    public long getIndexRootPageId(long pageAddr, String indexName) {
+        assert getVersion() >= INDEX_ROOTS_VERSION : getVersion();
+
+        byte[] name = indexName.getBytes(UTF_8);
+
+        int off = INDEX_ROOTS_OFF;
+
+        for (int i = 0, cnt = getInt(pageAddr, INDEX_ROOTS_COUNT_OFF); i < cnt; i++) {
+            int nameLen = getShort(pageAddr, off);
+
+            if (Arrays.equals(getBytes(pageAddr, off + Short.BYTES, nameLen), name)) {
+                return getLong(pageAddr, off + Short.BYTES + nameLen);
+            }
+
+            off += indexRootSize(nameLen);
+        }
+
+        return 0;
+    }
+
+    /**
+     * Checks whether there's enough space left in the page to add the root page ID of an index tree.
+     *
+     * @param pageAddr Page address.
+     * @param pageSize Page size.
+     * @param indexName Index name.
+     */
+    public boolean canAddIndexRootPageId(long pageAddr, int pageSize, String indexName) {
+        assert getVersion() >= INDEX_ROOTS_VERSION : getVersion();
+
+        int nameLen = indexName.getBytes(UTF_8).length;
+
+        return nameLen <= Short.MAX_VALUE
+                && indexRootOffset(pageAddr, getInt(pageAddr, INDEX_ROOTS_COUNT_OFF)) + indexRootSize(nameLen) <= pageSize;
+    }
+
+    /**
+     * Adds the root page ID of an index tree of the partition. There must be no root for the index yet and enough space for it, see
+     * {@link #canAddIndexRootPageId}.
+     *
+     * @param pageAddr Page address.
+     * @param indexName Index name.
+     * @param pageId Root page ID.
+     */
+    public void addIndexRootPageId(long pageAddr, String indexName, long pageId) {
+        assertPageType(pageAddr);
+        assert getVersion() >= INDEX_ROOTS_VERSION : getVersion();
+        assert getIndexRootPageId(pageAddr, indexName) == 0 : indexName;
+
+        byte[] name = indexName.getBytes(UTF_8);
+
+        int cnt = getInt(pageAddr, INDEX_ROOTS_COUNT_OFF);
+
+        int off = indexRootOffset(pageAddr, cnt);
+
+        putShort(pageAddr, off, (short) name.length);
+        putBytes(pageAddr, off + Short.BYTES, name);
+        putLong(pageAddr, off + Short.BYTES + name.length, pageId);
+
+        putInt(pageAddr, INDEX_ROOTS_COUNT_OFF, cnt + 1);
+    }
+
+    /**
+     * Removes the root page ID of an index tree of the partition, if there's one.
+     *
+     * @param pageAddr Page address.
+     * @param indexName Index name.
+     * @return {@code True} if the root has been removed.
+     */
+    public boolean removeIndexRootPageId(long pageAddr, String indexName) {
+        assertPageType(pageAddr);
+        assert getVersion() >= INDEX_ROOTS_VERSION : getVersion();
+
+        byte[] name = indexName.getBytes(UTF_8);
+
+        int cnt = getInt(pageAddr, INDEX_ROOTS_COUNT_OFF);
+
+        int off = INDEX_ROOTS_OFF;
+
+        for (int i = 0; i < cnt; i++) {
+            int nameLen = getShort(pageAddr, off);
+
+            int size = indexRootSize(nameLen);
+
+            if (Arrays.equals(getBytes(pageAddr, off + Short.BYTES, nameLen), name)) {
+                int end = indexRootOffset(pageAddr, cnt);
+
+                // Shift the following entries to the place of the removed one.
+                putBytes(pageAddr, off, getBytes(pageAddr, off + size, end - off - size));
+
+                putInt(pageAddr, INDEX_ROOTS_COUNT_OFF, cnt - 1);
+
+                return true;
+            }
+
+            off += size;
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the offset of an index root entry.
+     *
+     * @param pageAddr Page address.
+     * @param idx Index of the entry, may be equal to the number of entries to get the end of the last one.
+     */
+    private static int indexRootOffset(long pageAddr, int idx) {
+        int off = INDEX_ROOTS_OFF;
+
+        for (int i = 0; i < idx; i++) {
+            off += indexRootSize(getShort(pageAddr, off));
+        }
+
+        return off;
+    }
+
+    /**
+     * Returns the size of an index root entry.
+     *
+     * @param nameLen Length of the encoded index name.
+     */
+    private static int indexRootSize(int nameLen) {
+        return Short.BYTES + nameLen + Long.BYTES;
+    }
+
     /** {@inheritDoc} */
     @Override
     protected void printPage(long addr, int pageSize, IgniteStringBuilder sb) {
         sb.app("TablePartitionMeta [").nl()
                 .app("treeRootPageId=").appendHex(getTreeRootPageId(addr)).nl()
-                .app(", reuseListRootPageId=").appendHex(getReuseListRootPageId(addr)).nl()
-                .app(']');
+                .app(", reuseListRootPageId=").appendHex(getReuseListRootPageId(addr)).nl();
+
+        if (hasStatistics()) {
+            sb.app(", rowsCount=").app(getRowsCount(addr)).nl()
+                    .app(", totalBytes=").app(getTotalBytes(addr)).nl();
+        }
+
+        if (getVersion() >= INDEX_ROOTS_VERSION) {
+            sb.app(", indexRootsCount=").app(getInt(addr, INDEX_ROOTS_COUNT_OFF)).nl();
+        }
+
+        sb.app(']');
     }
 }
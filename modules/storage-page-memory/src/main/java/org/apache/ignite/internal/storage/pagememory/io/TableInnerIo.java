@@ -64,8 +64,10 @@ public class TableInnerIo extends BplusInnerIo<TableSearchRow> implements RowIo
     public void store(long dstPageAddr, int dstIdx, BplusIo<TableSearchRow> srcIo, long srcPageAddr, int srcIdx) {
         assertPageType(dstPageAddr);
 
-        int srcHash = hash(srcPageAddr, srcIdx);
-        long srcLink = link(srcPageAddr, srcIdx);
+        RowIo srcRowIo = (RowIo) srcIo;
+
+        int srcHash = srcRowIo.hash(srcPageAddr, srcIdx);
+        long srcLink = srcRowIo.link(srcPageAddr, srcIdx);
 
         int dstOff = offset(dstIdx);
 
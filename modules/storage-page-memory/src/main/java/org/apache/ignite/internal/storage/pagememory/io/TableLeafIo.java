@@ -63,8 +63,10 @@ public class TableLeafIo extends BplusLeafIo<TableSearchRow> implements RowIo {
     public void store(long dstPageAddr, int dstIdx, BplusIo<TableSearchRow> srcIo, long srcPageAddr, int srcIdx) {
         assertPageType(dstPageAddr);
 
-        int srcHash = hash(srcPageAddr, srcIdx);
-        long srcLink = link(srcPageAddr, srcIdx);
+        RowIo srcRowIo = (RowIo) srcIo;
+
+        int srcHash = srcRowIo.hash(srcPageAddr, srcIdx);
+        long srcLink = srcRowIo.link(srcPageAddr, srcIdx);
 
         int dstOff = offset(dstIdx);
 
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.mv;
+
+import static org.apache.ignite.internal.pagememory.util.PageUtils.getInt;
+
+import java.util.Arrays;
+import org.apache.ignite.internal.pagememory.datapage.PageMemoryTraversal;
+import org.apache.ignite.internal.pagememory.io.DataPagePayload;
+import org.apache.ignite.internal.pagememory.util.PageIdUtils;
+import org.apache.ignite.internal.tx.Timestamp;
+
+/**
+ * Traversal that scans Version Chain until the newest committed version visible at the given low watermark is found, and collects the
+ * links of all the versions older than it. Only the first slots of the versions are read, the values are never loaded.
+ */
+class FindObsoleteRowVersions implements PageMemoryTraversal<Timestamp> {
+    /**
+     * Link of the newest version visible at the low watermark, {@link RowVersion#NULL_LINK} if it's not found yet.
+     */
+    private long boundaryLink = RowVersion.NULL_LINK;
+
+    private long[] obsoleteLinks = new long[8];
+
+    private int obsoleteCount;
+
+    private long obsoleteBytes;
+
+    @Override
+    public long consumePagePayload(long link, long pageAddr, DataPagePayload payload, Timestamp lowWatermark) {
+        if (boundaryLink != RowVersion.NULL_LINK) {
+            if (obsoleteCount == obsoleteLinks.length) {
+                obsoleteLinks = Arrays.copyOf(obsoleteLinks, obsoleteCount * 2);
+            }
+
+            obsoleteLinks[obsoleteCount++] = link;
+
+            obsoleteBytes += RowVersion.VALUE_OFFSET + getInt(pageAddr, payload.offset() + RowVersion.VALUE_SIZE_OFFSET);
+        } else {
+            Timestamp rowVersionTs = Timestamps.readTimestamp(pageAddr, payload.offset() + RowVersion.TIMESTAMP_OFFSET);
+
+            if (rowVersionTs != null && rowVersionTs.beforeOrEquals(lowWatermark)) {
+                boundaryLink = link;
+            }
+        }
+
+        long partitionlessNextLink = PartitionlessLinks.readFromMemory(pageAddr, payload.offset() + RowVersion.NEXT_LINK_OFFSET);
+
+        if (partitionlessNextLink == RowVersion.NULL_LINK) {
+            return STOP_TRAVERSAL;
+        }
+
+        return PartitionlessLinks.addPartitionIdToPartititionlessLink(partitionlessNextLink, partitionIdFromLink(link));
+    }
+
+    private int partitionIdFromLink(long link) {
+        return PageIdUtils.partitionId(PageIdUtils.pageId(link));
+    }
+
+    /**
+     * Returns the link of the newest version visible at the low watermark, {@link RowVersion#NULL_LINK} if there's no such version.
+     */
+    long boundaryLink() {
+        return boundaryLink;
+    }
+
+    /**
+     * Returns the links of the versions older than the boundary one, only the first {@link #obsoleteCount()} elements are valid.
+     */
+    long[] obsoleteLinks() {
+        return obsoleteLinks;
+    }
+
+    int obsoleteCount() {
+        return obsoleteCount;
+    }
+
+    /**
+     * Returns the total size of the versions older than the boundary one, in bytes.
+     */
+    long obsoleteBytes() {
+        return obsoleteBytes;
+    }
+
+    void reset() {
+        boundaryLink = RowVersion.NULL_LINK;
+        obsoleteCount = 0;
+        obsoleteBytes = 0;
+    }
+}
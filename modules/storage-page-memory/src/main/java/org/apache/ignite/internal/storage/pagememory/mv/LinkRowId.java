@@ -39,7 +39,28 @@ public class LinkRowId implements RowId {
         return PageIdUtils.partitionId(pageId);
     }
 
-    long versionChainLink() {
+    /**
+     * Returns the link to the version chain of the row.
+     */
+    public long versionChainLink() {
         return rowLink;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        return rowLink == ((LinkRowId) o).rowLink;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(rowLink);
+    }
 }
@@ -24,6 +24,7 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
 import org.apache.ignite.configuration.schemas.table.TableView;
 import org.apache.ignite.internal.pagememory.PageMemoryDataRegion;
@@ -34,10 +35,12 @@ import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.ByteBufferRow;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.NoUncommittedVersionException;
+import org.apache.ignite.internal.storage.PartitionStatistics;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.StorageUtils;
 import org.apache.ignite.internal.storage.TxIdMismatchException;
+import org.apache.ignite.internal.storage.gc.PruneResult;
 import org.apache.ignite.internal.tx.Timestamp;
 import org.apache.ignite.internal.util.Cursor;
 import org.apache.ignite.internal.util.IgniteCursor;
@@ -72,6 +75,20 @@ public class PageMemoryMvPartitionStorage implements MvPartitionStorage {
             ScanVersionChainByTimestamp::new
     );
 
+    private final FindObsoleteRowVersions findObsoleteRowVersions = new FindObsoleteRowVersions();
+
+    /**
+     * Version chain to resume the version garbage collection from, {@code null} to start from the beginning of the partition.
+     */
+    @Nullable
+    private VersionChainLink gcPosition;
+
+    /** Number of version chains in the partition. */
+    private final LongAdder rowsCount = new LongAdder();
+
+    /** Total size of the row versions payload in the partition, in bytes. */
+    private final LongAdder totalBytes = new LongAdder();
+
     /**
      * Constructor.
      */
@@ -270,6 +287,9 @@ public class PageMemoryMvPartitionStorage implements MvPartitionStorage {
             throw new StorageException("Cannot put a version chain to the tree", e);
         }
 
+        rowsCount.increment();
+        totalBytes.add(rowVersion.valueSize());
+
         return new LinkRowId(versionChain.link());
     }
 
@@ -304,8 +324,12 @@ public class PageMemoryMvPartitionStorage implements MvPartitionStorage {
         if (currentVersion.isUncommitted()) {
             // as we replace an uncommitted version with new one, we need to remove old uncommitted version
             removeRowVersion(currentVersion);
+
+            totalBytes.add(-currentVersion.valueSize());
         }
 
+        totalBytes.add(newVersion.valueSize());
+
         VersionChain chainReplacement = new VersionChain(
                 partitionId,
                 txId,
@@ -343,6 +367,8 @@ public class PageMemoryMvPartitionStorage implements MvPartitionStorage {
 
         removeRowVersion(currentVersion);
 
+        totalBytes.add(-currentVersion.valueSize());
+
         if (currentVersion.hasNextLink()) {
             VersionChain versionChainReplacement = VersionChain.withoutTxId(
                     partitionId,
@@ -353,6 +379,8 @@ public class PageMemoryMvPartitionStorage implements MvPartitionStorage {
         } else {
             // it was the only version, let's remove the chain as well
             removeVersionChain(currentVersionChain);
+
+            rowsCount.decrement();
         }
 
         return rowVersionToBinaryRow(currentVersion);
@@ -428,6 +456,78 @@ public class PageMemoryMvPartitionStorage implements MvPartitionStorage {
         return new ScanCursor(treeCursor, keyFilter, transactionId, timestamp);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>A tombstone visible at the low watermark is kept, because the versions of a chain are not removed until the chain itself is.
+     */
+    @Override
+    public synchronized PruneResult pruneVersions(Timestamp lowWatermark, int rowsLimit) throws StorageException {
+        assert rowsLimit > 0 : rowsLimit;
+
+        IgniteCursor<VersionChain> treeCursor;
+        try {
+            treeCursor = versionChainTree.find(gcPosition, null);
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Find failed", e);
+        }
+
+        int rows = 0;
+        long versions = 0;
+        long bytes = 0;
+
+        try {
+            while (treeCursor.next()) {
+                VersionChain chain = treeCursor.get();
+
+                if (rows == rowsLimit) {
+                    gcPosition = new VersionChainLink(chain.link());
+
+                    return new PruneResult(rows, versions, bytes, false);
+                }
+
+                rows++;
+
+                findObsoleteRowVersions.reset();
+
+                long headLink = PartitionlessLinks.addPartitionIdToPartititionlessLink(chain.headLink(), partitionId);
+
+                rowVersionDataPageReader.traverse(headLink, findObsoleteRowVersions, lowWatermark);
+
+                int obsoleteCount = findObsoleteRowVersions.obsoleteCount();
+
+                if (obsoleteCount == 0) {
+                    continue;
+                }
+
+                // Cut the chain first, so that readers never follow a link to a removed version.
+                rowVersionFreeList.updateNextLink(findObsoleteRowVersions.boundaryLink(), RowVersion.NULL_LINK);
+
+                long[] obsoleteLinks = findObsoleteRowVersions.obsoleteLinks();
+
+                for (int i = 0; i < obsoleteCount; i++) {
+                    rowVersionFreeList.removeDataRowByLink(obsoleteLinks[i]);
+                }
+
+                versions += obsoleteCount;
+                bytes += findObsoleteRowVersions.obsoleteBytes();
+
+                totalBytes.add(-(findObsoleteRowVersions.obsoleteBytes() - (long) obsoleteCount * RowVersion.VALUE_OFFSET));
+            }
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Failed to prune row versions", e);
+        }
+
+        gcPosition = null;
+
+        return new PruneResult(rows, versions, bytes, true);
+    }
+
+    @Override
+    public PartitionStatistics statistics() {
+        return new PartitionStatistics(rowsCount.sum(), totalBytes.sum());
+    }
+
     @Override
     public void close() {
         versionChainTree.close();
@@ -46,6 +46,8 @@ public class RowVersionFreeList extends AbstractFreeList<RowVersion> {
 
     private final UpdateTimestampHandler updateTimestampHandler = new UpdateTimestampHandler();
 
+    private final UpdateNextLinkHandler updateNextLinkHandler = new UpdateNextLinkHandler();
+
     /**
      * Constructor.
      *
@@ -119,6 +121,17 @@ public class RowVersionFreeList extends AbstractFreeList<RowVersion> {
         updateDataRow(link, updateTimestampHandler, newTimestamp, statHolder);
     }
 
+    /**
+     * Updates row version's next link.
+     *
+     * @param link         link to the slot containing row version
+     * @param nextLink     partitionless link of the next version to set
+     * @throws IgniteInternalCheckedException if something fails
+     */
+    public void updateNextLink(long link, long nextLink) throws IgniteInternalCheckedException {
+        updateDataRow(link, updateNextLinkHandler, nextLink, statHolder);
+    }
+
     /**
      * Removes a row by link.
      *
@@ -150,4 +163,26 @@ public class RowVersionFreeList extends AbstractFreeList<RowVersion> {
             return true;
         }
     }
+
+    private class UpdateNextLinkHandler implements PageHandler<Long, Object> {
+        @Override
+        public Object run(
+                int groupId,
+                long pageId,
+                long page,
+                long pageAddr,
+                PageIo io,
+                Long arg,
+                int itemId,
+                IoStatisticsHolder statHolder
+        ) throws IgniteInternalCheckedException {
+            RowVersionDataIo dataIo = (RowVersionDataIo) io;
+
+            dataIo.updateNextLink(pageAddr, itemId, pageSize(), arg);
+
+            evictionTracker.touchPage(pageId);
+
+            return true;
+        }
+    }
 }
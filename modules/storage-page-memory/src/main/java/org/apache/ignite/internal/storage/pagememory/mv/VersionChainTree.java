@@ -83,6 +83,9 @@ public class VersionChainTree extends BplusTree<VersionChainLink, VersionChain>
 
         setIos(VersionChainInnerIo.VERSIONS, VersionChainLeafIo.VERSIONS, VersionChainMetaIo.VERSIONS);
 
+        // Rows are compared by the links stored in the tree pages only.
+        enableOptimisticReads();
+
         initTree(initNew);
     }
 
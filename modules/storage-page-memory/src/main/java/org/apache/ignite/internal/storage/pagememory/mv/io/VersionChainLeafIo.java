@@ -53,7 +53,7 @@ public class VersionChainLeafIo extends BplusLeafIo<VersionChainLink> implements
     public void store(long dstPageAddr, int dstIdx, BplusIo<VersionChainLink> srcIo, long srcPageAddr, int srcIdx) {
         assertPageType(dstPageAddr);
 
-        long srcLink = link(srcPageAddr, srcIdx);
+        long srcLink = ((VersionChainIo) srcIo).link(srcPageAddr, srcIdx);
 
         int dstOff = offset(dstIdx);
 
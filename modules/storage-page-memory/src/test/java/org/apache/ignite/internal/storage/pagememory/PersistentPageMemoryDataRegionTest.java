@@ -22,15 +22,24 @@ import static org.apache.ignite.internal.storage.pagememory.PersistentPageMemory
 import static org.apache.ignite.internal.util.Constants.GiB;
 import static org.apache.ignite.internal.util.Constants.MiB;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.fileio.DirectFileIoFactory;
+import org.apache.ignite.internal.fileio.FileIoFactory;
+import org.apache.ignite.internal.fileio.RandomAccessFileIoFactory;
 import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionConfiguration;
 import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionView;
 import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorConfigurationSchema;
+import org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreManager;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -80,6 +89,25 @@ public class PersistentPageMemoryDataRegionTest {
         assertEquals(2L * GiB, calculateCheckpointBufferSize(dataRegionConfig.value()));
     }
 
+    @Test
+    void testFilePageStoreFileIoFactory() throws Exception {
+        FileIoFactory fileIoFactory = new RandomAccessFileIoFactory();
+
+        FilePageStoreManager filePageStoreManager = mock(FilePageStoreManager.class);
+
+        when(filePageStoreManager.filePageStoreFileIoFactory()).thenReturn(fileIoFactory);
+
+        assertSame(fileIoFactory, createDataRegion(filePageStoreManager).filePageStoreFileIoFactory());
+
+        dataRegionConfig.directIo().update(true).get(1, TimeUnit.SECONDS);
+
+        assertThat(createDataRegion(filePageStoreManager).filePageStoreFileIoFactory(), instanceOf(DirectFileIoFactory.class));
+    }
+
+    private PersistentPageMemoryDataRegion createDataRegion(FilePageStoreManager filePageStoreManager) {
+        return new PersistentPageMemoryDataRegion(dataRegionConfig, null, null, filePageStoreManager, null, 1024);
+    }
+
     private long[] fill(long[] arr, long v) {
         Arrays.fill(arr, v);
 
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory;
+
+import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointState.FINISHED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.ignite.configuration.schemas.store.UnknownDataStorageConfigurationSchema;
+import org.apache.ignite.configuration.schemas.table.ColumnChange;
+import org.apache.ignite.configuration.schemas.table.HashIndexChange;
+import org.apache.ignite.configuration.schemas.table.HashIndexConfigurationSchema;
+import org.apache.ignite.configuration.schemas.table.TableConfiguration;
+import org.apache.ignite.internal.components.LongJvmPauseDetector;
+import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
+import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorConfigurationSchema;
+import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.engine.TableStorage;
+import org.apache.ignite.internal.storage.pagememory.configuration.schema.PageMemoryDataStorageChange;
+import org.apache.ignite.internal.storage.pagememory.configuration.schema.PageMemoryDataStorageConfigurationSchema;
+import org.apache.ignite.internal.storage.pagememory.configuration.schema.PageMemoryStorageEngineConfiguration;
+import org.apache.ignite.internal.storage.pagememory.index.PageMemoryHashIndexStorage;
+import org.apache.ignite.internal.storage.pagememory.mv.LinkRowId;
+import org.apache.ignite.internal.testframework.WorkDirectory;
+import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Tests for {@link PageMemoryHashIndexStorage} in a persistent data region.
+ */
+@ExtendWith(ConfigurationExtension.class)
+@ExtendWith(WorkDirectoryExtension.class)
+public class PersistentPageMemoryHashIndexStorageTest {
+    private static final String INDEX_NAME = "hash_idx";
+
+    private final PageIoRegistry ioRegistry = new PageIoRegistry();
+
+    {
+        ioRegistry.loadFromServiceLoader();
+    }
+
+    @InjectConfiguration(polymorphicExtensions = UnsafeMemoryAllocatorConfigurationSchema.class)
+    private PageMemoryStorageEngineConfiguration engineConfig;
+
+    @InjectConfiguration(
+            name = "table",
+            polymorphicExtensions = {
+                    HashIndexConfigurationSchema.class,
+                    UnknownDataStorageConfigurationSchema.class,
+                    PageMemoryDataStorageConfigurationSchema.class
+            }
+    )
+    private TableConfiguration tableCfg;
+
+    private LongJvmPauseDetector longJvmPauseDetector;
+
+    private PageMemoryStorageEngine engine;
+
+    private PersistentPageMemoryTableStorage table;
+
+    private PageMemoryHashIndexStorage indexStorage;
+
+    @WorkDirectory
+    private Path workDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        engineConfig.defaultRegion().persistent().update(true).get(1, TimeUnit.SECONDS);
+
+        tableCfg.change(tableChange -> tableChange
+                .changePartitions(1)
+                .changePrimaryKey(pk -> pk.changeColumns("intKey"))
+                .changeColumns(columns -> columns
+                        .create("intKey", column("INT32", false))
+                        .create("intVal", column("INT32", true))
+                        .create("strVal", column("STRING", true))
+                )
+                .changeIndices(indexes -> indexes
+                        .create(INDEX_NAME, idx -> idx.convert(HashIndexChange.class).changeColNames("strVal", "intVal"))
+                )
+                .changeDataStorage(dsc -> dsc.convert(PageMemoryDataStorageChange.class))
+        ).get(1, TimeUnit.SECONDS);
+
+        start();
+    }
+
+    /**
+     * Starts the engine and the table, and creates the index storage.
+     */
+    private void start() {
+        String nodeName = "test-node";
+
+        longJvmPauseDetector = new LongJvmPauseDetector(nodeName);
+
+        longJvmPauseDetector.start();
+
+        engine = new PageMemoryStorageEngine(nodeName, engineConfig, ioRegistry, workDir, longJvmPauseDetector);
+
+        engine.start();
+
+        TableStorage tableStorage = engine.createTable(tableCfg);
+
+        assertThat(tableStorage, is(instanceOf(PersistentPageMemoryTableStorage.class)));
+
+        table = (PersistentPageMemoryTableStorage) tableStorage;
+
+        table.start();
+
+        indexStorage = table.createHashIndexStorage(0, INDEX_NAME);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        IgniteUtils.closeAll(
+                indexStorage,
+                table == null ? null : table::stop,
+                engine == null ? null : engine::stop,
+                longJvmPauseDetector == null ? null : longJvmPauseDetector::stop
+        );
+    }
+
+    private static Consumer<ColumnChange> column(String typeName, boolean nullable) {
+        return c -> c.changeNullable(nullable).changeType(type -> type.changeType(typeName));
+    }
+
+    /** Tests that the index tree is found again after a restart. */
+    @Test
+    void testReadAfterRestart() throws Exception {
+        RowId rowId1 = new LinkRowId(1);
+        RowId rowId2 = new LinkRowId(2);
+
+        indexStorage.put(new Object[]{"foo", 1}, rowId1);
+        indexStorage.put(new Object[]{"bar", 2}, rowId2);
+
+        engine
+                .checkpointManager()
+                .forceCheckpoint("before_stop_engine")
+                .futureFor(FINISHED)
+                .get(1, TimeUnit.SECONDS);
+
+        tearDown();
+
+        start();
+
+        assertThat(indexStorage.get(new Object[]{"foo", 1}), contains(rowId1));
+        assertThat(indexStorage.get(new Object[]{"bar", 2}), contains(rowId2));
+    }
+
+    /** Tests that an index created after the destruction of the previous one is empty. */
+    @Test
+    void testCreateAfterDestroy() {
+        indexStorage.put(new Object[]{"foo", 1}, new LinkRowId(1));
+
+        indexStorage.destroy();
+
+        indexStorage = table.createHashIndexStorage(0, INDEX_NAME);
+
+        assertThat(indexStorage.get(new Object[]{"foo", 1}), is(empty()));
+    }
+}
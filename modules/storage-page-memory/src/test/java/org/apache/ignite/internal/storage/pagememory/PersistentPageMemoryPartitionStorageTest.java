@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.storage.pagememory;
 
 import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointState.FINISHED;
+import static org.apache.ignite.internal.storage.StorageUtils.groupId;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -35,9 +36,14 @@ import org.apache.ignite.internal.components.LongJvmPauseDetector;
 import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorConfigurationSchema;
+import org.apache.ignite.internal.pagememory.io.PageIo;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.apache.ignite.internal.pagememory.persistence.PageMemoryImpl;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTimeoutLock;
+import org.apache.ignite.internal.pagememory.util.PageUtils;
 import org.apache.ignite.internal.storage.AbstractPartitionStorageTest;
 import org.apache.ignite.internal.storage.DataRow;
+import org.apache.ignite.internal.storage.PartitionStorage;
 import org.apache.ignite.internal.storage.engine.TableStorage;
 import org.apache.ignite.internal.storage.pagememory.configuration.schema.PageMemoryDataStorageChange;
 import org.apache.ignite.internal.storage.pagememory.configuration.schema.PageMemoryDataStorageConfigurationSchema;
@@ -167,4 +173,53 @@ public class PersistentPageMemoryPartitionStorageTest extends AbstractPartitionS
 
         rows.forEach(this::checkHasSameEntry);
     }
+
+    /**
+     * Tests that the statistics of a partition, which meta page was written before the statistics were stored, are counted when the
+     * partition is opened.
+     */
+    @Test
+    void testCountStatisticsOfLegacyPartition() throws Exception {
+        List<DataRow> rows = IntStream.range(0, 100)
+                .mapToObj(i -> dataRow(KEY + i, VALUE + i))
+                .collect(Collectors.toList());
+
+        storage.writeAll(rows);
+
+        var tableStorage = (PersistentPageMemoryTableStorage) table;
+
+        PageMemoryImpl pageMemory = (PageMemoryImpl) tableStorage.dataRegion.pageMemory();
+
+        int grpId = groupId(tableCfg.value());
+
+        long partMetaPageId = pageMemory.partitionMetaPageId(grpId, 0);
+
+        CheckpointTimeoutLock checkpointTimeoutLock = engine.checkpointManager().checkpointTimeoutLock();
+
+        checkpointTimeoutLock.checkpointReadLock();
+
+        try {
+            long partMetaPage = pageMemory.acquirePage(grpId, partMetaPageId);
+
+            try {
+                long partMetaPageAddr = pageMemory.writeLock(grpId, partMetaPageId, partMetaPage);
+
+                try {
+                    // Turn the meta page into a version 1 page, which has no statistics.
+                    PageUtils.putShort(partMetaPageAddr, PageIo.VER_OFF, (short) 1);
+                } finally {
+                    pageMemory.writeUnlock(grpId, partMetaPageId, partMetaPage, true);
+                }
+            } finally {
+                pageMemory.releasePage(grpId, partMetaPageId, partMetaPage);
+            }
+        } finally {
+            checkpointTimeoutLock.checkpointReadUnlock();
+        }
+
+        try (PartitionStorage reopened = tableStorage.createPartitionStorage(0)) {
+            assertThat(reopened.statistics(), is(storage.statistics()));
+            assertThat(reopened.statistics().rowsCount(), is(100L));
+        }
+    }
 }
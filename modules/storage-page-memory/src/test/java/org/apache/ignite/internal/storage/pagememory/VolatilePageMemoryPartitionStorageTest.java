@@ -18,11 +18,16 @@
 package org.apache.ignite.internal.storage.pagememory;
 
 import static java.util.stream.Collectors.joining;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionConfigurationSchema.RANDOM_2_LRU_EVICTION_MODE;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.nio.file.Path;
 import java.util.concurrent.ThreadLocalRandom;
@@ -33,6 +38,7 @@ import org.apache.ignite.configuration.schemas.table.TableConfiguration;
 import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorConfigurationSchema;
+import org.apache.ignite.internal.pagememory.evict.PageAbstractEvictionTracker;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.storage.AbstractPartitionStorageTest;
 import org.apache.ignite.internal.storage.DataRow;
@@ -155,6 +161,74 @@ public class VolatilePageMemoryPartitionStorageTest extends AbstractPartitionSto
         assertArrayEquals(dataRow.valueBytes(), read.valueBytes());
     }
 
+    /**
+     * Checks that the rows are evicted instead of running out of memory, when the data doesn't fit into a region with eviction enabled.
+     */
+    @Test
+    void testEviction() throws Exception {
+        IgniteUtils.closeAll(storage, table::stop, engine::stop);
+
+        storage = null;
+        table = null;
+        engine = null;
+
+        engineConfig.defaultRegion().change(c -> c
+                .changeInitSize(4 * 1024 * 1024)
+                .changeMaxSize(4 * 1024 * 1024)
+                .changeEvictionMode(RANDOM_2_LRU_EVICTION_MODE)
+                .changeEmptyPagesPoolSize(10)
+        ).get(1, TimeUnit.SECONDS);
+
+        setUp();
+
+        int rows = 10_000;
+
+        for (int i = 0; i < rows; i++) {
+            storage.write(dataRow("key" + i, createRandomString(1000)));
+        }
+
+        PageAbstractEvictionTracker evictionTracker = ((VolatilePageMemoryDataRegion) ((VolatilePageMemoryTableStorage) table).dataRegion)
+                .evictionTracker();
+
+        assertThat(evictionTracker.evictedRows(), is(greaterThan(0L)));
+        assertThat(evictionTracker.evictedPages(), is(greaterThan(0L)));
+        assertThat(evictionTracker.evictionRate(), is(greaterThan(0L)));
+
+        assertThat(storage.statistics().rowsCount(), is(lessThan((long) rows)));
+
+        // Recently written rows are the last to be evicted.
+        assertNotNull(storage.read(searchRow("key" + (rows - 1))));
+    }
+
+    /**
+     * Checks that the rows stay reachable after removing the rows referenced by the keys of the inner pages of the tree, which replaces
+     * these keys with the keys copied from the leaf pages.
+     */
+    @Test
+    void testRemoveInnerKeys() {
+        int rows = 10_000;
+
+        for (int i = 0; i < rows; i++) {
+            storage.write(dataRow("key" + i, "value" + i));
+        }
+
+        for (int i = 0; i < rows; i += 2) {
+            storage.remove(searchRow("key" + i));
+        }
+
+        for (int i = 0; i < rows; i++) {
+            DataRow read = storage.read(searchRow("key" + i));
+
+            if (i % 2 == 0) {
+                assertNull(read);
+            } else {
+                assertNotNull(read);
+
+                assertArrayEquals(dataRow("key" + i, "value" + i).valueBytes(), read.valueBytes());
+            }
+        }
+    }
+
     private String createRandomString(int len) {
         return ThreadLocalRandom.current().ints(len).mapToObj(i -> String.valueOf(Math.abs(i % 10))).collect(joining(""));
     }
@@ -39,11 +39,16 @@ class ColumnFamilyUtils {
      */
     private static final String CF_SORTED_INDEX_PREFIX = "cf-sorted-idx-";
 
+    /**
+     * Prefix for hash indexes column family names.
+     */
+    private static final String CF_HASH_INDEX_PREFIX = "cf-hash-idx-";
+
     /**
      * Utility enum to describe a type of the column family - meta, partition or index.
      */
     enum ColumnFamilyType {
-        META, PARTITION, SORTED_INDEX, UNKNOWN
+        META, PARTITION, SORTED_INDEX, HASH_INDEX, UNKNOWN
     }
 
     /**
@@ -70,6 +75,30 @@ class ColumnFamilyUtils {
         return cfName.substring(CF_SORTED_INDEX_PREFIX.length());
     }
 
+    /**
+     * Creates column family name by hash index name.
+     *
+     * @param indexName Index name.
+     * @return Column family name.
+     *
+     * @see #hashIndexName
+     */
+    static String hashIndexCfName(String indexName) {
+        return CF_HASH_INDEX_PREFIX + indexName;
+    }
+
+    /**
+     * Creates a Hash Index name from the given Column Family name.
+     *
+     * @param cfName Column Family name.
+     * @return Hash Index name.
+     *
+     * @see #hashIndexCfName
+     */
+    static String hashIndexName(String cfName) {
+        return cfName.substring(CF_HASH_INDEX_PREFIX.length());
+    }
+
     /**
      * Determines column family type by its name.
      *
@@ -89,6 +118,10 @@ class ColumnFamilyUtils {
             return ColumnFamilyType.SORTED_INDEX;
         }
 
+        if (cfName.startsWith(CF_HASH_INDEX_PREFIX)) {
+            return ColumnFamilyType.HASH_INDEX;
+        }
+
         return ColumnFamilyType.UNKNOWN;
     }
 }
@@ -17,16 +17,30 @@
 
 package org.apache.ignite.internal.storage.rocksdb;
 
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.COMPRESSION_LZ4;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.COMPRESSION_LZ4HC;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.COMPRESSION_NONE;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.COMPRESSION_SNAPPY;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.COMPRESSION_ZLIB;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.COMPRESSION_ZSTD;
 import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.ROCKSDB_CLOCK_CACHE;
 import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.ROCKSDB_LRU_CACHE;
 
+import java.util.Arrays;
 import java.util.Locale;
+import java.util.stream.Collectors;
 import org.apache.ignite.internal.manager.IgniteComponent;
 import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfiguration;
 import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionView;
 import org.apache.ignite.internal.util.IgniteUtils;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
 import org.rocksdb.Cache;
 import org.rocksdb.ClockCache;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompressionOptions;
+import org.rocksdb.CompressionType;
+import org.rocksdb.IndexType;
 import org.rocksdb.LRUCache;
 import org.rocksdb.WriteBufferManager;
 
@@ -34,6 +48,12 @@ import org.rocksdb.WriteBufferManager;
  * Data region implementation for {@link RocksDbStorageEngine}. Based on a {@link Cache}.
  */
 public class RocksDbDataRegion implements IgniteComponent {
+    /** Share of the cache reserved for the index and filter blocks, so that they are not evicted by the data blocks. */
+    private static final double HIGH_PRIORITY_POOL_RATIO = 0.1;
+
+    /** Share of the memtable size used by the memtable prefix bloom filter. */
+    private static final double MEMTABLE_PREFIX_BLOOM_SIZE_RATIO = 0.1;
+
     /** Region configuration. */
     private final RocksDbDataRegionConfiguration cfg;
 
@@ -68,7 +88,7 @@ public class RocksDbDataRegion implements IgniteComponent {
                 break;
 
             case ROCKSDB_LRU_CACHE:
-                cache = new LRUCache(totalCacheSize, dataRegionView.numShardBits(), false);
+                cache = new LRUCache(totalCacheSize, dataRegionView.numShardBits(), false, HIGH_PRIORITY_POOL_RATIO);
 
                 break;
 
@@ -91,4 +111,135 @@ public class RocksDbDataRegion implements IgniteComponent {
     public WriteBufferManager writeBufferManager() {
         return writeBufferManager;
     }
+
+    /**
+     * Creates options for the Column Family that stores partition data.
+     *
+     * <p>All versions of a row share the row id prefix of the key, so the prefix extractor takes exactly the row id, and the reads of a
+     * single row may use the prefix bloom filters.
+     */
+    public ColumnFamilyOptions partitionCfOptions() {
+        RocksDbDataRegionView dataRegionView = cfg.value();
+
+        BlockBasedTableConfig tableConfig = tableConfig(dataRegionView.dataBlockSize());
+
+        if (dataRegionView.bloomFilterBitsPerKey() > 0) {
+            tableConfig
+                    .setFilterPolicy(new BloomFilter(dataRegionView.bloomFilterBitsPerKey(), false))
+                    .setWholeKeyFiltering(dataRegionView.wholeKeyFiltering());
+        }
+
+        ColumnFamilyOptions options = cfOptions();
+
+        if (dataRegionView.prefixBloomFilter()) {
+            options
+                    .useFixedLengthPrefixExtractor(RocksDbMvPartitionStorage.ROW_PREFIX_SIZE)
+                    .setMemtablePrefixBloomSizeRatio(MEMTABLE_PREFIX_BLOOM_SIZE_RATIO);
+        }
+
+        return options.setTableFormatConfig(tableConfig);
+    }
+
+    /**
+     * Creates options for a Column Family that stores an index.
+     *
+     * @param tableConfig Table format config, usually created by {@link #indexTableConfig()} and amended by the index.
+     */
+    public ColumnFamilyOptions indexCfOptions(BlockBasedTableConfig tableConfig) {
+        return cfOptions().setTableFormatConfig(tableConfig);
+    }
+
+    /**
+     * Creates a table format config for the Column Families that store indexes.
+     */
+    public BlockBasedTableConfig indexTableConfig() {
+        return tableConfig(cfg.value().indexBlockSize());
+    }
+
+    /**
+     * Returns the number of bits per key of the bloom filters, {@code 0} if the filters are disabled.
+     */
+    public int bloomFilterBitsPerKey() {
+        return cfg.value().bloomFilterBitsPerKey();
+    }
+
+    /**
+     * Creates Column Family options with the compression settings of the region.
+     *
+     * <p>The dictionary settings only apply to the bottommost level: the upper levels are rewritten too often for the dictionary
+     * training to pay off, while the bottommost one holds most of the data.
+     */
+    private ColumnFamilyOptions cfOptions() {
+        RocksDbDataRegionView dataRegionView = cfg.value();
+
+        var options = new ColumnFamilyOptions();
+
+        if (dataRegionView.compressionPerLevel().length > 0) {
+            options.setCompressionPerLevel(Arrays.stream(dataRegionView.compressionPerLevel())
+                    .map(RocksDbDataRegion::compressionType)
+                    .collect(Collectors.toList()));
+        } else {
+            options.setCompressionType(compressionType(dataRegionView.compression()));
+        }
+
+        options.setBottommostCompressionType(compressionType(dataRegionView.bottommostCompression()));
+
+        if (dataRegionView.zstdMaxDictBytes() > 0) {
+            options.setBottommostCompressionOptions(new CompressionOptions()
+                    .setMaxDictBytes(dataRegionView.zstdMaxDictBytes())
+                    .setZStdMaxTrainBytes(dataRegionView.zstdMaxTrainBytes())
+                    .setEnabled(true));
+        }
+
+        return options;
+    }
+
+    /**
+     * Converts a compression type name from the region configuration into a RocksDB compression type.
+     */
+    private static CompressionType compressionType(String name) {
+        switch (name.toLowerCase(Locale.ROOT)) {
+            case COMPRESSION_NONE:
+                return CompressionType.NO_COMPRESSION;
+
+            case COMPRESSION_SNAPPY:
+                return CompressionType.SNAPPY_COMPRESSION;
+
+            case COMPRESSION_LZ4:
+                return CompressionType.LZ4_COMPRESSION;
+
+            case COMPRESSION_LZ4HC:
+                return CompressionType.LZ4HC_COMPRESSION;
+
+            case COMPRESSION_ZLIB:
+                return CompressionType.ZLIB_COMPRESSION;
+
+            case COMPRESSION_ZSTD:
+                return CompressionType.ZSTD_COMPRESSION;
+
+            default:
+                throw new IllegalArgumentException("Unknown compression type: " + name);
+        }
+    }
+
+    /**
+     * Creates a table format config with the given block size, that keeps the blocks in the cache of the region.
+     */
+    private BlockBasedTableConfig tableConfig(int blockSize) {
+        var tableConfig = new BlockBasedTableConfig()
+                .setBlockCache(cache)
+                .setBlockSize(blockSize)
+                .setCacheIndexAndFilterBlocks(true)
+                .setCacheIndexAndFilterBlocksWithHighPriority(true)
+                .setPinL0FilterAndIndexBlocksInCache(true);
+
+        if (cfg.value().partitionedIndexFilters()) {
+            tableConfig
+                    .setIndexType(IndexType.kTwoLevelIndexSearch)
+                    .setPartitionFilters(true)
+                    .setPinTopLevelIndexAndFilter(true);
+        }
+
+        return tableConfig;
+    }
 }
@@ -24,7 +24,10 @@ import java.util.Arrays;
 import java.util.stream.Stream;
 import org.apache.ignite.internal.rocksdb.ColumnFamily;
 import org.apache.ignite.internal.rocksdb.RocksUtils;
+import org.apache.ignite.internal.storage.PartitionStatistics;
 import org.apache.ignite.internal.storage.StorageException;
+import org.jetbrains.annotations.Nullable;
+import org.rocksdb.AbstractWriteBatch;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
@@ -51,6 +54,28 @@ class RocksDbMetaStorage {
         PARTITION_ID_PREFIX_END[PARTITION_ID_PREFIX_END.length - 1] += 1;
     }
 
+    /**
+     * Prefix of the keys that hold the statistics of {@link RocksDbPartitionStorage}s.
+     */
+    static final byte[] PARTITION_STATISTICS_PREFIX = "stat".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Prefix of the keys that hold the statistics of {@link RocksDbMvPartitionStorage}s.
+     */
+    static final byte[] MV_PARTITION_STATISTICS_PREFIX = "mvst".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Name of the merge operator of the meta Column Family. Statistics are updated by merging deltas into their keys, so that concurrent
+     * updates don't need to read the current values and are applied atomically with the data changes.
+     */
+    static final String MERGE_OPERATOR_NAME = "uint64add";
+
+    /** Suffix of the key that holds the number of rows. */
+    private static final byte ROWS_COUNT_SUFFIX = 0;
+
+    /** Suffix of the key that holds the total size of the rows. */
+    private static final byte TOTAL_BYTES_SUFFIX = 1;
+
     private final ColumnFamily metaCf;
 
     RocksDbMetaStorage(ColumnFamily metaCf) {
@@ -121,6 +146,89 @@ class RocksDbMetaStorage {
         }
     }
 
+    /**
+     * Reads the statistics of a partition.
+     *
+     * @param prefix Statistics key prefix, either {@link #PARTITION_STATISTICS_PREFIX} or {@link #MV_PARTITION_STATISTICS_PREFIX}.
+     * @param partitionId Partition ID.
+     * @return Statistics or {@code null} if they have never been saved.
+     */
+    @Nullable PartitionStatistics getStatistics(byte[] prefix, int partitionId) {
+        try {
+            byte[] rowsCount = metaCf.get(statisticsKey(prefix, partitionId, ROWS_COUNT_SUFFIX));
+            byte[] totalBytes = metaCf.get(statisticsKey(prefix, partitionId, TOTAL_BYTES_SUFFIX));
+
+            if (rowsCount == null || totalBytes == null) {
+                return null;
+            }
+
+            return new PartitionStatistics(bytesToLong(rowsCount), bytesToLong(totalBytes));
+        } catch (RocksDBException e) {
+            throw new StorageException("Unable to read statistics of partition " + partitionId + " from the meta Column Family", e);
+        }
+    }
+
+    /**
+     * Adds the changes of the statistics of a partition to a write batch.
+     *
+     * @param batch Write batch that also contains the data changes.
+     * @param prefix Statistics key prefix, either {@link #PARTITION_STATISTICS_PREFIX} or {@link #MV_PARTITION_STATISTICS_PREFIX}.
+     * @param partitionId Partition ID.
+     * @param rowsDelta Change of the number of rows.
+     * @param bytesDelta Change of the total size of the rows.
+     * @throws RocksDBException If failed.
+     */
+    void updateStatistics(AbstractWriteBatch batch, byte[] prefix, int partitionId, long rowsDelta, long bytesDelta)
+            throws RocksDBException {
+        if (rowsDelta != 0) {
+            batch.merge(metaCf.handle(), statisticsKey(prefix, partitionId, ROWS_COUNT_SUFFIX), longToBytes(rowsDelta));
+        }
+
+        if (bytesDelta != 0) {
+            batch.merge(metaCf.handle(), statisticsKey(prefix, partitionId, TOTAL_BYTES_SUFFIX), longToBytes(bytesDelta));
+        }
+    }
+
+    /**
+     * Adds the statistics of a partition to a write batch, replacing the existing ones.
+     *
+     * @param batch Write batch.
+     * @param prefix Statistics key prefix, either {@link #PARTITION_STATISTICS_PREFIX} or {@link #MV_PARTITION_STATISTICS_PREFIX}.
+     * @param partitionId Partition ID.
+     * @param statistics Statistics.
+     * @throws RocksDBException If failed.
+     */
+    void putStatistics(AbstractWriteBatch batch, byte[] prefix, int partitionId, PartitionStatistics statistics)
+            throws RocksDBException {
+        batch.put(metaCf.handle(), statisticsKey(prefix, partitionId, ROWS_COUNT_SUFFIX), longToBytes(statistics.rowsCount()));
+        batch.put(metaCf.handle(), statisticsKey(prefix, partitionId, TOTAL_BYTES_SUFFIX), longToBytes(statistics.totalBytes()));
+    }
+
+    private static byte[] statisticsKey(byte[] prefix, int partitionId, byte suffix) {
+        assert partitionId >= 0 && partitionId <= 0xFFFF : partitionId;
+
+        return ByteBuffer.allocate(prefix.length + Short.BYTES + 1)
+                .order(ByteOrder.BIG_ENDIAN)
+                .put(prefix)
+                .putShort((short) partitionId)
+                .put(suffix)
+                .array();
+    }
+
+    /**
+     * Encodes a value the way the {@link #MERGE_OPERATOR_NAME} merge operator expects it: 8 bytes in the little endian order.
+     * Negative values are added as their two's complement, which subtracts them.
+     */
+    private static byte[] longToBytes(long value) {
+        return ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(value).array();
+    }
+
+    private static long bytesToLong(byte[] bytes) {
+        assert bytes.length == Long.BYTES : bytes.length;
+
+        return ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).getLong();
+    }
+
     private static byte[] partitionIdKey(int partitionId) {
         assert partitionId >= 0 && partitionId <= 0xFFFF : partitionId;
 
@@ -21,19 +21,23 @@ import static java.lang.ThreadLocal.withInitial;
 import static java.nio.ByteBuffer.allocateDirect;
 import static java.nio.ByteOrder.BIG_ENDIAN;
 import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage.MV_PARTITION_STATISTICS_PREFIX;
 
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
 import java.util.UUID;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.ByteBufferRow;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.NoUncommittedVersionException;
+import org.apache.ignite.internal.storage.PartitionStatistics;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.TxIdMismatchException;
+import org.apache.ignite.internal.storage.gc.PruneResult;
 import org.apache.ignite.internal.tx.Timestamp;
 import org.apache.ignite.internal.util.Cursor;
 import org.apache.ignite.internal.util.GridUnsafe;
@@ -45,6 +49,7 @@ import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.Slice;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 
 /**
@@ -66,7 +71,7 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
     private static final int ROW_ID_SIZE = 2 * Long.BYTES;
 
     /** Size of the key without timestamp. */
-    private static final int ROW_PREFIX_SIZE = ROW_ID_SIZE;
+    static final int ROW_PREFIX_SIZE = ROW_ID_SIZE;
 
     /** Timestamp size in bytes. */
     private static final int TIMESTAMP_SIZE = 2 * Long.BYTES;
@@ -96,23 +101,37 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
     /** Partitions column family. */
     private final ColumnFamilyHandle cf;
 
+    /** Meta storage that holds the statistics of the partition. */
+    private final RocksDbMetaStorage meta;
+
     /** Write options. */
     private final WriteOptions writeOpts = new WriteOptions();
 
     /** Upper bound for scans and reads. */
     private final Slice upperBound;
 
+    /** Write batch of the thread running {@link #runConsistently}, {@code null} for other threads. */
+    private final ThreadLocal<StatisticsTrackingWriteBatch> threadBatch = new ThreadLocal<>();
+
+    /** Options of the reads through a {@link #threadBatch}. */
+    private final ReadOptions batchReadOptions = new ReadOptions();
+
+    /** Row prefix to resume the version garbage collection from, {@code null} to start from the beginning of the partition. */
+    private @Nullable byte[] gcPosition;
+
     /**
      * Constructor.
      *
      * @param partitionId Partition id.
      * @param db RocksDB instance.
      * @param cf Column family handle to store partition data.
+     * @param meta Meta storage to keep the partition statistics in.
      */
-    public RocksDbMvPartitionStorage(int partitionId, RocksDB db, ColumnFamilyHandle cf) {
+    RocksDbMvPartitionStorage(int partitionId, RocksDB db, ColumnFamilyHandle cf, RocksDbMetaStorage meta) {
         this.partitionId = partitionId;
         this.db = db;
         this.cf = cf;
+        this.meta = meta;
 
         heapKeyBuffer = withInitial(() ->
                 ByteBuffer.allocate(MAX_KEY_SIZE)
@@ -120,22 +139,31 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         );
 
         upperBound = new Slice(partitionEndPrefix());
+
+        // Statistics are missing for partitions created before they were introduced.
+        if (meta.getStatistics(MV_PARTITION_STATISTICS_PREFIX, partitionId) == null) {
+            recountStatistics();
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public RowId insert(BinaryRow row, UUID txId) throws StorageException {
-        RowId rowId = UuidRowId.randomRowId(partitionId);
+        return runConsistently(() -> {
+            RowId rowId = UuidRowId.randomRowId(partitionId);
 
-        ByteBuffer keyBuf = prepareHeapKeyBuf(rowId);
+            ByteBuffer keyBuf = prepareHeapKeyBuf(rowId);
 
-        try {
-            writeUnversioned(keyBuf.array(), row, txId);
-        } catch (RocksDBException e) {
-            throw new StorageException("Failed to insert new row into storage", e);
-        }
+            try {
+                writeUnversioned(keyBuf.array(), row, txId);
+            } catch (RocksDBException e) {
+                throw new StorageException("Failed to insert new row into storage", e);
+            }
+
+            track(1, row.bytes().length);
 
-        return rowId;
+            return rowId;
+        });
     }
 
     /** {@inheritDoc} */
@@ -144,6 +172,10 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
             throws TxIdMismatchException, StorageException {
         assert rowId.partitionId() == partitionId : rowId;
 
+        return runConsistently(() -> addWrite0(rowId, row, txId));
+    }
+
+    private @Nullable BinaryRow addWrite0(RowId rowId, @Nullable BinaryRow row, UUID txId) {
         ByteBuffer keyBuf = prepareHeapKeyBuf(rowId);
 
         BinaryRow res = null;
@@ -152,25 +184,31 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
             // Check concurrent transaction data.
             byte[] keyBufArray = keyBuf.array();
 
-            byte[] previousValue = db.get(cf, keyBufArray, 0, ROW_PREFIX_SIZE);
+            byte[] previousValue = get(keyBufArray, ROW_PREFIX_SIZE);
+
+            int size = row == null ? 0 : row.bytes().length;
 
             // Previous value must belong to the same transaction.
             if (previousValue != null) {
                 validateTxId(previousValue, txId);
 
                 res = wrapValueIntoBinaryRow(previousValue, true);
+
+                track(0, size - (previousValue.length - TX_ID_SIZE));
+            } else {
+                track(hasCommittedVersions(keyBufArray) ? 0 : 1, size);
             }
 
             if (row == null) {
                 // Write empty value as a tombstone.
                 if (previousValue != null) {
                     // Reuse old array with transaction id already written to it.
-                    db.put(cf, writeOpts, keyBufArray, 0, ROW_PREFIX_SIZE, previousValue, 0, TX_ID_SIZE);
+                    put(keyBufArray, ROW_PREFIX_SIZE, previousValue, 0, TX_ID_SIZE);
                 } else {
                     // Use tail of the key buffer to save on array allocations.
                     putTransactionId(keyBufArray, ROW_PREFIX_SIZE, txId);
 
-                    db.put(cf, writeOpts, keyBufArray, 0, ROW_PREFIX_SIZE, keyBufArray, ROW_PREFIX_SIZE, TX_ID_SIZE);
+                    put(keyBufArray, ROW_PREFIX_SIZE, keyBufArray, ROW_PREFIX_SIZE, TX_ID_SIZE);
                 }
             } else {
                 writeUnversioned(keyBufArray, row, txId);
@@ -201,7 +239,7 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         value.position(TX_ID_SIZE).put(rowBytes);
 
         // Write binary row data as a value.
-        db.put(cf, writeOpts, keyArray, 0, ROW_PREFIX_SIZE, value.array(), 0, value.capacity());
+        put(keyArray, ROW_PREFIX_SIZE, value.array(), 0, value.capacity());
     }
 
     /** {@inheritDoc} */
@@ -209,21 +247,25 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
     public @Nullable BinaryRow abortWrite(RowId rowId) throws StorageException {
         assert rowId.partitionId() == partitionId : rowId;
 
-        ByteBuffer keyBuf = prepareHeapKeyBuf(rowId);
+        return runConsistently(() -> {
+            ByteBuffer keyBuf = prepareHeapKeyBuf(rowId);
 
-        try {
-            byte[] previousValue = db.get(cf, keyBuf.array(), 0, ROW_PREFIX_SIZE);
-            if (previousValue == null) {
-                throw new NoUncommittedVersionException();
-            }
+            try {
+                byte[] previousValue = get(keyBuf.array(), ROW_PREFIX_SIZE);
+                if (previousValue == null) {
+                    throw new NoUncommittedVersionException();
+                }
 
-            // Perform unconditional remove for the key without associated timestamp.
-            db.delete(cf, writeOpts, keyBuf.array(), 0, ROW_PREFIX_SIZE);
+                // Perform unconditional remove for the key without associated timestamp.
+                delete(keyBuf.array(), ROW_PREFIX_SIZE);
 
-            return wrapValueIntoBinaryRow(previousValue, true);
-        } catch (RocksDBException e) {
-            throw new StorageException("Failed to roll back insert/update", e);
-        }
+                track(hasCommittedVersions(keyBuf.array()) ? 0 : -1, -(previousValue.length - TX_ID_SIZE));
+
+                return wrapValueIntoBinaryRow(previousValue, true);
+            } catch (RocksDBException e) {
+                throw new StorageException("Failed to roll back insert/update", e);
+            }
+        });
     }
 
     /** {@inheritDoc} */
@@ -231,23 +273,63 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
     public void commitWrite(RowId rowId, Timestamp timestamp) throws StorageException {
         assert rowId.partitionId() == partitionId : rowId;
 
-        ByteBuffer keyBuf = prepareHeapKeyBuf(rowId);
+        runConsistently(() -> {
+            ByteBuffer keyBuf = prepareHeapKeyBuf(rowId);
 
-        try {
-            // Read a value associated with pending write.
-            byte[] valueBytes = db.get(cf, keyBuf.array(), 0, ROW_PREFIX_SIZE);
+            try {
+                // Read a value associated with pending write.
+                byte[] valueBytes = get(keyBuf.array(), ROW_PREFIX_SIZE);
+
+                assert valueBytes != null : "Failed to commit row " + rowId + ", value is missing";
+
+                // Delete pending write.
+                delete(keyBuf.array(), ROW_PREFIX_SIZE);
+
+                // Add timestamp to the key, and put the value back into the storage.
+                putTimestamp(keyBuf, timestamp);
+
+                put(keyBuf.array(), MAX_KEY_SIZE, valueBytes, TX_ID_SIZE, valueBytes.length - TX_ID_SIZE);
+            } catch (RocksDBException e) {
+                throw new StorageException("Failed to commit row into storage", e);
+            }
+
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The writes are accumulated in a {@link org.rocksdb.WriteBatchWithIndex}, which is written to the database once the closure
+     * completes, along with the changes of the partition statistics. Point reads made by the closure go through the batch, scans only
+     * observe the data already written to the database.
+     */
+    @Override
+    public <T> T runConsistently(Supplier<T> closure) throws StorageException {
+        if (threadBatch.get() != null) {
+            return closure.get();
+        }
 
-            assert valueBytes != null : "Failed to commit row " + rowId + ", value is missing";
+        try (var batch = new StatisticsTrackingWriteBatch()) {
+            threadBatch.set(batch);
+
+            T res;
+
+            try {
+                res = closure.get();
+            } finally {
+                threadBatch.remove();
+            }
 
-            // Delete pending write.
-            db.delete(cf, writeOpts, keyBuf.array(), 0, ROW_PREFIX_SIZE);
+            if (batch.count() > 0) {
+                meta.updateStatistics(batch, MV_PARTITION_STATISTICS_PREFIX, partitionId, batch.rowsDelta(), batch.bytesDelta());
 
-            // Add timestamp to the key, and put the value back into the storage.
-            putTimestamp(keyBuf, timestamp);
+                db.write(writeOpts, batch);
+            }
 
-            db.put(cf, writeOpts, keyBuf.array(), 0, MAX_KEY_SIZE, valueBytes, TX_ID_SIZE, valueBytes.length - TX_ID_SIZE);
+            return res;
         } catch (RocksDBException e) {
-            throw new StorageException("Failed to commit row into storage", e);
+            throw new StorageException("Failed to write data to the storage", e);
         }
     }
 
@@ -271,9 +353,9 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         ByteBuffer keyBuf = prepareHeapKeyBuf(rowId);
 
         try (
-                // Set next partition as an upper bound.
-                var readOpts = new ReadOptions().setIterateUpperBound(upperBound);
-                RocksIterator it = db.newIterator(cf, readOpts)
+                // Set next partition as an upper bound. Only the versions of a single row are read, so prefix bloom filters are usable.
+                var readOpts = new ReadOptions().setIterateUpperBound(upperBound).setPrefixSameAsStart(true);
+                RocksIterator it = newIterator(readOpts)
         ) {
             if (timestamp == null) {
                 // Seek to the first appearance of row id if timestamp isn't set.
@@ -321,7 +403,6 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         }
     }
 
-    //TODO IGNITE-16914 Play with prefix settings and benchmark results.
     /** {@inheritDoc} */
     @Override
     public Cursor<BinaryRow> scan(Predicate<BinaryRow> keyFilter, UUID txId) throws TxIdMismatchException, StorageException {
@@ -524,10 +605,260 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         };
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public synchronized PruneResult pruneVersions(Timestamp lowWatermark, int rowsLimit) throws StorageException {
+        assert rowsLimit > 0 : rowsLimit;
+
+        return runConsistently(() -> pruneVersions0(lowWatermark, rowsLimit));
+    }
+
+    private PruneResult pruneVersions0(Timestamp lowWatermark, int rowsLimit) {
+        try (
+                var readOpts = new ReadOptions().setIterateUpperBound(upperBound).setTotalOrderSeek(true);
+                RocksIterator it = db.newIterator(cf, readOpts)
+        ) {
+            it.seek(gcPosition == null ? partitionStartPrefix() : gcPosition);
+
+            int rows = 0;
+            long versions = 0;
+            long bytes = 0;
+            long valueBytes = 0;
+            int removedRows = 0;
+
+            // Key of the first version of the current row.
+            byte[] rowKey = null;
+
+            // Whether the rest of the current row versions is invisible at the low watermark.
+            boolean obsolete = false;
+
+            // Whether any version of the current row remains.
+            boolean survived = false;
+
+            boolean completed = true;
+
+            // Versions of a row are sorted from newest to oldest, with the pending one first.
+            for (; !invalid(it); it.next()) {
+                byte[] key = it.key();
+
+                if (rowKey == null || !Arrays.equals(key, 0, ROW_PREFIX_SIZE, rowKey, 0, ROW_PREFIX_SIZE)) {
+                    if (rowKey != null && !survived) {
+                        removedRows++;
+                    }
+
+                    if (rows == rowsLimit) {
+                        completed = false;
+
+                        break;
+                    }
+
+                    rows++;
+
+                    rowKey = key;
+
+                    obsolete = false;
+
+                    survived = false;
+                }
+
+                if (key.length == ROW_PREFIX_SIZE) {
+                    survived = true;
+
+                    continue;
+                }
+
+                if (!obsolete) {
+                    if (!readTimestamp(key).beforeOrEquals(lowWatermark)) {
+                        survived = true;
+
+                        continue;
+                    }
+
+                    obsolete = true;
+
+                    // The newest version visible at the low watermark is only removed if it's a tombstone.
+                    byte[] value = it.value();
+
+                    if (!isTombstone(value, false)) {
+                        survived = true;
+
+                        continue;
+                    }
+
+                    bytes += key.length;
+                } else {
+                    int valueLength = it.value().length;
+
+                    bytes += key.length + valueLength;
+
+                    valueBytes += valueLength;
+                }
+
+                delete(key, key.length);
+
+                versions++;
+            }
+
+            if (completed && rowKey != null && !survived) {
+                removedRows++;
+            }
+
+            gcPosition = completed ? null : Arrays.copyOf(it.key(), ROW_PREFIX_SIZE);
+
+            track(-removedRows, -valueBytes);
+
+            return new PruneResult(rows, versions, bytes, completed);
+        } catch (RocksDBException e) {
+            throw new StorageException("Failed to prune row versions", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Statistics are kept in the meta Column Family and are updated atomically with the data. They assume that the same row isn't
+     * modified concurrently.
+     */
+    @Override
+    public PartitionStatistics statistics() throws StorageException {
+        PartitionStatistics statistics = meta.getStatistics(MV_PARTITION_STATISTICS_PREFIX, partitionId);
+
+        return statistics == null ? PartitionStatistics.EMPTY : statistics;
+    }
+
+    /**
+     * Counts the statistics by scanning the partition and replaces the saved ones with the result.
+     */
+    private void recountStatistics() {
+        long rowsCount = 0;
+        long totalBytes = 0;
+
+        try (
+                var readOpts = new ReadOptions().setIterateUpperBound(upperBound).setTotalOrderSeek(true);
+                RocksIterator it = db.newIterator(cf, readOpts);
+                var batch = new WriteBatch()
+        ) {
+            byte[] rowKey = null;
+
+            for (it.seek(partitionStartPrefix()); !invalid(it); it.next()) {
+                byte[] key = it.key();
+
+                if (rowKey == null || !Arrays.equals(key, 0, ROW_PREFIX_SIZE, rowKey, 0, ROW_PREFIX_SIZE)) {
+                    rowsCount++;
+
+                    rowKey = key;
+                }
+
+                totalBytes += it.value().length - (key.length == ROW_PREFIX_SIZE ? TX_ID_SIZE : 0);
+            }
+
+            meta.putStatistics(batch, MV_PARTITION_STATISTICS_PREFIX, partitionId, new PartitionStatistics(rowsCount, totalBytes));
+
+            db.write(writeOpts, batch);
+        } catch (RocksDBException e) {
+            throw new StorageException("Failed to count statistics of partition " + partitionId, e);
+        }
+    }
+
+    /**
+     * Checks whether a row has committed versions, taking the write batch of the current thread into account.
+     *
+     * @param key Array with the row prefix in its beginning.
+     */
+    private boolean hasCommittedVersions(byte[] key) {
+        byte[] rowPrefix = Arrays.copyOf(key, ROW_PREFIX_SIZE);
+
+        try (
+                var readOpts = new ReadOptions().setIterateUpperBound(upperBound).setPrefixSameAsStart(true);
+                RocksIterator it = newIterator(readOpts)
+        ) {
+            it.seek(rowPrefix);
+
+            // Skip the pending version, it's always the first one.
+            if (!invalid(it) && it.key().length == ROW_PREFIX_SIZE) {
+                it.next();
+            }
+
+            return !invalid(it) && Arrays.equals(it.key(), 0, ROW_PREFIX_SIZE, rowPrefix, 0, ROW_PREFIX_SIZE);
+        }
+    }
+
+    /**
+     * Accounts a change of the statistics in the write batch of the current thread, which must be running {@link #runConsistently}.
+     */
+    private void track(long rowsDelta, long bytesDelta) {
+        StatisticsTrackingWriteBatch batch = threadBatch.get();
+
+        assert batch != null;
+
+        batch.track(rowsDelta, bytesDelta);
+    }
+
     /** {@inheritDoc} */
     @Override
     public void close() throws Exception {
-        IgniteUtils.closeAll(writeOpts, upperBound);
+        IgniteUtils.closeAll(writeOpts, batchReadOptions, upperBound);
+    }
+
+    /**
+     * Reads a value, taking the write batch of the current thread into account.
+     *
+     * @param key Array with the key in its prefix.
+     * @param keyLength Length of the key.
+     * @return Value or {@code null} if the key is missing.
+     * @throws RocksDBException If failed.
+     */
+    private byte @Nullable [] get(byte[] key, int keyLength) throws RocksDBException {
+        StatisticsTrackingWriteBatch batch = threadBatch.get();
+
+        return batch == null
+                ? db.get(cf, key, 0, keyLength)
+                : batch.getFromBatchAndDB(db, cf, batchReadOptions, Arrays.copyOf(key, keyLength));
+    }
+
+    /**
+     * Writes a value into the write batch of the current thread, which must be running {@link #runConsistently}.
+     *
+     * @param key Array with the key in its prefix.
+     * @param keyLength Length of the key.
+     * @param value Array with the value.
+     * @param valueOffset Offset of the value in the array.
+     * @param valueLength Length of the value.
+     * @throws RocksDBException If failed.
+     */
+    private void put(byte[] key, int keyLength, byte[] value, int valueOffset, int valueLength) throws RocksDBException {
+        StatisticsTrackingWriteBatch batch = threadBatch.get();
+
+        assert batch != null;
+
+        batch.put(cf, Arrays.copyOf(key, keyLength), Arrays.copyOfRange(value, valueOffset, valueOffset + valueLength));
+    }
+
+    /**
+     * Removes a key in the write batch of the current thread, which must be running {@link #runConsistently}.
+     *
+     * @param key Array with the key in its prefix.
+     * @param keyLength Length of the key.
+     * @throws RocksDBException If failed.
+     */
+    private void delete(byte[] key, int keyLength) throws RocksDBException {
+        StatisticsTrackingWriteBatch batch = threadBatch.get();
+
+        assert batch != null;
+
+        batch.delete(cf, keyLength == key.length ? key : Arrays.copyOf(key, keyLength));
+    }
+
+    /**
+     * Creates an iterator over the database, merged with the write batch of the current thread if there's one.
+     */
+    private RocksIterator newIterator(ReadOptions readOpts) {
+        StatisticsTrackingWriteBatch batch = threadBatch.get();
+
+        RocksIterator it = db.newIterator(cf, readOpts);
+
+        // The iterator with base takes ownership of the base iterator.
+        return batch == null ? it : batch.newIteratorWithBase(cf, it);
     }
 
     /**
@@ -558,6 +889,15 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         buf.putLong(~ts.getNodeId() ^ (1L << 63));
     }
 
+    /**
+     * Reads a timestamp written by {@link #putTimestamp(ByteBuffer, Timestamp)} from a key.
+     */
+    private static Timestamp readTimestamp(byte[] key) {
+        ByteBuffer buf = ByteBuffer.wrap(key).order(BIG_ENDIAN);
+
+        return new Timestamp(~buf.getLong(ROW_PREFIX_SIZE) ^ (1L << 63), ~buf.getLong(ROW_PREFIX_SIZE + Long.BYTES) ^ (1L << 63));
+    }
+
     private void putTransactionId(byte[] array, int off, UUID txId) {
         GridUnsafe.putLong(array, GridUnsafe.BYTE_ARR_OFF + off, txId.getMostSignificantBits());
         GridUnsafe.putLong(array, GridUnsafe.BYTE_ARR_OFF + off + Long.BYTES, txId.getLeastSignificantBits());
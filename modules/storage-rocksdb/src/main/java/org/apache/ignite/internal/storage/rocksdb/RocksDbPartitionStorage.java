@@ -19,6 +19,8 @@ package org.apache.ignite.internal.storage.rocksdb;
 
 import static java.util.Collections.nCopies;
 import static org.apache.ignite.internal.rocksdb.snapshot.ColumnFamilyRange.range;
+import static org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage.MV_PARTITION_STATISTICS_PREFIX;
+import static org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage.PARTITION_STATISTICS_PREFIX;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -30,12 +32,14 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import org.apache.ignite.internal.rocksdb.ColumnFamily;
 import org.apache.ignite.internal.rocksdb.RocksIteratorAdapter;
 import org.apache.ignite.internal.rocksdb.snapshot.ColumnFamilyRange;
 import org.apache.ignite.internal.rocksdb.snapshot.RocksSnapshotManager;
 import org.apache.ignite.internal.storage.DataRow;
 import org.apache.ignite.internal.storage.InvokeClosure;
+import org.apache.ignite.internal.storage.PartitionStatistics;
 import org.apache.ignite.internal.storage.PartitionStorage;
 import org.apache.ignite.internal.storage.SearchRow;
 import org.apache.ignite.internal.storage.StorageException;
@@ -62,6 +66,12 @@ class RocksDbPartitionStorage implements PartitionStorage {
      */
     private static final int PARTITION_KEY_PREFIX_SIZE = Short.BYTES + Integer.BYTES;
 
+    /** Maximum size of a chunk of a snapshot. */
+    private static final int SNAPSHOT_CHUNK_SIZE = 1024 * 1024;
+
+    /** Size of an intermediate SST file, that a snapshot is ingested by. */
+    private static final long SNAPSHOT_SST_FILE_SIZE = 64L * 1024 * 1024;
+
     /**
      * Partition ID (should be treated as an unsigned short).
      *
@@ -75,6 +85,9 @@ class RocksDbPartitionStorage implements PartitionStorage {
     /** Data column family. */
     private final ColumnFamily data;
 
+    /** Meta storage that holds the statistics of the partition. */
+    private final RocksDbMetaStorage meta;
+
     /** Snapshot manager. */
     private final RocksSnapshotManager snapshotManager;
 
@@ -83,6 +96,12 @@ class RocksDbPartitionStorage implements PartitionStorage {
      */
     private final Object snapshotRestoreLock = new Object();
 
+    /** Write batch of the thread running {@link #runConsistently}, {@code null} for other threads. */
+    private final ThreadLocal<StatisticsTrackingWriteBatch> threadBatch = new ThreadLocal<>();
+
+    /** Options of the reads through a {@link #threadBatch}. */
+    private final ReadOptions batchReadOptions = new ReadOptions();
+
     /**
      * Constructor.
      *
@@ -90,19 +109,32 @@ class RocksDbPartitionStorage implements PartitionStorage {
      * @param db           Rocks DB instance.
      * @param columnFamily Column family to be used for all storage operations. This class does not own the column family handler
      *                     as it is shared between multiple storages and will not close it.
+     * @param meta         Meta storage to keep the partition statistics in.
      * @param threadPool   Thread pool for async operations.
      * @throws StorageException If failed to create RocksDB instance.
      */
-    RocksDbPartitionStorage(RocksDB db, ColumnFamily columnFamily, int partId, Executor threadPool) throws StorageException {
+    RocksDbPartitionStorage(
+            RocksDB db,
+            ColumnFamily columnFamily,
+            RocksDbMetaStorage meta,
+            int partId,
+            Executor threadPool
+    ) throws StorageException {
         assert partId >= 0 && partId < 0xFFFF : partId;
 
         this.partId = partId;
         this.db = db;
         this.data = columnFamily;
+        this.meta = meta;
 
         ColumnFamilyRange snapshotRange = range(columnFamily, partitionStartPrefix(), partitionEndPrefix());
 
         this.snapshotManager = new RocksSnapshotManager(db, List.of(snapshotRange), threadPool);
+
+        // Statistics are missing for partitions created before they were introduced.
+        if (meta.getStatistics(PARTITION_STATISTICS_PREFIX, partId) == null) {
+            recountStatistics();
+        }
     }
 
     /** {@inheritDoc} */
@@ -116,7 +148,7 @@ class RocksDbPartitionStorage implements PartitionStorage {
     @Nullable
     public DataRow read(SearchRow key) throws StorageException {
         try {
-            byte[] valueBytes = data.get(partitionKey(key));
+            byte[] valueBytes = get(partitionKey(key));
 
             return valueBytes == null ? null : new DelegatingDataRow(key, valueBytes);
         } catch (RocksDBException e) {
@@ -132,7 +164,7 @@ class RocksDbPartitionStorage implements PartitionStorage {
         List<byte[]> values;
 
         try {
-            values = db.multiGetAsList(nCopies(resultSize, data.handle()), getKeys(keys));
+            values = multiGet(getKeys(keys));
         } catch (RocksDBException e) {
             throw new StorageException("Failed to read data from the storage", e);
         }
@@ -155,177 +187,230 @@ class RocksDbPartitionStorage implements PartitionStorage {
     /** {@inheritDoc} */
     @Override
     public void write(DataRow row) throws StorageException {
-        try {
-            byte[] value = row.valueBytes();
+        runConsistently(() -> {
+            try {
+                byte[] value = row.valueBytes();
 
-            assert value != null;
+                assert value != null;
 
-            data.put(partitionKey(row), value);
-        } catch (RocksDBException e) {
-            throw new StorageException("Filed to write data to the storage", e);
-        }
+                byte[] partitionKey = partitionKey(row);
+
+                put(partitionKey, get(partitionKey), value);
+            } catch (RocksDBException e) {
+                throw new StorageException("Filed to write data to the storage", e);
+            }
+
+            return null;
+        });
     }
 
     /** {@inheritDoc} */
     @Override
     public void writeAll(List<? extends DataRow> rows) throws StorageException {
-        try (WriteBatch batch = new WriteBatch();
-                WriteOptions opts = new WriteOptions()) {
-            for (DataRow row : rows) {
-                byte[] value = row.valueBytes();
+        runConsistently(() -> {
+            try {
+                for (DataRow row : rows) {
+                    byte[] value = row.valueBytes();
 
-                assert value != null;
+                    assert value != null;
 
-                data.put(batch, partitionKey(row), value);
+                    byte[] partitionKey = partitionKey(row);
+
+                    put(partitionKey, get(partitionKey), value);
+                }
+            } catch (RocksDBException e) {
+                throw new StorageException("Filed to write data to the storage", e);
             }
 
-            db.write(opts, batch);
-        } catch (RocksDBException e) {
-            throw new StorageException("Filed to write data to the storage", e);
-        }
+            return null;
+        });
     }
 
     /** {@inheritDoc} */
     @Override
     public Collection<DataRow> insertAll(List<? extends DataRow> rows) throws StorageException {
-        List<DataRow> cantInsert = new ArrayList<>();
+        return runConsistently(() -> {
+            List<DataRow> cantInsert = new ArrayList<>();
 
-        try (var batch = new WriteBatch();
-                var opts = new WriteOptions()) {
+            try {
+                for (DataRow row : rows) {
+                    byte[] partitionKey = partitionKey(row);
 
-            for (DataRow row : rows) {
-                byte[] partitionKey = partitionKey(row);
+                    if (get(partitionKey) == null) {
+                        byte[] value = row.valueBytes();
 
-                if (data.get(partitionKey) == null) {
-                    byte[] value = row.valueBytes();
-
-                    assert value != null;
+                        assert value != null;
 
-                    data.put(batch, partitionKey, value);
-                } else {
-                    cantInsert.add(row);
+                        put(partitionKey, null, value);
+                    } else {
+                        cantInsert.add(row);
+                    }
                 }
+            } catch (RocksDBException e) {
+                throw new StorageException("Filed to write data to the storage", e);
             }
 
-            db.write(opts, batch);
-        } catch (RocksDBException e) {
-            throw new StorageException("Filed to write data to the storage", e);
-        }
-
-        return cantInsert;
+            return cantInsert;
+        });
     }
 
     /** {@inheritDoc} */
     @Override
     public void remove(SearchRow key) throws StorageException {
-        try {
-            data.delete(partitionKey(key));
-        } catch (RocksDBException e) {
-            throw new StorageException("Failed to remove data from the storage", e);
-        }
+        runConsistently(() -> {
+            try {
+                byte[] partitionKey = partitionKey(key);
+
+                byte[] value = get(partitionKey);
+
+                if (value != null) {
+                    delete(partitionKey, value);
+                }
+            } catch (RocksDBException e) {
+                throw new StorageException("Failed to remove data from the storage", e);
+            }
+
+            return null;
+        });
     }
 
     /** {@inheritDoc} */
     @Override
     public Collection<SearchRow> removeAll(List<? extends SearchRow> keys) {
-        List<SearchRow> skippedRows = new ArrayList<>();
+        return runConsistently(() -> {
+            List<SearchRow> skippedRows = new ArrayList<>();
 
-        try (var batch = new WriteBatch();
-                var opts = new WriteOptions()) {
+            try {
+                for (SearchRow key : keys) {
+                    byte[] partitionKey = partitionKey(key);
 
-            for (SearchRow key : keys) {
-                byte[] partitionKey = partitionKey(key);
+                    byte[] value = get(partitionKey);
 
-                byte[] value = data.get(partitionKey);
-
-                if (value != null) {
-                    data.delete(batch, partitionKey);
-                } else {
-                    skippedRows.add(key);
+                    if (value != null) {
+                        delete(partitionKey, value);
+                    } else {
+                        skippedRows.add(key);
+                    }
                 }
+            } catch (RocksDBException e) {
+                throw new StorageException("Failed to remove data from the storage", e);
             }
 
-            db.write(opts, batch);
-        } catch (RocksDBException e) {
-            throw new StorageException("Failed to remove data from the storage", e);
-        }
-
-        return skippedRows;
+            return skippedRows;
+        });
     }
 
     /** {@inheritDoc} */
     @Override
     public Collection<DataRow> removeAllExact(List<? extends DataRow> keyValues) {
-        List<DataRow> skippedRows = new ArrayList<>();
+        return runConsistently(() -> {
+            List<DataRow> skippedRows = new ArrayList<>();
 
-        try (WriteBatch batch = new WriteBatch();
-                WriteOptions opts = new WriteOptions()) {
-
-            List<byte[]> keys = getKeys(keyValues);
-            List<byte[]> values = db.multiGetAsList(nCopies(keys.size(), data.handle()), keys);
+            try {
+                List<byte[]> keys = getKeys(keyValues);
+                List<byte[]> values = multiGet(keys);
 
-            assert values.size() == keys.size();
+                assert values.size() == keys.size();
 
-            for (int i = 0; i < keys.size(); i++) {
-                byte[] key = keys.get(i);
-                byte[] expectedValue = keyValues.get(i).valueBytes();
-                byte[] value = values.get(i);
+                for (int i = 0; i < keys.size(); i++) {
+                    byte[] key = keys.get(i);
+                    byte[] expectedValue = keyValues.get(i).valueBytes();
+                    byte[] value = values.get(i);
 
-                if (Arrays.equals(value, expectedValue)) {
-                    data.delete(batch, key);
-                } else {
-                    skippedRows.add(keyValues.get(i));
+                    if (value != null && Arrays.equals(value, expectedValue)) {
+                        delete(key, value);
+                    } else {
+                        skippedRows.add(keyValues.get(i));
+                    }
                 }
+            } catch (RocksDBException e) {
+                throw new StorageException("Failed to remove data from the storage", e);
             }
 
-            db.write(opts, batch);
-        } catch (RocksDBException e) {
-            throw new StorageException("Failed to remove data from the storage", e);
-        }
-
-        return skippedRows;
+            return skippedRows;
+        });
     }
 
     /** {@inheritDoc} */
     @Nullable
     @Override
     public <T> T invoke(SearchRow key, InvokeClosure<T> clo) throws StorageException {
-        try {
-            byte[] partitionKey = partitionKey(key);
+        return runConsistently(() -> {
+            try {
+                byte[] partitionKey = partitionKey(key);
 
-            byte[] existingDataBytes = data.get(partitionKey);
+                byte[] existingDataBytes = get(partitionKey);
 
-            clo.call(existingDataBytes == null ? null : new DelegatingDataRow(key, existingDataBytes));
+                clo.call(existingDataBytes == null ? null : new DelegatingDataRow(key, existingDataBytes));
 
-            switch (clo.operationType()) {
-                case WRITE:
-                    DataRow newRow = clo.newRow();
+                switch (clo.operationType()) {
+                    case WRITE:
+                        DataRow newRow = clo.newRow();
 
-                    assert newRow != null;
+                        assert newRow != null;
 
-                    byte[] value = newRow.valueBytes();
+                        byte[] value = newRow.valueBytes();
 
-                    assert value != null;
+                        assert value != null;
+
+                        put(partitionKey, existingDataBytes, value);
+
+                        break;
+
+                    case REMOVE:
+                        if (existingDataBytes != null) {
+                            delete(partitionKey, existingDataBytes);
+                        }
+
+                        break;
+
+                    case NOOP:
+                        break;
 
-                    data.put(partitionKey, value);
+                    default:
+                        throw new UnsupportedOperationException(String.valueOf(clo.operationType()));
+                }
 
-                    break;
+                return clo.result();
+            } catch (RocksDBException e) {
+                throw new StorageException("Failed to access data in the storage", e);
+            }
+        });
+    }
 
-                case REMOVE:
-                    data.delete(partitionKey);
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The writes are accumulated in a {@link org.rocksdb.WriteBatchWithIndex}, which is written to the database once the closure
+     * completes, along with the changes of the partition statistics.
+     */
+    @Override
+    public <T> T runConsistently(Supplier<T> closure) throws StorageException {
+        if (threadBatch.get() != null) {
+            return closure.get();
+        }
 
-                    break;
+        try (var batch = new StatisticsTrackingWriteBatch();
+                WriteOptions opts = new WriteOptions()) {
+            threadBatch.set(batch);
 
-                case NOOP:
-                    break;
+            T res;
 
-                default:
-                    throw new UnsupportedOperationException(String.valueOf(clo.operationType()));
+            try {
+                res = closure.get();
+            } finally {
+                threadBatch.remove();
             }
 
-            return clo.result();
+            if (batch.count() > 0) {
+                meta.updateStatistics(batch, PARTITION_STATISTICS_PREFIX, partId, batch.rowsDelta(), batch.bytesDelta());
+
+                db.write(opts, batch);
+            }
+
+            return res;
         } catch (RocksDBException e) {
-            throw new StorageException("Failed to access data in the storage", e);
+            throw new StorageException("Filed to write data to the storage", e);
         }
     }
 
@@ -334,7 +419,7 @@ class RocksDbPartitionStorage implements PartitionStorage {
     public Cursor<DataRow> scan(Predicate<SearchRow> filter) throws StorageException {
         var upperBound = new Slice(partitionEndPrefix());
 
-        var options = new ReadOptions().setIterateUpperBound(upperBound);
+        var options = new ReadOptions().setIterateUpperBound(upperBound).setTotalOrderSeek(true);
 
         RocksIterator it = data.newIterator(options);
 
@@ -350,59 +435,105 @@ class RocksDbPartitionStorage implements PartitionStorage {
         };
     }
 
-    // TODO IGNITE-16769 Implement correct PartitionStorage rows count calculation.
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Statistics are kept in the meta Column Family and are updated atomically with the data. The row key size doesn't include
+     * the partition key prefix. The statistics assume that the same key isn't modified concurrently, which holds for the partition
+     * commands that are applied one by one.
+     */
     @Override
-    public long rowsCount() {
-        var upperBound = new Slice(partitionEndPrefix());
+    public PartitionStatistics statistics() throws StorageException {
+        PartitionStatistics statistics = meta.getStatistics(PARTITION_STATISTICS_PREFIX, partId);
 
-        var options = new ReadOptions().setIterateUpperBound(upperBound);
-
-        RocksIterator it = data.newIterator(options);
+        return statistics == null ? PartitionStatistics.EMPTY : statistics;
+    }
 
-        it.seek(partitionStartPrefix());
+    /**
+     * Counts the statistics by scanning the partition and replaces the saved ones with the result.
+     */
+    private void recountStatistics() {
+        long rowsCount = 0;
+        long totalBytes = 0;
+
+        try (
+                var upperBound = new Slice(partitionEndPrefix());
+                var options = new ReadOptions().setIterateUpperBound(upperBound).setTotalOrderSeek(true);
+                RocksIterator it = data.newIterator(options);
+                var batch = new WriteBatch();
+                var writeOpts = new WriteOptions()
+        ) {
+            for (it.seek(partitionStartPrefix()); it.isValid(); it.next()) {
+                rowsCount++;
+                totalBytes += rowSize(it.key(), it.value());
+            }
 
-        long size = 0;
+            it.status();
 
-        while (it.isValid()) {
-            ++size;
-            it.next();
-        }
+            meta.putStatistics(batch, PARTITION_STATISTICS_PREFIX, partId, new PartitionStatistics(rowsCount, totalBytes));
 
-        try {
-            IgniteUtils.closeAll(options, upperBound);
-        } catch (Exception e) {
-            throw new StorageException("Error occurred while fetching the size.", e);
+            db.write(writeOpts, batch);
+        } catch (RocksDBException e) {
+            throw new StorageException("Failed to count statistics of partition " + partId, e);
         }
-
-        return size;
     }
 
-    /** {@inheritDoc} */
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The snapshot is saved as a single file of key-value chunks instead of SST files, so that {@link #restoreSnapshot} is able to
+     * ingest it piece by piece.
+     */
     @Override
     public CompletableFuture<Void> snapshot(Path snapshotPath) {
-        return snapshotManager.createSnapshot(snapshotPath);
+        return snapshotManager.createStreamedSnapshot(snapshotPath, SNAPSHOT_CHUNK_SIZE);
     }
 
-    /** {@inheritDoc} */
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If the restoration fails, the partition is left empty rather than partially restored.
+     */
     @Override
     public void restoreSnapshot(Path path) {
         synchronized (snapshotRestoreLock) {
             destroy();
 
-            snapshotManager.restoreSnapshot(path);
+            try {
+                snapshotManager.restoreStreamedSnapshot(path, SNAPSHOT_SST_FILE_SIZE);
+            } catch (RuntimeException e) {
+                // Remove the part of the snapshot that has been ingested before the failure.
+                try {
+                    destroy();
+                } catch (RuntimeException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+
+                throw e;
+            }
+
+            recountStatistics();
         }
     }
 
     /** {@inheritDoc} */
     @Override
     public void close() throws Exception {
-        // nothing to do
+        batchReadOptions.close();
     }
 
     @Override
     public void destroy() {
-        try {
-            data.deleteRange(partitionStartPrefix(), partitionEndPrefix());
+        try (var batch = new WriteBatch();
+                var writeOpts = new WriteOptions()) {
+            batch.deleteRange(data.handle(), partitionStartPrefix(), partitionEndPrefix());
+
+            meta.putStatistics(batch, PARTITION_STATISTICS_PREFIX, partId, PartitionStatistics.EMPTY);
+
+            // The key range is shared with the multi-versioned storage of the same partition, its data is gone as well.
+            meta.putStatistics(batch, MV_PARTITION_STATISTICS_PREFIX, partId, PartitionStatistics.EMPTY);
+
+            db.write(writeOpts, batch);
         } catch (RocksDBException e) {
             throw new StorageException("Unable to delete partition " + partId, e);
         }
@@ -482,6 +613,88 @@ class RocksDbPartitionStorage implements PartitionStorage {
                 .array();
     }
 
+    /**
+     * Reads a value, taking the write batch of the current thread into account.
+     *
+     * @param key Key.
+     * @return Value or {@code null} if the key is missing.
+     * @throws RocksDBException If failed.
+     */
+    private byte @Nullable [] get(byte[] key) throws RocksDBException {
+        StatisticsTrackingWriteBatch batch = threadBatch.get();
+
+        return batch == null ? data.get(key) : batch.getFromBatchAndDB(db, data.handle(), batchReadOptions, key);
+    }
+
+    /**
+     * Reads values of a list of keys, taking the write batch of the current thread into account.
+     *
+     * @param keys Keys.
+     * @return Values in the order of the keys, {@code null} for missing keys.
+     * @throws RocksDBException If failed.
+     */
+    private List<byte[]> multiGet(List<byte[]> keys) throws RocksDBException {
+        StatisticsTrackingWriteBatch batch = threadBatch.get();
+
+        if (batch == null) {
+            return db.multiGetAsList(nCopies(keys.size(), data.handle()), keys);
+        }
+
+        List<byte[]> values = new ArrayList<>(keys.size());
+
+        for (byte[] key : keys) {
+            values.add(batch.getFromBatchAndDB(db, data.handle(), batchReadOptions, key));
+        }
+
+        return values;
+    }
+
+    /**
+     * Writes a value into the write batch of the current thread, which must be running {@link #runConsistently}.
+     *
+     * @param key Key.
+     * @param oldValue Current value of the key, {@code null} if the key is missing.
+     * @param value Value.
+     * @throws RocksDBException If failed.
+     */
+    private void put(byte[] key, byte @Nullable [] oldValue, byte[] value) throws RocksDBException {
+        StatisticsTrackingWriteBatch batch = threadBatch.get();
+
+        assert batch != null;
+
+        batch.put(data.handle(), key, value);
+
+        if (oldValue == null) {
+            batch.track(1, rowSize(key, value));
+        } else {
+            batch.track(0, value.length - oldValue.length);
+        }
+    }
+
+    /**
+     * Removes a key in the write batch of the current thread, which must be running {@link #runConsistently}.
+     *
+     * @param key Key.
+     * @param oldValue Current value of the key.
+     * @throws RocksDBException If failed.
+     */
+    private void delete(byte[] key, byte[] oldValue) throws RocksDBException {
+        StatisticsTrackingWriteBatch batch = threadBatch.get();
+
+        assert batch != null;
+
+        batch.delete(data.handle(), key);
+
+        batch.track(-1, -rowSize(key, oldValue));
+    }
+
+    /**
+     * Returns the size of a row as accounted in the statistics: the sizes of its key, without the partition key prefix, and value.
+     */
+    private static long rowSize(byte[] partitionKey, byte[] value) {
+        return partitionKey.length - PARTITION_KEY_PREFIX_SIZE + value.length;
+    }
+
     /**
      * Gets a list of key byte arrays.
      *
@@ -21,6 +21,8 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.META_CF_NAME;
 import static org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.PARTITION_CF_NAME;
 import static org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.columnFamilyType;
+import static org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.hashIndexCfName;
+import static org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.hashIndexName;
 import static org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.sortedIndexCfName;
 import static org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.sortedIndexName;
 
@@ -28,6 +30,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -42,9 +45,12 @@ import org.apache.ignite.internal.storage.PartitionStorage;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
 import org.apache.ignite.internal.storage.engine.TableStorage;
+import org.apache.ignite.internal.storage.index.HashIndexDescriptor;
+import org.apache.ignite.internal.storage.index.HashIndexStorage;
 import org.apache.ignite.internal.storage.index.SortedIndexDescriptor;
 import org.apache.ignite.internal.storage.index.SortedIndexStorage;
 import org.apache.ignite.internal.storage.rocksdb.index.BinaryRowComparator;
+import org.apache.ignite.internal.storage.rocksdb.index.RocksDbHashIndex;
 import org.apache.ignite.internal.storage.rocksdb.index.RocksDbSortedIndexStorage;
 import org.apache.ignite.internal.tostring.S;
 import org.apache.ignite.internal.util.IgniteUtils;
@@ -52,10 +58,13 @@ import org.jetbrains.annotations.Nullable;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompactRangeOptions;
+import org.rocksdb.CompactRangeOptions.BottommostLevelCompaction;
 import org.rocksdb.DBOptions;
 import org.rocksdb.Options;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.TableProperties;
 
 /**
  * Table storage implementation based on {@link RocksDB} instance.
@@ -88,6 +97,9 @@ class RocksDbTableStorage implements TableStorage, MvTableStorage {
     /** Column families for indexes by their names. */
     private final Map<String, RocksDbSortedIndexStorage> sortedIndices = new ConcurrentHashMap<>();
 
+    /** Hash indexes by their names. */
+    private final Map<String, RocksDbHashIndex> hashIndices = new ConcurrentHashMap<>();
+
     /** Flag indicating if the storage has been stopped. */
     private volatile boolean stopped = false;
 
@@ -162,6 +174,15 @@ class RocksDbTableStorage implements TableStorage, MvTableStorage {
 
                         break;
 
+                    case HASH_INDEX:
+                        String hashIndexName = hashIndexName(cf.name());
+
+                        var hashIndexDescriptor = new HashIndexDescriptor(hashIndexName, tableCfg.value());
+
+                        hashIndices.put(hashIndexName, new RocksDbHashIndex(cf, hashIndexDescriptor));
+
+                        break;
+
                     default:
                         throw new StorageException("Unidentified column family [name=" + cf.name() + ", table=" + tableCfg.name() + ']');
                 }
@@ -173,7 +194,7 @@ class RocksDbTableStorage implements TableStorage, MvTableStorage {
         partitions = new AtomicReferenceArray<>(tableCfg.value().partitions());
 
         for (int partId : meta.getPartitionIds()) {
-            partitions.set(partId, new RocksDbPartitionStorage(db, partitionCf, partId, threadPool));
+            partitions.set(partId, new RocksDbPartitionStorage(db, partitionCf, meta, partId, threadPool));
         }
     }
 
@@ -188,6 +209,8 @@ class RocksDbTableStorage implements TableStorage, MvTableStorage {
 
         resources.addAll(sortedIndices.values());
 
+        resources.addAll(hashIndices.values());
+
         for (int i = 0; i < partitions.length(); i++) {
             PartitionStorage partition = partitions.get(i);
 
@@ -224,7 +247,7 @@ class RocksDbTableStorage implements TableStorage, MvTableStorage {
 
         // Possible races when creating the partitions with the same ID are safe, since both the storage creation and the meta update
         // are cheap and idempotent.
-        storage = new RocksDbPartitionStorage(db, partitionCf, partId, threadPool);
+        storage = new RocksDbPartitionStorage(db, partitionCf, meta, partId, threadPool);
 
         partitions.set(partId, storage);
 
@@ -254,6 +277,8 @@ class RocksDbTableStorage implements TableStorage, MvTableStorage {
 
             partition.destroy();
 
+            hashIndices.values().forEach(index -> index.destroyPartition(partId));
+
             meta.removePartitionId(partId);
         }
     }
@@ -271,7 +296,7 @@ class RocksDbTableStorage implements TableStorage, MvTableStorage {
             throw new NullPointerException("Partition doesn't exist");
         }
 
-        return new RocksDbMvPartitionStorage(partitionId, db, partitionCf.handle());
+        return new RocksDbMvPartitionStorage(partitionId, db, partitionCf.handle(), meta);
     }
 
     @Override
@@ -301,6 +326,33 @@ class RocksDbTableStorage implements TableStorage, MvTableStorage {
         });
     }
 
+    @Override
+    public HashIndexStorage getOrCreateHashIndex(int partitionId, String indexName) {
+        assert !stopped : "Storage has been stopped";
+
+        checkPartitionId(partitionId);
+
+        RocksDbHashIndex index = hashIndices.computeIfAbsent(indexName, name -> {
+            var indexDescriptor = new HashIndexDescriptor(name, tableCfg.value());
+
+            var cfDescriptor = new ColumnFamilyDescriptor(
+                    hashIndexCfName(name).getBytes(UTF_8),
+                    RocksDbHashIndex.columnFamilyOptions(dataRegion)
+            );
+
+            ColumnFamily cf;
+            try {
+                cf = ColumnFamily.create(db, cfDescriptor);
+            } catch (RocksDBException e) {
+                throw new StorageException("Failed to create new RocksDB column family: " + new String(cfDescriptor.getName(), UTF_8), e);
+            }
+
+            return new RocksDbHashIndex(cf, indexDescriptor);
+        });
+
+        return index.getOrCreateStorage(partitionId);
+    }
+
     @Override
     public void dropIndex(String indexName) {
         assert !stopped : "Storage has been stopped";
@@ -310,6 +362,86 @@ class RocksDbTableStorage implements TableStorage, MvTableStorage {
 
             return null;
         });
+
+        hashIndices.computeIfPresent(indexName, (name, index) -> {
+            index.destroy();
+
+            return null;
+        });
+    }
+
+    /**
+     * Rewrites the SST files that hold the data of the partition down to the bottommost level. As a result, the data is compressed with
+     * the bottommost compression of the data region and, if configured, a ZSTD dictionary trained on a sample of the rewritten files,
+     * that is of the partition data. Useful after a bulk load, when most of the data still resides in the upper levels.
+     *
+     * @param partitionId Partition id.
+     * @return Future that completes when the data is rewritten.
+     */
+    public CompletableFuture<Void> recompressPartition(int partitionId) {
+        assert !stopped : "Storage has been stopped";
+
+        checkPartitionId(partitionId);
+
+        return CompletableFuture.runAsync(() -> {
+            byte[] from = {(byte) (partitionId >>> 8), (byte) partitionId};
+
+            // The prefix of the next partition would wrap around to 0 for the last possible partition, compact up to the end then.
+            byte[] to = partitionId == 0xFFFF ? null : new byte[] {(byte) ((partitionId + 1) >>> 8), (byte) (partitionId + 1)};
+
+            try (var options = new CompactRangeOptions().setBottommostLevelCompaction(BottommostLevelCompaction.kForce)) {
+                db.compactRange(partitionCf.handle(), from, to, options);
+            } catch (RocksDBException e) {
+                throw new StorageException("Failed to recompress partition " + partitionId, e);
+            }
+        }, threadPool);
+    }
+
+    /**
+     * Returns the size of the partition data in the SST files before compression, in bytes. Data in memtables is not counted.
+     */
+    public long uncompressedDataSize() {
+        return partitionTableProperties().stream()
+                .mapToLong(properties -> properties.getRawKeySize() + properties.getRawValueSize())
+                .sum();
+    }
+
+    /**
+     * Returns the size of the data blocks of the partition data in the SST files, in bytes. Data in memtables is not counted.
+     */
+    public long compressedDataSize() {
+        return partitionTableProperties().stream()
+                .mapToLong(TableProperties::getDataSize)
+                .sum();
+    }
+
+    /**
+     * Returns the compression ratio of the partition data in the SST files: their uncompressed size divided by the compressed one,
+     * {@code 1} if there are no SST files.
+     */
+    public double compressionRatio() {
+        Collection<TableProperties> tableProperties = partitionTableProperties();
+
+        long uncompressedSize = tableProperties.stream()
+                .mapToLong(properties -> properties.getRawKeySize() + properties.getRawValueSize())
+                .sum();
+
+        long compressedSize = tableProperties.stream()
+                .mapToLong(TableProperties::getDataSize)
+                .sum();
+
+        return compressedSize == 0 ? 1 : (double) uncompressedSize / compressedSize;
+    }
+
+    /**
+     * Returns the properties of the SST files of the partition data Column Family.
+     */
+    private Collection<TableProperties> partitionTableProperties() {
+        try {
+            return db.getPropertiesOfAllTables(partitionCf.handle()).values();
+        } catch (RocksDBException e) {
+            throw new StorageException("Failed to read the properties of the SST files", e);
+        }
     }
 
     /**
@@ -370,14 +502,22 @@ class RocksDbTableStorage implements TableStorage, MvTableStorage {
     private ColumnFamilyDescriptor cfDescriptorFromName(String cfName) {
         switch (columnFamilyType(cfName)) {
             case META:
+                return new ColumnFamilyDescriptor(
+                        cfName.getBytes(UTF_8),
+                        new ColumnFamilyOptions().setMergeOperatorName(RocksDbMetaStorage.MERGE_OPERATOR_NAME)
+                );
+
             case PARTITION:
-                return new ColumnFamilyDescriptor(cfName.getBytes(UTF_8), new ColumnFamilyOptions());
+                return new ColumnFamilyDescriptor(cfName.getBytes(UTF_8), dataRegion.partitionCfOptions());
 
             case SORTED_INDEX:
                 var indexDescriptor = new SortedIndexDescriptor(sortedIndexName(cfName), tableCfg.value());
 
                 return sortedIndexCfDescriptor(indexDescriptor);
 
+            case HASH_INDEX:
+                return new ColumnFamilyDescriptor(cfName.getBytes(UTF_8), RocksDbHashIndex.columnFamilyOptions(dataRegion));
+
             default:
                 throw new StorageException("Unidentified column family [name=" + cfName + ", table=" + tableCfg.name() + ']');
         }
@@ -386,10 +526,12 @@ class RocksDbTableStorage implements TableStorage, MvTableStorage {
     /**
      * Creates a Column Family descriptor for a Sorted Index.
      */
-    private static ColumnFamilyDescriptor sortedIndexCfDescriptor(SortedIndexDescriptor descriptor) {
+    private ColumnFamilyDescriptor sortedIndexCfDescriptor(SortedIndexDescriptor descriptor) {
         String cfName = sortedIndexCfName(descriptor.name());
 
-        ColumnFamilyOptions options = new ColumnFamilyOptions().setComparator(new BinaryRowComparator(descriptor));
+        // Bloom filters are of no use for range scans, so the index is only configured with the block size and the cache.
+        ColumnFamilyOptions options = dataRegion.indexCfOptions(dataRegion.indexTableConfig())
+                .setComparator(new BinaryRowComparator(descriptor));
 
         return new ColumnFamilyDescriptor(cfName.getBytes(UTF_8), options);
     }
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb;
+
+import org.rocksdb.WriteBatchWithIndex;
+
+/**
+ * Write batch with an index that also accumulates the changes of the partition statistics made by its writes, so that they can be
+ * written along with the data.
+ */
+class StatisticsTrackingWriteBatch extends WriteBatchWithIndex {
+    /** Change of the number of rows. */
+    private long rowsDelta;
+
+    /** Change of the total size of the rows. */
+    private long bytesDelta;
+
+    /**
+     * Constructor.
+     */
+    StatisticsTrackingWriteBatch() {
+        super(true);
+    }
+
+    /**
+     * Accounts a change of the statistics.
+     *
+     * @param rowsDelta Change of the number of rows.
+     * @param bytesDelta Change of the total size of the rows.
+     */
+    void track(long rowsDelta, long bytesDelta) {
+        this.rowsDelta += rowsDelta;
+        this.bytesDelta += bytesDelta;
+    }
+
+    /**
+     * Returns the accumulated change of the number of rows.
+     */
+    long rowsDelta() {
+        return rowsDelta;
+    }
+
+    /**
+     * Returns the accumulated change of the total size of the rows.
+     */
+    long bytesDelta() {
+        return bytesDelta;
+    }
+}
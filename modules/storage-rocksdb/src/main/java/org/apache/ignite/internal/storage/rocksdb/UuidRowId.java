@@ -25,7 +25,7 @@ import org.apache.ignite.internal.storage.RowId;
 /**
  * UUID-based ignite row id implementation.
  */
-final class UuidRowId implements RowId {
+public final class UuidRowId implements RowId {
     /*
      * The most significant 64 bits.
      */
@@ -60,6 +60,21 @@ final class UuidRowId implements RowId {
         return new UuidRowId(msb, lsb);
     }
 
+    /**
+     * Reads row id from a byte buffer, previously written by a {@link #writeTo(ByteBuffer)} method.
+     *
+     * @param buf Input byte buffer with {@link java.nio.ByteOrder#BIG_ENDIAN} byte order.
+     * @return Row id.
+     */
+    public static UuidRowId readFrom(ByteBuffer buf) {
+        assert buf.order() == ByteOrder.BIG_ENDIAN;
+
+        long msb = buf.getLong();
+        long lsb = buf.getLong();
+
+        return new UuidRowId(msb, lsb);
+    }
+
     /** {@inheritDoc} */
     @Override
     public int partitionId() {
@@ -105,6 +120,28 @@ final class UuidRowId implements RowId {
         return mostSigBits == buf.getLong() && leastSigBits == buf.getLong();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        UuidRowId rowId = (UuidRowId) o;
+
+        return mostSigBits == rowId.mostSigBits && leastSigBits == rowId.leastSigBits;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(mostSigBits ^ leastSigBits);
+    }
+
     /** {@inheritDoc} */
     @Override
     public String toString() {
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb.configuration;
+
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.COMPRESSION_LZ4;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.COMPRESSION_LZ4HC;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.COMPRESSION_NONE;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.COMPRESSION_SNAPPY;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.COMPRESSION_ZLIB;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.COMPRESSION_ZSTD;
+
+import java.util.Locale;
+import java.util.Set;
+import org.apache.ignite.configuration.validation.ValidationContext;
+import org.apache.ignite.configuration.validation.ValidationIssue;
+import org.apache.ignite.configuration.validation.Validator;
+
+/**
+ * Implementing a validator for {@link RocksDbCompressionTypes}.
+ */
+public class RocksDbCompressionTypesValidatorImpl implements Validator<RocksDbCompressionTypes, String[]> {
+    /** Static instance. */
+    public static final RocksDbCompressionTypesValidatorImpl INSTANCE = new RocksDbCompressionTypesValidatorImpl();
+
+    /** Supported compression types. */
+    private static final Set<String> COMPRESSION_TYPES = Set.of(
+            COMPRESSION_NONE,
+            COMPRESSION_SNAPPY,
+            COMPRESSION_LZ4,
+            COMPRESSION_LZ4HC,
+            COMPRESSION_ZLIB,
+            COMPRESSION_ZSTD
+    );
+
+    /** {@inheritDoc} */
+    @Override
+    public void validate(RocksDbCompressionTypes annotation, ValidationContext<String[]> ctx) {
+        for (String compressionType : ctx.getNewValue()) {
+            if (!COMPRESSION_TYPES.contains(compressionType.toLowerCase(Locale.ROOT))) {
+                ctx.addIssue(new ValidationIssue(String.format(
+                        "'%s' configuration value contains an unknown compression type '%s', must be one of %s",
+                        ctx.currentKey(),
+                        compressionType,
+                        COMPRESSION_TYPES
+                )));
+            }
+        }
+    }
+}
@@ -54,6 +54,9 @@ public class RocksDbStorageEngineDistributedConfigurationModule implements Confi
     /** {@inheritDoc} */
     @Override
     public Map<Class<? extends Annotation>, Set<Validator<? extends Annotation, ?>>> validators() {
-        return Map.of(RocksDbDataRegionName.class, Set.of(RocksDbDataRegionValidatorImpl.INSTANCE));
+        return Map.of(
+                RocksDbDataRegionName.class, Set.of(RocksDbDataRegionValidatorImpl.INSTANCE),
+                RocksDbCompressionTypes.class, Set.of(RocksDbCompressionTypesValidatorImpl.INSTANCE)
+        );
     }
 }
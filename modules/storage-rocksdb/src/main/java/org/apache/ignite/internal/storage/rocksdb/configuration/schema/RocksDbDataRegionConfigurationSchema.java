@@ -23,6 +23,7 @@ import org.apache.ignite.configuration.annotation.Value;
 import org.apache.ignite.configuration.validation.OneOf;
 import org.apache.ignite.configuration.validation.Range;
 import org.apache.ignite.internal.storage.rocksdb.RocksDbStorageEngine;
+import org.apache.ignite.internal.storage.rocksdb.configuration.RocksDbCompressionTypes;
 
 /**
  * Data region configuration for {@link RocksDbStorageEngine}.
@@ -35,6 +36,24 @@ public class RocksDbDataRegionConfigurationSchema {
     /** Cache type for the RocksDB LRU cache. */
     public static final String ROCKSDB_CLOCK_CACHE = "clock";
 
+    /** No compression. */
+    public static final String COMPRESSION_NONE = "none";
+
+    /** Snappy compression. */
+    public static final String COMPRESSION_SNAPPY = "snappy";
+
+    /** LZ4 compression. */
+    public static final String COMPRESSION_LZ4 = "lz4";
+
+    /** LZ4 high compression. */
+    public static final String COMPRESSION_LZ4HC = "lz4hc";
+
+    /** Zlib compression. */
+    public static final String COMPRESSION_ZLIB = "zlib";
+
+    /** ZSTD compression. */
+    public static final String COMPRESSION_ZSTD = "zstd";
+
     /** Name of the data region. */
     @InjectedName
     public String name;
@@ -57,4 +76,71 @@ public class RocksDbDataRegionConfigurationSchema {
     @Range(min = -1)
     @Value(hasDefault = true)
     public int numShardBits = -1;
+
+    /** Size of the data blocks of the partition data, in bytes. Smaller blocks make point reads cheaper. */
+    @Range(min = 1024)
+    @Value(hasDefault = true)
+    public int dataBlockSize = 4 * 1024;
+
+    /** Size of the data blocks of the indexes, in bytes. Larger blocks make range scans cheaper. */
+    @Range(min = 1024)
+    @Value(hasDefault = true)
+    public int indexBlockSize = 16 * 1024;
+
+    /** Number of bits per key of the bloom filters, {@code 0} disables the filters. 10 bits give about 1% of false positives. */
+    @Range(min = 0)
+    @Value(hasDefault = true)
+    public int bloomFilterBitsPerKey = 10;
+
+    /** Whether whole keys are added to the bloom filters of the partition data. */
+    @Value(hasDefault = true)
+    public boolean wholeKeyFiltering = true;
+
+    /**
+     * Whether row id prefixes of the partition data keys are added to the bloom filters, so that reads of a single row skip the
+     * files and memtables without its versions.
+     */
+    @Value(hasDefault = true)
+    public boolean prefixBloomFilter = true;
+
+    /**
+     * Whether index and filter blocks are partitioned. Partitions are loaded into the block cache on demand, and only the top level
+     * index is pinned there, so large tables do not hold all of their filters in memory.
+     */
+    @Value(hasDefault = true)
+    public boolean partitionedIndexFilters = true;
+
+    /** Compression of the SST files of all levels, except for the bottommost one. Fast compression suits the short-living upper levels. */
+    @OneOf({COMPRESSION_NONE, COMPRESSION_SNAPPY, COMPRESSION_LZ4, COMPRESSION_LZ4HC, COMPRESSION_ZLIB, COMPRESSION_ZSTD})
+    @Value(hasDefault = true)
+    public String compression = COMPRESSION_LZ4;
+
+    /**
+     * Compression of the SST files per level, starting from level 0. Overrides {@link #compression} if not empty, the last value applies
+     * to all the deeper levels. The bottommost level is still controlled by {@link #bottommostCompression}.
+     */
+    @RocksDbCompressionTypes
+    @Value(hasDefault = true)
+    public String[] compressionPerLevel = new String[0];
+
+    /** Compression of the SST files of the bottommost level, which holds most of the data. */
+    @OneOf({COMPRESSION_NONE, COMPRESSION_SNAPPY, COMPRESSION_LZ4, COMPRESSION_LZ4HC, COMPRESSION_ZLIB, COMPRESSION_ZSTD})
+    @Value(hasDefault = true)
+    public String bottommostCompression = COMPRESSION_ZSTD;
+
+    /**
+     * Maximum size of the compression dictionary of a bottommost level SST file, in bytes, {@code 0} disables the dictionaries.
+     * A dictionary is built from a sample of the data blocks of the file, which lets the small blocks share the repetitive content.
+     */
+    @Range(min = 0)
+    @Value(hasDefault = true)
+    public int zstdMaxDictBytes = 0;
+
+    /**
+     * Maximum size of the sample used to train a ZSTD dictionary, in bytes. About 100 times the {@link #zstdMaxDictBytes} is recommended.
+     * {@code 0} means that the sample is used as a dictionary without training.
+     */
+    @Range(min = 0)
+    @Value(hasDefault = true)
+    public int zstdMaxTrainBytes = 0;
 }
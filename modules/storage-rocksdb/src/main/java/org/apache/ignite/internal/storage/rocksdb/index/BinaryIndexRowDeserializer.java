@@ -17,8 +17,10 @@
 
 package org.apache.ignite.internal.storage.rocksdb.index;
 
+import java.util.List;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.ByteBufferRow;
+import org.apache.ignite.internal.schema.Column;
 import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.internal.storage.index.IndexRow;
 import org.apache.ignite.internal.storage.index.IndexRowDeserializer;
@@ -45,4 +47,21 @@ class BinaryIndexRowDeserializer implements IndexRowDeserializer {
                 .map(column -> column.type().spec().objectValue(row, column.schemaIndex()))
                 .toArray();
     }
+
+    @Override
+    public Object[] columnValues(IndexRow indexRow, int[] columns) {
+        var row = new Row(descriptor.asSchemaDescriptor(), new ByteBufferRow(indexRow.rowBytes()));
+
+        List<ColumnDescriptor> indexRowColumns = descriptor.indexRowColumns();
+
+        Object[] values = new Object[columns.length];
+
+        for (int i = 0; i < columns.length; i++) {
+            Column column = indexRowColumns.get(columns[i]).column();
+
+            values[i] = column.type().spec().objectValue(row, column.schemaIndex());
+        }
+
+        return values;
+    }
 }
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb.index;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.ignite.internal.rocksdb.ColumnFamily;
+import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.index.HashIndexDescriptor;
+import org.apache.ignite.internal.storage.index.HashIndexStorage;
+import org.apache.ignite.internal.storage.rocksdb.RocksDbDataRegion;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.ColumnFamilyOptions;
+
+/**
+ * Hash index of a table, that holds the Column Family shared by the {@link RocksDbHashIndexStorage}s of all partitions.
+ */
+public class RocksDbHashIndex implements AutoCloseable {
+    /** Share of the memtable size used by the memtable prefix bloom filter. */
+    private static final double MEMTABLE_PREFIX_BLOOM_SIZE_RATIO = 0.1;
+
+    private final ColumnFamily indexCf;
+
+    private final HashIndexDescriptor descriptor;
+
+    private final ConcurrentMap<Integer, RocksDbHashIndexStorage> storages = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param indexCf Column Family for storing the data.
+     * @param descriptor Index descriptor.
+     */
+    public RocksDbHashIndex(ColumnFamily indexCf, HashIndexDescriptor descriptor) {
+        this.indexCf = indexCf;
+        this.descriptor = descriptor;
+    }
+
+    /**
+     * Creates options for a hash index Column Family. Lookups never span several hashes, so the bloom filters are built for the fixed
+     * length key prefix instead of the whole keys, and iterators may use them to skip the files without the searched prefix.
+     *
+     * @param dataRegion Data region of the table.
+     */
+    public static ColumnFamilyOptions columnFamilyOptions(RocksDbDataRegion dataRegion) {
+        BlockBasedTableConfig tableConfig = dataRegion.indexTableConfig();
+
+        if (dataRegion.bloomFilterBitsPerKey() > 0) {
+            tableConfig
+                    .setFilterPolicy(new BloomFilter(dataRegion.bloomFilterBitsPerKey(), false))
+                    .setWholeKeyFiltering(false);
+        }
+
+        return dataRegion.indexCfOptions(tableConfig)
+                .useFixedLengthPrefixExtractor(RocksDbHashIndexStorage.PREFIX_SIZE)
+                .setMemtablePrefixBloomSizeRatio(MEMTABLE_PREFIX_BLOOM_SIZE_RATIO);
+    }
+
+    /**
+     * Returns the index descriptor.
+     */
+    public HashIndexDescriptor descriptor() {
+        return descriptor;
+    }
+
+    /**
+     * Returns the index storage for the given partition, creating it if necessary.
+     *
+     * @param partitionId Partition id.
+     */
+    public HashIndexStorage getOrCreateStorage(int partitionId) {
+        return storages.computeIfAbsent(partitionId, partId -> new RocksDbHashIndexStorage(indexCf, descriptor, partId));
+    }
+
+    /**
+     * Removes all data of the given partition from the index.
+     *
+     * @param partitionId Partition id.
+     */
+    public void destroyPartition(int partitionId) {
+        storages.remove(partitionId);
+
+        RocksDbHashIndexStorage.destroyPartition(indexCf, partitionId);
+    }
+
+    /**
+     * Removes all data of the index, including its Column Family.
+     */
+    public void destroy() {
+        storages.clear();
+
+        try {
+            indexCf.destroy();
+        } catch (Exception e) {
+            throw new StorageException(String.format("Failed to destroy index \"%s\"", descriptor.name()), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        // no-op
+    }
+}
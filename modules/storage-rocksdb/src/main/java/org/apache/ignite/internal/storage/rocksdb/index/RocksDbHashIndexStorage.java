@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb.index;
+
+import static org.apache.ignite.internal.util.ArrayUtils.BYTE_EMPTY_ARRAY;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import org.apache.ignite.internal.rocksdb.ColumnFamily;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.index.HashIndexDescriptor;
+import org.apache.ignite.internal.storage.index.HashIndexStorage;
+import org.apache.ignite.internal.storage.rocksdb.UuidRowId;
+import org.jetbrains.annotations.Nullable;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+
+/**
+ * {@link HashIndexStorage} implementation based on RocksDB.
+ *
+ * <p>All partitions of an index share a single Column Family. Every entry is stored as a key without a value, that consists of:
+ * <ol>
+ *     <li>partition id, 2 bytes;</li>
+ *     <li>hash of the indexed values, 4 bytes;</li>
+ *     <li>the indexed values, serialized as the key chunk of a {@link BinaryRow};</li>
+ *     <li>row id, 16 bytes.</li>
+ * </ol>
+ *
+ * <p>The first two parts form a fixed length prefix, which is used by the Column Family prefix extractor, so a lookup only has to consult
+ * the prefix bloom filters to skip the SST files and memtables that do not contain the searched hash.
+ *
+ * @see RocksDbHashIndex#columnFamilyOptions()
+ */
+public class RocksDbHashIndexStorage implements HashIndexStorage {
+    /** Size of the partition id part of the key. */
+    private static final int PARTITION_ID_SIZE = Short.BYTES;
+
+    /** Size of the key prefix, that is used by the prefix extractor: partition id and hash of the indexed values. */
+    static final int PREFIX_SIZE = PARTITION_ID_SIZE + Integer.BYTES;
+
+    /** Size of the row id part of the key. */
+    private static final int ROW_ID_SIZE = 2 * Long.BYTES;
+
+    private final ColumnFamily indexCf;
+
+    private final HashIndexDescriptor descriptor;
+
+    private final int partitionId;
+
+    /**
+     * Creates a new Index storage.
+     *
+     * @param indexCf Column Family for storing the data.
+     * @param descriptor Index descriptor.
+     * @param partitionId Partition id.
+     */
+    RocksDbHashIndexStorage(ColumnFamily indexCf, HashIndexDescriptor descriptor, int partitionId) {
+        this.indexCf = indexCf;
+        this.descriptor = descriptor;
+        this.partitionId = partitionId;
+    }
+
+    @Override
+    public HashIndexDescriptor indexDescriptor() {
+        return descriptor;
+    }
+
+    @Override
+    public Collection<RowId> get(Object[] columnValues) {
+        byte[] prefix = keyPrefix(columnValues);
+
+        if (prefix == null) {
+            return List.of();
+        }
+
+        List<RowId> result = new ArrayList<>();
+
+        try (
+                ReadOptions options = new ReadOptions().setPrefixSameAsStart(true);
+                RocksIterator it = indexCf.newIterator(options)
+        ) {
+            for (it.seek(prefix); it.isValid(); it.next()) {
+                byte[] key = it.key();
+
+                if (!Arrays.equals(key, 0, prefix.length, prefix, 0, prefix.length)) {
+                    break;
+                }
+
+                // Skips the keys which indexed values only start with the searched ones.
+                if (key.length == prefix.length + ROW_ID_SIZE) {
+                    result.add(UuidRowId.readFrom(ByteBuffer.wrap(key, prefix.length, ROW_ID_SIZE)));
+                }
+            }
+
+            it.status();
+        } catch (RocksDBException e) {
+            throw new StorageException("Error while reading data from Rocks DB", e);
+        }
+
+        return result;
+    }
+
+    @Override
+    public void put(Object[] columnValues, RowId rowId) {
+        byte[] key = key(columnValues, rowId);
+
+        if (key == null) {
+            return;
+        }
+
+        try {
+            indexCf.put(key, BYTE_EMPTY_ARRAY);
+        } catch (RocksDBException e) {
+            throw new StorageException("Error while adding data to Rocks DB", e);
+        }
+    }
+
+    @Override
+    public void remove(Object[] columnValues, RowId rowId) {
+        byte[] key = key(columnValues, rowId);
+
+        if (key == null) {
+            return;
+        }
+
+        try {
+            indexCf.delete(key);
+        } catch (RocksDBException e) {
+            throw new StorageException("Error while removing data from Rocks DB", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        destroyPartition(indexCf, partitionId);
+    }
+
+    @Override
+    public void close() {
+        // no-op
+    }
+
+    /**
+     * Removes all entries of the given partition from the index Column Family.
+     *
+     * @param indexCf Index Column Family.
+     * @param partitionId Partition id.
+     */
+    static void destroyPartition(ColumnFamily indexCf, int partitionId) {
+        // Partition ids are limited by the table configuration, so the next one never overflows two bytes.
+        assert partitionId < 0xFFFF : partitionId;
+
+        byte[] from = ByteBuffer.allocate(PARTITION_ID_SIZE).putShort((short) partitionId).array();
+        byte[] to = ByteBuffer.allocate(PARTITION_ID_SIZE).putShort((short) (partitionId + 1)).array();
+
+        try {
+            indexCf.deleteRange(from, to);
+        } catch (RocksDBException e) {
+            throw new StorageException("Error while removing data from Rocks DB", e);
+        }
+    }
+
+    /**
+     * Creates a key prefix that contains the partition id, the hash and the serialized indexed values, or {@code null} if the values are
+     * not indexed.
+     */
+    private byte @Nullable [] keyPrefix(Object[] columnValues) {
+        ByteBuffer buf = keyBuffer(columnValues, 0);
+
+        return buf == null ? null : buf.array();
+    }
+
+    /**
+     * Creates a full key of the index entry or {@code null} if the values are not indexed.
+     */
+    private byte @Nullable [] key(Object[] columnValues, RowId rowId) {
+        assert rowId instanceof UuidRowId : rowId;
+
+        ByteBuffer buf = keyBuffer(columnValues, ROW_ID_SIZE);
+
+        if (buf == null) {
+            return null;
+        }
+
+        ((UuidRowId) rowId).writeTo(buf);
+
+        return buf.array();
+    }
+
+    private @Nullable ByteBuffer keyBuffer(Object[] columnValues, int extraSize) {
+        BinaryRow binaryKey = descriptor.toBinaryKey(columnValues);
+
+        if (binaryKey == null) {
+            return null;
+        }
+
+        ByteBuffer keySlice = binaryKey.keySlice();
+
+        return ByteBuffer.allocate(PREFIX_SIZE + keySlice.remaining() + extraSize)
+                .putShort((short) partitionId)
+                .putInt(binaryKey.hash())
+                .put(keySlice);
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.storage.rocksdb.index;
 
+import java.util.NoSuchElementException;
 import org.apache.ignite.internal.rocksdb.ColumnFamily;
 import org.apache.ignite.internal.rocksdb.RocksIteratorAdapter;
 import org.apache.ignite.internal.schema.ByteBufferRow;
@@ -95,45 +96,30 @@ public class RocksDbSortedIndexStorage implements SortedIndexStorage {
     }
 
     @Override
-    public Cursor<IndexRow> range(IndexRowPrefix lowerBound, IndexRowPrefix upperBound) {
-        RocksIterator iter = indexCf.newIterator();
-
-        iter.seekToFirst();
-
-        return new RocksIteratorAdapter<>(iter) {
-            @Nullable
-            private PrefixComparator lowerBoundComparator = new PrefixComparator(descriptor, lowerBound);
-
-            private final PrefixComparator upperBoundComparator = new PrefixComparator(descriptor, upperBound);
+    public boolean supportsBackwardsScan() {
+        return true;
+    }
 
-            @Override
-            public boolean hasNext() {
-                while (super.hasNext()) {
-                    var row = new ByteBufferRow(it.key());
+    @Override
+    public boolean supportsIndexOnlyScan() {
+        return true;
+    }
 
-                    if (lowerBoundComparator != null) {
-                        // if lower comparator is not null, then the lower bound has not yet been reached
-                        if (lowerBoundComparator.compare(row) < 0) {
-                            it.next();
+    @Override
+    public Cursor<IndexRow> range(@Nullable IndexRowPrefix lowerBound, @Nullable IndexRowPrefix upperBound, int flags) {
+        boolean backwards = (flags & BACKWARDS) != 0;
 
-                            continue;
-                        } else {
-                            // once the lower bound is reached, we no longer need to check it
-                            lowerBoundComparator = null;
-                        }
-                    }
+        RocksIterator iter = indexCf.newIterator();
 
-                    return upperBoundComparator.compare(row) <= 0;
-                }
+        if (backwards) {
+            iter.seekToLast();
 
-                return false;
-            }
+            return new RangeCursor(iter, upperBound, (flags & LESS_OR_EQUAL) != 0, lowerBound, (flags & GREATER_OR_EQUAL) != 0, true);
+        } else {
+            iter.seekToFirst();
 
-            @Override
-            protected IndexRow decodeEntry(byte[] key, byte[] value) {
-                return new BinaryIndexRow(key, value);
-            }
-        };
+            return new RangeCursor(iter, lowerBound, (flags & GREATER_OR_EQUAL) != 0, upperBound, (flags & LESS_OR_EQUAL) != 0, false);
+        }
     }
 
     @Override
@@ -149,4 +135,108 @@ public class RocksDbSortedIndexStorage implements SortedIndexStorage {
             throw new StorageException(String.format("Failed to destroy index \"%s\"", descriptor.name()), e);
         }
     }
+
+    /**
+     * Cursor over the index rows between two bounds, that iterates either in the index order or in the reverse one.
+     *
+     * <p>Index keys are ordered by a custom comparator, that requires complete index rows, so the iterator can not be positioned at a
+     * prefix. Instead, the cursor starts from the first (or the last) entry and skips the rows preceding the start bound.
+     */
+    private class RangeCursor extends RocksIteratorAdapter<IndexRow> {
+        /** Comparator with the bound the iteration starts from, {@code null} if the bound has already been reached. */
+        @Nullable
+        private PrefixComparator startBoundComparator;
+
+        private final boolean includeStartBound;
+
+        @Nullable
+        private final PrefixComparator endBoundComparator;
+
+        private final boolean includeEndBound;
+
+        private final boolean backwards;
+
+        RangeCursor(
+                RocksIterator it,
+                @Nullable IndexRowPrefix startBound,
+                boolean includeStartBound,
+                @Nullable IndexRowPrefix endBound,
+                boolean includeEndBound,
+                boolean backwards
+        ) {
+            super(it);
+
+            this.startBoundComparator = startBound == null ? null : new PrefixComparator(descriptor, startBound);
+            this.includeStartBound = includeStartBound;
+            this.endBoundComparator = endBound == null ? null : new PrefixComparator(descriptor, endBound);
+            this.includeEndBound = includeEndBound;
+            this.backwards = backwards;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (super.hasNext()) {
+                var row = new ByteBufferRow(it.key());
+
+                if (startBoundComparator != null) {
+                    // if start comparator is not null, then the start bound has not yet been reached
+                    int compare = compare(startBoundComparator, row);
+
+                    if (compare < 0 || (compare == 0 && !includeStartBound)) {
+                        advance();
+
+                        continue;
+                    } else {
+                        // once the start bound is reached, we no longer need to check it
+                        startBoundComparator = null;
+                    }
+                }
+
+                if (endBoundComparator == null) {
+                    return true;
+                }
+
+                int compare = compare(endBoundComparator, row);
+
+                return compare < 0 || (compare == 0 && includeEndBound);
+            }
+
+            return false;
+        }
+
+        @Override
+        public IndexRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            IndexRow result = decodeEntry(it.key(), it.value());
+
+            advance();
+
+            return result;
+        }
+
+        @Override
+        protected IndexRow decodeEntry(byte[] key, byte[] value) {
+            return new BinaryIndexRow(key, value);
+        }
+
+        /**
+         * Compares the row with the bound in the iteration order: negative result means that the row is met before the bound.
+         */
+        private int compare(PrefixComparator boundComparator, ByteBufferRow row) {
+            int compare = boundComparator.compare(row);
+
+            return backwards ? -compare : compare;
+        }
+
+        private void advance() {
+            if (backwards) {
+                it.prev();
+            } else {
+                it.next();
+            }
+        }
+    }
 }
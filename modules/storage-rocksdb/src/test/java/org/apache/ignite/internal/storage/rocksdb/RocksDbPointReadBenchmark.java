@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.ignite.configuration.annotation.ConfigurationType.DISTRIBUTED;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.configuration.ConfigurationRegistry;
+import org.apache.ignite.internal.configuration.storage.TestConfigurationStorage;
+import org.apache.ignite.internal.rocksdb.ColumnFamily;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.ByteBufferRow;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbStorageEngineConfiguration;
+import org.apache.ignite.internal.tx.Timestamp;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.DBOptions;
+import org.rocksdb.FlushOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.Statistics;
+import org.rocksdb.TickerType;
+
+/**
+ * Measures the latency of a point read from {@link RocksDbMvPartitionStorage} with and without the bloom filters and the partitioned
+ * index and filter blocks of {@link RocksDbDataRegion#partitionCfOptions()}. The block cache is much smaller than the data, so the block
+ * cache hit rate and the number of reads saved by the prefix bloom filters are printed after every trial.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class RocksDbPointReadBenchmark {
+    /** Number of rows in the storage. */
+    private static final int ROWS_COUNT = 500_000;
+
+    /** Size of the row payload. */
+    private static final int ROW_SIZE = 100;
+
+    /** Size of the block cache of the region. The memtables are charged to the same cache, so their size is added to it. */
+    private static final long CACHE_SIZE = 8 * 1024 * 1024;
+
+    /** Size of the memtables. */
+    private static final long WRITE_BUFFER_SIZE = 8 * 1024 * 1024;
+
+    /** Number of pre-generated row ids to read, must be a power of two. */
+    private static final int READS_COUNT = 1 << 16;
+
+    /** Whether the filters are enabled. */
+    @Param({"false", "true"})
+    public boolean filters;
+
+    /** Share of the reads of the rows that do not exist. */
+    @Param({"0", "0.5"})
+    public double missRatio;
+
+    /** Database directory. */
+    private Path dbPath;
+
+    /** Configuration registry. */
+    private ConfigurationRegistry registry;
+
+    /** Data region. */
+    private RocksDbDataRegion dataRegion;
+
+    /** Database statistics. */
+    private Statistics statistics;
+
+    /** Database options. */
+    private DBOptions dbOptions;
+
+    /** Options of the partition Column Family. */
+    private ColumnFamilyOptions partitionCfOptions;
+
+    /** Column family handles. */
+    private final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
+
+    /** Database. */
+    private RocksDB db;
+
+    /** Storage. */
+    private RocksDbMvPartitionStorage storage;
+
+    /** Row ids to read. */
+    private RowId[] rowIds;
+
+    /** Read counter. */
+    private int cnt;
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        RocksDB.loadLibrary();
+
+        dbPath = Files.createTempDirectory("rocksdb-point-read");
+
+        registry = new ConfigurationRegistry(
+                List.of(RocksDbStorageEngineConfiguration.KEY),
+                Map.of(),
+                new TestConfigurationStorage(DISTRIBUTED),
+                List.of(),
+                List.of()
+        );
+
+        registry.start();
+
+        RocksDbStorageEngineConfiguration engineConfig = registry.getConfiguration(RocksDbStorageEngineConfiguration.KEY);
+
+        engineConfig.defaultRegion().change(region -> region
+                .changeSize(CACHE_SIZE)
+                .changeWriteBufferSize(WRITE_BUFFER_SIZE)
+                .changeBloomFilterBitsPerKey(filters ? 10 : 0)
+                .changePrefixBloomFilter(filters)
+                .changePartitionedIndexFilters(filters)
+        ).get(1, SECONDS);
+
+        dataRegion = new RocksDbDataRegion(engineConfig.defaultRegion());
+
+        dataRegion.start();
+
+        statistics = new Statistics();
+
+        dbOptions = new DBOptions()
+                .setCreateIfMissing(true)
+                .setCreateMissingColumnFamilies(true)
+                .setStatistics(statistics);
+
+        partitionCfOptions = dataRegion.partitionCfOptions();
+
+        List<ColumnFamilyDescriptor> cfDescriptors = List.of(
+                new ColumnFamilyDescriptor(
+                        RocksDB.DEFAULT_COLUMN_FAMILY,
+                        new ColumnFamilyOptions().setMergeOperatorName(RocksDbMetaStorage.MERGE_OPERATOR_NAME)
+                ),
+                new ColumnFamilyDescriptor(ColumnFamilyUtils.PARTITION_CF_NAME.getBytes(UTF_8), partitionCfOptions)
+        );
+
+        db = RocksDB.open(dbOptions, dbPath.toString(), cfDescriptors, cfHandles);
+
+        var meta = new RocksDbMetaStorage(ColumnFamily.wrap(db, cfHandles.get(0)));
+
+        storage = new RocksDbMvPartitionStorage(0, db, cfHandles.get(1), meta);
+
+        Random rnd = new Random(0);
+
+        List<RowId> existingRowIds = new ArrayList<>(ROWS_COUNT);
+
+        UUID txId = UUID.randomUUID();
+
+        for (int i = 0; i < ROWS_COUNT; i += 1000) {
+            int batchStart = i;
+
+            storage.runConsistently(() -> {
+                for (int j = batchStart; j < batchStart + 1000; j++) {
+                    byte[] payload = new byte[ROW_SIZE];
+
+                    rnd.nextBytes(payload);
+
+                    RowId rowId = storage.insert(new ByteBufferRow(payload), txId);
+
+                    storage.commitWrite(rowId, Timestamp.nextVersion());
+
+                    existingRowIds.add(rowId);
+                }
+
+                return null;
+            });
+        }
+
+        // Read from SST files rather than from the memtable.
+        try (FlushOptions flushOptions = new FlushOptions().setWaitForFlush(true)) {
+            db.flush(flushOptions, cfHandles.get(1));
+        }
+
+        db.compactRange(cfHandles.get(1));
+
+        rowIds = new RowId[READS_COUNT];
+
+        for (int i = 0; i < READS_COUNT; i++) {
+            rowIds[i] = rnd.nextDouble() < missRatio
+                    ? UuidRowId.randomRowId(0)
+                    : existingRowIds.get(rnd.nextInt(ROWS_COUNT));
+        }
+
+        statistics.reset();
+    }
+
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        long hits = statistics.getTickerCount(TickerType.BLOCK_CACHE_HIT);
+        long misses = statistics.getTickerCount(TickerType.BLOCK_CACHE_MISS);
+
+        System.out.printf(
+                "%nBlock cache hit rate: %.2f%%, reads skipped by prefix bloom filters: %d of %d%n",
+                100.0 * hits / Math.max(1, hits + misses),
+                statistics.getTickerCount(TickerType.BLOOM_FILTER_PREFIX_USEFUL),
+                statistics.getTickerCount(TickerType.BLOOM_FILTER_PREFIX_CHECKED)
+        );
+
+        IgniteUtils.closeAll(storage);
+        IgniteUtils.closeAll(cfHandles);
+        IgniteUtils.closeAll(db, dbOptions, partitionCfOptions, statistics);
+        IgniteUtils.closeAll(dataRegion::stop, registry::stop);
+
+        IgniteUtils.deleteIfExists(dbPath);
+    }
+
+    /**
+     * Measures a read of the latest version of a row.
+     *
+     * @return Read row.
+     */
+    @Benchmark
+    public BinaryRow read() {
+        return storage.read(rowIds[cnt++ & (READS_COUNT - 1)], Timestamp.nextVersion());
+    }
+
+    /**
+     * Runner.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(RocksDbPointReadBenchmark.class.getSimpleName())
+                        .build()
+        ).run();
+    }
+}
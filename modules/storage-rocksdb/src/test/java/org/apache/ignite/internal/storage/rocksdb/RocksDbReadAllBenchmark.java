@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.rocksdb.ColumnFamily;
+import org.apache.ignite.internal.storage.DataRow;
+import org.apache.ignite.internal.storage.SearchRow;
+import org.apache.ignite.internal.storage.basic.SimpleDataRow;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.rocksdb.FlushOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+
+/**
+ * Measures the latency of a multi-key read from {@link RocksDbPartitionStorage} depending on the batch size: a batched
+ * {@link RocksDbPartitionStorage#readAll} against key-by-key {@link RocksDbPartitionStorage#read} calls.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class RocksDbReadAllBenchmark {
+    /** Number of keys in the storage. */
+    private static final int KEYS_COUNT = 100_000;
+
+    /** Number of pre-generated batches. */
+    private static final int BATCHES_COUNT = 64;
+
+    /** Number of keys in a batch. */
+    @Param({"1", "10", "100", "1000", "10000"})
+    public int batchSize;
+
+    /** Database directory. */
+    private Path dbPath;
+
+    /** Database options. */
+    private Options options;
+
+    /** Database. */
+    private RocksDB db;
+
+    /** Storage. */
+    private RocksDbPartitionStorage storage;
+
+    /** Batches of keys to read. */
+    private List<List<SearchRow>> batches;
+
+    /** Batch counter. */
+    private int cnt;
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        RocksDB.loadLibrary();
+
+        dbPath = Files.createTempDirectory("rocksdb-read-all");
+
+        options = new Options().setCreateIfMissing(true).setMergeOperatorName(RocksDbMetaStorage.MERGE_OPERATOR_NAME);
+
+        db = RocksDB.open(options, dbPath.toString());
+
+        ColumnFamily cf = ColumnFamily.wrap(db, db.getDefaultColumnFamily());
+
+        storage = new RocksDbPartitionStorage(db, cf, new RocksDbMetaStorage(cf), 0, ForkJoinPool.commonPool());
+
+        List<DataRow> rows = new ArrayList<>(KEYS_COUNT);
+
+        for (int i = 0; i < KEYS_COUNT; i++) {
+            rows.add(new SimpleDataRow(("key" + i).getBytes(UTF_8), ("value" + i).getBytes(UTF_8)));
+        }
+
+        storage.writeAll(rows);
+
+        // Read from SST files rather than from the memtable.
+        try (FlushOptions flushOptions = new FlushOptions().setWaitForFlush(true)) {
+            db.flush(flushOptions);
+        }
+
+        Random rnd = new Random(0);
+
+        batches = new ArrayList<>(BATCHES_COUNT);
+
+        for (int i = 0; i < BATCHES_COUNT; i++) {
+            List<SearchRow> batch = new ArrayList<>(batchSize);
+
+            for (int j = 0; j < batchSize; j++) {
+                batch.add(rows.get(rnd.nextInt(KEYS_COUNT)));
+            }
+
+            batches.add(batch);
+        }
+    }
+
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        IgniteUtils.closeAll(storage, db, options);
+
+        IgniteUtils.deleteIfExists(dbPath);
+    }
+
+    /**
+     * Measures a batched read.
+     *
+     * @return Read rows.
+     */
+    @Benchmark
+    public Collection<DataRow> readAll() {
+        return storage.readAll(nextBatch());
+    }
+
+    /**
+     * Measures a key-by-key read.
+     *
+     * @return Read rows.
+     */
+    @Benchmark
+    public Collection<DataRow> readOneByOne() {
+        List<SearchRow> batch = nextBatch();
+
+        List<DataRow> res = new ArrayList<>(batch.size());
+
+        for (SearchRow key : batch) {
+            res.add(storage.read(key));
+        }
+
+        return res;
+    }
+
+    /**
+     * Returns next batch of keys.
+     *
+     * @return Keys.
+     */
+    private List<SearchRow> nextBatch() {
+        return batches.get(cnt++ & (BATCHES_COUNT - 1));
+    }
+
+    /**
+     * Runner.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(RocksDbReadAllBenchmark.class.getSimpleName())
+                        .build()
+        ).run();
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.storage.rocksdb;
 
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.COMPRESSION_ZSTD;
 import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbStorageEngineConfigurationSchema.DEFAULT_DATA_REGION_NAME;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willBe;
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -28,18 +29,28 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.ignite.configuration.schemas.store.UnknownDataStorageConfigurationSchema;
 import org.apache.ignite.configuration.schemas.table.HashIndexConfigurationSchema;
 import org.apache.ignite.configuration.schemas.table.TableConfiguration;
 import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.storage.DataRow;
+import org.apache.ignite.internal.storage.PartitionStatistics;
 import org.apache.ignite.internal.storage.PartitionStorage;
 import org.apache.ignite.internal.storage.basic.SimpleDataRow;
 import org.apache.ignite.internal.storage.engine.StorageEngine;
@@ -52,6 +63,7 @@ import org.apache.ignite.internal.testframework.WorkDirectory;
 import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
 import org.apache.ignite.internal.util.Cursor;
 import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.lang.IgniteInternalException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -70,6 +82,10 @@ public class RocksDbTableStorageTest {
 
     private TableStorage storage;
 
+    private RocksDbStorageEngineConfiguration engineConfig;
+
+    private TableConfiguration tableCfg;
+
     @BeforeEach
     public void setUp(
             @InjectConfiguration RocksDbStorageEngineConfiguration rocksDbEngineConfig,
@@ -82,6 +98,9 @@ public class RocksDbTableStorageTest {
                     }
             ) TableConfiguration tableCfg
     ) throws Exception {
+        this.engineConfig = rocksDbEngineConfig;
+        this.tableCfg = tableCfg;
+
         CompletableFuture<Void> changeDataStorageFuture = tableCfg.dataStorage().change(c -> c.convert(RocksDbDataStorageChange.class));
 
         assertThat(changeDataStorageFuture, willBe(nullValue(Void.class)));
@@ -215,6 +234,7 @@ public class RocksDbTableStorageTest {
         assertThat(storage.getPartition(0), is(notNullValue()));
         assertThat(storage.getPartition(1), is(nullValue()));
         assertThat(storage.getPartition(0).read(testData), is(equalTo(testData)));
+        assertThat(storage.getPartition(0).statistics(), is(equalTo(new PartitionStatistics(1, 6))));
     }
 
     /**
@@ -298,4 +318,91 @@ public class RocksDbTableStorageTest {
         assertThat(partitionStorage1.read(overwriteData), is(testData));
         assertThat(partitionStorage2.read(overwriteData), is(testData));
     }
+
+    /**
+     * Tests that a partition is left empty, rather than partially restored, if a snapshot fails to be restored, and that the other
+     * partitions are not affected.
+     */
+    @Test
+    void testRestoreTruncatedSnapshot() throws Exception {
+        PartitionStorage partitionStorage0 = storage.getOrCreatePartition(0);
+        PartitionStorage partitionStorage1 = storage.getOrCreatePartition(1);
+
+        var testData1 = new SimpleDataRow("foo".getBytes(StandardCharsets.UTF_8), "bar".getBytes(StandardCharsets.UTF_8));
+        var testData2 = new SimpleDataRow("baz".getBytes(StandardCharsets.UTF_8), "quux".getBytes(StandardCharsets.UTF_8));
+
+        Path snapshotDir = workDir.resolve("snapshot");
+
+        partitionStorage0.writeAll(List.of(testData1, testData2));
+        partitionStorage1.write(testData2);
+
+        assertThat(partitionStorage0.snapshot(snapshotDir), willBe(nullValue(Void.class)));
+
+        // Cut off the end of the snapshot file, as if it has not been copied completely.
+        List<Path> snapshotFiles;
+
+        try (Stream<Path> files = Files.list(snapshotDir)) {
+            snapshotFiles = files.collect(Collectors.toList());
+        }
+
+        assertThat(snapshotFiles, hasSize(1));
+
+        try (FileChannel channel = FileChannel.open(snapshotFiles.get(0), StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+
+        assertThrows(IgniteInternalException.class, () -> partitionStorage0.restoreSnapshot(snapshotDir));
+
+        assertThat(partitionStorage0.readAll(List.of(testData1, testData2)), is(empty()));
+        assertThat(partitionStorage0.statistics().rowsCount(), is(0L));
+
+        assertThat(partitionStorage1.read(testData2), is(testData2));
+    }
+
+    /**
+     * Tests that {@link RocksDbTableStorage#recompressPartition} rewrites the partition data with the bottommost compression and a trained
+     * dictionary, and that the compression ratio reflects it.
+     */
+    @Test
+    void testRecompressPartition() throws Exception {
+        storage.stop();
+
+        CompletableFuture<Void> changeRegionFuture = engineConfig.defaultRegion().change(c -> c
+                .changeSize(8 * 1024 * 1024)
+                .changeWriteBufferSize(1024 * 1024)
+                .changeBottommostCompression(COMPRESSION_ZSTD)
+                .changeZstdMaxDictBytes(16 * 1024)
+                .changeZstdMaxTrainBytes(1024 * 1024)
+        );
+
+        assertThat(changeRegionFuture, willBe(nullValue(Void.class)));
+
+        storage = engine.createTable(tableCfg);
+
+        storage.start();
+
+        PartitionStorage partitionStorage = storage.getOrCreatePartition(0);
+
+        List<DataRow> rows = new ArrayList<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            String value = "{\"id\": " + i + ", \"name\": \"name-" + (i % 100) + "\", \"status\": \"ACTIVE\", \"tags\": [\"a\", \"b\"]}";
+
+            rows.add(new SimpleDataRow(("key" + i).getBytes(StandardCharsets.UTF_8), value.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        partitionStorage.writeAll(rows);
+
+        var rocksDbStorage = (RocksDbTableStorage) storage;
+
+        assertThat(rocksDbStorage.recompressPartition(0), willBe(nullValue(Void.class)));
+
+        assertThat(rocksDbStorage.compressedDataSize(), is(greaterThan(0L)));
+        assertThat(rocksDbStorage.uncompressedDataSize(), is(greaterThan(rocksDbStorage.compressedDataSize())));
+        assertThat(rocksDbStorage.compressionRatio(), is(greaterThan(2.0)));
+
+        var searchRow = new SimpleDataRow("key42".getBytes(StandardCharsets.UTF_8), new byte[0]);
+
+        assertThat(partitionStorage.read(searchRow), is(notNullValue()));
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb.configuration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.ignite.configuration.validation.ValidationContext;
+import org.apache.ignite.configuration.validation.ValidationIssue;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * For {@link RocksDbCompressionTypesValidatorImpl} testing.
+ */
+public class RocksDbCompressionTypesValidatorImplTest {
+    @Test
+    void testValidationFail() {
+        ArgumentCaptor<ValidationIssue> validate = validate(new String[]{"lz4", "foo", "zstd"});
+
+        assertThat(validate.getAllValues(), hasSize(1));
+
+        assertThat(
+                validate.getValue().message(),
+                is(startsWith("'compressionPerLevel' configuration value contains an unknown compression type 'foo'"))
+        );
+    }
+
+    @Test
+    void testKnownCompressionTypes() {
+        ArgumentCaptor<ValidationIssue> validate = validate(new String[]{"none", "Snappy", "LZ4", "lz4hc", "zlib", "zstd"});
+
+        assertThat(validate.getAllValues(), empty());
+    }
+
+    @Test
+    void testEmptyArray() {
+        ArgumentCaptor<ValidationIssue> validate = validate(new String[0]);
+
+        assertThat(validate.getAllValues(), empty());
+    }
+
+    private static ArgumentCaptor<ValidationIssue> validate(String[] compressionTypes) {
+        ValidationContext<String[]> ctx = mock(ValidationContext.class);
+
+        when(ctx.getNewValue()).thenReturn(compressionTypes);
+
+        when(ctx.currentKey()).thenReturn("compressionPerLevel");
+
+        ArgumentCaptor<ValidationIssue> issuesCaptor = ArgumentCaptor.forClass(ValidationIssue.class);
+
+        doNothing().when(ctx).addIssue(issuesCaptor.capture());
+
+        RocksDbCompressionTypesValidatorImpl.INSTANCE.validate(null, ctx);
+
+        return issuesCaptor;
+    }
+}
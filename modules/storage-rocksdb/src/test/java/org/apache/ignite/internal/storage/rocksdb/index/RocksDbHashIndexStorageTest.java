@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb.index;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Path;
+import java.util.UUID;
+import org.apache.ignite.configuration.schemas.store.UnknownDataStorageConfigurationSchema;
+import org.apache.ignite.configuration.schemas.table.HashIndexConfigurationSchema;
+import org.apache.ignite.configuration.schemas.table.TableConfiguration;
+import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
+import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.storage.AbstractHashIndexStorageTest;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.engine.MvTableStorage;
+import org.apache.ignite.internal.storage.index.HashIndexStorage;
+import org.apache.ignite.internal.storage.rocksdb.RocksDbStorageEngine;
+import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataStorageChange;
+import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataStorageConfigurationSchema;
+import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbStorageEngineConfiguration;
+import org.apache.ignite.internal.testframework.WorkDirectory;
+import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Storage test implementation for {@link RocksDbHashIndexStorage}.
+ */
+@ExtendWith(WorkDirectoryExtension.class)
+@ExtendWith(ConfigurationExtension.class)
+public class RocksDbHashIndexStorageTest extends AbstractHashIndexStorageTest {
+    private RocksDbStorageEngine engine;
+
+    private MvTableStorage table;
+
+    @BeforeEach
+    public void setUp(
+            @WorkDirectory Path workDir,
+            @InjectConfiguration RocksDbStorageEngineConfiguration engineConfig,
+            @InjectConfiguration(
+                    name = "table",
+                    polymorphicExtensions = {
+                            HashIndexConfigurationSchema.class,
+                            UnknownDataStorageConfigurationSchema.class,
+                            RocksDbDataStorageConfigurationSchema.class
+                    }
+            ) TableConfiguration tableCfg
+    ) throws Exception {
+        createTestTable(tableCfg);
+
+        tableCfg.dataStorage().change(c -> c.convert(RocksDbDataStorageChange.class)).get(1, SECONDS);
+
+        engineConfig.defaultRegion().change(c -> c.changeSize(16 * 1024).changeWriteBufferSize(16 * 1024)).get(1, SECONDS);
+
+        engine = new RocksDbStorageEngine(engineConfig, workDir);
+
+        engine.start();
+
+        table = engine.createMvTable(tableCfg);
+
+        table.start();
+
+        partitionStorage = table.createPartition(0);
+
+        indexStorage = table.getOrCreateHashIndex(0, INDEX_NAME);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        IgniteUtils.closeAll(
+                indexStorage,
+                partitionStorage,
+                table == null ? null : table::stop,
+                engine == null ? null : engine::stop
+        );
+    }
+
+    @Test
+    void partitionsAreIsolated() {
+        MvPartitionStorage partitionStorage1 = table.createPartition(1);
+
+        HashIndexStorage indexStorage1 = table.getOrCreateHashIndex(1, INDEX_NAME);
+
+        RowId rowId0 = partitionStorage.insert(binaryRow(new TestKey(1, "1"), new TestValue(1, "1")), UUID.randomUUID());
+        RowId rowId1 = partitionStorage1.insert(binaryRow(new TestKey(1, "1"), new TestValue(1, "1")), UUID.randomUUID());
+
+        indexStorage.put(new Object[]{"foo", 1}, rowId0);
+        indexStorage1.put(new Object[]{"foo", 1}, rowId1);
+
+        assertThat(indexStorage.get(new Object[]{"foo", 1}), containsInAnyOrder(rowId0));
+        assertThat(indexStorage1.get(new Object[]{"foo", 1}), containsInAnyOrder(rowId1));
+
+        table.destroyPartition(1).join();
+
+        assertThat(table.getOrCreateHashIndex(1, INDEX_NAME).get(new Object[]{"foo", 1}), is(empty()));
+        assertThat(indexStorage.get(new Object[]{"foo", 1}), containsInAnyOrder(rowId0));
+    }
+
+    @Test
+    void destroyRemovesAllEntriesOfPartition() {
+        RowId rowId = partitionStorage.insert(binaryRow(new TestKey(1, "1"), new TestValue(1, "1")), UUID.randomUUID());
+
+        indexStorage.put(new Object[]{"foo", 1}, rowId);
+        indexStorage.put(new Object[]{"bar", 2}, rowId);
+
+        indexStorage.destroy();
+
+        assertThat(indexStorage.get(new Object[]{"foo", 1}), is(empty()));
+        assertThat(indexStorage.get(new Object[]{"bar", 2}), is(empty()));
+    }
+
+    @Test
+    void dataIsPreservedAfterRestart() {
+        RowId rowId = partitionStorage.insert(binaryRow(new TestKey(1, "1"), new TestValue(1, "1")), UUID.randomUUID());
+
+        indexStorage.put(new Object[]{"foo", 1}, rowId);
+
+        table.stop();
+
+        table = engine.createMvTable(table.configuration());
+
+        table.start();
+
+        indexStorage = table.getOrCreateHashIndex(0, INDEX_NAME);
+
+        assertThat(indexStorage.get(new Object[]{"foo", 1}), containsInAnyOrder(rowId));
+    }
+}
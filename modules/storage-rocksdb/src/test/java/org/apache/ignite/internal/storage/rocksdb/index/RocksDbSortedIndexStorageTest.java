@@ -21,6 +21,12 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toUnmodifiableList;
 import static org.apache.ignite.internal.schema.SchemaTestUtils.generateRandomValue;
 import static org.apache.ignite.internal.schema.configuration.SchemaConfigurationConverter.convert;
+import static org.apache.ignite.internal.storage.index.SortedIndexStorage.BACKWARDS;
+import static org.apache.ignite.internal.storage.index.SortedIndexStorage.FORWARD;
+import static org.apache.ignite.internal.storage.index.SortedIndexStorage.GREATER;
+import static org.apache.ignite.internal.storage.index.SortedIndexStorage.GREATER_OR_EQUAL;
+import static org.apache.ignite.internal.storage.index.SortedIndexStorage.LESS;
+import static org.apache.ignite.internal.storage.index.SortedIndexStorage.LESS_OR_EQUAL;
 import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbStorageEngineConfigurationSchema.DEFAULT_DATA_REGION_NAME;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.randomBytes;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willBe;
@@ -29,6 +35,7 @@ import static org.apache.ignite.schema.SchemaBuilders.tableBuilder;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.anyOf;
@@ -38,8 +45,10 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
@@ -307,6 +316,121 @@ public class RocksDbSortedIndexStorageTest {
         }
     }
 
+    /**
+     * Tests the {@link SortedIndexStorage#BACKWARDS} flag of the {@link SortedIndexStorage#range} method.
+     */
+    @RepeatedTest(5)
+    void testBackwardsRange() throws Exception {
+        SortedIndexStorage indexStorage = createIndex(shuffledDefinitions());
+
+        List<IndexRowWrapper> entries = putSortedRandomRows(indexStorage, 10);
+
+        List<ByteBuffer> expected = primaryKeys(entries.subList(3, 9));
+
+        Collections.reverse(expected);
+
+        IndexRowPrefix lowerBound = entries.get(3)::columns;
+        IndexRowPrefix upperBound = entries.get(8)::columns;
+
+        try (Cursor<IndexRow> cursor = indexStorage.range(lowerBound, upperBound, GREATER_OR_EQUAL | LESS_OR_EQUAL | BACKWARDS)) {
+            assertThat(primaryKeys(cursor), is(equalTo(expected)));
+        }
+    }
+
+    /**
+     * Tests that bounds are excluded from the {@link SortedIndexStorage#range} result unless the corresponding flags are passed.
+     */
+    @Test
+    void testExclusiveBounds() throws Exception {
+        SortedIndexStorage indexStorage = createIndex(shuffledDefinitions());
+
+        List<IndexRowWrapper> entries = putSortedRandomRows(indexStorage, 10);
+
+        IndexRowPrefix lowerBound = entries.get(3)::columns;
+        IndexRowPrefix upperBound = entries.get(8)::columns;
+
+        try (Cursor<IndexRow> cursor = indexStorage.range(lowerBound, upperBound, GREATER | LESS)) {
+            assertThat(primaryKeys(cursor), is(equalTo(primaryKeys(entries.subList(4, 8)))));
+        }
+
+        try (Cursor<IndexRow> cursor = indexStorage.range(lowerBound, upperBound, GREATER_OR_EQUAL | LESS)) {
+            assertThat(primaryKeys(cursor), is(equalTo(primaryKeys(entries.subList(3, 8)))));
+        }
+
+        List<ByteBuffer> expected = primaryKeys(entries.subList(4, 9));
+
+        Collections.reverse(expected);
+
+        try (Cursor<IndexRow> cursor = indexStorage.range(lowerBound, upperBound, GREATER | LESS_OR_EQUAL | BACKWARDS)) {
+            assertThat(primaryKeys(cursor), is(equalTo(expected)));
+        }
+    }
+
+    /**
+     * Tests the {@link SortedIndexStorage#range} method with {@code null} bounds.
+     */
+    @Test
+    void testUnboundedRange() throws Exception {
+        SortedIndexStorage indexStorage = createIndex(shuffledDefinitions());
+
+        List<IndexRowWrapper> entries = putSortedRandomRows(indexStorage, 10);
+
+        try (Cursor<IndexRow> cursor = indexStorage.range(null, null, FORWARD)) {
+            assertThat(primaryKeys(cursor), is(equalTo(primaryKeys(entries))));
+        }
+
+        List<ByteBuffer> expected = primaryKeys(entries.subList(0, 5));
+
+        Collections.reverse(expected);
+
+        try (Cursor<IndexRow> cursor = indexStorage.range(null, entries.get(5)::columns, LESS | BACKWARDS)) {
+            assertThat(primaryKeys(cursor), is(equalTo(expected)));
+        }
+
+        try (Cursor<IndexRow> cursor = indexStorage.range(entries.get(5)::columns, null, GREATER_OR_EQUAL)) {
+            assertThat(primaryKeys(cursor), is(equalTo(primaryKeys(entries.subList(5, 10)))));
+        }
+    }
+
+    /**
+     * Tests extracting the covered columns from the index rows.
+     */
+    @Test
+    void testIndexOnlyProjection() throws Exception {
+        List<ColumnDefinition> indexSchema = shuffledDefinitions();
+
+        SortedIndexStorage indexStorage = createIndex(indexSchema);
+
+        assertThat(indexStorage.supportsIndexOnlyScan(), is(true));
+
+        IndexRowWrapper entry = IndexRowWrapper.randomRow(indexStorage);
+
+        indexStorage.put(entry.row());
+
+        List<ColumnDescriptor> indexRowColumns = indexStorage.indexDescriptor().indexRowColumns();
+
+        List<String> columnNames = indexRowColumns.stream()
+                .map(column -> column.column().name())
+                .collect(toList());
+
+        Collections.reverse(columnNames);
+
+        int[] projection = indexStorage.indexDescriptor().indexRowProjection(columnNames);
+
+        assertThat(projection, is(notNullValue()));
+
+        Object[] expected = entry.columns().clone();
+
+        Collections.reverse(Arrays.asList(expected));
+
+        IndexRow row = getSingle(indexStorage, entry);
+
+        assertThat(row, is(notNullValue()));
+        assertThat(indexStorage.indexRowDeserializer().columnValues(row, projection), is(equalTo(expected)));
+
+        assertThat(indexStorage.indexDescriptor().indexRowProjection(List.of("does not exist")), is(nullValue()));
+    }
+
     /**
      * Tests creating a index that has not been created through the Configuration framework.
      */
@@ -481,6 +605,34 @@ public class RocksDbSortedIndexStorageTest {
         return tableStorage.getOrCreateSortedIndex(indexDefinition.name());
     }
 
+    /**
+     * Puts the given number of random rows into the index and returns them in the index order.
+     */
+    private static List<IndexRowWrapper> putSortedRandomRows(SortedIndexStorage indexStorage, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> {
+                    IndexRowWrapper entry = IndexRowWrapper.randomRow(indexStorage);
+
+                    indexStorage.put(entry.row());
+
+                    return entry;
+                })
+                .sorted()
+                .collect(toList());
+    }
+
+    private static List<ByteBuffer> primaryKeys(List<IndexRowWrapper> entries) {
+        return entries.stream()
+                .map(e -> ByteBuffer.wrap(e.row().primaryKey().keyBytes()))
+                .collect(toList());
+    }
+
+    private static List<ByteBuffer> primaryKeys(Cursor<IndexRow> cursor) {
+        return cursor.stream()
+                .map(row -> ByteBuffer.wrap(row.primaryKey().keyBytes()))
+                .collect(toList());
+    }
+
     /**
      * Extracts a single value by a given key or {@code null} if it does not exist.
      */
@@ -167,7 +167,12 @@ public class ItInternalTableScanTest {
                     protected Pair<BinaryRow, BinaryRow> versionedRow(@Nullable DataRow row, Timestamp timestamp) {
                         return new Pair<>(new ByteBufferRow(row.valueBytes()), null); // Return as is.
                     }
-                }),
+
+                    @Override
+                    protected BinaryRow scanRow(DataRow row, @Nullable Timestamp ts, ScanCursor cursor) {
+                        return new ByteBufferRow(row.valueBytes()); // Return as is.
+                    }
+                }, new Peer(nodeNetworkAddress)),
                 conf
         );
 
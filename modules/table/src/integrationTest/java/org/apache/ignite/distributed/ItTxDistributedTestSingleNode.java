@@ -275,7 +275,8 @@ public class ItTxDistributedTestSingleNode extends TxAbstractTest {
                         grpId,
                         partNodes,
                         () -> new PartitionListener(tblId,
-                                new VersionedRowStore(new TestConcurrentHashMapPartitionStorage(0), txManagers.get(node)))
+                                new VersionedRowStore(new TestConcurrentHashMapPartitionStorage(0), txManagers.get(node)),
+                                new Peer(node.address()))
                 );
             }
 
@@ -17,13 +17,28 @@
 
 package org.apache.ignite.distributed;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import org.apache.ignite.internal.storage.engine.TableStorage;
+import org.apache.ignite.internal.table.TableImpl;
+import org.apache.ignite.internal.table.distributed.storage.InternalTableImpl;
+import org.apache.ignite.internal.table.impl.DummySchemaManagerImpl;
+import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.tx.Timestamp;
+import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.tx.TxState;
 import org.apache.ignite.internal.tx.impl.TransactionImpl;
+import org.apache.ignite.network.ClusterNode;
+import org.apache.ignite.network.NetworkAddress;
+import org.apache.ignite.raft.client.service.RaftGroupService;
 import org.apache.ignite.raft.jraft.test.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -73,4 +88,54 @@ public class ItTxDistributedTestThreeNodesThreeReplicasCollocated extends ItTxDi
                         .size() >= 2,
                 5_000));
     }
+
+    /**
+     * Checks that an implicit read coordinated from a node holding a follower replica finishes the coordinator state, since reads are
+     * served by the leader only and are not applied by the follower.
+     */
+    @Test
+    public void testImplicitGetFromFollower() {
+        accounts.recordView().upsert(null, makeValue(1, 100.));
+
+        RaftGroupService svc = accRaftClients.get(0);
+
+        ClusterNode leader = svc.clusterService().topologyService().getByAddress(svc.leader().address());
+
+        TxManager followerTxMgr = txManagers.entrySet().stream()
+                .filter(e -> !e.getKey().equals(leader))
+                .findFirst()
+                .orElseThrow()
+                .getValue();
+
+        AtomicReference<Timestamp> txTimestamp = new AtomicReference<>();
+
+        TxManager txMgr = spy(followerTxMgr);
+
+        doAnswer(invocation -> {
+            InternalTransaction tx = (InternalTransaction) invocation.callRealMethod();
+
+            txTimestamp.set(tx.timestamp());
+
+            return tx;
+        }).when(txMgr).begin();
+
+        TableImpl table = new TableImpl(new InternalTableImpl(
+                "accounts",
+                ((TableImpl) accounts).tableId(),
+                accRaftClients,
+                1,
+                NetworkAddress::toString,
+                addr -> {
+                    throw new UnsupportedOperationException();
+                },
+                txMgr,
+                mock(TableStorage.class)
+        ), new DummySchemaManagerImpl(ACCOUNTS_SCHEMA));
+
+        assertEquals(100., table.recordView().get(null, makeKey(1)).doubleValue("balance"));
+
+        assertNotNull(txTimestamp.get());
+
+        assertEquals(TxState.COMMITED, followerTxMgr.state(txTimestamp.get()));
+    }
 }
@@ -36,6 +36,9 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -79,10 +82,12 @@ import org.apache.ignite.internal.table.distributed.storage.InternalTableImpl;
 import org.apache.ignite.internal.table.distributed.storage.VersionedRowStore;
 import org.apache.ignite.internal.table.event.TableEvent;
 import org.apache.ignite.internal.table.event.TableEventParameters;
+import org.apache.ignite.internal.thread.NamedThreadFactory;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.util.ByteUtils;
 import org.apache.ignite.internal.util.IgniteObjectName;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
+import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.lang.IgniteLogger;
 import org.apache.ignite.lang.IgniteStringFormatter;
@@ -93,6 +98,7 @@ import org.apache.ignite.lang.TableNotFoundException;
 import org.apache.ignite.network.ClusterNode;
 import org.apache.ignite.network.NetworkAddress;
 import org.apache.ignite.network.TopologyService;
+import org.apache.ignite.raft.client.Peer;
 import org.apache.ignite.table.Table;
 import org.apache.ignite.table.manager.IgniteTables;
 import org.jetbrains.annotations.NotNull;
@@ -151,6 +157,12 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
     /** Schema manager. */
     private final SchemaManager schemaManager;
 
+    /** Executor of large multi-key partition reads, see {@link PartitionListener}. */
+    private final ExecutorService partitionReadExecutor = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            new NamedThreadFactory("partition-read", true)
+    );
+
     /**
      * Creates a new table manager.
      *
@@ -385,7 +397,9 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
                             toAdd,
                             () -> new PartitionListener(tblId,
                                     new VersionedRowStore(internalTable.storage().getOrCreatePartition(partId),
-                                            txManager))
+                                            txManager),
+                                    new Peer(raftMgr.service().topologyService().localMember().address()),
+                                    partitionReadExecutor)
                     ).thenAccept(
                             updatedRaftGroupService -> ((InternalTableImpl) internalTable)
                                     .updateInternalTableRaftGroupService(partId, updatedRaftGroupService)
@@ -428,6 +442,8 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
                 LOG.error("Failed to stop a table {}", e, table.name());
             }
         }
+
+        IgniteUtils.shutdownAndAwaitTermination(partitionReadExecutor, 10, TimeUnit.SECONDS);
     }
 
     /**
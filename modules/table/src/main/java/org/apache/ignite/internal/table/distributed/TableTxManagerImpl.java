@@ -22,6 +22,7 @@ import org.apache.ignite.internal.table.distributed.command.FinishTxCommand;
 import org.apache.ignite.internal.tx.LockManager;
 import org.apache.ignite.internal.tx.Timestamp;
 import org.apache.ignite.internal.tx.impl.TxManagerImpl;
+import org.apache.ignite.internal.tx.storage.state.TxStateStorage;
 import org.apache.ignite.network.ClusterService;
 import org.apache.ignite.raft.jraft.RaftMessagesFactory;
 import org.apache.ignite.raft.jraft.rpc.ActionRequest;
@@ -36,6 +37,25 @@ public class TableTxManagerImpl extends TxManagerImpl {
 
     private static final int FINISH_TIMEOUT = 1000;
 
+    /**
+     * Creates a transaction manager with a lock manager selected by the {@link #IGNITE_TX_LOCK_MANAGER} property.
+     *
+     * @param clusterService Cluster service.
+     */
+    public TableTxManagerImpl(ClusterService clusterService) {
+        super(clusterService);
+    }
+
+    /**
+     * Creates a transaction manager with a lock manager selected by the {@link #IGNITE_TX_LOCK_MANAGER} property.
+     *
+     * @param clusterService Cluster service.
+     * @param txStateStorage Durable storage of tx states.
+     */
+    public TableTxManagerImpl(ClusterService clusterService, TxStateStorage txStateStorage) {
+        super(clusterService, createLockManager(), txStateStorage);
+    }
+
     /**
      * The constructor.
      *
@@ -34,6 +34,9 @@ public abstract class MultiKeyCommand implements TransactionalCommand, Serializa
     /** The timestamp. */
     private @NotNull Timestamp timestamp;
 
+    /** One-phase commit flag. */
+    private boolean onePhase;
+
     /*
      * Row bytes.
      * It is a temporary solution, before network have not implement correct serialization BinaryRow.
@@ -80,4 +83,19 @@ public abstract class MultiKeyCommand implements TransactionalCommand, Serializa
     public Timestamp getTimestamp() {
         return timestamp;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isOnePhase() {
+        return onePhase;
+    }
+
+    /**
+     * Marks the command as the only command of an implicit transaction. Must be called before the command is submitted.
+     *
+     * @param onePhase {@code True} to commit the transaction right after the command is applied.
+     */
+    public void setOnePhase(boolean onePhase) {
+        this.onePhase = onePhase;
+    }
 }
@@ -33,6 +33,9 @@ public abstract class SingleKeyCommand implements TransactionalCommand, Serializ
     /** The timestamp. */
     private @NotNull final Timestamp timestamp;
 
+    /** One-phase commit flag. */
+    private boolean onePhase;
+
     /*
      * Row bytes.
      * It is a temporary solution, before network have not implement correct serialization BinaryRow.
@@ -78,4 +81,19 @@ public abstract class SingleKeyCommand implements TransactionalCommand, Serializ
     public Timestamp getTimestamp() {
         return timestamp;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isOnePhase() {
+        return onePhase;
+    }
+
+    /**
+     * Marks the command as the only command of an implicit transaction. Must be called before the command is submitted.
+     *
+     * @param onePhase {@code True} to commit the transaction right after the command is applied.
+     */
+    public void setOnePhase(boolean onePhase) {
+        this.onePhase = onePhase;
+    }
 }
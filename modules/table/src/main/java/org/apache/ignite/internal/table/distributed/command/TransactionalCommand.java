@@ -35,4 +35,12 @@ public interface TransactionalCommand {
      */
     @NotNull
     public Timestamp getTimestamp();
+
+    /**
+     * Returns {@code true} if the command is the only command of an implicit transaction, so the transaction is committed right after
+     * the command is applied, without a separate {@link FinishTxCommand}.
+     *
+     * @return {@code True} for a one-phase commit.
+     */
+    public boolean isOnePhase();
 }
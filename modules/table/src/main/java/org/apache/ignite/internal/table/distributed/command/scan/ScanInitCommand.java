@@ -17,14 +17,23 @@
 
 package org.apache.ignite.internal.table.distributed.command.scan;
 
+import org.apache.ignite.internal.tx.Timestamp;
 import org.apache.ignite.lang.IgniteUuid;
-import org.apache.ignite.raft.client.WriteCommand;
+import org.apache.ignite.raft.client.ReadCommand;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Scan init command for PartitionListener that prepares server-side scan for further iteration over it.
+ *
+ * <p>Scan commands are read commands: they are never written to the RAFT log. The cursor is opened in the local memory of the replica
+ * that handles this command, so every subsequent {@link ScanRetrieveBatchCommand} and {@link ScanCloseCommand} of the same scan must
+ * be sent to that very replica. The command completes with the {@link org.apache.ignite.raft.client.Peer} of the replica.
+ *
+ * <p>A transactional scan takes a range lock on the partition before the cursor is opened and observes the rows as they are seen by
+ * the transaction.
  */
-public class ScanInitCommand implements WriteCommand {
+public class ScanInitCommand implements ReadCommand {
     /** Id of the node that requests scan. */
     @NotNull
     private final String requesterNodeId;
@@ -33,6 +42,10 @@ public class ScanInitCommand implements WriteCommand {
     @NotNull
     private final IgniteUuid scanId;
 
+    /** Timestamp of the transaction of the scan, {@code null} for a non-transactional scan. */
+    @Nullable
+    private final Timestamp timestamp;
+
     /**
      * Constructor.
      *
@@ -42,9 +55,25 @@ public class ScanInitCommand implements WriteCommand {
     public ScanInitCommand(
             @NotNull String requesterNodeId,
             @NotNull IgniteUuid scanId
+    ) {
+        this(requesterNodeId, scanId, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param requesterNodeId Id of the node that requests scan.
+     * @param scanId          Id of scan that is associated with the current command.
+     * @param timestamp       Timestamp of the transaction of the scan, {@code null} for a non-transactional scan.
+     */
+    public ScanInitCommand(
+            @NotNull String requesterNodeId,
+            @NotNull IgniteUuid scanId,
+            @Nullable Timestamp timestamp
     ) {
         this.requesterNodeId = requesterNodeId;
         this.scanId = scanId;
+        this.timestamp = timestamp;
     }
 
     /**
@@ -61,4 +90,11 @@ public class ScanInitCommand implements WriteCommand {
     public IgniteUuid scanId() {
         return scanId;
     }
+
+    /**
+     * Returns timestamp of the transaction of the scan, {@code null} for a non-transactional scan.
+     */
+    public @Nullable Timestamp timestamp() {
+        return timestamp;
+    }
 }
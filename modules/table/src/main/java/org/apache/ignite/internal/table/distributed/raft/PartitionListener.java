@@ -19,6 +19,7 @@ package org.apache.ignite.internal.table.distributed.raft;
 
 import static org.apache.ignite.lang.IgniteStringFormatter.format;
 
+import java.io.Serializable;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -29,6 +30,8 @@ import java.util.NoSuchElementException;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import org.apache.ignite.internal.schema.BinaryRow;
@@ -66,59 +69,117 @@ import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.tx.TxState;
 import org.apache.ignite.internal.util.Cursor;
 import org.apache.ignite.lang.IgniteInternalException;
+import org.apache.ignite.lang.IgniteSystemProperties;
 import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.raft.client.Command;
+import org.apache.ignite.raft.client.Peer;
 import org.apache.ignite.raft.client.ReadCommand;
 import org.apache.ignite.raft.client.WriteCommand;
 import org.apache.ignite.raft.client.service.CommandClosure;
 import org.apache.ignite.raft.client.service.RaftGroupListener;
 import org.apache.ignite.tx.TransactionException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
 /**
  * Partition command handler.
  */
 public class PartitionListener implements RaftGroupListener {
+    /**
+     * Default number of keys starting from which a multi-key read is offloaded to the read executor.
+     *
+     * @see #IGNITE_PARTITION_ASYNC_READ_THRESHOLD
+     */
+    private static final int DFLT_PARTITION_ASYNC_READ_THRESHOLD = 256;
+
+    /** A number of keys starting from which a multi-key read is executed by the read executor rather than by the calling thread. */
+    public static final String IGNITE_PARTITION_ASYNC_READ_THRESHOLD = "IGNITE_PARTITION_ASYNC_READ_THRESHOLD";
+
+    /** Number of keys starting from which a multi-key read is offloaded to the read executor. */
+    static final int ASYNC_READ_THRESHOLD =
+            IgniteSystemProperties.getInteger(IGNITE_PARTITION_ASYNC_READ_THRESHOLD, DFLT_PARTITION_ASYNC_READ_THRESHOLD);
+
     /** Lock id. */
     private final IgniteUuid lockId;
 
     /** The versioned storage. */
     private final VersionedRowStore storage;
 
-    /** Cursors map. */
+    /** Cursors of the scans served by this replica, they are never replicated. */
     private final Map<IgniteUuid, CursorMeta> cursors;
 
     /** Transaction manager. */
     private final TxManager txManager;
 
+    /** Executor of large multi-key reads. */
+    private final Executor readExecutor;
+
+    /** Peer of the replica, reported to the clients opening scans, {@code null} if unknown. */
+    @Nullable
+    private final Peer localPeer;
+
     /**
-     * The constructor.
+     * The constructor. Multi-key reads are executed by the calling thread, the peer of the replica is not reported to scan clients.
      *
      * @param tableId Table id.
      * @param store  The storage.
      */
     public PartitionListener(UUID tableId, VersionedRowStore store) {
-        this.lockId = new IgniteUuid(tableId, 0);
+        this(tableId, store, (Peer) null);
+    }
+
+    /**
+     * The constructor. Multi-key reads are executed by the calling thread.
+     *
+     * @param tableId Table id.
+     * @param store  The storage.
+     * @param localPeer Peer of the replica, reported to the clients opening scans.
+     */
+    public PartitionListener(UUID tableId, VersionedRowStore store, @Nullable Peer localPeer) {
+        this(tableId, store, localPeer, Runnable::run);
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param tableId Table id.
+     * @param store  The storage.
+     * @param localPeer Peer of the replica, reported to the clients opening scans.
+     * @param readExecutor Executor of multi-key reads of at least {@link #IGNITE_PARTITION_ASYNC_READ_THRESHOLD} keys.
+     */
+    public PartitionListener(UUID tableId, VersionedRowStore store, @Nullable Peer localPeer, Executor readExecutor) {
+        // Key locks are taken per partition, so that a range lock covers a partition.
+        this.lockId = new IgniteUuid(tableId, store.delegate().partitionId());
         this.storage = store;
         this.txManager = store.txManager();
         this.cursors = new ConcurrentHashMap<>();
+        this.readExecutor = readExecutor;
+        this.localPeer = localPeer;
     }
 
     /** {@inheritDoc} */
     @Override
     public void onRead(Iterator<CommandClosure<ReadCommand>> iterator) {
-        iterator.forEachRemaining((CommandClosure<? extends ReadCommand> clo) -> {
-            Command command = clo.command();
+        iterator.forEachRemaining((CommandClosure<? extends ReadCommand> clo0) -> {
+            Command command = clo0.command();
 
-            if (!tryEnlistIntoTransaction(command, clo)) {
+            if (!tryEnlistIntoTransaction(command, clo0)) {
                 return;
             }
 
+            CommandClosure<? extends ReadCommand> clo = wrapOnePhase(clo0);
+
             if (command instanceof GetCommand) {
                 clo.result(handleGetCommand((GetCommand) command));
             } else if (command instanceof GetAllCommand) {
-                clo.result(handleGetAllCommand((GetAllCommand) command));
+                handleGetAllCommand((CommandClosure<GetAllCommand>) clo, (GetAllCommand) command);
+            } else if (command instanceof ScanInitCommand) {
+                handleScanInitCommand((CommandClosure<ScanInitCommand>) clo, (ScanInitCommand) command);
+            } else if (command instanceof ScanRetrieveBatchCommand) {
+                handleScanRetrieveBatchCommand((CommandClosure<ScanRetrieveBatchCommand>) clo, (ScanRetrieveBatchCommand) command);
+            } else if (command instanceof ScanCloseCommand) {
+                handleScanCloseCommand((CommandClosure<ScanCloseCommand>) clo, (ScanCloseCommand) command);
             } else {
                 assert false : "Command was not found [cmd=" + clo.command() + ']';
             }
@@ -128,55 +189,68 @@ public class PartitionListener implements RaftGroupListener {
     /** {@inheritDoc} */
     @Override
     public void onWrite(Iterator<CommandClosure<WriteCommand>> iterator) {
-        iterator.forEachRemaining((CommandClosure<? extends WriteCommand> clo) -> {
-            Command command = clo.command();
+        List<Runnable> results = new ArrayList<>();
 
-            if (!tryEnlistIntoTransaction(command, clo)) {
-                return;
-            }
+        // The whole batch of commands is applied by a single storage write, the results are reported once the write succeeds.
+        storage.delegate().runConsistently(() -> {
+            iterator.forEachRemaining(clo -> handleWriteCommand(clo, results));
 
-            if (command instanceof InsertCommand) {
-                clo.result(handleInsertCommand((InsertCommand) command));
-            } else if (command instanceof DeleteCommand) {
-                clo.result(handleDeleteCommand((DeleteCommand) command));
-            } else if (command instanceof ReplaceCommand) {
-                clo.result(handleReplaceCommand((ReplaceCommand) command));
-            } else if (command instanceof UpsertCommand) {
-                handleUpsertCommand((UpsertCommand) command);
-
-                clo.result(null);
-            } else if (command instanceof InsertAllCommand) {
-                clo.result(handleInsertAllCommand((InsertAllCommand) command));
-            } else if (command instanceof UpsertAllCommand) {
-                handleUpsertAllCommand((UpsertAllCommand) command);
-
-                clo.result(null);
-            } else if (command instanceof DeleteAllCommand) {
-                clo.result(handleDeleteAllCommand((DeleteAllCommand) command));
-            } else if (command instanceof DeleteExactCommand) {
-                clo.result(handleDeleteExactCommand((DeleteExactCommand) command));
-            } else if (command instanceof DeleteExactAllCommand) {
-                clo.result(handleDeleteExactAllCommand((DeleteExactAllCommand) command));
-            } else if (command instanceof ReplaceIfExistCommand) {
-                clo.result(handleReplaceIfExistsCommand((ReplaceIfExistCommand) command));
-            } else if (command instanceof GetAndDeleteCommand) {
-                clo.result(handleGetAndDeleteCommand((GetAndDeleteCommand) command));
-            } else if (command instanceof GetAndReplaceCommand) {
-                clo.result(handleGetAndReplaceCommand((GetAndReplaceCommand) command));
-            } else if (command instanceof GetAndUpsertCommand) {
-                clo.result(handleGetAndUpsertCommand((GetAndUpsertCommand) command));
-            } else if (command instanceof ScanInitCommand) {
-                handleScanInitCommand((CommandClosure<ScanInitCommand>) clo, (ScanInitCommand) command);
-            } else if (command instanceof ScanRetrieveBatchCommand) {
-                handleScanRetrieveBatchCommand((CommandClosure<ScanRetrieveBatchCommand>) clo, (ScanRetrieveBatchCommand) command);
-            } else if (command instanceof ScanCloseCommand) {
-                handleScanCloseCommand((CommandClosure<ScanCloseCommand>) clo, (ScanCloseCommand) command);
-            } else if (command instanceof FinishTxCommand) {
-                clo.result(handleFinishTxCommand((FinishTxCommand) command));
-            } else {
-                assert false : "Command was not found [cmd=" + command + ']';
-            }
+            return null;
         });
+
+        results.forEach(Runnable::run);
+    }
+
+    /**
+     * Applies a write command.
+     *
+     * @param clo0 Command closure.
+     * @param results Deferred results of the applied commands.
+     */
+    private void handleWriteCommand(CommandClosure<? extends WriteCommand> clo0, List<Runnable> results) {
+        Command command = clo0.command();
+
+        if (!tryEnlistIntoTransaction(command, clo0)) {
+            return;
+        }
+
+        CommandClosure<? extends WriteCommand> clo = deferResult(wrapOnePhase(clo0), results);
+
+        if (command instanceof InsertCommand) {
+            clo.result(handleInsertCommand((InsertCommand) command));
+        } else if (command instanceof DeleteCommand) {
+            clo.result(handleDeleteCommand((DeleteCommand) command));
+        } else if (command instanceof ReplaceCommand) {
+            clo.result(handleReplaceCommand((ReplaceCommand) command));
+        } else if (command instanceof UpsertCommand) {
+            handleUpsertCommand((UpsertCommand) command);
+
+            clo.result(null);
+        } else if (command instanceof InsertAllCommand) {
+            clo.result(handleInsertAllCommand((InsertAllCommand) command));
+        } else if (command instanceof UpsertAllCommand) {
+            handleUpsertAllCommand((UpsertAllCommand) command);
+
+            clo.result(null);
+        } else if (command instanceof DeleteAllCommand) {
+            clo.result(handleDeleteAllCommand((DeleteAllCommand) command));
+        } else if (command instanceof DeleteExactCommand) {
+            clo.result(handleDeleteExactCommand((DeleteExactCommand) command));
+        } else if (command instanceof DeleteExactAllCommand) {
+            clo.result(handleDeleteExactAllCommand((DeleteExactAllCommand) command));
+        } else if (command instanceof ReplaceIfExistCommand) {
+            clo.result(handleReplaceIfExistsCommand((ReplaceIfExistCommand) command));
+        } else if (command instanceof GetAndDeleteCommand) {
+            clo.result(handleGetAndDeleteCommand((GetAndDeleteCommand) command));
+        } else if (command instanceof GetAndReplaceCommand) {
+            clo.result(handleGetAndReplaceCommand((GetAndReplaceCommand) command));
+        } else if (command instanceof GetAndUpsertCommand) {
+            clo.result(handleGetAndUpsertCommand((GetAndUpsertCommand) command));
+        } else if (command instanceof FinishTxCommand) {
+            clo.result(handleFinishTxCommand((FinishTxCommand) command));
+        } else {
+            assert false : "Command was not found [cmd=" + command + ']';
+        }
     }
 
     /**
@@ -187,8 +261,10 @@ public class PartitionListener implements RaftGroupListener {
      * @return {@code true} if a command is compatible with a transaction state or a command is not transactional.
      */
     private boolean tryEnlistIntoTransaction(Command command, CommandClosure<?> clo) {
-        if (command instanceof TransactionalCommand) {
-            Timestamp ts = ((TransactionalCommand) command).getTimestamp();
+        Timestamp ts = txTimestamp(command);
+
+        if (ts != null) {
+            Timestamp.update(ts);
 
             TxState state = txManager.getOrCreateTransaction(ts);
 
@@ -202,6 +278,80 @@ public class PartitionListener implements RaftGroupListener {
         return true;
     }
 
+    /**
+     * Returns a timestamp of the transaction of a command.
+     *
+     * @param command The command.
+     * @return The timestamp or {@code null} if the command is not transactional.
+     */
+    private static @Nullable Timestamp txTimestamp(Command command) {
+        if (command instanceof TransactionalCommand) {
+            return ((TransactionalCommand) command).getTimestamp();
+        } else if (command instanceof ScanInitCommand) {
+            return ((ScanInitCommand) command).timestamp();
+        }
+
+        return null;
+    }
+
+    /**
+     * Wraps a closure, so that its result is deferred until the storage write of the whole batch of commands succeeds.
+     *
+     * @param clo The closure.
+     * @param results Deferred results.
+     * @param <C> Command type.
+     * @return The closure to use for the command.
+     */
+    private static <C extends Command> CommandClosure<C> deferResult(CommandClosure<C> clo, List<Runnable> results) {
+        return new CommandClosure<>() {
+            @Override
+            public C command() {
+                return clo.command();
+            }
+
+            @Override
+            public void result(@Nullable Serializable res) {
+                results.add(() -> clo.result(res));
+            }
+        };
+    }
+
+    /**
+     * Wraps a closure of a one-phase command, so that the transaction is finished before the result is reported.
+     *
+     * @param clo The closure.
+     * @param <C> Command type.
+     * @return The closure to use for the command.
+     * @see TransactionalCommand#isOnePhase()
+     */
+    private <C extends Command> CommandClosure<C> wrapOnePhase(CommandClosure<C> clo) {
+        C command = clo.command();
+
+        if (!(command instanceof TransactionalCommand) || !((TransactionalCommand) command).isOnePhase()) {
+            return clo;
+        }
+
+        Timestamp ts = ((TransactionalCommand) command).getTimestamp();
+
+        return new CommandClosure<>() {
+            @Override
+            public C command() {
+                return command;
+            }
+
+            @Override
+            public void result(@Nullable Serializable res) {
+                if (res instanceof Throwable) {
+                    txManager.rollbackAsync(ts);
+                } else {
+                    txManager.commitAsync(ts);
+                }
+
+                clo.result(res);
+            }
+        };
+    }
+
     /**
      * Handler for the {@link GetCommand}.
      *
@@ -213,18 +363,42 @@ public class PartitionListener implements RaftGroupListener {
     }
 
     /**
-     * Handler for the {@link GetAllCommand}.
+     * Handler for the {@link GetAllCommand}. A large batch is read by the read executor, so that it does not delay the rest of the
+     * commands.
      *
+     * @param clo Command closure.
      * @param cmd Command.
-     * @return Result.
      */
-    private MultiRowsResponse handleGetAllCommand(GetAllCommand cmd) {
+    private void handleGetAllCommand(CommandClosure<GetAllCommand> clo, GetAllCommand cmd) {
         Collection<BinaryRow> keyRows = cmd.getRows();
 
         assert keyRows != null && !keyRows.isEmpty();
 
-        // TODO asch IGNITE-15934 all reads are sequential, can be parallelized ?
-        return new MultiRowsResponse(storage.getAll(keyRows, cmd.getTimestamp()));
+        if (keyRows.size() < ASYNC_READ_THRESHOLD) {
+            clo.result(new MultiRowsResponse(storage.getAll(keyRows, cmd.getTimestamp())));
+
+            return;
+        }
+
+        Runnable read = () -> {
+            MultiRowsResponse res;
+
+            try {
+                res = new MultiRowsResponse(storage.getAll(keyRows, cmd.getTimestamp()));
+            } catch (Throwable e) {
+                clo.result(e);
+
+                return;
+            }
+
+            clo.result(res);
+        };
+
+        try {
+            readExecutor.execute(read);
+        } catch (RejectedExecutionException e) {
+            read.run();
+        }
     }
 
     /**
@@ -407,7 +581,7 @@ public class PartitionListener implements RaftGroupListener {
     }
 
     /**
-     * Handler for the {@link ScanInitCommand}.
+     * Handler for the {@link ScanInitCommand}. Reports the peer of the replica, which holds the cursor.
      *
      * @param clo Command closure.
      * @param cmd Command.
@@ -419,7 +593,7 @@ public class PartitionListener implements RaftGroupListener {
         IgniteUuid cursorId = cmd.scanId();
 
         try {
-            Cursor<BinaryRow> cursor = storage.scan(key -> true);
+            Cursor<BinaryRow> cursor = storage.scan(key -> true, cmd.timestamp());
 
             cursors.put(
                     cursorId,
@@ -431,9 +605,11 @@ public class PartitionListener implements RaftGroupListener {
             );
         } catch (StorageException e) {
             clo.result(e);
+
+            return;
         }
 
-        clo.result(null);
+        clo.result(localPeer);
     }
 
     /**
@@ -470,6 +646,8 @@ public class PartitionListener implements RaftGroupListener {
             }
         } catch (NoSuchElementException e) {
             clo.result(e);
+
+            return;
         }
 
         clo.result(new MultiRowsResponse(res));
@@ -552,6 +730,11 @@ public class PartitionListener implements RaftGroupListener {
             }
 
             return CompletableFuture.allOf(futs);
+        } else if (command instanceof ScanInitCommand) {
+            Timestamp ts = ((ScanInitCommand) command).timestamp();
+
+            // A transactional scan locks the whole partition, including the gaps between keys, so it never observes phantoms.
+            return ts == null ? null : txManager.rangeLock(lockId, ts);
         }
 
         return null;
@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscriber;
 import java.util.concurrent.Flow.Subscription;
@@ -52,8 +53,10 @@ import org.apache.ignite.internal.table.distributed.command.GetAndUpsertCommand;
 import org.apache.ignite.internal.table.distributed.command.GetCommand;
 import org.apache.ignite.internal.table.distributed.command.InsertAllCommand;
 import org.apache.ignite.internal.table.distributed.command.InsertCommand;
+import org.apache.ignite.internal.table.distributed.command.MultiKeyCommand;
 import org.apache.ignite.internal.table.distributed.command.ReplaceCommand;
 import org.apache.ignite.internal.table.distributed.command.ReplaceIfExistCommand;
+import org.apache.ignite.internal.table.distributed.command.SingleKeyCommand;
 import org.apache.ignite.internal.table.distributed.command.UpsertAllCommand;
 import org.apache.ignite.internal.table.distributed.command.UpsertCommand;
 import org.apache.ignite.internal.table.distributed.command.response.MultiRowsResponse;
@@ -62,6 +65,7 @@ import org.apache.ignite.internal.table.distributed.command.scan.ScanCloseComman
 import org.apache.ignite.internal.table.distributed.command.scan.ScanInitCommand;
 import org.apache.ignite.internal.table.distributed.command.scan.ScanRetrieveBatchCommand;
 import org.apache.ignite.internal.tx.InternalTransaction;
+import org.apache.ignite.internal.tx.Timestamp;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.lang.IgniteInternalException;
 import org.apache.ignite.lang.IgniteLogger;
@@ -72,6 +76,7 @@ import org.apache.ignite.network.ClusterNode;
 import org.apache.ignite.network.NetworkAddress;
 import org.apache.ignite.raft.client.Command;
 import org.apache.ignite.raft.client.Peer;
+import org.apache.ignite.raft.client.WriteCommand;
 import org.apache.ignite.raft.client.service.RaftGroupService;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -195,15 +200,24 @@ public class InternalTableImpl implements InternalTable {
 
         int batchNum = 0;
 
+        // An implicit transaction touching a single partition is committed together with its only command.
+        boolean onePhase = implicit && keyRowsByPartition.size() == 1;
+
+        boolean write = false;
+
         for (Int2ObjectOpenHashMap.Entry<List<BinaryRow>> partToRows : keyRowsByPartition.int2ObjectEntrySet()) {
+            Command cmd = command(op.apply(partToRows.getValue(), tx0), onePhase);
+
+            write = cmd instanceof WriteCommand;
+
             CompletableFuture<RaftGroupService> fut = enlist(partToRows.getIntKey(), tx0);
 
-            futures[batchNum++] = fut.thenCompose(svc -> svc.run(op.apply(partToRows.getValue(), tx0)));
+            futures[batchNum++] = fut.thenCompose(svc -> svc.run(cmd));
         }
 
         CompletableFuture<T> fut = reducer.apply(futures);
 
-        return postEnlist(fut, implicit, tx0);
+        return onePhase ? postEnlistOnePhase(fut, tx0, write) : postEnlist(fut, implicit, tx0);
     }
 
     /**
@@ -229,9 +243,31 @@ public class InternalTableImpl implements InternalTable {
 
         int partId = partId(row);
 
-        CompletableFuture<T> fut = enlist(partId, tx0).thenCompose(svc -> svc.<R>run(op.apply(tx0)).thenApply(trans::apply));
+        Command cmd = command(op.apply(tx0), implicit);
+
+        CompletableFuture<T> fut = enlist(partId, tx0)
+                .thenCompose(svc -> svc.<R>run(cmd).thenApply(trans::apply));
+
+        return implicit ? postEnlistOnePhase(fut, tx0, cmd instanceof WriteCommand) : postEnlist(fut, false, tx0);
+    }
+
+    /**
+     * Marks a command of an implicit single-partition transaction for one-phase commit.
+     *
+     * @param cmd The command.
+     * @param onePhase {@code True} to commit the transaction together with the command.
+     * @return The command.
+     */
+    private static Command command(Command cmd, boolean onePhase) {
+        if (onePhase) {
+            if (cmd instanceof SingleKeyCommand) {
+                ((SingleKeyCommand) cmd).setOnePhase(true);
+            } else {
+                ((MultiKeyCommand) cmd).setOnePhase(true);
+            }
+        }
 
-        return postEnlist(fut, implicit, tx0);
+        return cmd;
     }
 
     /**
@@ -248,13 +284,7 @@ public class InternalTableImpl implements InternalTable {
             @Override
             public CompletableFuture<T> apply(T r, Throwable e) {
                 if (e != null) {
-                    return tx0.rollbackAsync().handle((ignored, err) -> {
-                        if (err != null) {
-                            e.addSuppressed(err);
-                        }
-
-                        throw (RuntimeException) e;
-                    }); // Preserve failed state.
+                    return rollback(tx0, e);
                 } else {
                     return implicit ? tx0.commitAsync().thenApply(ignored -> r) : completedFuture(r);
                 }
@@ -262,6 +292,59 @@ public class InternalTableImpl implements InternalTable {
         }).thenCompose(x -> x);
     }
 
+    /**
+     * Performs post enlist operation for an implicit transaction, which was committed or rolled back by the partition together with
+     * its only command. Every replica finishes the transaction state while applying a write command, so the coordinator state is
+     * only finished here if the coordinator is not a partition replica, like on the regular finish. A read command is not replicated
+     * and finishes the state on the serving replica only, so the coordinator state is always finished after it.
+     *
+     * @param fut The future.
+     * @param tx0 The transaction.
+     * @param write {@code True} if the command is a write command.
+     * @param <T> Operation return type.
+     * @return The future.
+     */
+    private <T> CompletableFuture<T> postEnlistOnePhase(CompletableFuture<T> fut, InternalTransaction tx0, boolean write) {
+        return fut.handle(new BiFunction<T, Throwable, CompletableFuture<T>>() {
+            @Override
+            public CompletableFuture<T> apply(T r, Throwable e) {
+                if (e != null) {
+                    return rollback(tx0, e); // Rollback via the regular finish, the command may not have reached a replica.
+                }
+
+                if (write) {
+                    for (RaftGroupService svc : tx0.enlisted()) {
+                        for (Peer peer : svc.peers()) {
+                            if (txManager.isLocal(peer.address())) {
+                                return completedFuture(r);
+                            }
+                        }
+                    }
+                }
+
+                return txManager.commitAsync(tx0.timestamp()).thenApply(ignored -> r);
+            }
+        }).thenCompose(x -> x);
+    }
+
+    /**
+     * Rolls back a transaction after a failed operation.
+     *
+     * @param tx0 The transaction.
+     * @param e The failure of the operation.
+     * @param <T> Operation return type.
+     * @return The future, which is always completed exceptionally with the failure of the operation.
+     */
+    private static <T> CompletableFuture<T> rollback(InternalTransaction tx0, Throwable e) {
+        return tx0.rollbackAsync().handle((ignored, err) -> {
+            if (err != null) {
+                e.addSuppressed(err);
+            }
+
+            throw e instanceof CompletionException ? (CompletionException) e : new CompletionException(e);
+        }); // Preserve failed state.
+    }
+
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<BinaryRow> get(BinaryRowEx keyRow, InternalTransaction tx) {
@@ -369,7 +452,12 @@ public class InternalTableImpl implements InternalTable {
             );
         }
 
-        return new PartitionScanPublisher(partitionMap.get(p));
+        if (tx == null) {
+            return new PartitionScanPublisher(partitionMap.get(p), completedFuture(null), null);
+        }
+
+        // The partition is enlisted, so that the range lock taken by the scan is released when the transaction is finished.
+        return new PartitionScanPublisher(partitionMap.get(p), enlist(p, tx), tx.timestamp());
     }
 
     /**
@@ -522,15 +610,26 @@ public class InternalTableImpl implements InternalTable {
         /** {@link Publisher} that relatively notifies about partition rows. */
         private final RaftGroupService raftGrpSvc;
 
+        /** Future of the enlistment of the partition into the transaction of the scan. */
+        private final CompletableFuture<?> enlistFut;
+
+        /** Timestamp of the transaction of the scan, {@code null} for a non-transactional scan. */
+        @Nullable
+        private final Timestamp ts;
+
         private AtomicBoolean subscribed;
 
         /**
          * The constructor.
          *
          * @param raftGrpSvc {@link RaftGroupService} to run corresponding raft commands.
+         * @param enlistFut Future of the enlistment of the partition into the transaction of the scan.
+         * @param ts Timestamp of the transaction of the scan, {@code null} for a non-transactional scan.
          */
-        PartitionScanPublisher(RaftGroupService raftGrpSvc) {
+        PartitionScanPublisher(RaftGroupService raftGrpSvc, CompletableFuture<?> enlistFut, @Nullable Timestamp ts) {
             this.raftGrpSvc = raftGrpSvc;
+            this.enlistFut = enlistFut;
+            this.ts = ts;
             this.subscribed = new AtomicBoolean(false);
         }
 
@@ -564,9 +663,10 @@ public class InternalTableImpl implements InternalTable {
             private final IgniteUuid scanId;
 
             /**
-             * Scan initial operation that created server cursor.
+             * Scan initial operation that created server cursor. Completes with the replica that holds the cursor, the rest of the scan
+             * requests are sent straight to it and bypass the RAFT log.
              */
-            private final CompletableFuture<Void> scanInitOp;
+            private final CompletableFuture<Peer> scanInitOp;
 
             private AtomicInteger scanCounter = new AtomicInteger(1);
 
@@ -584,7 +684,9 @@ public class InternalTableImpl implements InternalTable {
                 this.canceled = new AtomicBoolean(false);
                 this.scanId = UUID_GENERATOR.randomUuid();
                 // TODO: IGNITE-15544 Close partition scans on node left.
-                this.scanInitOp = raftGrpSvc.run(new ScanInitCommand("", scanId));
+                // The cursor is opened by the leader after a read index round, so the scan observes every write committed before it.
+                // The leader may change meanwhile, so the rest of the scan goes to the peer reported by the replica holding the cursor.
+                this.scanInitOp = enlistFut.thenCompose(ignored -> raftGrpSvc.<Peer>run(new ScanInitCommand("", scanId, ts)));
                 this.requestedItemsCnt = new AtomicLong(0);
             }
 
@@ -633,7 +735,7 @@ public class InternalTableImpl implements InternalTable {
                 }
 
                 if (closeCursor) {
-                    scanInitOp.thenRun(() -> raftGrpSvc.run(new ScanCloseCommand(scanId))).exceptionally(closeT -> {
+                    scanInitOp.thenCompose(peer -> raftGrpSvc.run(peer, new ScanCloseCommand(scanId))).exceptionally(closeT -> {
                         LOG.warn("Unable to close scan.", closeT);
 
                         return null;
@@ -651,8 +753,8 @@ public class InternalTableImpl implements InternalTable {
                     return;
                 }
 
-                scanInitOp.thenCompose((none) -> raftGrpSvc.<MultiRowsResponse>run(
-                                new ScanRetrieveBatchCommand(n, scanId, scanCounter.getAndIncrement())))
+                scanInitOp.thenCompose(peer -> raftGrpSvc.<MultiRowsResponse>run(
+                                peer, new ScanRetrieveBatchCommand(n, scanId, scanCounter.getAndIncrement())))
                         .thenAccept(
                                 res -> {
                                     if (res.getValues() == null) {
@@ -22,9 +22,12 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.ByteBufferRow;
@@ -38,6 +41,7 @@ import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.tx.TxState;
 import org.apache.ignite.internal.util.Cursor;
 import org.apache.ignite.internal.util.Pair;
+import org.apache.ignite.lang.IgniteLogger;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -47,12 +51,21 @@ import org.jetbrains.annotations.Nullable;
  * TODO asch IGNITE-15934 invokes on storage not used for now, can it be changed ?
  */
 public class VersionedRowStore {
+    /** The logger. */
+    private static final IgniteLogger LOG = IgniteLogger.forClass(VersionedRowStore.class);
+
     /** Storage delegate. */
     private final PartitionStorage storage;
 
     /** Transaction manager. */
     private TxManager txManager;
 
+    /** Total number of tombstones skipped by scans. */
+    private final LongAdder scanSkippedTombstones = new LongAdder();
+
+    /** Total number of aborted inserts skipped by scans. */
+    private final LongAdder scanSkippedAborted = new LongAdder();
+
     /**
      * The constructor.
      *
@@ -103,10 +116,38 @@ public class VersionedRowStore {
     public List<BinaryRow> getAll(Collection<BinaryRow> keyRows, Timestamp ts) {
         assert keyRows != null && !keyRows.isEmpty();
 
-        List<BinaryRow> res = new ArrayList<>(keyRows.size());
+        if (keyRows.size() == 1) {
+            // A batched read of a single key costs more than a plain one.
+            List<BinaryRow> res = new ArrayList<>(1);
+
+            res.add(get(keyRows.iterator().next(), ts));
+
+            return res;
+        }
+
+        List<SearchRow> keys = new ArrayList<>(keyRows.size());
 
         for (BinaryRow keyRow : keyRows) {
-            res.add(get(keyRow, ts));
+            keys.add(new BinarySearchRow(keyRow));
+        }
+
+        // The storage returns the found rows in the order of the keys, so they are matched with a single pass.
+        Iterator<DataRow> it = storage.readAll(keys).iterator();
+
+        DataRow next = it.hasNext() ? it.next() : null;
+
+        List<BinaryRow> res = new ArrayList<>(keys.size());
+
+        for (SearchRow key : keys) {
+            DataRow row = null;
+
+            if (next != null && next.key().equals(key.key())) {
+                row = next;
+
+                next = it.hasNext() ? it.next() : null;
+            }
+
+            res.add(versionedRow(row, ts).getFirst());
         }
 
         return res;
@@ -396,7 +437,8 @@ public class VersionedRowStore {
     }
 
     /**
-     * Unpacks a raw value into (cur, old, ts) triplet. TODO asch IGNITE-15934 not very efficient.
+     * Unpacks a raw value into (cur, old, ts) triplet. The value has the following layout: new row length, new row bytes, old row
+     * length, old row bytes, transaction timestamp. The rows are flyweight views over the storage buffer, no bytes are copied.
      *
      * @param row The row.
      * @return The value.
@@ -408,90 +450,75 @@ public class VersionedRowStore {
 
         ByteBuffer buf = row.value();
 
-        BinaryRow newVal = null;
-        BinaryRow oldVal = null;
-
-        int l1 = buf.asIntBuffer().get();
+        int pos = 0;
 
-        int pos = 4;
+        int l1 = buf.getInt(pos);
 
-        buf.position(pos);
+        pos += Integer.BYTES;
 
-        if (l1 != 0) {
-            // TODO asch IGNITE-15934 get rid of copying
-            byte[] tmp = new byte[l1];
+        BinaryRow newVal = l1 == 0 ? null : slice(buf, pos, l1);
 
-            buf.get(tmp);
-
-            newVal = new ByteBufferRow(tmp);
-
-            pos += l1;
-        }
+        pos += l1;
 
-        buf.position(pos);
+        int l2 = buf.getInt(pos);
 
-        int l2 = buf.asIntBuffer().get();
+        pos += Integer.BYTES;
 
-        pos += 4;
-
-        buf.position(pos);
-
-        if (l2 != 0) {
-            // TODO asch get rid of copying
-            byte[] tmp = new byte[l2];
-
-            buf.get(tmp);
-
-            oldVal = new ByteBufferRow(tmp);
-
-            pos += l2;
-        }
+        BinaryRow oldVal = l2 == 0 ? null : slice(buf, pos, l2);
 
-        buf.position(pos);
+        pos += l2;
 
-        long ts = buf.getLong();
-        long nodeId = buf.getLong();
+        long ts = buf.getLong(pos);
+        long nodeId = buf.getLong(pos + Long.BYTES);
 
         return new Value(newVal, oldVal, new Timestamp(ts, nodeId));
     }
 
     /**
-     * Packs a multi-versioned value.
+     * Creates a row that shares the content of the given buffer.
+     *
+     * @param buf Buffer.
+     * @param off Row offset.
+     * @param len Row length.
+     * @return The row.
+     */
+    private static BinaryRow slice(ByteBuffer buf, int off, int len) {
+        return new ByteBufferRow(buf.duplicate().position(off).limit(off + len).slice().order(ByteBufferRow.ORDER));
+    }
+
+    /**
+     * Packs a multi-versioned value. The rows are written straight into the resulting array, see {@link #unpack(DataRow)} for the
+     * layout.
      *
      * @param key The key.
      * @param value The value.
      * @return Data row.
      */
     private static DataRow pack(SearchRow key, Value value) {
-        byte[] b1 = null;
-        byte[] b2 = null;
-
-        int l1 = value.newRow == null ? 0 : (b1 = value.newRow.bytes()).length;
-        int l2 = value.oldRow == null ? 0 : (b2 = value.oldRow.bytes()).length;
+        int l1 = value.newRow == null ? 0 : value.newRow.length();
+        int l2 = value.oldRow == null ? 0 : value.oldRow.length();
 
         // TODO asch write only values.
-        ByteBuffer buf = ByteBuffer.allocate(4 + l1 + 4 + l2 + 16);
+        byte[] arr = new byte[Integer.BYTES + l1 + Integer.BYTES + l2 + 2 * Long.BYTES];
 
-        buf.asIntBuffer().put(l1);
+        ByteBuffer buf = ByteBuffer.wrap(arr);
 
-        buf.position(4);
+        buf.putInt(l1);
 
         if (l1 > 0) {
-            buf.put(b1);
+            value.newRow.writeTo(buf);
         }
 
-        buf.asIntBuffer().put(l2);
-
-        buf.position(buf.position() + 4);
+        buf.putInt(l2);
 
         if (l2 > 0) {
-            buf.put(b2);
+            value.oldRow.writeTo(buf);
         }
 
         buf.putLong(value.timestamp.getTimestamp());
         buf.putLong(value.timestamp.getNodeId());
 
-        return new DelegatingDataRow(key, buf.array());
+        return new DelegatingDataRow(key, arr);
     }
 
     /**
@@ -549,49 +576,164 @@ public class VersionedRowStore {
     /**
      * Executes a scan.
      *
+     * <p>A transactional scan resolves the rows as they are seen by the transaction. The caller is responsible for locking, otherwise
+     * the rows of pending transactions are observed.
+     *
      * @param pred The predicate.
+     * @param ts The timestamp of the transaction, {@code null} for a non-transactional scan.
      * @return The cursor.
      */
-    public Cursor<BinaryRow> scan(Predicate<SearchRow> pred) {
-        Cursor<DataRow> delegate = storage.scan(pred);
+    public ScanCursor scan(Predicate<SearchRow> pred, @Nullable Timestamp ts) {
+        return new ScanCursor(storage.scan(pred), ts);
+    }
 
-        // TODO asch add tx support IGNITE-15087.
-        return new Cursor<BinaryRow>() {
-            private @Nullable BinaryRow cur = null;
+    /**
+     * Resolves a row seen by a scan by the header of the versioned value, so that the rows invisible to the viewer are never unpacked.
+     * See {@link #unpack(DataRow)} for the layout.
+     *
+     * @param row The row.
+     * @param ts The timestamp of the viewer, {@code null} for a non-transactional scan.
+     * @param cursor The cursor accounting the skipped rows.
+     * @return The visible row or {@code null} if the row is skipped.
+     */
+    protected @Nullable BinaryRow scanRow(DataRow row, @Nullable Timestamp ts, ScanCursor cursor) {
+        ByteBuffer buf = row.value();
 
-            @Override
-            public void close() throws Exception {
-                delegate.close();
-            }
+        int l1 = buf.getInt(0);
 
-            @Override
-            public boolean hasNext() {
-                if (cur != null) {
-                    return true;
-                }
+        int oldPos = Integer.BYTES + l1 + Integer.BYTES;
 
-                if (delegate.hasNext()) {
-                    DataRow row = delegate.next();
+        int l2 = buf.getInt(oldPos - Integer.BYTES);
 
-                    cur = versionedRow(row, null).getFirst();
+        int tsPos = oldPos + l2;
 
-                    return cur != null ? true : hasNext(); // Skip tombstones.
-                }
+        Timestamp rowTs = new Timestamp(buf.getLong(tsPos), buf.getLong(tsPos + Long.BYTES));
 
-                return false;
+        if (!rowTs.equals(ts) && txManager.state(rowTs) == TxState.ABORTED) {
+            if (l2 == 0) {
+                cursor.skippedAborted++;
+
+                scanSkippedAborted.increment();
+
+                return null;
             }
 
-            @Override
-            public BinaryRow next() {
-                BinaryRow next = cur;
+            return slice(buf, oldPos, l2);
+        }
+
+        if (l1 == 0) {
+            cursor.skippedTombstones++;
+
+            scanSkippedTombstones.increment();
 
-                cur = null;
+            return null;
+        }
 
-                assert next != null;
+        return slice(buf, Integer.BYTES, l1);
+    }
 
-                return next;
+    /**
+     * Returns the total number of tombstones skipped by scans of this store. A growing number indicates that the partition needs a
+     * compaction.
+     *
+     * @return Number of skipped tombstones.
+     */
+    public long scanSkippedTombstones() {
+        return scanSkippedTombstones.sum();
+    }
+
+    /**
+     * Returns the total number of aborted inserts skipped by scans of this store.
+     *
+     * @return Number of skipped aborted inserts.
+     */
+    public long scanSkippedAborted() {
+        return scanSkippedAborted.sum();
+    }
+
+    /**
+     * Scan cursor, which resolves the versioned values by their headers and skips the rows invisible to the viewer without unpacking
+     * them.
+     */
+    public class ScanCursor implements Cursor<BinaryRow> {
+        /** Storage cursor. */
+        private final Cursor<DataRow> delegate;
+
+        /** The timestamp of the viewer, {@code null} for a non-transactional scan. */
+        private final @Nullable Timestamp ts;
+
+        /** Next row. */
+        private @Nullable BinaryRow cur;
+
+        /** Number of skipped tombstones. */
+        private long skippedTombstones;
+
+        /** Number of skipped aborted inserts. */
+        private long skippedAborted;
+
+        /**
+         * The constructor.
+         *
+         * @param delegate Storage cursor.
+         * @param ts The timestamp of the viewer.
+         */
+        private ScanCursor(Cursor<DataRow> delegate, @Nullable Timestamp ts) {
+            this.delegate = delegate;
+            this.ts = ts;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() throws Exception {
+            delegate.close();
+
+            if ((skippedTombstones > 0 || skippedAborted > 0) && LOG.isDebugEnabled()) {
+                LOG.debug("Scan skipped invisible rows [partId={}, tombstones={}, abortedInserts={}]", storage.partitionId(),
+                        skippedTombstones, skippedAborted);
             }
-        };
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean hasNext() {
+            while (cur == null && delegate.hasNext()) {
+                cur = scanRow(delegate.next(), ts, this);
+            }
+
+            return cur != null;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public BinaryRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            BinaryRow next = cur;
+
+            cur = null;
+
+            return next;
+        }
+
+        /**
+         * Returns the number of tombstones skipped by this scan so far.
+         *
+         * @return Number of skipped tombstones.
+         */
+        public long skippedTombstones() {
+            return skippedTombstones;
+        }
+
+        /**
+         * Returns the number of aborted inserts skipped by this scan so far.
+         *
+         * @return Number of skipped aborted inserts.
+         */
+        public long skippedAborted() {
+            return skippedAborted;
+        }
     }
 
     /**
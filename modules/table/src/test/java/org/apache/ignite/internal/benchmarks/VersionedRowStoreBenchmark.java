@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.NativeTypes;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.row.RowAssembler;
+import org.apache.ignite.internal.storage.chm.TestConcurrentHashMapPartitionStorage;
+import org.apache.ignite.internal.table.distributed.storage.VersionedRowStore;
+import org.apache.ignite.internal.tx.Timestamp;
+import org.apache.ignite.internal.tx.impl.HeapLockManager;
+import org.apache.ignite.internal.tx.impl.TxManagerImpl;
+import org.apache.ignite.network.ClusterService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the cost of the versioned value encoding in {@link VersionedRowStore}. Run with the GC profiler ({@code -prof gc}) to see
+ * the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class VersionedRowStoreBenchmark {
+    /** Number of keys. */
+    private static final int KEYS_COUNT = 1024;
+
+    /** Value size in bytes. */
+    @Param({"16", "256", "4096"})
+    public int valueSize;
+
+    /** Versioned row store. */
+    private VersionedRowStore store;
+
+    /** Full rows. */
+    private BinaryRow[] rows;
+
+    /** Key rows. */
+    private BinaryRow[] keys;
+
+    /** Transaction timestamp. */
+    private Timestamp ts;
+
+    /** Operation counter. */
+    private int cnt;
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setUp() {
+        SchemaDescriptor schema = new SchemaDescriptor(
+                1,
+                new Column[]{new Column("key", NativeTypes.INT64, false)},
+                new Column[]{new Column("value", NativeTypes.BYTES, false)}
+        );
+
+        store = new VersionedRowStore(
+                new TestConcurrentHashMapPartitionStorage(0),
+                new TxManagerImpl(mock(ClusterService.class), new HeapLockManager())
+        );
+
+        rows = new BinaryRow[KEYS_COUNT];
+        keys = new BinaryRow[KEYS_COUNT];
+
+        ts = Timestamp.nextVersion();
+
+        Random rnd = new Random(0);
+
+        for (int i = 0; i < KEYS_COUNT; i++) {
+            byte[] val = new byte[valueSize];
+
+            rnd.nextBytes(val);
+
+            rows[i] = new RowAssembler(schema, 0, 1).appendLong(i).appendBytes(val).build();
+            keys[i] = new RowAssembler(schema, 0, 0).appendLong(i).build();
+
+            store.upsert(rows[i], ts);
+        }
+    }
+
+    /**
+     * Measures a read of a versioned value.
+     *
+     * @return The row.
+     */
+    @Benchmark
+    public BinaryRow get() {
+        return store.get(keys[cnt++ & (KEYS_COUNT - 1)], ts);
+    }
+
+    /**
+     * Measures a read and a rewrite of a versioned value.
+     */
+    @Benchmark
+    public void upsert() {
+        store.upsert(rows[cnt++ & (KEYS_COUNT - 1)], ts);
+    }
+
+    /**
+     * Runner.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(VersionedRowStoreBenchmark.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .build()
+        ).run();
+    }
+}
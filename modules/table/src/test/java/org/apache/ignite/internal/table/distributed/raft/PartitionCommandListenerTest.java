@@ -25,10 +25,16 @@ import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiConsumer;
@@ -58,17 +64,26 @@ import org.apache.ignite.internal.table.distributed.command.UpsertAllCommand;
 import org.apache.ignite.internal.table.distributed.command.UpsertCommand;
 import org.apache.ignite.internal.table.distributed.command.response.MultiRowsResponse;
 import org.apache.ignite.internal.table.distributed.command.response.SingleRowResponse;
+import org.apache.ignite.internal.table.distributed.command.scan.ScanCloseCommand;
+import org.apache.ignite.internal.table.distributed.command.scan.ScanInitCommand;
+import org.apache.ignite.internal.table.distributed.command.scan.ScanRetrieveBatchCommand;
 import org.apache.ignite.internal.table.distributed.storage.VersionedRowStore;
 import org.apache.ignite.internal.tx.Timestamp;
+import org.apache.ignite.internal.tx.TxState;
 import org.apache.ignite.internal.tx.impl.HeapLockManager;
 import org.apache.ignite.internal.tx.impl.TxManagerImpl;
+import org.apache.ignite.lang.IgniteUuid;
+import org.apache.ignite.lang.IgniteUuidGenerator;
 import org.apache.ignite.network.ClusterService;
 import org.apache.ignite.network.NetworkAddress;
 import org.apache.ignite.raft.client.Command;
+import org.apache.ignite.raft.client.Peer;
+import org.apache.ignite.raft.client.ReadCommand;
 import org.apache.ignite.raft.client.service.CommandClosure;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 /**
@@ -85,6 +100,9 @@ public class PartitionCommandListenerTest {
             new Column[]{new Column("value", NativeTypes.INT32, false)}
     );
 
+    /** Address of the local node. */
+    private static final NetworkAddress ADDR = new NetworkAddress("127.0.0.1", 5003);
+
     /** Table command listener. */
     private PartitionListener commandListener;
 
@@ -94,15 +112,15 @@ public class PartitionCommandListenerTest {
     @BeforeEach
     public void before() {
         ClusterService clusterService = Mockito.mock(ClusterService.class, RETURNS_DEEP_STUBS);
-        NetworkAddress addr = new NetworkAddress("127.0.0.1", 5003);
-        Mockito.when(clusterService.topologyService().localMember().address()).thenReturn(addr);
+        Mockito.when(clusterService.topologyService().localMember().address()).thenReturn(ADDR);
 
         commandListener = new PartitionListener(
                 UUID.randomUUID(),
                 new VersionedRowStore(
                         new TestConcurrentHashMapPartitionStorage(0),
                         new TxManagerImpl(clusterService, new HeapLockManager())
-                )
+                ),
+                new Peer(ADDR)
         );
     }
 
@@ -250,6 +268,166 @@ public class PartitionCommandListenerTest {
         readAll(false);
     }
 
+    /**
+     * The test checks that a one-phase command commits its transaction when applied.
+     */
+    @Test
+    public void testOnePhaseCommit() {
+        Timestamp ts = Timestamp.nextVersion();
+
+        commandListener.onWrite(batchIterator(clo -> {
+            UpsertCommand cmd = new UpsertCommand(getTestRow(0, 0), ts);
+
+            cmd.setOnePhase(true);
+
+            when(clo.command()).thenReturn(cmd);
+
+            doAnswer(invocation -> {
+                // The transaction is finished before the result is reported.
+                assertEquals(TxState.COMMITED, commandListener.getStorage().txManager().state(ts));
+
+                return null;
+            }).when(clo).result(any());
+        }));
+
+        assertEquals(TxState.COMMITED, commandListener.getStorage().txManager().state(ts));
+
+        commandListener.onRead(batchIterator(clo -> {
+            when(clo.command()).thenReturn(new GetCommand(getTestKey(0), Timestamp.nextVersion()));
+
+            doAnswer(invocation -> {
+                SingleRowResponse resp = invocation.getArgument(0);
+
+                assertNotNull(resp.getValue());
+
+                return null;
+            }).when(clo).result(any(SingleRowResponse.class));
+        }));
+    }
+
+    /**
+     * The test checks that a multi-key read of at least {@link PartitionListener#ASYNC_READ_THRESHOLD} keys is offloaded to the read
+     * executor without delaying the next read of the batch, and returns the rows in the order of the keys.
+     */
+    @Test
+    public void testGetAllAboveAsyncReadThreshold() {
+        Queue<Runnable> reads = new ArrayDeque<>();
+
+        PartitionListener listener = new PartitionListener(
+                UUID.randomUUID(),
+                commandListener.getStorage(),
+                new Peer(ADDR),
+                reads::add
+        );
+
+        int keyCnt = PartitionListener.ASYNC_READ_THRESHOLD * 2;
+
+        Set<BinaryRow> rows = new HashSet<>(keyCnt);
+
+        for (int i = 0; i < keyCnt; i += 2) {
+            rows.add(getTestRow(i, i));
+        }
+
+        listener.onWrite(batchIterator(clo -> when(clo.command()).thenReturn(new UpsertAllCommand(rows, Timestamp.nextVersion()))));
+
+        // Keys in the reverse order, only the even ones exist.
+        List<BinaryRow> keyRows = new ArrayList<>(keyCnt);
+
+        for (int i = keyCnt - 1; i >= 0; i--) {
+            keyRows.add(getTestKey(i));
+        }
+
+        CommandClosure<ReadCommand> getAllClo = mock(CommandClosure.class);
+        when(getAllClo.command()).thenReturn(new GetAllCommand(keyRows, Timestamp.nextVersion()));
+
+        CommandClosure<ReadCommand> getClo = mock(CommandClosure.class);
+        when(getClo.command()).thenReturn(new GetCommand(getTestKey(0), Timestamp.nextVersion()));
+
+        listener.onRead(List.of(getAllClo, getClo).iterator());
+
+        // The single key read is served right away, the multi-key read waits for the read executor.
+        ArgumentCaptor<SingleRowResponse> getRes = ArgumentCaptor.forClass(SingleRowResponse.class);
+
+        verify(getClo).result(getRes.capture());
+
+        assertEquals(0, new Row(SCHEMA, getRes.getValue().getValue()).intValue(0));
+
+        verify(getAllClo, never()).result(any());
+
+        assertEquals(1, reads.size());
+
+        reads.poll().run();
+
+        ArgumentCaptor<MultiRowsResponse> getAllRes = ArgumentCaptor.forClass(MultiRowsResponse.class);
+
+        verify(getAllClo).result(getAllRes.capture());
+
+        List<BinaryRow> values = getAllRes.getValue().getValues();
+
+        assertEquals(keyCnt, values.size());
+
+        for (int i = 0; i < keyCnt; i++) {
+            int key = keyCnt - 1 - i;
+
+            if (key % 2 == 0) {
+                Row row = new Row(SCHEMA, values.get(i));
+
+                assertEquals(key, row.intValue(0));
+                assertEquals(key, row.intValue(1));
+            } else {
+                assertNull(values.get(i));
+            }
+        }
+    }
+
+    /**
+     * The test checks that a scan is served by read commands, and the replica opening the cursor reports its peer.
+     */
+    @Test
+    public void testScanCommands() {
+        upsert();
+
+        IgniteUuid scanId = new IgniteUuidGenerator(UUID.randomUUID(), 0).randomUuid();
+
+        commandListener.onRead(batchIterator(clo -> {
+            when(clo.command()).thenReturn(new ScanInitCommand("", scanId));
+
+            doAnswer(invocation -> {
+                // The rest of the scan is sent to the replica holding the cursor.
+                assertEquals(new Peer(ADDR), invocation.getArgument(0));
+
+                return null;
+            }).when(clo).result(any());
+        }));
+
+        for (int batch = 1; batch <= 3; batch++) {
+            int expSize = batch < 3 ? KEY_COUNT / 2 : 0;
+            int counter = batch;
+
+            commandListener.onRead(batchIterator(clo -> {
+                when(clo.command()).thenReturn(new ScanRetrieveBatchCommand(KEY_COUNT / 2, scanId, counter));
+
+                doAnswer(invocation -> {
+                    MultiRowsResponse resp = invocation.getArgument(0);
+
+                    assertEquals(expSize, resp.getValues().size());
+
+                    return null;
+                }).when(clo).result(any());
+            }));
+        }
+
+        commandListener.onRead(batchIterator(clo -> {
+            when(clo.command()).thenReturn(new ScanCloseCommand(scanId));
+
+            doAnswer(invocation -> {
+                assertNull(invocation.getArgument(0));
+
+                return null;
+            }).when(clo).result(any());
+        }));
+    }
+
     /**
      * Prepares a closure iterator for a specific batch operation.
      *
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.NativeTypes;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.row.Row;
+import org.apache.ignite.internal.schema.row.RowAssembler;
+import org.apache.ignite.internal.storage.chm.TestConcurrentHashMapPartitionStorage;
+import org.apache.ignite.internal.tx.InternalTransaction;
+import org.apache.ignite.internal.tx.Timestamp;
+import org.apache.ignite.internal.tx.TxManager;
+import org.apache.ignite.internal.tx.impl.HeapLockManager;
+import org.apache.ignite.internal.tx.impl.TxManagerImpl;
+import org.apache.ignite.network.ClusterService;
+import org.apache.ignite.network.NetworkAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests for the versioned row store.
+ */
+public class VersionedRowStoreTest {
+    /** Schema. */
+    private static final SchemaDescriptor SCHEMA = new SchemaDescriptor(
+            1,
+            new Column[]{new Column("key", NativeTypes.INT32, false)},
+            new Column[]{new Column("value", NativeTypes.INT32, false)}
+    );
+
+    /** Transaction manager. */
+    private TxManager txManager;
+
+    /** The store. */
+    private VersionedRowStore store;
+
+    /**
+     * Initializes a store before tests.
+     */
+    @BeforeEach
+    public void before() {
+        ClusterService clusterService = Mockito.mock(ClusterService.class, RETURNS_DEEP_STUBS);
+        Mockito.when(clusterService.topologyService().localMember().address()).thenReturn(new NetworkAddress("127.0.0.1", 5003));
+
+        txManager = new TxManagerImpl(clusterService, new HeapLockManager());
+
+        store = new VersionedRowStore(new TestConcurrentHashMapPartitionStorage(0), txManager);
+    }
+
+    /**
+     * Checks that a scan skips long runs of tombstones without exhausting the stack.
+     */
+    @Test
+    public void testScanSkipsTombstones() throws Exception {
+        int cnt = 100_000;
+
+        for (int i = 0; i < cnt; i++) {
+            store.upsert(row(i, i), Timestamp.nextVersion());
+        }
+
+        for (int i = 1; i < cnt; i++) {
+            store.delete(key(i), Timestamp.nextVersion());
+        }
+
+        try (VersionedRowStore.ScanCursor cursor = store.scan(key -> true, null)) {
+            assertTrue(cursor.hasNext());
+            assertEquals(0, new Row(SCHEMA, cursor.next()).intValue(1));
+            assertFalse(cursor.hasNext());
+
+            assertEquals(cnt - 1, cursor.skippedTombstones());
+            assertEquals(0, cursor.skippedAborted());
+        }
+
+        assertEquals(cnt - 1, store.scanSkippedTombstones());
+        assertEquals(0, store.scanSkippedAborted());
+    }
+
+    /**
+     * Checks that a scan skips the inserts of aborted transactions and sees the rows of its own transaction.
+     */
+    @Test
+    public void testScanSkipsAbortedInserts() throws Exception {
+        store.upsert(row(0, 0), Timestamp.nextVersion());
+
+        InternalTransaction aborted = txManager.begin();
+
+        store.upsert(row(1, 1), aborted.timestamp());
+        store.upsert(row(0, 10), aborted.timestamp());
+
+        aborted.rollback();
+
+        InternalTransaction tx = txManager.begin();
+
+        store.upsert(row(2, 2), tx.timestamp());
+
+        try (VersionedRowStore.ScanCursor cursor = store.scan(key -> true, tx.timestamp())) {
+            int sum = 0;
+            int rows = 0;
+
+            while (cursor.hasNext()) {
+                sum += new Row(SCHEMA, cursor.next()).intValue(1);
+
+                rows++;
+            }
+
+            assertEquals(2, rows);
+            assertEquals(2, sum);
+
+            assertEquals(1, cursor.skippedAborted());
+            assertEquals(0, cursor.skippedTombstones());
+        }
+
+        assertEquals(1, store.scanSkippedAborted());
+
+        tx.commit();
+    }
+
+    /**
+     * Prepares a test key row.
+     *
+     * @param key Key.
+     * @return Row.
+     */
+    private static BinaryRow key(int key) {
+        RowAssembler rowBuilder = new RowAssembler(SCHEMA, 0, 0);
+
+        rowBuilder.appendInt(key);
+
+        return rowBuilder.build();
+    }
+
+    /**
+     * Prepares a test row.
+     *
+     * @param key Key.
+     * @param val Value.
+     * @return Row.
+     */
+    private static BinaryRow row(int key, int val) {
+        RowAssembler rowBuilder = new RowAssembler(SCHEMA, 0, 0);
+
+        rowBuilder.appendInt(key);
+        rowBuilder.appendInt(val);
+
+        return rowBuilder.build();
+    }
+}
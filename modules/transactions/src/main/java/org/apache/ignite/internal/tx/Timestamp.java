@@ -21,11 +21,12 @@ import java.io.Serializable;
 import java.net.InetAddress;
 import java.net.NetworkInterface;
 import java.nio.ByteBuffer;
-import java.time.Clock;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 import org.apache.ignite.lang.IgniteException;
 import org.jetbrains.annotations.NotNull;
 
@@ -35,6 +36,9 @@ import org.jetbrains.annotations.NotNull;
  * <p>The timestamp has the following structure:
  *
  * <p>Epoch time(48 bit), Local counter (16 bit), Local node id (48 bits), Reserved (16 bits)
+ *
+ * <p>The epoch time and the local counter form a hybrid logical clock, which is advanced on every generated timestamp and on
+ * every timestamp received from a remote node (see {@link #update(Timestamp)}).
  */
 public class Timestamp implements Comparable<Timestamp>, Serializable {
     /** Serial version. */
@@ -46,11 +50,11 @@ public class Timestamp implements Comparable<Timestamp>, Serializable {
     /** A max value for a counter before rollover. */
     public static final short MAX_CNT = Short.MAX_VALUE;
 
-    /** Local time. */
-    private static long localTime;
+    /** Number of bits occupied by the logical part of a timestamp. */
+    private static final int LOGICAL_BITS = 16;
 
-    /** The counter. */
-    private static long cntr;
+    /** Clock of the local node. */
+    private static final Clock CLOCK = new Clock(Timestamp::physicalTime);
 
     /** Local node id. */
     private static long localNodeId = getLocalNodeId();
@@ -107,6 +111,25 @@ public class Timestamp implements Comparable<Timestamp>, Serializable {
         return nodeId;
     }
 
+    /**
+     * Returns the physical part of the timestamp.
+     *
+     * @return Milliseconds passed since the epoch of timestamps.
+     */
+    public long getPhysicalTime() {
+        return timestamp >>> LOGICAL_BITS;
+    }
+
+    /**
+     * Creates the least timestamp with a given physical part.
+     *
+     * @param physicalTime Milliseconds passed since the epoch of timestamps.
+     * @return The timestamp.
+     */
+    public static Timestamp ofPhysicalTime(long physicalTime) {
+        return new Timestamp(physicalTime << LOGICAL_BITS, Long.MIN_VALUE);
+    }
+
     /** {@inheritDoc} */
     @Override
     public boolean equals(Object o) {
@@ -126,45 +149,34 @@ public class Timestamp implements Comparable<Timestamp>, Serializable {
 
     /**
      * Generates new monotonically increasing timestamp.
-     * TODO https://issues.apache.org/jira/browse/IGNITE-15129
+     *
+     * <p>The clock is a lock-free hybrid logical clock: the physical part follows the wall clock and the logical part is bumped
+     * when several timestamps are generated within the same millisecond. A logical part overflow simply carries into the physical
+     * part, so the clock never waits for the wall clock to catch up.
      *
      * @return Next timestamp (monotonically increasing).
      */
-    public static synchronized Timestamp nextVersion() {
-        long timestamp = Clock.systemUTC().instant().toEpochMilli() - EPOCH;
-
-        long newTime = Math.max(localTime, timestamp);
-
-        if (newTime == localTime) {
-            cntr = (cntr + 1) & 0xFFFF;
-
-            if (cntr == 0) {
-                newTime = waitForNextMillisecond(newTime);
-            }
-        } else {
-            cntr = 0;
-        }
-
-        localTime = newTime;
-
-        // Will overflow in a late future.
-        return new Timestamp(newTime << 16 | cntr, localNodeId);
+    public static Timestamp nextVersion() {
+        return new Timestamp(CLOCK.tick(), localNodeId);
     }
 
     /**
-     * Waits until a time will pass after a timestamp.
+     * Advances the local clock so that all timestamps generated after this call are greater than the given one. Must be called
+     * on receipt of every message carrying a timestamp generated by another node.
      *
-     * @param lastTimestamp The timestamp.
-     * @return New timestamp.
+     * @param remote Timestamp received from a remote node.
      */
-    private static long waitForNextMillisecond(long lastTimestamp) {
-        long timestamp;
-
-        do {
-            timestamp = Clock.systemUTC().instant().toEpochMilli() - EPOCH;
-        } while (timestamp <= lastTimestamp); // Wall clock can go backward.
+    public static void update(Timestamp remote) {
+        CLOCK.update(remote.timestamp);
+    }
 
-        return timestamp;
+    /**
+     * Returns the physical time relative to the {@link #EPOCH}.
+     *
+     * @return Milliseconds passed since the {@link #EPOCH}.
+     */
+    private static long physicalTime() {
+        return System.currentTimeMillis() - EPOCH;
     }
 
     /** {@inheritDoc} */
@@ -173,6 +185,55 @@ public class Timestamp implements Comparable<Timestamp>, Serializable {
         return new UUID(timestamp, nodeId).toString();
     }
 
+    /**
+     * Hybrid logical clock, which generates the physical and logical parts of timestamps, packed into a single value.
+     */
+    static class Clock {
+        /** Last generated or observed physical and logical parts of a timestamp, packed into a single value. */
+        private final AtomicLong last = new AtomicLong();
+
+        /** Source of the physical time. */
+        private final LongSupplier physicalTime;
+
+        /**
+         * The constructor.
+         *
+         * @param physicalTime Source of the physical time in milliseconds.
+         */
+        Clock(LongSupplier physicalTime) {
+            this.physicalTime = physicalTime;
+        }
+
+        /**
+         * Atomically advances the packed physical and logical parts of the clock.
+         *
+         * @return The new packed value.
+         */
+        long tick() {
+            long now = physicalTime.getAsLong() << LOGICAL_BITS;
+
+            while (true) {
+                long last = this.last.get();
+
+                // Will overflow in a late future.
+                long next = now > last ? now : last + 1;
+
+                if (this.last.compareAndSet(last, next)) {
+                    return next;
+                }
+            }
+        }
+
+        /**
+         * Advances the clock so that all the values generated after this call are greater than the given one.
+         *
+         * @param remote Packed physical and logical parts of a remote timestamp.
+         */
+        void update(long remote) {
+            last.accumulateAndGet(remote, Math::max);
+        }
+    }
+
     /**
      * Generates a local node id.
      *
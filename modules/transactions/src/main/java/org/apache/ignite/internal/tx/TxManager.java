@@ -100,6 +100,19 @@ public interface TxManager extends IgniteComponent {
      */
     public CompletableFuture<Void> readLock(IgniteUuid lockId, ByteBuffer keyData, Timestamp ts);
 
+    /**
+     * Acquires a range lock on all the keys under a lock id, including the absent ones. The transaction then reads any key under the
+     * lock id without a key lock, while writes of other transactions under the lock id wait until the transaction is finished. Range
+     * locks of different transactions are compatible with each other. A transaction holding no locks waits for transactions, which
+     * have written under the lock id.
+     *
+     * @param lockId Lock id.
+     * @param ts     The timestamp.
+     * @return The future.
+     * @throws LockException When a lock can't be taken due to possible deadlock.
+     */
+    public CompletableFuture<Void> rangeLock(IgniteUuid lockId, Timestamp ts);
+
     /**
      * Returns a transaction state or starts a new in the PENDING state.
      *
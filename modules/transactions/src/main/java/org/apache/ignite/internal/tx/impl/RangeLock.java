@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.impl;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.tostring.S;
+import org.apache.ignite.internal.tx.LockException;
+import org.apache.ignite.internal.tx.Timestamp;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A lock on all the keys under a lock id, including the absent ones.
+ *
+ * <p>The lock has two modes: the {@link Mode#SHARED shared} mode is taken by transactions reading the range, and the
+ * {@link Mode#INTENTION intention} mode is taken by transactions writing to the range before they lock the written keys. Holders of
+ * the same mode are compatible, and so are both modes of the same transaction.
+ *
+ * <p>Like in the {@link HeapLockManager}, a younger transaction waits for conflicting older ones and an older transaction fails
+ * on a conflict with younger ones, so that waits never form a cycle. The only exception is a transaction holding no other locks:
+ * nobody can wait for it, so it waits for the shared mode even if younger transactions hold the intention mode. Otherwise a scan
+ * would fail whenever any younger transaction has written to the range.
+ */
+class RangeLock {
+    /** Lock mode. */
+    enum Mode {
+        /** Taken by transactions reading the range. */
+        SHARED,
+
+        /** Taken by transactions writing to the range. */
+        INTENTION;
+
+        /**
+         * Returns the conflicting mode.
+         *
+         * @return The mode.
+         */
+        Mode conflicting() {
+            return this == SHARED ? INTENTION : SHARED;
+        }
+    }
+
+    /** Holders and waiters, ordered from the oldest to the youngest. */
+    private final TreeMap<Timestamp, Owner> owners = new TreeMap<>();
+
+    /** Marked for removal flag. */
+    private boolean markedForRemove;
+
+    /**
+     * Attempts to acquire the lock.
+     *
+     * @param ts The timestamp.
+     * @param mode Lock mode.
+     * @param idle {@code True} if the transaction holds no other locks, so it may wait for younger transactions.
+     * @return The future or {@code null} if the lock is marked for removal.
+     */
+    synchronized @Nullable CompletableFuture<Void> acquire(Timestamp ts, Mode mode, boolean idle) {
+        if (markedForRemove) {
+            return null;
+        }
+
+        Owner owner = owners.get(ts);
+
+        if (owner != null) {
+            if (owner.holds(mode)) {
+                return completedFuture(null);
+            }
+
+            if (owner.waiting != null) {
+                return owner.waiting == mode ? owner.fut : failedFuture(new LockException("Range lock is already awaited by " + ts));
+            }
+        }
+
+        boolean wait = false;
+
+        for (Map.Entry<Timestamp, Owner> e : owners.entrySet()) {
+            if (e.getKey().equals(ts) || !e.getValue().conflicts(mode)) {
+                continue;
+            }
+
+            if (e.getKey().compareTo(ts) > 0 && !(idle && mode == Mode.SHARED && owner == null)) {
+                return failedFuture(new LockException("Failed to acquire a range lock due to a conflict with: " + e.getValue()));
+            }
+
+            wait = true;
+        }
+
+        if (owner == null) {
+            owners.put(ts, owner = new Owner(ts));
+        }
+
+        if (!wait) {
+            owner.grant(mode);
+
+            return completedFuture(null);
+        }
+
+        owner.waiting = mode;
+        owner.fut = new CompletableFuture<>();
+
+        return owner.fut;
+    }
+
+    /**
+     * Releases the lock held or awaited by a transaction and grants the lock to the waiters, which no longer conflict.
+     *
+     * @param ts The timestamp.
+     * @return {@code True} if the lock is not held and not awaited anymore.
+     */
+    boolean release(Timestamp ts) {
+        List<CompletableFuture<Void>> granted = new ArrayList<>();
+
+        CompletableFuture<Void> cancelled = null;
+
+        boolean empty;
+
+        synchronized (this) {
+            Owner owner = owners.remove(ts);
+
+            if (owner != null && owner.waiting != null) {
+                cancelled = owner.fut;
+            }
+
+            // Grant from the oldest waiter, so that an older waiter is not overtaken.
+            for (Owner waiter : owners.values()) {
+                if (waiter.waiting != null && !heldConflicting(waiter)) {
+                    waiter.grant(waiter.waiting);
+
+                    granted.add(waiter.fut);
+
+                    waiter.waiting = null;
+                    waiter.fut = null;
+                }
+            }
+
+            empty = markedForRemove = owners.isEmpty();
+        }
+
+        // Notify outside the monitor.
+        if (cancelled != null) {
+            cancelled.completeExceptionally(new LockException("Range lock is released by " + ts));
+        }
+
+        for (CompletableFuture<Void> fut : granted) {
+            fut.complete(null);
+        }
+
+        return empty;
+    }
+
+    /**
+     * Checks whether the mode awaited by a waiter is held by other transactions in the conflicting mode.
+     *
+     * @param waiter The waiter.
+     * @return {@code True} if the awaited mode conflicts with the held ones.
+     */
+    private boolean heldConflicting(Owner waiter) {
+        for (Owner owner : owners.values()) {
+            if (owner != waiter && owner.holds(waiter.waiting.conflicting())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * A transaction holding or waiting for the lock.
+     */
+    private static class Owner {
+        /** The timestamp. */
+        private final Timestamp ts;
+
+        /** Shared mode is held. */
+        private boolean shared;
+
+        /** Intention mode is held. */
+        private boolean intention;
+
+        /** Awaited mode, {@code null} if not waiting. */
+        @Nullable
+        private Mode waiting;
+
+        /** Future completed when the awaited mode is granted. */
+        @Nullable
+        private CompletableFuture<Void> fut;
+
+        /**
+         * The constructor.
+         *
+         * @param ts The timestamp.
+         */
+        Owner(Timestamp ts) {
+            this.ts = ts;
+        }
+
+        /**
+         * Checks whether a mode is held.
+         *
+         * @param mode Lock mode.
+         * @return {@code True} if held.
+         */
+        boolean holds(Mode mode) {
+            return mode == Mode.SHARED ? shared : intention;
+        }
+
+        /**
+         * Marks a mode as held.
+         *
+         * @param mode Lock mode.
+         */
+        void grant(Mode mode) {
+            if (mode == Mode.SHARED) {
+                shared = true;
+            } else {
+                intention = true;
+            }
+        }
+
+        /**
+         * Checks whether the transaction holds or awaits a mode conflicting with a requested one.
+         *
+         * @param mode Requested mode.
+         * @return {@code True} if conflicts.
+         */
+        boolean conflicts(Mode mode) {
+            return holds(mode.conflicting()) || waiting == mode.conflicting();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            return S.toString(Owner.class, this);
+        }
+    }
+}
@@ -0,0 +1,654 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.impl;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.tostring.IgniteToStringExclude;
+import org.apache.ignite.internal.tostring.S;
+import org.apache.ignite.internal.tx.LockException;
+import org.apache.ignite.internal.tx.LockManager;
+import org.apache.ignite.internal.tx.Timestamp;
+import org.apache.ignite.internal.tx.Waiter;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link LockManager} implementation which partitions lock queues between a fixed number of stripes.
+ *
+ * <p>The locking protocol is the same as in {@link HeapLockManager}, the difference is in the data structures:
+ * <ul>
+ *     <li>Keys are hashed to stripes, each stripe owns a plain hash map of lock queues guarded by the stripe monitor. A lock request
+ *     takes exactly one monitor and there is no separate synchronization of a lock queue.</li>
+ *     <li>A lock queue is an array of waiters sorted by timestamp, sized for the common case of at most two waiters. Empty queues
+ *     are returned to a small per-stripe pool and reused.</li>
+ *     <li>A waiter future is only created if the waiter has to wait for the lock. Immediately granted locks return an already completed
+ *     future.</li>
+ * </ul>
+ *
+ * @see HeapLockManager
+ */
+public class StripedLockManager implements LockManager {
+    /** Initial capacity of a lock queue. */
+    private static final int INITIAL_QUEUE_CAPACITY = 2;
+
+    /** Maximum number of empty lock queues kept for reuse by a stripe. */
+    private static final int QUEUE_POOL_SIZE = 16;
+
+    /** Stripes. */
+    private final Stripe[] stripes;
+
+    /** Mask to calculate a stripe index from a key hash. */
+    private final int mask;
+
+    /**
+     * Creates a lock manager with a number of stripes depending on the number of available processors.
+     */
+    public StripedLockManager() {
+        this(Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param stripes Number of stripes, rounded up to the next power of two.
+     */
+    public StripedLockManager(int stripes) {
+        assert stripes > 0 : stripes;
+
+        int size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+
+        this.stripes = new Stripe[size];
+        this.mask = size - 1;
+
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new Stripe();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> tryAcquire(Object key, Timestamp timestamp) {
+        Stripe stripe = stripe(key);
+
+        WaiterImpl waiter;
+
+        synchronized (stripe) {
+            LockQueue queue = stripe.queues.get(key);
+
+            // Uncontended fast path.
+            if (queue == null) {
+                stripe.newQueue(key).add(0, WaiterImpl.granted(timestamp, false));
+
+                return completedFuture(null);
+            }
+
+            int idx = queue.indexOf(timestamp);
+
+            WaiterImpl prev = null;
+
+            if (idx >= 0) {
+                prev = queue.get(idx);
+
+                if (!prev.locked) {
+                    // The request is already waiting. A waiting read request stays a read request, so that it's granted together
+                    // with the other readers, and the write request upgrades it once it's granted.
+                    return prev.forRead ? prev.future().thenCompose(ignored -> tryAcquire(key, timestamp)) : prev.future();
+                }
+
+                if (!prev.forRead) { // Allow reenter.
+                    return completedFuture(null);
+                }
+
+                waiter = new WaiterImpl(timestamp, false);
+
+                waiter.upgraded = true;
+
+                queue.set(idx, waiter); // Upgrade.
+            } else {
+                idx = -idx - 1;
+
+                waiter = new WaiterImpl(timestamp, false);
+
+                queue.add(idx, waiter);
+            }
+
+            // Check lock compatibility.
+            WaiterImpl next = idx + 1 < queue.size ? queue.get(idx + 1) : null;
+
+            // If we have a younger waiter in a locked state, when refuse to wait for lock.
+            if (next != null && next.locked) {
+                if (prev == null) {
+                    queue.remove(idx);
+                } else {
+                    queue.set(idx, prev); // Restore old lock.
+                }
+
+                return failedFuture(new LockException(next));
+            }
+
+            // Lock if oldest.
+            if (idx == 0) {
+                waiter.locked = true;
+
+                return completedFuture(null);
+            }
+
+            return waiter.future();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void tryRelease(Object key, Timestamp timestamp) throws LockException {
+        Stripe stripe = stripe(key);
+
+        List<WaiterImpl> locked = null;
+        List<WaiterImpl> toFail = null;
+
+        WaiterImpl unlocked;
+
+        synchronized (stripe) {
+            LockQueue queue = stripe.queues.get(key);
+
+            WaiterImpl first = queue == null ? null : queue.get(0);
+
+            if (first == null || !first.timestamp.equals(timestamp) || !first.locked || first.forRead) {
+                throw new LockException("Not exclusively locked by " + timestamp);
+            }
+
+            unlocked = queue.remove(0);
+
+            if (queue.size == 0) {
+                stripe.releaseQueue(key, queue);
+
+                return;
+            }
+
+            // Lock next waiter(s).
+            WaiterImpl waiter = queue.get(0);
+
+            if (!waiter.forRead && !waiter.upgraded) {
+                waiter.locked = true;
+
+                locked = Collections.singletonList(waiter);
+            } else {
+                // Grant lock to all adjacent readers.
+                for (int i = 0; i < queue.size; i++) {
+                    WaiterImpl tmp = queue.get(i);
+
+                    if (tmp.upgraded) {
+                        // Fail upgraded waiters because of write.
+                        assert !tmp.locked;
+
+                        // Downgrade to acquired read lock.
+                        tmp.upgraded = false;
+                        tmp.forRead = true;
+                        tmp.locked = true;
+
+                        toFail = add(toFail, tmp);
+                    } else if (!tmp.forRead) {
+                        break;
+                    } else {
+                        tmp.locked = true;
+
+                        locked = add(locked, tmp);
+                    }
+                }
+            }
+        }
+
+        // Notify outside the monitor.
+        if (locked != null) {
+            for (int i = 0; i < locked.size(); i++) {
+                locked.get(i).notifyLocked();
+            }
+        }
+
+        if (toFail != null) {
+            for (int i = 0; i < toFail.size(); i++) {
+                toFail.get(i).notifyFailed(new LockException(unlocked));
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> tryAcquireShared(Object key, Timestamp timestamp) {
+        Stripe stripe = stripe(key);
+
+        synchronized (stripe) {
+            LockQueue queue = stripe.queues.get(key);
+
+            // Uncontended fast path.
+            if (queue == null) {
+                stripe.newQueue(key).add(0, WaiterImpl.granted(timestamp, true));
+
+                return completedFuture(null);
+            }
+
+            int idx = queue.indexOf(timestamp);
+
+            if (idx >= 0) {
+                WaiterImpl prev = queue.get(idx);
+
+                // Allow reenter. A write lock implies a read lock.
+                return prev.locked ? completedFuture(null) : prev.future();
+            }
+
+            idx = -idx - 1;
+
+            WaiterImpl waiter = new WaiterImpl(timestamp, true);
+
+            queue.add(idx, waiter);
+
+            // Check lock compatibility.
+            WaiterImpl next = idx + 1 < queue.size ? queue.get(idx + 1) : null;
+
+            if (next != null && next.locked && !next.forRead) {
+                queue.remove(idx);
+
+                return failedFuture(new LockException(next));
+            }
+
+            WaiterImpl prev = idx > 0 ? queue.get(idx - 1) : null;
+
+            // Grant read lock if previous entry is read-locked (by induction).
+            if (prev == null || (prev.forRead && prev.locked)) {
+                waiter.locked = true;
+
+                return completedFuture(null);
+            }
+
+            return waiter.future();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void tryReleaseShared(Object key, Timestamp timestamp) throws LockException {
+        Stripe stripe = stripe(key);
+
+        WaiterImpl locked = null;
+
+        synchronized (stripe) {
+            LockQueue queue = stripe.queues.get(key);
+
+            int idx = queue == null ? -1 : queue.indexOf(timestamp);
+
+            WaiterImpl waiter = idx < 0 ? null : queue.get(idx);
+
+            if (waiter == null || !waiter.locked || !waiter.forRead) {
+                throw new LockException("Not shared locked by " + timestamp);
+            }
+
+            queue.remove(idx);
+
+            if (queue.size == 0) {
+                stripe.releaseQueue(key, queue);
+
+                return;
+            }
+
+            // Lock next exclusive waiter.
+            if (idx < queue.size) {
+                WaiterImpl next = queue.get(idx);
+
+                if (!next.forRead && idx == 0) {
+                    next.locked = true;
+
+                    locked = next;
+                }
+            }
+        }
+
+        if (locked != null) {
+            locked.notifyLocked();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Collection<Timestamp> queue(Object key) {
+        Stripe stripe = stripe(key);
+
+        synchronized (stripe) {
+            LockQueue queue = stripe.queues.get(key);
+
+            if (queue == null) {
+                return Collections.emptyList();
+            }
+
+            List<Timestamp> res = new ArrayList<>(queue.size);
+
+            for (int i = 0; i < queue.size; i++) {
+                res.add(queue.get(i).timestamp);
+            }
+
+            return res;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Waiter waiter(Object key, Timestamp timestamp) {
+        Stripe stripe = stripe(key);
+
+        synchronized (stripe) {
+            LockQueue queue = stripe.queues.get(key);
+
+            int idx = queue == null ? -1 : queue.indexOf(timestamp);
+
+            return idx < 0 ? null : queue.get(idx);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isEmpty() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                if (!stripe.queues.isEmpty()) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns a stripe for the key.
+     *
+     * @param key The key.
+     * @return The stripe.
+     */
+    private Stripe stripe(Object key) {
+        int h = key.hashCode();
+
+        return stripes[(h ^ (h >>> 16)) & mask];
+    }
+
+    /**
+     * Adds a waiter to a lazily created list.
+     *
+     * @param list The list or {@code null}.
+     * @param waiter The waiter.
+     * @return The list.
+     */
+    private static List<WaiterImpl> add(@Nullable List<WaiterImpl> list, WaiterImpl waiter) {
+        if (list == null) {
+            list = new ArrayList<>();
+        }
+
+        list.add(waiter);
+
+        return list;
+    }
+
+    /**
+     * A stripe of the lock table. All fields are guarded by the stripe monitor.
+     */
+    private static class Stripe {
+        /** Lock queues. */
+        private final HashMap<Object, LockQueue> queues = new HashMap<>();
+
+        /** Empty lock queues available for reuse. */
+        private final LockQueue[] pool = new LockQueue[QUEUE_POOL_SIZE];
+
+        /** Number of queues in the pool. */
+        private int poolSize;
+
+        /**
+         * Creates or reuses an empty lock queue and maps it to the key.
+         *
+         * @param key The key.
+         * @return The queue.
+         */
+        LockQueue newQueue(Object key) {
+            LockQueue queue = poolSize > 0 ? pool[--poolSize] : new LockQueue();
+
+            pool[poolSize] = null;
+
+            queues.put(key, queue);
+
+            return queue;
+        }
+
+        /**
+         * Removes an empty lock queue and returns it to the pool.
+         *
+         * @param key The key.
+         * @param queue The queue.
+         */
+        void releaseQueue(Object key, LockQueue queue) {
+            assert queue.size == 0;
+
+            queues.remove(key);
+
+            if (poolSize < pool.length) {
+                pool[poolSize++] = queue;
+            }
+        }
+    }
+
+    /**
+     * A lock queue: waiters ordered from oldest to youngest, stored in an array.
+     */
+    private static class LockQueue {
+        /** Waiters. */
+        private WaiterImpl[] waiters = new WaiterImpl[INITIAL_QUEUE_CAPACITY];
+
+        /** Number of waiters. */
+        private int size;
+
+        /**
+         * Returns a waiter at the position or {@code null} if the position is out of bounds.
+         *
+         * @param idx The position.
+         * @return The waiter.
+         */
+        @Nullable WaiterImpl get(int idx) {
+            return idx < size ? waiters[idx] : null;
+        }
+
+        /**
+         * Replaces a waiter at the position.
+         *
+         * @param idx The position.
+         * @param waiter The waiter.
+         */
+        void set(int idx, WaiterImpl waiter) {
+            assert idx < size;
+
+            waiters[idx] = waiter;
+        }
+
+        /**
+         * Inserts a waiter at the position.
+         *
+         * @param idx The position.
+         * @param waiter The waiter.
+         */
+        void add(int idx, WaiterImpl waiter) {
+            if (size == waiters.length) {
+                waiters = Arrays.copyOf(waiters, size << 1);
+            }
+
+            System.arraycopy(waiters, idx, waiters, idx + 1, size - idx);
+
+            waiters[idx] = waiter;
+
+            size++;
+        }
+
+        /**
+         * Removes a waiter at the position.
+         *
+         * @param idx The position.
+         * @return Removed waiter.
+         */
+        WaiterImpl remove(int idx) {
+            WaiterImpl waiter = waiters[idx];
+
+            System.arraycopy(waiters, idx + 1, waiters, idx, size - idx - 1);
+
+            waiters[--size] = null;
+
+            return waiter;
+        }
+
+        /**
+         * Searches for a waiter with the timestamp.
+         *
+         * @param timestamp The timestamp.
+         * @return Index of the waiter if it is present, otherwise {@code -(insertion point) - 1}.
+         */
+        int indexOf(Timestamp timestamp) {
+            int low = 0;
+            int high = size - 1;
+
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+
+                int cmp = waiters[mid].timestamp.compareTo(timestamp);
+
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+
+            return -(low + 1);
+        }
+    }
+
+    /**
+     * A waiter implementation.
+     */
+    private static class WaiterImpl implements Waiter {
+        /** Waiter timestamp. */
+        private final Timestamp timestamp;
+
+        /** Locked future, created only if the waiter has to wait for the lock. */
+        @IgniteToStringExclude
+        private CompletableFuture<Void> fut;
+
+        /** Upgraded lock. */
+        private boolean upgraded;
+
+        /** {@code True} if a read request. */
+        private boolean forRead;
+
+        /** The state. */
+        private boolean locked;
+
+        /**
+         * The constructor.
+         *
+         * @param timestamp The timestamp.
+         * @param forRead {@code True} to request a read lock.
+         */
+        WaiterImpl(Timestamp timestamp, boolean forRead) {
+            this.timestamp = timestamp;
+            this.forRead = forRead;
+        }
+
+        /**
+         * Creates a waiter that holds the lock.
+         *
+         * @param timestamp The timestamp.
+         * @param forRead {@code True} for a read lock.
+         * @return The waiter.
+         */
+        static WaiterImpl granted(Timestamp timestamp, boolean forRead) {
+            WaiterImpl waiter = new WaiterImpl(timestamp, forRead);
+
+            waiter.locked = true;
+
+            return waiter;
+        }
+
+        /**
+         * Returns a future which is completed when the lock is granted. Must be called under the stripe monitor.
+         *
+         * @return The future.
+         */
+        CompletableFuture<Void> future() {
+            if (fut == null) {
+                fut = new CompletableFuture<>();
+            }
+
+            return fut;
+        }
+
+        /** Notifies a future listeners. */
+        private void notifyLocked() {
+            assert locked;
+
+            if (fut != null) {
+                fut.complete(null);
+            }
+        }
+
+        /**
+         * Fails a future listeners.
+         *
+         * @param e The error.
+         */
+        private void notifyFailed(LockException e) {
+            if (fut != null) {
+                fut.completeExceptionally(e);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean locked() {
+            return locked;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Timestamp timestamp() {
+            return timestamp;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isForRead() {
+            return forRead;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            return S.toString(WaiterImpl.class, this, "isDone", fut == null ? locked : fut.isDone());
+        }
+    }
+}
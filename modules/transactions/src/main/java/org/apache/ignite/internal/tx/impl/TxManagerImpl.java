@@ -25,10 +25,17 @@ import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
+import org.apache.ignite.internal.thread.NamedThreadFactory;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.tx.LockException;
 import org.apache.ignite.internal.tx.LockManager;
@@ -40,6 +47,11 @@ import org.apache.ignite.internal.tx.message.TxFinishResponse;
 import org.apache.ignite.internal.tx.message.TxFinishResponseBuilder;
 import org.apache.ignite.internal.tx.message.TxMessageGroup;
 import org.apache.ignite.internal.tx.message.TxMessagesFactory;
+import org.apache.ignite.internal.tx.storage.state.TxStateStorage;
+import org.apache.ignite.internal.tx.storage.state.VolatileTxStateStorage;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.lang.IgniteException;
+import org.apache.ignite.lang.IgniteSystemProperties;
 import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.network.ClusterService;
 import org.apache.ignite.network.NetworkAddress;
@@ -61,6 +73,78 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler {
     /** Tx finish timeout. */
     private static final int TIMEOUT = 5_000;
 
+    /**
+     * Name of the system property or environment variable selecting the lock manager created by {@link #TxManagerImpl(ClusterService)}:
+     * {@code HEAP} for {@link HeapLockManager} or {@code STRIPED} for {@link StripedLockManager}.
+     *
+     * <p>Default: {@code HEAP}.
+     */
+    public static final String IGNITE_TX_LOCK_MANAGER = "IGNITE_TX_LOCK_MANAGER";
+
+    /** Default retention of a finished transaction state in memory, in milliseconds. */
+    private static final long DFLT_TX_STATE_RETENTION = 60_000;
+
+    /** Default maximum number of finished transaction states kept in memory. */
+    private static final int DFLT_TX_STATE_CACHE_SIZE = 100_000;
+
+    /** Default retention of a committed transaction state in the durable storage, in milliseconds. */
+    private static final long DFLT_TX_STATE_DURABLE_RETENTION = 3_600_000;
+
+    /**
+     * Name of the system property or environment variable holding the time in milliseconds a finished transaction state is kept in
+     * memory after the transaction is finished. Commands of a transaction arriving after its committed state is evicted are rejected.
+     *
+     * <p>Default: {@code 60000}.
+     */
+    public static final String IGNITE_TX_STATE_RETENTION = "IGNITE_TX_STATE_RETENTION";
+
+    /**
+     * Name of the system property or environment variable holding the maximum number of finished transaction states kept in memory.
+     * The oldest states are evicted before their retention time expires if the limit is exceeded.
+     *
+     * <p>Default: {@code 100000}.
+     */
+    public static final String IGNITE_TX_STATE_CACHE_SIZE = "IGNITE_TX_STATE_CACHE_SIZE";
+
+    /**
+     * Name of the system property or environment variable holding the time in milliseconds, counted from the transaction timestamp,
+     * a committed transaction state is kept in the durable storage. A transaction older than that, which state is not stored, is
+     * considered committed, so a transaction running longer fails to enlist a partition it has not enlisted yet. Aborted states are
+     * kept, since the write intents referring to them are resolved lazily.
+     *
+     * <p>Default: {@code 3600000}.
+     */
+    public static final String IGNITE_TX_STATE_DURABLE_RETENTION = "IGNITE_TX_STATE_DURABLE_RETENTION";
+
+    /** Retention of a finished transaction state in memory. */
+    private static final long TX_STATE_RETENTION = IgniteSystemProperties.getLong(IGNITE_TX_STATE_RETENTION, DFLT_TX_STATE_RETENTION);
+
+    /** Maximum number of finished transaction states kept in memory. */
+    private static final int TX_STATE_CACHE_SIZE = IgniteSystemProperties.getInteger(IGNITE_TX_STATE_CACHE_SIZE, DFLT_TX_STATE_CACHE_SIZE);
+
+    /** Retention of a committed transaction state in the durable storage. */
+    private static final long TX_STATE_DURABLE_RETENTION = IgniteSystemProperties.getLong(IGNITE_TX_STATE_DURABLE_RETENTION,
+            DFLT_TX_STATE_DURABLE_RETENTION);
+
+    /** Interval between runs of the finished states cleanup, in milliseconds. */
+    private static final long CLEANUP_INTERVAL = 1_000;
+
+    /** Default number of key read locks of a transaction under a lock id, which triggers the escalation to a range lock. */
+    private static final int DFLT_TX_LOCK_ESCALATION_THRESHOLD = 10_000;
+
+    /**
+     * Name of the system property or environment variable holding the number of key read locks of a transaction under a lock id, after
+     * which the transaction attempts to take a {@link #rangeLock range lock} instead of further key locks. {@code 0} disables the
+     * escalation.
+     *
+     * <p>Default: {@code 10000}.
+     */
+    public static final String IGNITE_TX_LOCK_ESCALATION_THRESHOLD = "IGNITE_TX_LOCK_ESCALATION_THRESHOLD";
+
+    /** Number of key read locks of a transaction under a lock id, which triggers the escalation to a range lock. */
+    private static final int LOCK_ESCALATION_THRESHOLD = IgniteSystemProperties.getInteger(IGNITE_TX_LOCK_ESCALATION_THRESHOLD,
+            DFLT_TX_LOCK_ESCALATION_THRESHOLD);
+
     /** Cluster service. */
     protected final ClusterService clusterService;
 
@@ -68,12 +152,46 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler {
     private final LockManager lockManager;
 
     /**
-     * The storage for tx states.
+     * In-memory tx state table: states of pending transactions and of recently finished transactions.
      *
-     * <p>TODO IGNITE-15931 use Storage for states, implement max size, implement replication.
+     * <p>Finished states are evicted in the background (see {@link #evictFinished(long)}) and are looked up in the
+     * {@link #txStateStorage} afterwards. Aborted states are written there when the transaction is finished, since nothing rewrites the
+     * write intents referring to them. Committed states are written there on eviction, so that a late command of a committed
+     * transaction is not mistaken for a new transaction, and are pruned from there once their durable retention expires (see
+     * {@link #pruneCommitted(Timestamp)}).
+     *
+     * <p>TODO IGNITE-15931 implement replication.
      */
     private final ConcurrentHashMap<Timestamp, TxState> states = new ConcurrentHashMap<>();
 
+    /** Durable storage of finished tx states. */
+    private final TxStateStorage txStateStorage;
+
+    /** Finished transactions waiting for eviction of their states from memory, in order of their finish. */
+    private final Queue<FinishedTx> finishedTxs = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Upper bound of the timestamps of the transactions, which states are evicted from memory, {@code null} if none are evicted. A
+     * state missing in memory is only looked up in the {@link #txStateStorage} if its timestamp is not greater, so that the storage
+     * is not read for each new transaction.
+     */
+    @Nullable
+    private volatile Timestamp evictedTs;
+
+    /**
+     * Exclusive upper bound of the timestamps of the transactions, which committed states are pruned from the {@link #txStateStorage},
+     * {@code null} if not pruned yet. A transaction below the bound without a stored state is considered committed.
+     */
+    @Nullable
+    private volatile Timestamp prunedTs;
+
+    /** Number of entries in the {@link #finishedTxs}, maintained separately since the queue size is not a constant time operation. */
+    private final AtomicLong finishedTxsCnt = new AtomicLong();
+
+    /** Executor of the finished states cleanup. */
+    @Nullable
+    private volatile ScheduledExecutorService cleanupExecutor;
+
     /**
      * The storage for locks acquired by transactions. Each key is mapped to lock type where true is for read.
      *
@@ -81,6 +199,21 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler {
      */
     private final ConcurrentHashMap<Timestamp, Map<LockKey, Boolean>> locks = new ConcurrentHashMap<>();
 
+    /** Range lock states of transactions by lock ids. */
+    private final ConcurrentHashMap<Timestamp, Map<IgniteUuid, LockSpace>> lockSpaces = new ConcurrentHashMap<>();
+
+    /** Range locks by lock ids. */
+    private final ConcurrentHashMap<IgniteUuid, RangeLock> rangeLocks = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a transaction manager with a lock manager selected by the {@link #IGNITE_TX_LOCK_MANAGER} property.
+     *
+     * @param clusterService Cluster service.
+     */
+    public TxManagerImpl(ClusterService clusterService) {
+        this(clusterService, createLockManager());
+    }
+
     /**
      * The constructor.
      *
@@ -88,8 +221,40 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler {
      * @param lockManager Lock manager.
      */
     public TxManagerImpl(ClusterService clusterService, LockManager lockManager) {
+        this(clusterService, lockManager, new VolatileTxStateStorage());
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param clusterService Cluster service.
+     * @param lockManager Lock manager.
+     * @param txStateStorage Durable storage of tx states.
+     */
+    public TxManagerImpl(ClusterService clusterService, LockManager lockManager, TxStateStorage txStateStorage) {
         this.clusterService = clusterService;
         this.lockManager = lockManager;
+        this.txStateStorage = txStateStorage;
+    }
+
+    /**
+     * Creates a lock manager selected by the {@link #IGNITE_TX_LOCK_MANAGER} property.
+     *
+     * @return The lock manager.
+     */
+    protected static LockManager createLockManager() {
+        String type = IgniteSystemProperties.getString(IGNITE_TX_LOCK_MANAGER, "HEAP");
+
+        switch (type) {
+            case "HEAP":
+                return new HeapLockManager();
+
+            case "STRIPED":
+                return new StripedLockManager();
+
+            default:
+                throw new IgniteException(format("Unknown lock manager type [{}={}]", IGNITE_TX_LOCK_MANAGER, type));
+        }
     }
 
     /** {@inheritDoc} */
@@ -105,13 +270,33 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler {
     /** {@inheritDoc} */
     @Override
     public TxState state(Timestamp ts) {
-        return states.get(ts);
+        TxState state = states.get(ts);
+
+        if (state != null) {
+            return state;
+        }
+
+        Timestamp evictedTs = this.evictedTs;
+
+        if (evictedTs != null && ts.compareTo(evictedTs) <= 0) {
+            state = txStateStorage.get(ts);
+
+            if (state != null) {
+                return state;
+            }
+        }
+
+        Timestamp prunedTs = this.prunedTs;
+
+        return prunedTs != null && ts.compareTo(prunedTs) < 0 ? TxState.COMMITED : null;
     }
 
     /** {@inheritDoc} */
     @Override
     public void forget(Timestamp ts) {
         states.remove(ts);
+
+        txStateStorage.remove(ts);
     }
 
     /** {@inheritDoc} */
@@ -144,6 +329,18 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler {
      * @param ts The timestamp.
      */
     private void unlockAll(Timestamp ts) {
+        Map<IgniteUuid, LockSpace> spaces = lockSpaces.remove(ts);
+
+        if (spaces != null) {
+            for (IgniteUuid lockId : spaces.keySet()) {
+                RangeLock lock = rangeLocks.get(lockId);
+
+                if (lock != null && lock.release(ts)) {
+                    rangeLocks.remove(lockId, lock);
+                }
+            }
+        }
+
         Map<LockKey, Boolean> locks = this.locks.remove(ts);
 
         if (locks == null) {
@@ -166,7 +363,137 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler {
     /** {@inheritDoc} */
     @Override
     public boolean changeState(Timestamp ts, TxState before, TxState after) {
-        return states.replace(ts, before, after);
+        if (!states.replace(ts, before, after)) {
+            return false;
+        }
+
+        if (after == TxState.ABORTED) {
+            txStateStorage.put(ts, after);
+        }
+
+        if (after != TxState.PENDING) {
+            finishedTxs.add(new FinishedTx(ts, IgniteUtils.monotonicMs()));
+
+            finishedTxsCnt.incrementAndGet();
+        }
+
+        return true;
+    }
+
+    /**
+     * Evicts states of finished transactions from memory once their retention time expires, or earlier if the number of cached
+     * finished states exceeds the limit. Runs periodically in the background after the manager is started.
+     *
+     * @param now Current {@link IgniteUtils#monotonicMs() monotonic} time.
+     * @return Number of evicted states.
+     */
+    public synchronized int evictFinished(long now) {
+        int evicted = 0;
+
+        for (FinishedTx tx; (tx = finishedTxs.peek()) != null; ) {
+            if (now - tx.finishTime < TX_STATE_RETENTION && finishedTxsCnt.get() <= TX_STATE_CACHE_SIZE) {
+                break;
+            }
+
+            finishedTxs.poll();
+
+            finishedTxsCnt.decrementAndGet();
+
+            TxState state = states.get(tx.ts);
+
+            if (state == null || state == TxState.PENDING) {
+                continue; // Forgotten.
+            }
+
+            Timestamp prunedTs = this.prunedTs;
+
+            // A committed state below the pruned bound is implied.
+            if (state == TxState.COMMITED && (prunedTs == null || tx.ts.compareTo(prunedTs) >= 0)) {
+                txStateStorage.put(tx.ts, state);
+            }
+
+            // Published before the state is removed, so that a missing state is never mistaken for a new transaction.
+            if (evictedTs == null || evictedTs.compareTo(tx.ts) < 0) {
+                evictedTs = tx.ts;
+            }
+
+            if (states.remove(tx.ts, state)) {
+                evicted++;
+            }
+        }
+
+        return evicted;
+    }
+
+    /**
+     * Prunes the committed states from the durable storage once their durable retention, counted from the transaction timestamp,
+     * expires. Runs periodically in the background after the manager is started.
+     *
+     * @param now Current timestamp.
+     * @return Number of pruned states.
+     */
+    public synchronized long pruneCommitted(Timestamp now) {
+        Timestamp from = prunedTs;
+
+        Timestamp to = Timestamp.ofPhysicalTime(now.getPhysicalTime() - TX_STATE_DURABLE_RETENTION);
+
+        if (from != null && from.compareTo(to) >= 0) {
+            return 0;
+        }
+
+        // Published before the states are removed, so that a pruned state is never mistaken for a new transaction.
+        prunedTs = to;
+
+        return txStateStorage.removeAll(TxState.COMMITED, from, to);
+    }
+
+    /**
+     * Returns a number of tx states held in memory.
+     *
+     * @return The number of states.
+     */
+    public int stateTableSize() {
+        return states.size();
+    }
+
+    /**
+     * Returns a number of tx states held in the durable storage, may be an estimation.
+     *
+     * @return The number of states.
+     */
+    public long durableStateTableSize() {
+        return txStateStorage.size();
+    }
+
+    /**
+     * Returns a number of finished tx states waiting for eviction from memory.
+     *
+     * @return The number of states.
+     */
+    public long cleanupQueueSize() {
+        return finishedTxsCnt.get();
+    }
+
+    /**
+     * Returns a time in milliseconds passed since the retention of the oldest finished tx state still held in memory or of the oldest
+     * committed tx state, which may still be held in the durable storage, expired, or {@code 0} if there are no such states.
+     *
+     * @return The cleanup lag.
+     */
+    public long cleanupLag() {
+        FinishedTx tx = finishedTxs.peek();
+
+        long lag = tx == null ? 0 : Math.max(0, IgniteUtils.monotonicMs() - tx.finishTime - TX_STATE_RETENTION);
+
+        Timestamp prunedTs = this.prunedTs;
+
+        if (prunedTs != null) {
+            long durableLag = Timestamp.nextVersion().getPhysicalTime() - TX_STATE_DURABLE_RETENTION - prunedTs.getPhysicalTime();
+
+            lag = Math.max(lag, durableLag);
+        }
+
+        return lag;
     }
 
     /** {@inheritDoc} */
@@ -183,7 +510,8 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler {
         // Should rollback tx on lock error.
         LockKey key = new LockKey(lockId, keyData);
 
-        return lockManager.tryAcquire(key, ts)
+        return rangeIntentionLock(lockSpace(lockId, ts), lockId, ts)
+                .thenCompose(ignored -> lockManager.tryAcquire(key, ts))
                 .thenAccept(ignored -> recordLock(key, ts, Boolean.FALSE));
     }
 
@@ -199,10 +527,155 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler {
 
         LockKey key = new LockKey(lockId, keyData);
 
+        LockSpace space = lockSpace(lockId, ts);
+
+        synchronized (space) {
+            if (space.rangeFut != null && !space.rangeFut.isCompletedExceptionally()) {
+                return space.rangeFut; // The key is covered by the range lock.
+            }
+
+            if (space.rangeFut == null && LOCK_ESCALATION_THRESHOLD > 0 && ++space.readLocks > LOCK_ESCALATION_THRESHOLD) {
+                // Escalate, or keep on locking keys if the range lock can't be taken.
+                return rangeLock(space, lockId, ts)
+                        .handle((ignored, err) -> err == null ? CompletableFuture.<Void>completedFuture(null) : keyReadLock(key, ts))
+                        .thenCompose(fut -> fut);
+            }
+        }
+
+        return keyReadLock(key, ts);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> rangeLock(IgniteUuid lockId, Timestamp ts) {
+        TxState state = state(ts);
+
+        if (state != null && state != TxState.PENDING) {
+            return failedFuture(new TransactionException(
+                    "The operation is attempted for completed transaction"));
+        }
+
+        return rangeLock(lockSpace(lockId, ts), lockId, ts);
+    }
+
+    /**
+     * Acquires the range lock in the shared mode, unless it's already held or being acquired.
+     *
+     * @param space Range lock state.
+     * @param lockId Lock id.
+     * @param ts The timestamp.
+     * @return The future.
+     */
+    private CompletableFuture<Void> rangeLock(LockSpace space, IgniteUuid lockId, Timestamp ts) {
+        boolean idle = !holdsLocks(ts);
+
+        synchronized (space) {
+            if (space.rangeFut == null || space.rangeFut.isCompletedExceptionally()) {
+                space.rangeFut = acquireRange(lockId, ts, RangeLock.Mode.SHARED, idle);
+            }
+
+            return space.rangeFut;
+        }
+    }
+
+    /**
+     * Acquires a key read lock.
+     *
+     * @param key The key.
+     * @param ts The timestamp.
+     * @return The future.
+     */
+    private CompletableFuture<Void> keyReadLock(LockKey key, Timestamp ts) {
         return lockManager.tryAcquireShared(key, ts)
                 .thenAccept(ignored -> recordLock(key, ts, Boolean.TRUE));
     }
 
+    /**
+     * Acquires the range lock in the intention mode before a key write lock, so that writes wait for transactions reading the range.
+     *
+     * @param space Range lock state.
+     * @param lockId Lock id.
+     * @param ts The timestamp.
+     * @return The future.
+     */
+    private CompletableFuture<Void> rangeIntentionLock(LockSpace space, IgniteUuid lockId, Timestamp ts) {
+        synchronized (space) {
+            if (space.intentionFut == null || space.intentionFut.isCompletedExceptionally()) {
+                space.intentionFut = acquireRange(lockId, ts, RangeLock.Mode.INTENTION, false);
+            }
+
+            return space.intentionFut;
+        }
+    }
+
+    /**
+     * Acquires a range lock.
+     *
+     * @param lockId Lock id.
+     * @param ts The timestamp.
+     * @param mode Lock mode.
+     * @param idle {@code True} if the transaction holds no other locks.
+     * @return The future.
+     */
+    private CompletableFuture<Void> acquireRange(IgniteUuid lockId, Timestamp ts, RangeLock.Mode mode, boolean idle) {
+        while (true) {
+            CompletableFuture<Void> fut = rangeLocks.computeIfAbsent(lockId, k -> new RangeLock()).acquire(ts, mode, idle);
+
+            if (fut != null) {
+                return fut;
+            }
+
+            // Obsolete lock.
+        }
+    }
+
+    /**
+     * Checks whether a transaction holds or is acquiring any key or range locks.
+     *
+     * @param ts The timestamp.
+     * @return {@code True} if there are locks.
+     */
+    private boolean holdsLocks(Timestamp ts) {
+        if (locks.containsKey(ts)) {
+            return true;
+        }
+
+        Map<IgniteUuid, LockSpace> spaces = lockSpaces.get(ts);
+
+        if (spaces != null) {
+            for (LockSpace space : spaces.values()) {
+                synchronized (space) {
+                    if (isRequested(space.intentionFut) || isRequested(space.rangeFut)) {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks whether a lock is held or is being acquired.
+     *
+     * @param fut Lock future.
+     * @return {@code True} if the lock is requested and not failed.
+     */
+    private static boolean isRequested(@Nullable CompletableFuture<Void> fut) {
+        return fut != null && !fut.isCompletedExceptionally();
+    }
+
+    /**
+     * Returns a range lock state of a transaction.
+     *
+     * @param lockId Lock id.
+     * @param ts The timestamp.
+     * @return The range lock state.
+     */
+    private LockSpace lockSpace(IgniteUuid lockId, Timestamp ts) {
+        return lockSpaces.computeIfAbsent(ts, k -> new ConcurrentHashMap<>()).computeIfAbsent(lockId, k -> new LockSpace());
+    }
+
     /**
      * Records the acquired lock for further unlocking.
      *
@@ -236,7 +709,9 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler {
     /** {@inheritDoc} */
     @Override
     public TxState getOrCreateTransaction(Timestamp ts) {
-        return states.putIfAbsent(ts, TxState.PENDING);
+        TxState state = state(ts);
+
+        return state != null ? state : states.putIfAbsent(ts, TxState.PENDING);
     }
 
     /** {@inheritDoc} */
@@ -275,13 +750,75 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler {
     /** {@inheritDoc} */
     @Override
     public void start() {
+        txStateStorage.start();
+
+        evictedTs = txStateStorage.maxTimestamp();
+
+        // The pruned bound is not stored, the states expired while the node was down are pruned before the first lookup.
+        pruneCommitted(Timestamp.nextVersion());
+
+        ScheduledExecutorService cleanupExecutor = Executors.newSingleThreadScheduledExecutor(
+                new NamedThreadFactory("tx-state-cleanup", true));
+
+        cleanupExecutor.scheduleWithFixedDelay(() -> {
+            evictFinished(IgniteUtils.monotonicMs());
+
+            pruneCommitted(Timestamp.nextVersion());
+        }, CLEANUP_INTERVAL, CLEANUP_INTERVAL, TimeUnit.MILLISECONDS);
+
+        this.cleanupExecutor = cleanupExecutor;
+
         clusterService.messagingService().addMessageHandler(TxMessageGroup.class, this);
     }
 
     /** {@inheritDoc} */
     @Override
     public void stop() throws Exception {
-        // No-op.
+        ScheduledExecutorService cleanupExecutor = this.cleanupExecutor;
+
+        if (cleanupExecutor != null) {
+            IgniteUtils.shutdownAndAwaitTermination(cleanupExecutor, 10, TimeUnit.SECONDS);
+        }
+
+        txStateStorage.close();
+    }
+
+    /**
+     * Range lock state of a transaction under a lock id. Guarded by its own monitor.
+     */
+    private static class LockSpace {
+        /** Number of key read locks requested by the transaction. */
+        private int readLocks;
+
+        /** Range lock in the shared mode, {@code null} if not requested. */
+        @Nullable
+        private CompletableFuture<Void> rangeFut;
+
+        /** Range lock in the intention mode taken before key write locks, {@code null} if not requested. */
+        @Nullable
+        private CompletableFuture<Void> intentionFut;
+    }
+
+    /**
+     * A finished transaction waiting for eviction of its state.
+     */
+    private static class FinishedTx {
+        /** The timestamp. */
+        private final Timestamp ts;
+
+        /** The finish time. */
+        private final long finishTime;
+
+        /**
+         * The constructor.
+         *
+         * @param ts The timestamp.
+         * @param finishTime The finish time.
+         */
+        FinishedTx(Timestamp ts, long finishTime) {
+            this.ts = ts;
+            this.finishTime = finishTime;
+        }
     }
 
     /**
@@ -355,6 +892,8 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler {
         if (message instanceof TxFinishRequest) {
             TxFinishRequest req = (TxFinishRequest) message;
 
+            Timestamp.update(req.timestamp());
+
             Set<String> groups = req.groups();
 
             CompletableFuture[] futs = new CompletableFuture[groups.size()];
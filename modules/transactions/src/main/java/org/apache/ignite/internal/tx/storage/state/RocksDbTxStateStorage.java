@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.storage.state;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.function.BiConsumer;
+import org.apache.ignite.internal.tx.Timestamp;
+import org.apache.ignite.internal.tx.TxState;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.lang.IgniteInternalException;
+import org.jetbrains.annotations.Nullable;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
+
+/**
+ * {@link TxStateStorage} implementation based on RocksDB.
+ *
+ * <p>A key is a 16 bytes big-endian timestamp (the timestamp part followed by the node id part), so the states are ordered by
+ * timestamps. A value is a single byte holding the ordinal of a {@link TxState}.
+ */
+public class RocksDbTxStateStorage implements TxStateStorage {
+    /** Size of a key. */
+    private static final int KEY_SIZE = 2 * Long.BYTES;
+
+    /** States by ordinals. */
+    private static final TxState[] STATES = TxState.values();
+
+    /** Path to the rocksdb database. */
+    private final Path dbPath;
+
+    /** RockDB options. */
+    @Nullable
+    private volatile Options options;
+
+    /** RocksDb instance. */
+    @Nullable
+    private volatile RocksDB db;
+
+    /**
+     * The constructor.
+     *
+     * @param dbPath Path to the rocksdb database.
+     */
+    public RocksDbTxStateStorage(Path dbPath) {
+        this.dbPath = dbPath;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start() {
+        options = new Options().setCreateIfMissing(true);
+
+        try {
+            db = RocksDB.open(options, dbPath.toString());
+        } catch (RocksDBException e) {
+            throw new IgniteInternalException("Failed to start the storage", e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable TxState get(Timestamp ts) {
+        try {
+            byte[] val = db.get(key(ts));
+
+            return val == null ? null : STATES[val[0]];
+        } catch (RocksDBException e) {
+            throw new IgniteInternalException("Unable to get data from Rocks DB", e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void put(Timestamp ts, TxState state) {
+        try {
+            db.put(key(ts), new byte[]{(byte) state.ordinal()});
+        } catch (RocksDBException e) {
+            throw new IgniteInternalException("Unable to put data into Rocks DB", e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void remove(Timestamp ts) {
+        try {
+            db.delete(key(ts));
+        } catch (RocksDBException e) {
+            throw new IgniteInternalException("Unable to remove data from Rocks DB", e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long removeAll(TxState state, @Nullable Timestamp from, Timestamp to) {
+        long removed = 0;
+
+        try (
+                RocksIterator it = db.newIterator();
+                WriteBatch batch = new WriteBatch();
+                WriteOptions opts = new WriteOptions()
+        ) {
+            if (from == null) {
+                it.seekToFirst();
+            } else {
+                // A prefix of the timestamp part precedes the keys of all the node ids, which are compared as unsigned values.
+                it.seek(ByteBuffer.allocate(Long.BYTES).putLong(from.getTimestamp()).array());
+            }
+
+            for (; it.isValid(); it.next()) {
+                byte[] key = it.key();
+
+                ByteBuffer buf = ByteBuffer.wrap(key);
+
+                Timestamp ts = new Timestamp(buf.getLong(), buf.getLong());
+
+                // Keys are ordered by the timestamp part first.
+                if (ts.getTimestamp() > to.getTimestamp()) {
+                    break;
+                }
+
+                if (STATES[it.value()[0]] == state && (from == null || from.compareTo(ts) <= 0) && ts.compareTo(to) < 0) {
+                    batch.delete(key);
+
+                    removed++;
+                }
+            }
+
+            it.status();
+
+            db.write(opts, batch);
+        } catch (RocksDBException e) {
+            throw new IgniteInternalException("Unable to remove data from Rocks DB", e);
+        }
+
+        return removed;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable Timestamp maxTimestamp() {
+        try (RocksIterator it = db.newIterator()) {
+            it.seekToLast();
+
+            it.status();
+
+            // Keys are ordered by the timestamp part, but the node id part is compared as an unsigned value.
+            return it.isValid() ? new Timestamp(ByteBuffer.wrap(it.key()).getLong(), Long.MAX_VALUE) : null;
+        } catch (RocksDBException e) {
+            throw new IgniteInternalException("Unable to iterate over Rocks DB", e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void forEach(BiConsumer<Timestamp, TxState> consumer) {
+        try (RocksIterator it = db.newIterator()) {
+            for (it.seekToFirst(); it.isValid(); it.next()) {
+                ByteBuffer key = ByteBuffer.wrap(it.key());
+
+                consumer.accept(new Timestamp(key.getLong(), key.getLong()), STATES[it.value()[0]]);
+            }
+
+            it.status();
+        } catch (RocksDBException e) {
+            throw new IgniteInternalException("Unable to iterate over Rocks DB", e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long size() {
+        try {
+            return db.getLongProperty("rocksdb.estimate-num-keys");
+        } catch (RocksDBException e) {
+            throw new IgniteInternalException("Unable to get a property from Rocks DB", e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws Exception {
+        IgniteUtils.closeAll(options, db);
+
+        db = null;
+
+        options = null;
+    }
+
+    /**
+     * Converts a timestamp to a key.
+     *
+     * @param ts The timestamp.
+     * @return The key.
+     */
+    private static byte[] key(Timestamp ts) {
+        return ByteBuffer.allocate(KEY_SIZE).putLong(ts.getTimestamp()).putLong(ts.getNodeId()).array();
+    }
+}
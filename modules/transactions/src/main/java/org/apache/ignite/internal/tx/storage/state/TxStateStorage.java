@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.storage.state;
+
+import java.util.function.BiConsumer;
+import org.apache.ignite.internal.tx.Timestamp;
+import org.apache.ignite.internal.tx.TxState;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Durable storage of final transaction states.
+ *
+ * <p>Only the states which must survive both the in-memory cache eviction and a node restart are stored here. Implementations must be
+ * thread safe.
+ */
+public interface TxStateStorage extends AutoCloseable {
+    /**
+     * Starts the storage.
+     */
+    void start();
+
+    /**
+     * Returns a state of a transaction.
+     *
+     * @param ts The timestamp.
+     * @return The state or {@code null} if the state is not stored.
+     */
+    @Nullable TxState get(Timestamp ts);
+
+    /**
+     * Stores a state of a transaction.
+     *
+     * @param ts The timestamp.
+     * @param state The state.
+     */
+    void put(Timestamp ts, TxState state);
+
+    /**
+     * Removes a state of a transaction.
+     *
+     * @param ts The timestamp.
+     */
+    void remove(Timestamp ts);
+
+    /**
+     * Removes the states equal to a given one of the transactions with timestamps in a range.
+     *
+     * @param state The state.
+     * @param from Inclusive lower bound of the timestamps or {@code null} to start from the least stored one.
+     * @param to Exclusive upper bound of the timestamps.
+     * @return Number of removed states.
+     */
+    long removeAll(TxState state, @Nullable Timestamp from, Timestamp to);
+
+    /**
+     * Returns a timestamp not less than the timestamps of all stored states.
+     *
+     * @return The timestamp or {@code null} if the storage is empty.
+     */
+    @Nullable Timestamp maxTimestamp();
+
+    /**
+     * Passes all stored states to a consumer.
+     *
+     * @param consumer The consumer of timestamps and states.
+     */
+    void forEach(BiConsumer<Timestamp, TxState> consumer);
+
+    /**
+     * Returns a number of stored states, may be an estimation.
+     *
+     * @return The number of stored states.
+     */
+    long size();
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.storage.state;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import org.apache.ignite.internal.tx.Timestamp;
+import org.apache.ignite.internal.tx.TxState;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link TxStateStorage} keeping the states on heap. The states are lost on restart.
+ */
+public class VolatileTxStateStorage implements TxStateStorage {
+    /** The states. */
+    private final ConcurrentHashMap<Timestamp, TxState> states = new ConcurrentHashMap<>();
+
+    /** {@inheritDoc} */
+    @Override
+    public void start() {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable TxState get(Timestamp ts) {
+        return states.get(ts);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void put(Timestamp ts, TxState state) {
+        states.put(ts, state);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void remove(Timestamp ts) {
+        states.remove(ts);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long removeAll(TxState state, @Nullable Timestamp from, Timestamp to) {
+        long removed = 0;
+
+        for (Map.Entry<Timestamp, TxState> e : states.entrySet()) {
+            Timestamp ts = e.getKey();
+
+            if (e.getValue() == state && (from == null || from.compareTo(ts) <= 0) && ts.compareTo(to) < 0
+                    && states.remove(ts, state)) {
+                removed++;
+            }
+        }
+
+        return removed;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable Timestamp maxTimestamp() {
+        return states.keySet().stream().max(Timestamp::compareTo).orElse(null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void forEach(BiConsumer<Timestamp, TxState> consumer) {
+        states.forEach(consumer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long size() {
+        return states.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        states.clear();
+    }
+}
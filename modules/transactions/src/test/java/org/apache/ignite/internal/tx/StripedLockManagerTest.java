@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.tx.impl.StripedLockManager;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link StripedLockManager}.
+ */
+public class StripedLockManagerTest extends AbstractLockManagerTest {
+    @Override
+    protected LockManager newInstance() {
+        return new StripedLockManager();
+    }
+
+    @Test
+    public void testWaitingReaderStaysReader() throws LockException {
+        LockManager lockManager = newInstance();
+
+        Timestamp ts0 = Timestamp.nextVersion();
+        Timestamp ts1 = Timestamp.nextVersion();
+        Timestamp ts2 = Timestamp.nextVersion();
+        Object key = new String("test");
+
+        assertTrue(lockManager.tryAcquire(key, ts0).isDone());
+
+        CompletableFuture<Void> readFut1 = lockManager.tryAcquireShared(key, ts1);
+        CompletableFuture<Void> readFut2 = lockManager.tryAcquireShared(key, ts2);
+        CompletableFuture<Void> writeFut1 = lockManager.tryAcquire(key, ts1);
+
+        assertFalse(readFut1.isDone());
+        assertFalse(readFut2.isDone());
+        assertFalse(writeFut1.isDone());
+
+        lockManager.tryRelease(key, ts0);
+
+        // Both readers are granted, then the upgrade conflicts with the younger reader.
+        assertTrue(readFut1.isDone() && !readFut1.isCompletedExceptionally());
+        assertTrue(readFut2.isDone() && !readFut2.isCompletedExceptionally());
+        assertTrue(writeFut1.isCompletedExceptionally());
+
+        lockManager.tryReleaseShared(key, ts1);
+        lockManager.tryReleaseShared(key, ts2);
+
+        assertTrue(lockManager.queue(key).isEmpty());
+    }
+
+    @Test
+    public void testGrantedFuturesAreNotShared() throws LockException {
+        LockManager lockManager = newInstance();
+
+        Timestamp ts0 = Timestamp.nextVersion();
+        Timestamp ts1 = Timestamp.nextVersion();
+
+        CompletableFuture<Void> fut0 = lockManager.tryAcquire("key0", ts0);
+        CompletableFuture<Void> fut1 = lockManager.tryAcquireShared("key1", ts1);
+
+        assertNotSame(fut0, fut1);
+
+        // Obtruding a granted future doesn't affect other lock requests.
+        fut0.obtrudeException(new IllegalStateException());
+
+        assertFalse(lockManager.tryAcquire("key0", ts0).isCompletedExceptionally());
+
+        lockManager.tryRelease("key0", ts0);
+        lockManager.tryReleaseShared("key1", ts1);
+    }
+}
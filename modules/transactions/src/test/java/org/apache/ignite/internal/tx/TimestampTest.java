@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.ignite.internal.testframework.IgniteTestUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link Timestamp} generation.
+ */
+public class TimestampTest {
+    @Test
+    public void testMonotonic() {
+        Timestamp prev = Timestamp.nextVersion();
+
+        // More than a logical part can hold within a millisecond.
+        for (int i = 0; i < 200_000; i++) {
+            Timestamp next = Timestamp.nextVersion();
+
+            assertTrue(prev.compareTo(next) < 0, "prev=" + prev + ", next=" + next);
+
+            prev = next;
+        }
+    }
+
+    @Test
+    public void testUniqueConcurrent() throws Exception {
+        int threads = 8;
+        int perThread = 50_000;
+
+        Set<Timestamp> generated = ConcurrentHashMap.newKeySet();
+
+        IgniteTestUtils.runMultiThreaded(() -> {
+            for (int i = 0; i < perThread; i++) {
+                generated.add(Timestamp.nextVersion());
+            }
+
+            return null;
+        }, threads, "ts-gen");
+
+        assertEquals(threads * perThread, generated.size());
+    }
+
+    @Test
+    public void testUpdate() {
+        // A test-local clock with a frozen physical time, so that the clock of the node is not affected.
+        var clock = new Timestamp.Clock(() -> 1_000L);
+
+        long local = clock.tick();
+
+        // A timestamp from a node whose clock is one minute ahead.
+        long remote = local + (60_000L << 16);
+
+        clock.update(remote);
+
+        assertTrue(remote < clock.tick());
+    }
+}
@@ -19,15 +19,24 @@ package org.apache.ignite.internal.tx;
 
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import org.apache.ignite.internal.testframework.IgniteAbstractTest;
 import org.apache.ignite.internal.tx.impl.HeapLockManager;
 import org.apache.ignite.internal.tx.impl.TxManagerImpl;
+import org.apache.ignite.internal.tx.storage.state.RocksDbTxStateStorage;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.network.ClusterService;
 import org.apache.ignite.network.NetworkAddress;
 import org.apache.ignite.raft.client.service.RaftGroupService;
@@ -108,6 +117,245 @@ public class TxManagerTest extends IgniteAbstractTest {
         assertNull(tx.state());
     }
 
+    @Test
+    public void testEvictFinished() throws TransactionException {
+        InternalTransaction committed = txManager.begin();
+        committed.commit();
+
+        InternalTransaction aborted = txManager.begin();
+        aborted.rollback();
+
+        InternalTransaction pending = txManager.begin();
+
+        TxManagerImpl txManager = (TxManagerImpl) this.txManager;
+
+        assertEquals(3, txManager.stateTableSize());
+        assertEquals(2, txManager.cleanupQueueSize());
+        assertEquals(1, txManager.durableStateTableSize());
+
+        assertEquals(0, txManager.evictFinished(IgniteUtils.monotonicMs()));
+        assertEquals(2, txManager.evictFinished(IgniteUtils.monotonicMs() + TimeUnit.DAYS.toMillis(1)));
+
+        // The evicted states are looked up in the durable storage.
+        assertEquals(TxState.COMMITED, txManager.state(committed.timestamp()));
+        assertEquals(TxState.ABORTED, txManager.state(aborted.timestamp()));
+        assertEquals(TxState.PENDING, txManager.state(pending.timestamp()));
+
+        assertEquals(1, txManager.stateTableSize());
+        assertEquals(2, txManager.durableStateTableSize());
+        assertEquals(0, txManager.cleanupQueueSize());
+        assertEquals(0, txManager.cleanupLag());
+    }
+
+    @Test
+    public void testLateCommandOfEvictedTx() throws TransactionException {
+        // Started before the evicted transactions, but not enlisted on this node yet.
+        Timestamp longRunning = Timestamp.nextVersion();
+
+        InternalTransaction committed = txManager.begin();
+        committed.commit();
+
+        InternalTransaction aborted = txManager.begin();
+        aborted.rollback();
+
+        Timestamp pending = Timestamp.nextVersion();
+
+        assertNull(txManager.getOrCreateTransaction(pending));
+
+        ((TxManagerImpl) txManager).evictFinished(IgniteUtils.monotonicMs() + TimeUnit.DAYS.toMillis(1));
+
+        // A late command of the committed transaction doesn't start it again.
+        assertEquals(TxState.COMMITED, txManager.getOrCreateTransaction(committed.timestamp()));
+        assertEquals(TxState.ABORTED, txManager.getOrCreateTransaction(aborted.timestamp()));
+        assertEquals(TxState.PENDING, txManager.getOrCreateTransaction(pending));
+
+        assertNull(txManager.getOrCreateTransaction(longRunning));
+        assertEquals(TxState.PENDING, txManager.state(longRunning));
+
+        assertNull(txManager.getOrCreateTransaction(Timestamp.nextVersion()));
+    }
+
+    @Test
+    public void testPruneCommitted() throws TransactionException {
+        InternalTransaction committed = txManager.begin();
+        committed.commit();
+
+        InternalTransaction aborted = txManager.begin();
+        aborted.rollback();
+
+        TxManagerImpl txManager = (TxManagerImpl) this.txManager;
+
+        txManager.evictFinished(IgniteUtils.monotonicMs() + TimeUnit.DAYS.toMillis(1));
+
+        assertEquals(2, txManager.durableStateTableSize());
+
+        assertEquals(0, txManager.pruneCommitted(Timestamp.nextVersion()));
+
+        Timestamp future = Timestamp.ofPhysicalTime(Timestamp.nextVersion().getPhysicalTime() + TimeUnit.DAYS.toMillis(1));
+
+        assertEquals(1, txManager.pruneCommitted(future));
+
+        // Only the aborted state is kept, the pruned committed one is implied.
+        assertEquals(1, txManager.durableStateTableSize());
+
+        assertEquals(TxState.COMMITED, txManager.state(committed.timestamp()));
+        assertEquals(TxState.COMMITED, txManager.getOrCreateTransaction(committed.timestamp()));
+        assertEquals(TxState.ABORTED, txManager.state(aborted.timestamp()));
+    }
+
+    @Test
+    public void testAbortedStateSurvivesRestart() throws Exception {
+        TxManager txManager = new TxManagerImpl(clusterService, new HeapLockManager(), new RocksDbTxStateStorage(workDir));
+
+        txManager.start();
+
+        InternalTransaction evicted = txManager.begin();
+        evicted.commit();
+
+        ((TxManagerImpl) txManager).evictFinished(IgniteUtils.monotonicMs() + TimeUnit.DAYS.toMillis(1));
+
+        InternalTransaction committed = txManager.begin();
+        committed.commit();
+
+        InternalTransaction aborted = txManager.begin();
+        aborted.rollback();
+
+        txManager.stop();
+
+        txManager = new TxManagerImpl(clusterService, new HeapLockManager(), new RocksDbTxStateStorage(workDir));
+
+        txManager.start();
+
+        try {
+            // The state is not reloaded into memory, but looked up on demand.
+            assertEquals(0, ((TxManagerImpl) txManager).stateTableSize());
+
+            assertEquals(TxState.COMMITED, txManager.state(evicted.timestamp()));
+            assertNull(txManager.state(committed.timestamp()));
+            assertEquals(TxState.ABORTED, txManager.state(aborted.timestamp()));
+
+            assertNull(txManager.getOrCreateTransaction(Timestamp.nextVersion()));
+        } finally {
+            txManager.stop();
+        }
+    }
+
+    @Test
+    public void testRangeLock() throws TransactionException {
+        IgniteUuid lockId = new IgniteUuid(UUID.randomUUID(), 0);
+
+        InternalTransaction reader = txManager.begin();
+        InternalTransaction writer = txManager.begin();
+
+        txManager.rangeLock(lockId, reader.timestamp()).join();
+
+        // The range owner keeps on writing into the range.
+        txManager.writeLock(lockId, ByteBuffer.wrap(new byte[] {1}), reader.timestamp()).join();
+        txManager.readLock(lockId, ByteBuffer.wrap(new byte[] {2}), reader.timestamp()).join();
+
+        CompletableFuture<Void> writeFut = txManager.writeLock(lockId, ByteBuffer.wrap(new byte[] {3}), writer.timestamp());
+
+        assertFalse(writeFut.isDone());
+
+        reader.commit();
+
+        writeFut.join();
+
+        writer.commit();
+    }
+
+    @Test
+    public void testLockEscalation() throws TransactionException {
+        IgniteUuid lockId = new IgniteUuid(UUID.randomUUID(), 0);
+
+        InternalTransaction reader = txManager.begin();
+        InternalTransaction writer = txManager.begin();
+
+        for (int i = 0; i <= 10_000; i++) {
+            txManager.readLock(lockId, ByteBuffer.allocate(4).putInt(0, i), reader.timestamp()).join();
+        }
+
+        CompletableFuture<Void> writeFut = txManager.writeLock(lockId, ByteBuffer.allocate(4).putInt(0, -1), writer.timestamp());
+
+        assertFalse(writeFut.isDone());
+
+        reader.commit();
+
+        writeFut.join();
+
+        writer.commit();
+    }
+
+    @Test
+    public void testOlderScanWaitsForYoungerWriter() throws TransactionException {
+        IgniteUuid lockId = new IgniteUuid(UUID.randomUUID(), 0);
+
+        InternalTransaction scanner = txManager.begin();
+        InternalTransaction writer = txManager.begin();
+        InternalTransaction lateWriter = txManager.begin();
+
+        txManager.writeLock(lockId, ByteBuffer.wrap(new byte[] {1}), writer.timestamp()).join();
+
+        CompletableFuture<Void> scanFut = txManager.rangeLock(lockId, scanner.timestamp());
+
+        assertFalse(scanFut.isDone());
+
+        // A younger writer doesn't overtake the waiting scan.
+        CompletableFuture<Void> writeFut = txManager.writeLock(lockId, ByteBuffer.wrap(new byte[] {2}), lateWriter.timestamp());
+
+        assertFalse(writeFut.isDone());
+
+        writer.commit();
+
+        scanFut.join();
+
+        assertFalse(writeFut.isDone());
+
+        scanner.commit();
+
+        writeFut.join();
+
+        lateWriter.commit();
+    }
+
+    @Test
+    public void testOlderScanHoldingLocksFailsOnYoungerWriter() throws TransactionException {
+        IgniteUuid lockId = new IgniteUuid(UUID.randomUUID(), 0);
+
+        InternalTransaction scanner = txManager.begin();
+        InternalTransaction writer = txManager.begin();
+
+        txManager.readLock(new IgniteUuid(UUID.randomUUID(), 0), ByteBuffer.wrap(new byte[] {1}), scanner.timestamp()).join();
+
+        txManager.writeLock(lockId, ByteBuffer.wrap(new byte[] {1}), writer.timestamp()).join();
+
+        // The scan could be awaited by the writer, so it fails instead of waiting.
+        CompletionException e = assertThrows(CompletionException.class, () -> txManager.rangeLock(lockId, scanner.timestamp()).join());
+
+        assertTrue(e.getCause() instanceof LockException);
+
+        writer.commit();
+        scanner.rollback();
+    }
+
+    @Test
+    public void testRangeLocksAreCompatible() throws TransactionException {
+        IgniteUuid lockId = new IgniteUuid(UUID.randomUUID(), 0);
+
+        InternalTransaction older = txManager.begin();
+        InternalTransaction younger = txManager.begin();
+
+        txManager.rangeLock(lockId, younger.timestamp()).join();
+        txManager.rangeLock(lockId, older.timestamp()).join();
+
+        // Keys are covered by the range lock, so the readers don't conflict with each other.
+        txManager.readLock(lockId, ByteBuffer.wrap(new byte[] {1}), older.timestamp()).join();
+        txManager.readLock(lockId, ByteBuffer.wrap(new byte[] {1}), younger.timestamp()).join();
+
+        older.commit();
+        younger.commit();
+    }
+
     @Test
     public void testEnlist() throws TransactionException {
         NetworkAddress addr = clusterService.topologyService().localMember().address();
@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.tx.LockException;
+import org.apache.ignite.internal.tx.LockManager;
+import org.apache.ignite.internal.tx.Timestamp;
+import org.apache.ignite.internal.tx.impl.HeapLockManager;
+import org.apache.ignite.internal.tx.impl.StripedLockManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares {@link LockManager} implementations under a skewed (Zipfian) key access. Every operation acquires a lock with a fresh
+ * timestamp and releases it right away; a request denied by the deadlock prevention is simply dropped.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(16)
+@Fork(1)
+public class LockManagerBenchmark {
+    /** Number of pre-generated key indexes per thread. */
+    private static final int SEQUENCE_SIZE = 1 << 16;
+
+    /** Lock manager implementation. */
+    @Param({"HEAP", "STRIPED"})
+    public String type;
+
+    /** Number of distinct keys. */
+    @Param({"100000"})
+    public int keysCount;
+
+    /** Zipfian distribution exponent. */
+    @Param({"0.99"})
+    public double skew;
+
+    /** Lock manager. */
+    private LockManager lockManager;
+
+    /** Keys. */
+    private Object[] keys;
+
+    /** Cumulative distribution of the key ranks. */
+    private double[] cdf;
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setUp() {
+        lockManager = "HEAP".equals(type) ? new HeapLockManager() : new StripedLockManager();
+
+        keys = new Object[keysCount];
+
+        for (int i = 0; i < keysCount; i++) {
+            keys[i] = "key" + i;
+        }
+
+        cdf = new double[keysCount];
+
+        double sum = 0;
+
+        for (int i = 0; i < keysCount; i++) {
+            sum += 1 / Math.pow(i + 1, skew);
+
+            cdf[i] = sum;
+        }
+
+        for (int i = 0; i < keysCount; i++) {
+            cdf[i] /= sum;
+        }
+    }
+
+    /**
+     * Per-thread sequence of keys to lock.
+     */
+    @State(Scope.Thread)
+    public static class KeySequence {
+        /** Key indexes. */
+        private int[] idxs;
+
+        /** Current position. */
+        private int pos;
+
+        /**
+         * Setup.
+         *
+         * @param bench Benchmark state.
+         */
+        @Setup
+        public void setUp(LockManagerBenchmark bench) {
+            Random rnd = new Random(Thread.currentThread().getId());
+
+            idxs = new int[SEQUENCE_SIZE];
+
+            for (int i = 0; i < SEQUENCE_SIZE; i++) {
+                int idx = Arrays.binarySearch(bench.cdf, rnd.nextDouble());
+
+                idxs[i] = Math.min(idx >= 0 ? idx : -idx - 1, bench.keysCount - 1);
+            }
+        }
+
+        /**
+         * Returns next key index.
+         *
+         * @return Key index.
+         */
+        int next() {
+            return idxs[pos++ & (SEQUENCE_SIZE - 1)];
+        }
+    }
+
+    /**
+     * Measures exclusive locks.
+     *
+     * @param seq Key sequence.
+     * @return {@code True} if the lock was acquired.
+     */
+    @Benchmark
+    public boolean exclusive(KeySequence seq) throws LockException {
+        Object key = keys[seq.next()];
+        Timestamp ts = Timestamp.nextVersion();
+
+        if (!await(lockManager.tryAcquire(key, ts))) {
+            return false;
+        }
+
+        lockManager.tryRelease(key, ts);
+
+        return true;
+    }
+
+    /**
+     * Measures shared locks.
+     *
+     * @param seq Key sequence.
+     * @return {@code True} if the lock was acquired.
+     */
+    @Benchmark
+    public boolean shared(KeySequence seq) throws LockException {
+        Object key = keys[seq.next()];
+        Timestamp ts = Timestamp.nextVersion();
+
+        if (!await(lockManager.tryAcquireShared(key, ts))) {
+            return false;
+        }
+
+        lockManager.tryReleaseShared(key, ts);
+
+        return true;
+    }
+
+    /**
+     * Waits for the lock.
+     *
+     * @param fut Lock future.
+     * @return {@code False} if the lock request was denied.
+     */
+    private static boolean await(CompletableFuture<Void> fut) {
+        try {
+            fut.join();
+
+            return true;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof LockException) {
+                return false;
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Runner.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(LockManagerBenchmark.class.getSimpleName())
+                        .build()
+        ).run();
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.benchmarks;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.tx.InternalTransaction;
+import org.apache.ignite.internal.tx.Timestamp;
+import org.apache.ignite.internal.tx.TxManager;
+import org.apache.ignite.internal.tx.impl.HeapLockManager;
+import org.apache.ignite.internal.tx.impl.TxManagerImpl;
+import org.apache.ignite.network.ClusterLocalConfiguration;
+import org.apache.ignite.network.ClusterNode;
+import org.apache.ignite.network.ClusterService;
+import org.apache.ignite.network.MessagingService;
+import org.apache.ignite.network.NetworkAddress;
+import org.apache.ignite.network.TopologyEventHandler;
+import org.apache.ignite.network.TopologyService;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the throughput of a transaction start depending on the number of concurrent threads.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class TxBeginBenchmark {
+    /** Thread counts to measure. */
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+    /** Transaction manager. */
+    private TxManager txManager;
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setUp() {
+        txManager = new TxManagerImpl(new LocalClusterService(), new HeapLockManager());
+    }
+
+    /**
+     * Measures a timestamp generation only.
+     *
+     * @return The timestamp.
+     */
+    @Benchmark
+    public Timestamp nextVersion() {
+        return Timestamp.nextVersion();
+    }
+
+    /**
+     * Measures a transaction start. The transaction state is removed right away to keep the state map small.
+     *
+     * @return The transaction.
+     */
+    @Benchmark
+    public InternalTransaction begin() {
+        InternalTransaction tx = txManager.begin();
+
+        txManager.forget(tx.timestamp());
+
+        return tx;
+    }
+
+    /**
+     * Runner.
+     */
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREADS) {
+            new Runner(
+                    new OptionsBuilder()
+                            .include(TxBeginBenchmark.class.getSimpleName())
+                            .threads(threads)
+                            .build()
+            ).run();
+        }
+    }
+
+    /**
+     * Cluster service that only knows about the local node, so the benchmark is not affected by mocking overhead.
+     */
+    private static class LocalClusterService implements ClusterService {
+        /** Local node. */
+        private final ClusterNode localNode = new ClusterNode("node", "node", new NetworkAddress("127.0.0.1", 3344));
+
+        /** Topology service. */
+        private final TopologyService topologyService = new TopologyService() {
+            @Override
+            public ClusterNode localMember() {
+                return localNode;
+            }
+
+            @Override
+            public Collection<ClusterNode> allMembers() {
+                return List.of(localNode);
+            }
+
+            @Override
+            public void addEventHandler(TopologyEventHandler handler) {
+                // No-op.
+            }
+
+            @Override
+            public @Nullable ClusterNode getByAddress(NetworkAddress addr) {
+                return localNode.address().equals(addr) ? localNode : null;
+            }
+
+            @Override
+            public @Nullable ClusterNode getByConsistentId(String consistentId) {
+                return localNode.name().equals(consistentId) ? localNode : null;
+            }
+        };
+
+        /** {@inheritDoc} */
+        @Override
+        public TopologyService topologyService() {
+            return topologyService;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public MessagingService messagingService() {
+            throw new UnsupportedOperationException();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ClusterLocalConfiguration localConfiguration() {
+            throw new UnsupportedOperationException();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isStopped() {
+            return false;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void start() {
+            // No-op.
+        }
+    }
+}